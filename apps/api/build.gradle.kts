@@ -17,6 +17,7 @@ dependencies {
   implementation(libs.spring.boot.starter.web)
   implementation(libs.spring.boot.starter.security)
   implementation(libs.spring.boot.starter.actuator)
+  runtimeOnly(libs.micrometer.prometheus)
   implementation(libs.spring.boot.starter.data.jpa)
   implementation(libs.spring.boot.starter.validation)
   implementation(libs.spring.boot.starter.flyway)
@@ -30,10 +31,30 @@ dependencies {
   testImplementation(libs.spring.boot.test.autoconfigure)
   testImplementation(libs.spring.boot.webmvc.test)
   testImplementation(libs.archunit)
+  testImplementation(libs.testcontainers.junit)
+  testImplementation(libs.testcontainers.pg)
   testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
-tasks.test { useJUnitPlatform() }
+tasks.test { useJUnitPlatform { excludeTags("benchmark", "loadtest") } }
+
+tasks.register<Test>("benchmarkTest") {
+  description = "Runs database-backed throughput benchmarks (requires Docker)."
+  group = "verification"
+  testClassesDirs = sourceSets.test.get().output.classesDirs
+  classpath = sourceSets.test.get().runtimeClasspath
+  useJUnitPlatform { includeTags("benchmark") }
+  testLogging { showStandardStreams = true }
+}
+
+tasks.register<Test>("loadTest") {
+  description = "Runs the end-to-end load driver against fake Google Ads ports (requires Docker)."
+  group = "verification"
+  testClassesDirs = sourceSets.test.get().output.classesDirs
+  classpath = sourceSets.test.get().runtimeClasspath
+  useJUnitPlatform { includeTags("loadtest") }
+  testLogging { showStandardStreams = true }
+}
 
 tasks.jacocoTestCoverageVerification {
   violationRules {
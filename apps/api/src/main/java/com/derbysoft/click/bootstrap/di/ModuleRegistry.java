@@ -33,6 +33,7 @@ import com.derbysoft.click.modules.campaignexecution.infrastructure.persistence.
 import com.derbysoft.click.modules.ingestion.infrastructure.persistence.mapper.RawSnapshotMapper;
 import com.derbysoft.click.modules.ingestion.infrastructure.persistence.mapper.SyncIncidentMapper;
 import com.derbysoft.click.modules.ingestion.infrastructure.persistence.mapper.SyncJobMapper;
+import com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository.RawCampaignRowJpaRepository;
 import com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository.RawSnapshotJpaRepository;
 import com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository.RawSnapshotRepositoryImpl;
 import com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository.SyncIncidentJpaRepository;
@@ -146,8 +147,9 @@ public class ModuleRegistry {
   @Bean
   public RawSnapshotRepositoryImpl rawSnapshotRepositoryImpl(
       RawSnapshotJpaRepository jpaRepository,
+      RawCampaignRowJpaRepository rowJpaRepository,
       RawSnapshotMapper mapper) {
-    return new RawSnapshotRepositoryImpl(jpaRepository, mapper);
+    return new RawSnapshotRepositoryImpl(jpaRepository, rowJpaRepository, mapper);
   }
 
   /**
@@ -0,0 +1,90 @@
+package com.derbysoft.click.bootstrap.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Latency, fault and report-size settings shared by the in-process Google Ads stand-ins
+ * that replace the real adapters under the {@code loadtest} profile.
+ *
+ * <p>Rates are probabilities in [0, 1] rolled independently per request; the operation
+ * error rate is rolled per operation inside a batch mutate.
+ */
+@Configuration
+@Profile("loadtest")
+@ConfigurationProperties(prefix = "loadtest.google-ads")
+public class FakeGoogleAdsBehaviour {
+
+  public enum Fault { NONE, RESOURCE_EXHAUSTED, UNAVAILABLE, AUTH }
+
+  private long latencyMs = 50;
+  private long latencyJitterMs = 50;
+  private double resourceExhaustedRate = 0.0;
+  private double unavailableRate = 0.0;
+  private double authErrorRate = 0.0;
+  private double operationErrorRate = 0.0;
+  private int campaignsPerAccount = 50;
+  private int pageSize = 10_000;
+  private int accountsPerManager = 1;
+
+  /** Blocks the calling thread for one simulated round trip. */
+  public void simulateLatency() {
+    long jitter = latencyJitterMs > 0 ? ThreadLocalRandom.current().nextLong(latencyJitterMs + 1) : 0;
+    long sleep = latencyMs + jitter;
+    if (sleep <= 0) {
+      return;
+    }
+    try {
+      Thread.sleep(sleep);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  public Fault nextFault() {
+    double roll = ThreadLocalRandom.current().nextDouble();
+    if (roll < authErrorRate) {
+      return Fault.AUTH;
+    }
+    if (roll < authErrorRate + resourceExhaustedRate) {
+      return Fault.RESOURCE_EXHAUSTED;
+    }
+    if (roll < authErrorRate + resourceExhaustedRate + unavailableRate) {
+      return Fault.UNAVAILABLE;
+    }
+    return Fault.NONE;
+  }
+
+  public boolean nextOperationFails() {
+    return ThreadLocalRandom.current().nextDouble() < operationErrorRate;
+  }
+
+  public long getLatencyMs() { return latencyMs; }
+  public void setLatencyMs(long latencyMs) { this.latencyMs = latencyMs; }
+
+  public long getLatencyJitterMs() { return latencyJitterMs; }
+  public void setLatencyJitterMs(long latencyJitterMs) { this.latencyJitterMs = latencyJitterMs; }
+
+  public double getResourceExhaustedRate() { return resourceExhaustedRate; }
+  public void setResourceExhaustedRate(double resourceExhaustedRate) { this.resourceExhaustedRate = resourceExhaustedRate; }
+
+  public double getUnavailableRate() { return unavailableRate; }
+  public void setUnavailableRate(double unavailableRate) { this.unavailableRate = unavailableRate; }
+
+  public double getAuthErrorRate() { return authErrorRate; }
+  public void setAuthErrorRate(double authErrorRate) { this.authErrorRate = authErrorRate; }
+
+  public double getOperationErrorRate() { return operationErrorRate; }
+  public void setOperationErrorRate(double operationErrorRate) { this.operationErrorRate = operationErrorRate; }
+
+  public int getCampaignsPerAccount() { return campaignsPerAccount; }
+  public void setCampaignsPerAccount(int campaignsPerAccount) { this.campaignsPerAccount = campaignsPerAccount; }
+
+  public int getPageSize() { return pageSize; }
+  public void setPageSize(int pageSize) { this.pageSize = pageSize; }
+
+  public int getAccountsPerManager() { return accountsPerManager; }
+  public void setAccountsPerManager(int accountsPerManager) { this.accountsPerManager = accountsPerManager; }
+}
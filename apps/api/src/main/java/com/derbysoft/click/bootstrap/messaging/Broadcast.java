@@ -0,0 +1,21 @@
+package com.derbysoft.click.bootstrap.messaging;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an envelope {@code @EventListener} that must run on every replica rather than on
+ * whichever one claims the outbox row, e.g. one that drops a process-local cache.
+ *
+ * <p>In outbox mode such events are written once as {@code BROADCAST} rows that every
+ * {@link OutboxRelay} reads and delivers locally. Delivery is best effort within
+ * {@link OutboxRelay#BROADCAST_WINDOW}; there are no attempts or dead letters.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Broadcast {
+}
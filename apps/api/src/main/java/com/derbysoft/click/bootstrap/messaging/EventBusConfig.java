@@ -0,0 +1,42 @@
+package com.derbysoft.click.bootstrap.messaging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "messaging.event-bus")
+public class EventBusConfig {
+
+  public enum Mode { SYNC, OUTBOX }
+
+  private Mode mode = Mode.SYNC;
+  private int relayBatchSize = 200;
+  private int listenerPoolSize = 4;
+  private int maxAttempts = 8;
+  private int leaseSeconds = 60;
+  private int dispatchedRetentionDays = 7;
+  private int deadRetentionDays = 30;
+
+  public Mode getMode() { return mode; }
+  public void setMode(Mode mode) { this.mode = mode; }
+
+  public boolean isOutbox() { return mode == Mode.OUTBOX; }
+
+  public int getRelayBatchSize() { return relayBatchSize; }
+  public void setRelayBatchSize(int relayBatchSize) { this.relayBatchSize = relayBatchSize; }
+
+  public int getListenerPoolSize() { return listenerPoolSize; }
+  public void setListenerPoolSize(int listenerPoolSize) { this.listenerPoolSize = listenerPoolSize; }
+
+  public int getMaxAttempts() { return maxAttempts; }
+  public void setMaxAttempts(int maxAttempts) { this.maxAttempts = maxAttempts; }
+
+  public int getLeaseSeconds() { return leaseSeconds; }
+  public void setLeaseSeconds(int leaseSeconds) { this.leaseSeconds = leaseSeconds; }
+
+  public int getDispatchedRetentionDays() { return dispatchedRetentionDays; }
+  public void setDispatchedRetentionDays(int days) { this.dispatchedRetentionDays = days; }
+
+  public int getDeadRetentionDays() { return deadRetentionDays; }
+  public void setDeadRetentionDays(int days) { this.deadRetentionDays = days; }
+}
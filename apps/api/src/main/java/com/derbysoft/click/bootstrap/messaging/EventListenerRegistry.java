@@ -0,0 +1,102 @@
+package com.derbysoft.click.bootstrap.messaging;
+
+import com.derbysoft.click.sharedkernel.api.EventEnvelope;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * Index of the application's {@code @EventListener} methods that accept an
+ * {@link EventEnvelope}, keyed by payload type.
+ *
+ * <p>The outbox fans every event out to one row per matching listener, so each listener
+ * is retried, ordered and threaded independently of the others.
+ *
+ * <p>The relay invokes listener methods directly, so {@code @EventListener(condition = ...)}
+ * would be ignored in outbox mode. Such listeners are rejected at startup rather than
+ * delivered every event; filter inside the method instead.
+ *
+ * <p>Listeners annotated {@link Broadcast} are delivered on every replica instead of once.
+ */
+@Component
+public class EventListenerRegistry implements SmartInitializingSingleton {
+
+  private static final String APP_PACKAGE = "com.derbysoft.click.";
+
+  private final ApplicationContext context;
+  private volatile List<Listener> listeners = List.of();
+
+  public EventListenerRegistry(ApplicationContext context) {
+    this.context = context;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    List<Listener> found = new ArrayList<>();
+    for (String name : context.getBeanNamesForType(Object.class, false, false)) {
+      Class<?> type = context.getType(name);
+      if (type == null || !type.getName().startsWith(APP_PACKAGE)) {
+        continue;
+      }
+      Object bean = context.getBean(name);
+      Class<?> targetClass = AopUtils.getTargetClass(bean);
+      Map<Method, EventListener> methods = MethodIntrospector.selectMethods(targetClass,
+          (MethodIntrospector.MetadataLookup<EventListener>) method ->
+              AnnotatedElementUtils.findMergedAnnotation(method, EventListener.class));
+      methods.forEach((method, annotation) -> envelopePayloadType(method).ifPresent(payloadType -> {
+        String id = targetClass.getSimpleName() + "#" + method.getName();
+        if (!annotation.condition().isBlank()) {
+          throw new IllegalStateException("Event listener " + id
+              + " declares a condition, which outbox delivery does not evaluate; "
+              + "check the envelope inside the method instead");
+        }
+        found.add(new Listener(id, bean, AopUtils.selectInvocableMethod(method, bean.getClass()),
+            payloadType, AnnotatedElementUtils.hasAnnotation(method, Broadcast.class)));
+      }));
+    }
+    listeners = List.copyOf(found);
+  }
+
+  public List<Listener> listenersFor(Class<?> payloadType) {
+    return listeners.stream()
+        .filter(listener -> listener.payloadType().isAssignableFrom(payloadType))
+        .toList();
+  }
+
+  public Optional<Listener> find(String listenerId) {
+    return listeners.stream().filter(listener -> listener.id().equals(listenerId)).findFirst();
+  }
+
+  private static Optional<Class<?>> envelopePayloadType(Method method) {
+    if (method.getParameterCount() != 1 || method.getParameterTypes()[0] != EventEnvelope.class) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(ResolvableType.forMethodParameter(method, 0).getGeneric(0).resolve());
+  }
+
+  public record Listener(String id, Object bean, Method method, Class<?> payloadType,
+                         boolean broadcast) {
+
+    public void invoke(EventEnvelope<?> envelope) throws Exception {
+      try {
+        method.invoke(bean, envelope);
+      } catch (InvocationTargetException e) {
+        if (e.getCause() instanceof Exception cause) {
+          throw cause;
+        }
+        throw e;
+      }
+    }
+  }
+}
@@ -0,0 +1,198 @@
+package com.derbysoft.click.bootstrap.messaging;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * JDBC access to {@code event_outbox}. Rows are appended inside the publisher's transaction
+ * and claimed by the relay with {@code FOR UPDATE SKIP LOCKED}, so several API replicas can
+ * relay concurrently without double delivery.
+ */
+@Component
+public class EventOutboxStore {
+
+  static final int BATCH_SIZE = 500;
+
+  static final String INSERT_SQL = """
+      INSERT INTO event_outbox
+          (event_id, event_type, payload_type, payload, listener_id, ordering_key,
+           aggregate_id, aggregate_version, tenant_id, correlation_id, payload_schema_version,
+           occurred_at, status)
+      VALUES (?, ?, ?, ?::jsonb, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+      """;
+
+  // Broadcast rows are never claimed; every replica reads the recent ones and skips those
+  // it has already delivered
+  static final String BROADCAST_SQL = """
+      SELECT id, event_id, event_type, payload_type, payload::text AS payload, listener_id,
+             aggregate_id, aggregate_version, tenant_id, correlation_id, payload_schema_version,
+             occurred_at, attempts
+        FROM event_outbox
+       WHERE status = 'BROADCAST' AND occurred_at > ?
+       ORDER BY id
+      """;
+
+  /**
+   * Claims the oldest due row of each (listener, ordering key) whose predecessors have all
+   * been dispatched or given up on, which keeps delivery per key strictly in order.
+   */
+  static final String CLAIM_SQL = """
+      UPDATE event_outbox o
+         SET status = 'IN_FLIGHT', attempts = o.attempts + 1, lease_expires_at = ?
+       WHERE o.id IN (
+          SELECT c.id FROM event_outbox c
+           WHERE c.status = 'PENDING' AND c.next_attempt_at <= ?
+             AND NOT EXISTS (
+                 SELECT 1 FROM event_outbox p
+                  WHERE p.listener_id = c.listener_id
+                    AND p.ordering_key = c.ordering_key
+                    AND p.id < c.id
+                    AND p.status IN ('PENDING', 'IN_FLIGHT'))
+           ORDER BY c.id
+           LIMIT ?
+           FOR UPDATE SKIP LOCKED)
+      RETURNING o.id, o.event_id, o.event_type, o.payload_type, o.payload::text AS payload,
+                o.listener_id, o.aggregate_id, o.aggregate_version, o.tenant_id,
+                o.correlation_id, o.payload_schema_version, o.occurred_at, o.attempts
+      """;
+
+  // Finished rows are deleted a batch at a time, so one purge never holds a long lock
+  static final String PURGE_DISPATCHED_SQL = """
+      DELETE FROM event_outbox
+       WHERE id IN (
+          SELECT id FROM event_outbox
+           WHERE status = 'DISPATCHED' AND dispatched_at < ?
+           LIMIT ?)
+      """;
+
+  static final String PURGE_DEAD_SQL = """
+      DELETE FROM event_outbox
+       WHERE id IN (
+          SELECT id FROM event_outbox
+           WHERE status = 'DEAD' AND created_at < ?
+           LIMIT ?)
+      """;
+
+  static final String PURGE_BROADCAST_SQL = """
+      DELETE FROM event_outbox
+       WHERE id IN (
+          SELECT id FROM event_outbox
+           WHERE status = 'BROADCAST' AND occurred_at < ?
+           LIMIT ?)
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public EventOutboxStore(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public void append(List<NewRecord> records) {
+    if (records.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(INSERT_SQL, records, BATCH_SIZE, (ps, record) -> {
+      ps.setObject(1, record.eventId());
+      ps.setString(2, record.eventType());
+      ps.setString(3, record.payloadType());
+      ps.setString(4, record.payload());
+      ps.setString(5, record.listenerId());
+      ps.setObject(6, record.orderingKey());
+      ps.setObject(7, record.aggregateId());
+      ps.setInt(8, record.aggregateVersion());
+      ps.setObject(9, record.tenantId());
+      ps.setObject(10, record.correlationId());
+      ps.setString(11, record.payloadSchemaVersion());
+      ps.setTimestamp(12, Timestamp.from(record.occurredAt()));
+      ps.setString(13, record.broadcast() ? "BROADCAST" : "PENDING");
+    });
+  }
+
+  public List<Record> claim(Instant now, Instant leaseUntil, int limit) {
+    return jdbcTemplate.query(CLAIM_SQL, EventOutboxStore::mapRecord,
+        Timestamp.from(leaseUntil), Timestamp.from(now), limit);
+  }
+
+  /** Broadcast rows written after {@code since}, oldest first. */
+  public List<Record> findBroadcasts(Instant since) {
+    return jdbcTemplate.query(BROADCAST_SQL, EventOutboxStore::mapRecord, Timestamp.from(since));
+  }
+
+  public int releaseExpiredLeases(Instant now) {
+    return jdbcTemplate.update(
+        "UPDATE event_outbox SET status = 'PENDING', lease_expires_at = NULL " +
+        "WHERE status = 'IN_FLIGHT' AND lease_expires_at < ?",
+        Timestamp.from(now));
+  }
+
+  public void markDispatched(long id, Instant now) {
+    jdbcTemplate.update(
+        "UPDATE event_outbox SET status = 'DISPATCHED', dispatched_at = ?, lease_expires_at = NULL " +
+        "WHERE id = ?",
+        Timestamp.from(now), id);
+  }
+
+  public void reschedule(long id, Instant nextAttemptAt, String error) {
+    jdbcTemplate.update(
+        "UPDATE event_outbox SET status = 'PENDING', next_attempt_at = ?, last_error = ?, " +
+        "lease_expires_at = NULL WHERE id = ?",
+        Timestamp.from(nextAttemptAt), error, id);
+  }
+
+  public void markDead(long id, String error) {
+    jdbcTemplate.update(
+        "UPDATE event_outbox SET status = 'DEAD', last_error = ?, lease_expires_at = NULL " +
+        "WHERE id = ?",
+        error, id);
+  }
+
+  /** Deletes up to {@code limit} rows dispatched before {@code cutoff}. */
+  public int purgeDispatched(Instant cutoff, int limit) {
+    return jdbcTemplate.update(PURGE_DISPATCHED_SQL, Timestamp.from(cutoff), limit);
+  }
+
+  /** Deletes up to {@code limit} DEAD rows created before {@code cutoff}. */
+  public int purgeDead(Instant cutoff, int limit) {
+    return jdbcTemplate.update(PURGE_DEAD_SQL, Timestamp.from(cutoff), limit);
+  }
+
+  /** Deletes up to {@code limit} BROADCAST rows for events that occurred before {@code cutoff}. */
+  public int purgeBroadcast(Instant cutoff, int limit) {
+    return jdbcTemplate.update(PURGE_BROADCAST_SQL, Timestamp.from(cutoff), limit);
+  }
+
+  private static Record mapRecord(ResultSet rs, int rowNum) throws SQLException {
+    return new Record(
+        rs.getLong("id"),
+        rs.getObject("event_id", UUID.class),
+        rs.getString("event_type"),
+        rs.getString("payload_type"),
+        rs.getString("payload"),
+        rs.getString("listener_id"),
+        rs.getObject("aggregate_id", UUID.class),
+        rs.getInt("aggregate_version"),
+        rs.getObject("tenant_id", UUID.class),
+        rs.getObject("correlation_id", UUID.class),
+        rs.getString("payload_schema_version"),
+        rs.getTimestamp("occurred_at").toInstant(),
+        rs.getInt("attempts"));
+  }
+
+  public record NewRecord(
+      UUID eventId, String eventType, String payloadType, String payload, String listenerId,
+      UUID orderingKey, UUID aggregateId, int aggregateVersion, UUID tenantId, UUID correlationId,
+      String payloadSchemaVersion, Instant occurredAt, boolean broadcast) {
+  }
+
+  public record Record(
+      long id, UUID eventId, String eventType, String payloadType, String payload,
+      String listenerId, UUID aggregateId, int aggregateVersion, UUID tenantId,
+      UUID correlationId, String payloadSchemaVersion, Instant occurredAt, int attempts) {
+  }
+}
@@ -1,24 +1,89 @@
 package com.derbysoft.click.bootstrap.messaging;
 
 import com.derbysoft.click.sharedkernel.api.EventEnvelope;
+import java.util.List;
+import java.util.UUID;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.json.JsonMapper;
 
 /**
  * Minimal in-process event bus backed by Spring's ApplicationEventPublisher.
- * Publish events here for synchronous in-process delivery.
+ *
+ * <p>In {@code SYNC} mode (the default) events are delivered synchronously in-process, inside
+ * the publisher's thread and transaction. In {@code OUTBOX} mode
+ * ({@code messaging.event-bus.mode=OUTBOX}) the envelope is written to {@code event_outbox}
+ * in the publisher's transaction, one row per interested listener, and {@link OutboxRelay}
+ * delivers it after commit. Listener latency and failures then no longer reach the caller,
+ * and events from a rolled-back transaction are never delivered.
+ *
+ * <p>Listeners marked {@link Broadcast} get a single {@code BROADCAST} row that every
+ * replica's relay delivers locally, instead of a row claimed by one replica.
+ *
+ * <p>Outbox delivery is ordered per listener by {@code aggregateId}, falling back to
+ * {@code tenantId}; envelopes carrying neither are delivered without ordering guarantees.
  * Replace with a durable broker (Kafka, RabbitMQ) when cross-process messaging is needed.
  */
 @Component
 public class InProcessEventBus {
 
   private final ApplicationEventPublisher publisher;
+  private final EventBusConfig config;
+  private final EventListenerRegistry listenerRegistry;
+  private final EventOutboxStore outboxStore;
+  private final OutboxRelay relay;
+  private final JsonMapper jsonMapper;
 
-  public InProcessEventBus(ApplicationEventPublisher publisher) {
+  public InProcessEventBus(ApplicationEventPublisher publisher,
+                           EventBusConfig config,
+                           EventListenerRegistry listenerRegistry,
+                           EventOutboxStore outboxStore,
+                           OutboxRelay relay,
+                           JsonMapper jsonMapper) {
     this.publisher = publisher;
+    this.config = config;
+    this.listenerRegistry = listenerRegistry;
+    this.outboxStore = outboxStore;
+    this.relay = relay;
+    this.jsonMapper = jsonMapper;
   }
 
   public <T> void publish(EventEnvelope<T> event) {
-    publisher.publishEvent(event);
+    if (!config.isOutbox() || event.payload() == null) {
+      publisher.publishEvent(event);
+      return;
+    }
+    List<EventListenerRegistry.Listener> listeners =
+        listenerRegistry.listenersFor(event.payload().getClass());
+    if (listeners.isEmpty()) {
+      return;
+    }
+    String payload = jsonMapper.writeValueAsString(event.payload());
+    UUID orderingKey = event.aggregateId() != null ? event.aggregateId()
+        : event.tenantId() != null ? event.tenantId()
+        : event.eventId();
+    outboxStore.append(listeners.stream()
+        .map(listener -> new EventOutboxStore.NewRecord(
+            event.eventId(), event.eventType(), event.payload().getClass().getName(), payload,
+            listener.id(), orderingKey, event.aggregateId(), event.aggregateVersion(),
+            event.tenantId(), event.correlationId(), event.payloadSchemaVersion(),
+            event.occurredAt(), listener.broadcast()))
+        .toList());
+    wakeRelayAfterCommit();
+  }
+
+  private void wakeRelayAfterCommit() {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      relay.wakeUp();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        relay.wakeUp();
+      }
+    });
   }
 }
@@ -0,0 +1,249 @@
+package com.derbysoft.click.bootstrap.messaging;
+
+import com.derbysoft.click.sharedkernel.api.EventEnvelope;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Delivers {@code event_outbox} rows to their listeners after the publishing transaction has
+ * committed.
+ *
+ * <p>Each listener gets its own bounded pool, so a slow listener only delays its own backlog.
+ * A failed delivery is retried with exponential backoff up to {@code maxAttempts} and then
+ * parked as DEAD; later events for the same listener and ordering key wait behind it until
+ * then. The relay is woken on commit and also polls, which picks up rows written by other
+ * replicas and recovers deliveries whose lease expired.
+ *
+ * <p>Each poll also delivers {@link Broadcast} rows written within {@link #BROADCAST_WINDOW}
+ * that this replica has not delivered yet, including those it wrote itself. A failed
+ * broadcast delivery is retried on the next poll until the window passes.
+ */
+@Component
+public class OutboxRelay {
+
+  private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+  private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+  static final Duration BROADCAST_WINDOW = Duration.ofMinutes(10);
+
+  private final EventOutboxStore store;
+  private final EventListenerRegistry registry;
+  private final EventBusConfig config;
+  private final JsonMapper jsonMapper;
+  private final ExecutorService relayThread =
+      Executors.newSingleThreadExecutor(Thread.ofPlatform().name("outbox-relay").daemon(true).factory());
+  private final Map<String, ExecutorService> listenerPools = new ConcurrentHashMap<>();
+  private final AtomicBoolean draining = new AtomicBoolean();
+  private final AtomicBoolean wakeRequested = new AtomicBoolean();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  // Broadcast rows already delivered here, by id, with their write time so they can be
+  // forgotten once they leave the window. Rows from before startup are not replayed.
+  private final Map<Long, Instant> deliveredBroadcasts = new ConcurrentHashMap<>();
+  private final Instant startedAt = Instant.now();
+
+  public OutboxRelay(EventOutboxStore store, EventListenerRegistry registry,
+                     EventBusConfig config, JsonMapper jsonMapper) {
+    this.store = store;
+    this.registry = registry;
+    this.config = config;
+    this.jsonMapper = jsonMapper;
+  }
+
+  @Scheduled(fixedDelayString = "${messaging.event-bus.poll-interval-ms:1000}")
+  public void poll() {
+    if (config.isOutbox()) {
+      store.releaseExpiredLeases(Instant.now());
+      wakeUp();
+      deliverBroadcasts(Instant.now());
+    }
+  }
+
+  void deliverBroadcasts(Instant now) {
+    Instant windowStart = now.minus(BROADCAST_WINDOW);
+    deliveredBroadcasts.values().removeIf(writtenAt -> writtenAt.isBefore(windowStart));
+    Instant since = windowStart.isAfter(startedAt) ? windowStart : startedAt;
+    try {
+      for (EventOutboxStore.Record record : store.findBroadcasts(since)) {
+        if (deliveredBroadcasts.containsKey(record.id())) {
+          continue;
+        }
+        try {
+          var listener = registry.find(record.listenerId()).orElseThrow(() ->
+              new IllegalStateException("No listener registered as " + record.listenerId()));
+          listener.invoke(toEnvelope(record));
+          deliveredBroadcasts.put(record.id(), record.occurredAt());
+        } catch (Exception e) {
+          log.warn("Broadcast of event {} ({}) to {} failed: {}",
+              record.eventId(), record.eventType(), record.listenerId(), e.getMessage());
+        }
+      }
+    } catch (Exception e) {
+      log.warn("Outbox broadcast poll failed: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Deletes DISPATCHED rows past their retention, and DEAD rows after a longer one so they
+   * can still be inspected, so the table only holds recent history.
+   */
+  @Scheduled(fixedDelayString = "${messaging.event-bus.purge-interval-ms:3600000}")
+  public void purge() {
+    Instant now = Instant.now();
+    try {
+      Instant dispatchedCutoff = now.minus(Duration.ofDays(config.getDispatchedRetentionDays()));
+      Instant deadCutoff = now.minus(Duration.ofDays(config.getDeadRetentionDays()));
+      int dispatched = purgeInBatches(limit -> store.purgeDispatched(dispatchedCutoff, limit));
+      int dead = purgeInBatches(limit -> store.purgeDead(deadCutoff, limit));
+      // Broadcasts are only read within their window, so they share the dispatched retention
+      int broadcast = purgeInBatches(limit -> store.purgeBroadcast(dispatchedCutoff, limit));
+      if (dispatched + dead + broadcast > 0) {
+        log.info("Purged {} dispatched, {} dead and {} broadcast outbox rows",
+            dispatched, dead, broadcast);
+      }
+    } catch (Exception e) {
+      log.warn("Outbox purge failed: {}", e.getMessage());
+    }
+  }
+
+  private static int purgeInBatches(IntUnaryOperator deleteBatch) {
+    int total = 0;
+    int deleted;
+    do {
+      deleted = deleteBatch.applyAsInt(EventOutboxStore.BATCH_SIZE);
+      total += deleted;
+    } while (deleted == EventOutboxStore.BATCH_SIZE);
+    return total;
+  }
+
+  /** Requests a drain; coalesces with one already running. */
+  public void wakeUp() {
+    wakeRequested.set(true);
+    if (draining.compareAndSet(false, true)) {
+      try {
+        relayThread.execute(this::drainLoop);
+      } catch (RejectedExecutionException e) {
+        draining.set(false);
+      }
+    }
+  }
+
+  private void drainLoop() {
+    try {
+      while (wakeRequested.getAndSet(false)) {
+        drain();
+      }
+    } catch (Exception e) {
+      log.warn("Outbox relay drain failed: {}", e.getMessage());
+    } finally {
+      draining.set(false);
+    }
+    if (wakeRequested.get()) {
+      wakeUp();
+    }
+  }
+
+  private void drain() {
+    int capacity = config.getRelayBatchSize() - inFlight.get();
+    while (capacity > 0) {
+      Instant now = Instant.now();
+      List<EventOutboxStore.Record> claimed =
+          store.claim(now, now.plusSeconds(config.getLeaseSeconds()), capacity);
+      claimed.forEach(this::submit);
+      if (claimed.size() < capacity) {
+        return;
+      }
+      capacity = config.getRelayBatchSize() - inFlight.get();
+    }
+  }
+
+  private void submit(EventOutboxStore.Record record) {
+    inFlight.incrementAndGet();
+    try {
+      listenerPools.computeIfAbsent(record.listenerId(), this::newListenerPool)
+          .execute(() -> deliver(record));
+    } catch (RejectedExecutionException e) {
+      // Shutting down: the lease expires and the next relay picks the row up again
+      inFlight.decrementAndGet();
+    }
+  }
+
+  private void deliver(EventOutboxStore.Record record) {
+    try {
+      var listener = registry.find(record.listenerId()).orElseThrow(() ->
+          new IllegalStateException("No listener registered as " + record.listenerId()));
+      listener.invoke(toEnvelope(record));
+      store.markDispatched(record.id(), Instant.now());
+    } catch (Exception e) {
+      fail(record, e);
+    } finally {
+      inFlight.decrementAndGet();
+      // A successor with the same ordering key may now be claimable
+      wakeUp();
+    }
+  }
+
+  private void fail(EventOutboxStore.Record record, Exception e) {
+    String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+    try {
+      if (record.attempts() >= config.getMaxAttempts()) {
+        log.error("Giving up on event {} ({}) for {} after {} attempts: {}",
+            record.eventId(), record.eventType(), record.listenerId(), record.attempts(), error);
+        store.markDead(record.id(), error);
+      } else {
+        log.warn("Delivery of event {} ({}) to {} failed, attempt {}: {}",
+            record.eventId(), record.eventType(), record.listenerId(), record.attempts(), error);
+        store.reschedule(record.id(), Instant.now().plus(backoff(record.attempts())), error);
+      }
+    } catch (Exception storeError) {
+      // Row stays IN_FLIGHT; lease expiry hands it back to the relay
+      log.warn("Could not record failed delivery of outbox row {}: {}",
+          record.id(), storeError.getMessage());
+    }
+  }
+
+  static Duration backoff(int attempts) {
+    Duration delay = Duration.ofSeconds(1L << Math.min(attempts, 16));
+    return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+  }
+
+  private EventEnvelope<Object> toEnvelope(EventOutboxStore.Record record)
+      throws ClassNotFoundException {
+    Class<?> payloadType = ClassUtils.forName(record.payloadType(), getClass().getClassLoader());
+    Object payload = jsonMapper.readValue(record.payload(), payloadType);
+    return new EventEnvelope<>(record.eventId(), record.eventType(), record.occurredAt(),
+        payload, record.correlationId(), record.aggregateId(), record.aggregateVersion(),
+        record.tenantId(), record.payloadSchemaVersion());
+  }
+
+  private ExecutorService newListenerPool(String listenerId) {
+    return Executors.newFixedThreadPool(config.getListenerPoolSize(),
+        Thread.ofPlatform().name("outbox-" + listenerId + "-", 0).daemon(true).factory());
+  }
+
+  @PreDestroy
+  void shutdown() throws InterruptedException {
+    relayThread.shutdown();
+    listenerPools.values().forEach(ExecutorService::shutdown);
+    for (ExecutorService pool : listenerPools.values()) {
+      if (!pool.awaitTermination(30, TimeUnit.SECONDS)) {
+        pool.shutdownNow();
+      }
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package com.derbysoft.click.bootstrap.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitConfig {
+
+  // Share hits through rate_limit_hits so every replica enforces one limit per tenant
+  private boolean syncEnabled = false;
+
+  public boolean isSyncEnabled() { return syncEnabled; }
+  public void setSyncEnabled(boolean syncEnabled) { this.syncEnabled = syncEnabled; }
+}
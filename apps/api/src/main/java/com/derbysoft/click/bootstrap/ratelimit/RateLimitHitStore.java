@@ -0,0 +1,69 @@
+package com.derbysoft.click.bootstrap.ratelimit;
+
+import com.derbysoft.click.bootstrap.ratelimit.SlidingWindowRateLimiter.Hit;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * JDBC access to {@code rate_limit_hits}, the hits each replica has admitted. Each row
+ * carries the instant its own window ends, so reads and purges never depend on which scopes
+ * the calling replica happens to know. The table only ever holds unexpired hits, so reading
+ * it back in full is cheap.
+ */
+@Component
+public class RateLimitHitStore {
+
+  static final int BATCH_SIZE = 500;
+
+  static final String INSERT_SQL = """
+      INSERT INTO rate_limit_hits (scope, tenant_id, hit_at, expires_at, replica_id)
+      VALUES (?, ?, ?, ?, ?)
+      """;
+
+  static final String FIND_SQL = """
+      SELECT scope, tenant_id, hit_at, expires_at
+      FROM rate_limit_hits
+      WHERE expires_at > ? AND replica_id <> ?
+      """;
+
+  static final String DELETE_SQL = "DELETE FROM rate_limit_hits WHERE expires_at <= ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public RateLimitHitStore(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public void append(List<Hit> hits, UUID replicaId) {
+    if (hits.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(INSERT_SQL, hits, BATCH_SIZE, (ps, hit) -> {
+      ps.setString(1, hit.scope());
+      ps.setObject(2, hit.tenantId());
+      ps.setTimestamp(3, Timestamp.from(hit.at()));
+      ps.setTimestamp(4, Timestamp.from(hit.expiresAt()));
+      ps.setObject(5, replicaId);
+    });
+  }
+
+  /** Hits still counting at {@code now} admitted by any replica but {@code replicaId}. */
+  public List<Hit> findOthersLive(Instant now, UUID replicaId) {
+    return jdbcTemplate.query(FIND_SQL,
+        (rs, rowNum) -> new Hit(
+            rs.getString("scope"),
+            rs.getObject("tenant_id", UUID.class),
+            rs.getTimestamp("hit_at").toInstant(),
+            rs.getTimestamp("expires_at").toInstant()),
+        Timestamp.from(now), replicaId);
+  }
+
+  /** Deletes every hit whose window has ended by {@code now}, whatever its scope. */
+  public int deleteExpired(Instant now) {
+    return jdbcTemplate.update(DELETE_SQL, Timestamp.from(now));
+  }
+}
@@ -0,0 +1,62 @@
+package com.derbysoft.click.bootstrap.ratelimit;
+
+import com.derbysoft.click.bootstrap.ratelimit.SlidingWindowRateLimiter.Hit;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shares admitted hits between replicas when {@code rate-limit.sync-enabled} is set. Each
+ * tick publishes the hits taken here, then reloads everyone else's that are still inside
+ * their window. A restarted replica gets a new id, so loading also restores the hits its
+ * previous incarnation admitted; the first load runs at startup, before any request can be
+ * admitted against an empty view.
+ */
+@Component
+public class RateLimitSync implements SmartInitializingSingleton {
+
+  private static final Logger log = LoggerFactory.getLogger(RateLimitSync.class);
+
+  private final UUID replicaId = UUID.randomUUID();
+  private final SlidingWindowRateLimiter limiter;
+  private final RateLimitHitStore store;
+  private final RateLimitConfig config;
+
+  public RateLimitSync(SlidingWindowRateLimiter limiter, RateLimitHitStore store, RateLimitConfig config) {
+    this.limiter = limiter;
+    this.store = store;
+    this.config = config;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    sync();
+  }
+
+  @Scheduled(fixedDelayString = "${rate-limit.sync-interval-ms:2000}")
+  public void sync() {
+    if (!config.isSyncEnabled()) {
+      return;
+    }
+    List<Hit> local = limiter.drainUnsynced();
+    try {
+      store.append(local, replicaId);
+    } catch (Exception e) {
+      // The hits still count here; other replicas just won't see them
+      log.warn("Failed to publish {} rate limit hits: {}", local.size(), e.getMessage());
+    }
+
+    try {
+      Instant now = Instant.now();
+      limiter.replaceRemote(store.findOthersLive(now, replicaId));
+      store.deleteExpired(now);
+    } catch (Exception e) {
+      log.warn("Failed to load rate limit hits from other replicas: {}", e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,228 @@
+package com.derbysoft.click.bootstrap.ratelimit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Per-tenant sliding-window limits kept in memory, so a manual trigger is checked without
+ * counting rows in the job tables. Each (scope, tenant) keeps the instants of its hits inside
+ * the window, which makes the limit exact and the Retry-After the moment the oldest hit that
+ * matters falls out of the window.
+ *
+ * <p>Windows are spread over a fixed set of stripes, each with its own lock, so tenants on
+ * different stripes never contend. With {@code rate-limit.sync-enabled}, hits are also
+ * shared through {@link RateLimitSync}; until the next sync a replica cannot see hits taken
+ * on the others, so a tenant may briefly exceed the limit by what they admit in between.
+ */
+@Component
+public class SlidingWindowRateLimiter {
+
+  private static final int STRIPES = 64;
+
+  /** A limit of {@code limit} hits per {@code window}, counted separately per tenant. */
+  public record Policy(String scope, int limit, Duration window) {}
+
+  /**
+   * On a denial, {@code retryAfter} is rounded up to whole seconds, so it never comes early.
+   * When allowed, {@code acquiredAt} is the instant of the hit taken.
+   */
+  public record Decision(boolean allowed, Duration retryAfter, Instant acquiredAt) {
+    static Decision allow(Instant at) { return new Decision(true, Duration.ZERO, at); }
+    static Decision deny(Duration wait) {
+      long seconds = wait.getSeconds() + (wait.getNano() > 0 ? 1 : 0);
+      return new Decision(false, Duration.ofSeconds(Math.max(1, seconds)), null);
+    }
+  }
+
+  /** A hit taken at {@code at}, which stops counting at {@code expiresAt}. */
+  public record Hit(String scope, UUID tenantId, Instant at, Instant expiresAt) {}
+
+  private record Key(String scope, UUID tenantId) {}
+
+  private static final class Window {
+    private final ArrayDeque<Instant> local = new ArrayDeque<>();
+    private List<Instant> remote = List.of();
+  }
+
+  private static final class Stripe {
+    private final Map<Key, Window> windows = new HashMap<>();
+  }
+
+  private final Stripe[] stripes = new Stripe[STRIPES];
+  private final Map<String, Duration> scopeWindows = new ConcurrentHashMap<>();
+  private final ConcurrentLinkedQueue<Hit> unsynced = new ConcurrentLinkedQueue<>();
+  private final RateLimitConfig config;
+  private final Supplier<Instant> clock;
+
+  @Autowired
+  public SlidingWindowRateLimiter(RateLimitConfig config) {
+    this(config, Instant::now);
+  }
+
+  SlidingWindowRateLimiter(RateLimitConfig config, Supplier<Instant> clock) {
+    this.config = config;
+    this.clock = clock;
+    for (int i = 0; i < STRIPES; i++) {
+      stripes[i] = new Stripe();
+    }
+  }
+
+  /** Takes a hit for the tenant if it has one left in the window; a denial takes nothing. */
+  public Decision tryAcquire(Policy policy, UUID tenantId) {
+    scopeWindows.putIfAbsent(policy.scope(), policy.window());
+    Key key = new Key(policy.scope(), tenantId);
+    Stripe stripe = stripeOf(key);
+    synchronized (stripe) {
+      Instant now = clock.get();
+      Instant cutoff = now.minus(policy.window());
+      Window window = stripe.windows.computeIfAbsent(key, k -> new Window());
+      List<Instant> hits = live(window, cutoff);
+      if (hits.size() >= policy.limit()) {
+        // Enough hits must expire to leave one free; the last of them decides the wait
+        Instant freeAt = hits.get(hits.size() - policy.limit()).plus(policy.window());
+        return Decision.deny(Duration.between(now, freeAt));
+      }
+      window.local.addLast(now);
+      if (config.isSyncEnabled()) {
+        unsynced.add(new Hit(policy.scope(), tenantId, now, now.plus(policy.window())));
+      }
+      return Decision.allow(now);
+    }
+  }
+
+  /**
+   * Like {@link #tryAcquire}, but inside a transaction the hit is handed back if the
+   * transaction does not commit, so a trigger that fails validation or its write after
+   * being admitted does not use up the tenant's limit.
+   */
+  public Decision tryAcquireForTransaction(Policy policy, UUID tenantId) {
+    Decision decision = tryAcquire(policy, tenantId);
+    if (decision.allowed() && TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          if (status != STATUS_COMMITTED) {
+            release(policy, tenantId, decision.acquiredAt());
+          }
+        }
+      });
+    }
+    return decision;
+  }
+
+  /**
+   * Hands back a hit taken at {@code at}. A hit already published by {@link RateLimitSync}
+   * still counts on the other replicas until it leaves the window.
+   */
+  public void release(Policy policy, UUID tenantId, Instant at) {
+    Key key = new Key(policy.scope(), tenantId);
+    Stripe stripe = stripeOf(key);
+    synchronized (stripe) {
+      Window window = stripe.windows.get(key);
+      if (window != null) {
+        window.local.removeLastOccurrence(at);
+      }
+      unsynced.remove(new Hit(policy.scope(), tenantId, at, at.plus(policy.window())));
+    }
+  }
+
+  /** Hits taken here since the last call, for {@link RateLimitSync} to publish. */
+  List<Hit> drainUnsynced() {
+    List<Hit> drained = new ArrayList<>();
+    Hit hit;
+    while ((hit = unsynced.poll()) != null) {
+      drained.add(hit);
+    }
+    return drained;
+  }
+
+  /**
+   * Replaces every tenant's view of hits taken on other replicas. The new views are built
+   * first and swapped in one stripe at a time, so no tenant is ever checked against an
+   * emptied view in between. Scopes only seen remotely take their window from the hits,
+   * so eviction knows how long to keep them.
+   */
+  void replaceRemote(List<Hit> hits) {
+    Map<Key, List<Instant>> byKey = new HashMap<>();
+    for (Hit hit : hits) {
+      scopeWindows.putIfAbsent(hit.scope(), Duration.between(hit.at(), hit.expiresAt()));
+      byKey.computeIfAbsent(new Key(hit.scope(), hit.tenantId()), k -> new ArrayList<>()).add(hit.at());
+    }
+    Map<Integer, Map<Key, List<Instant>>> byStripe = new HashMap<>();
+    byKey.forEach((key, remote) -> {
+      remote.sort(null);
+      byStripe.computeIfAbsent(stripeIndex(key), i -> new HashMap<>()).put(key, List.copyOf(remote));
+    });
+
+    for (int i = 0; i < STRIPES; i++) {
+      Map<Key, List<Instant>> remote = byStripe.getOrDefault(i, Map.of());
+      Stripe stripe = stripes[i];
+      synchronized (stripe) {
+        stripe.windows.forEach((key, window) -> window.remote = remote.getOrDefault(key, List.of()));
+        remote.forEach((key, instants) -> stripe.windows.computeIfAbsent(key, k -> new Window()).remote = instants);
+      }
+    }
+  }
+
+  /** The longest window of any scope in use, which bounds how far back hits still matter. */
+  private Duration longestWindow() {
+    return scopeWindows.values().stream().max(Duration::compareTo).orElse(Duration.ZERO);
+  }
+
+  @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+  public void evictExpired() {
+    Instant now = clock.get();
+    for (Stripe stripe : stripes) {
+      synchronized (stripe) {
+        Iterator<Map.Entry<Key, Window>> it = stripe.windows.entrySet().iterator();
+        while (it.hasNext()) {
+          Map.Entry<Key, Window> entry = it.next();
+          Duration length = scopeWindows.getOrDefault(entry.getKey().scope(), longestWindow());
+          if (live(entry.getValue(), now.minus(length)).isEmpty()) {
+            it.remove();
+          }
+        }
+      }
+    }
+  }
+
+  /** Drops local hits at or before {@code cutoff} and returns the rest, oldest first. */
+  private static List<Instant> live(Window window, Instant cutoff) {
+    while (!window.local.isEmpty() && !window.local.peekFirst().isAfter(cutoff)) {
+      window.local.pollFirst();
+    }
+    List<Instant> hits = new ArrayList<>(window.local);
+    for (Instant at : window.remote) {
+      if (at.isAfter(cutoff)) {
+        hits.add(at);
+      }
+    }
+    if (!window.remote.isEmpty()) {
+      hits.sort(null);
+    }
+    return hits;
+  }
+
+  private Stripe stripeOf(Key key) {
+    return stripes[stripeIndex(key)];
+  }
+
+  private static int stripeIndex(Key key) {
+    return Math.floorMod(key.hashCode(), STRIPES);
+  }
+}
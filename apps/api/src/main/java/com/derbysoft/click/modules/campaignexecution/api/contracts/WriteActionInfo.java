@@ -0,0 +1,9 @@
+package com.derbysoft.click.modules.campaignexecution.api.contracts;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record WriteActionInfo(UUID id, UUID revisionId, UUID itemId, String actionType,
+                              String idempotencyKey, String status, int attempts,
+                              String triggerType, String failureClass, String failureReason,
+                              Instant nextAttemptAfter, Instant createdAt, Instant updatedAt) {}
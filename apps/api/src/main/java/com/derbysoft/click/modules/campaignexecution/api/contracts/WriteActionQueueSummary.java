@@ -0,0 +1,11 @@
+package com.derbysoft.click.modules.campaignexecution.api.contracts;
+
+import com.derbysoft.click.sharedkernel.api.CursorPage;
+import java.util.Map;
+
+/**
+ * One tenant's write action queue: counts keyed by status name (PENDING and RUNNING, zero
+ * when empty), how many PENDING actions are due now, and the next page of PENDING actions.
+ */
+public record WriteActionQueueSummary(Map<String, Long> countsByStatus, long due,
+                                      CursorPage<WriteActionInfo> next) {}
@@ -3,6 +3,11 @@ package com.derbysoft.click.modules.campaignexecution.api.ports;
 import com.derbysoft.click.modules.campaignexecution.api.contracts.ExecutionIncidentSummary;
 import com.derbysoft.click.modules.campaignexecution.api.contracts.PlanItemInfo;
 import com.derbysoft.click.modules.campaignexecution.api.contracts.PlanRevisionInfo;
+import com.derbysoft.click.modules.campaignexecution.api.contracts.WriteActionInfo;
+import com.derbysoft.click.modules.campaignexecution.api.contracts.WriteActionQueueSummary;
+import com.derbysoft.click.sharedkernel.api.CursorPage;
+import com.derbysoft.click.sharedkernel.api.HistoryQuery;
+import com.derbysoft.click.sharedkernel.api.KeysetCursor;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,6 +16,10 @@ public interface CampaignManagementQueryPort {
     List<PlanRevisionInfo> listAppliedRevisions(UUID tenantId);
     Optional<PlanRevisionInfo> findRevisionById(UUID revisionId);
     List<PlanItemInfo> listSucceededItems(UUID revisionId);
+    /** One page of a revision's write actions, newest first. */
+    CursorPage<WriteActionInfo> listActionHistory(UUID revisionId, HistoryQuery query);
+    /** A tenant's PENDING and RUNNING counts and one page of its PENDING actions, soonest due first. */
+    WriteActionQueueSummary summarizeQueue(UUID tenantId, KeysetCursor after, int limit);
     List<ExecutionIncidentSummary> listOpenIncidents(UUID tenantId);
     List<ExecutionIncidentSummary> listEscalatedIncidents(UUID tenantId);
 }
@@ -14,6 +14,7 @@ import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.WriteAc
 import com.derbysoft.click.sharedkernel.api.EventEnvelope;
 import com.derbysoft.click.sharedkernel.domain.errors.DomainError;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.stereotype.Service;
@@ -69,13 +70,23 @@ public class CampaignPlanService {
             nextNumber, now);
         PlanRevision savedRevision = revisionRepository.save(revision);
 
-        List<PlanItem> planItems = items.stream()
-            .map(draft -> PlanItem.create(
-                UUID.randomUUID(), savedRevision.getId(), tenantId,
+        // Drafts name their parent by position; parents must precede their children
+        List<UUID> itemIds = items.stream().map(draft -> UUID.randomUUID()).toList();
+        List<PlanItem> planItems = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            PlanItemDraft draft = items.get(i);
+            Integer parentIndex = draft.parentIndex();
+            if (parentIndex != null && (parentIndex < 0 || parentIndex >= i)) {
+                throw new DomainError.ValidationError("CE_400",
+                    "Item " + i + " references parent " + parentIndex + " which does not precede it");
+            }
+            planItems.add(PlanItem.create(
+                itemIds.get(i), savedRevision.getId(), tenantId,
                 draft.actionType(), draft.resourceType(), draft.resourceId(),
-                draft.payload(), draft.applyOrder(), now
-            ))
-            .toList();
+                draft.payload(), draft.applyOrder(),
+                parentIndex != null ? itemIds.get(parentIndex) : null, now
+            ));
+        }
         planItemRepository.saveAll(planItems);
 
         return savedRevision;
@@ -121,5 +132,6 @@ public class CampaignPlanService {
     }
 
     public record PlanItemDraft(WriteActionType actionType, String resourceType,
-                                 String resourceId, String payload, ApplyOrder applyOrder) {}
+                                 String resourceId, String payload, ApplyOrder applyOrder,
+                                 Integer parentIndex) {}
 }
@@ -0,0 +1,92 @@
+package com.derbysoft.click.modules.campaignexecution.application.handlers;
+
+import com.derbysoft.click.modules.campaignexecution.domain.WriteActionRepository;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.FailureClass;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.WriteActionStatus;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.WriteActionType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Meters for the write action pipeline, scraped from {@code /actuator/prometheus}. Queue depth
+ * is sampled from the database on a fixed schedule, as in {@code IngestionMetrics}.
+ */
+@Component
+public class ExecutionMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionMetrics.class);
+    private static final List<WriteActionStatus> QUEUE_STATUSES =
+        List.of(WriteActionStatus.PENDING, WriteActionStatus.RUNNING);
+
+    private final MeterRegistry registry;
+    private final WriteActionRepository writeActionRepository;
+    private final Map<WriteActionStatus, AtomicLong> queueDepth = new EnumMap<>(WriteActionStatus.class);
+    private final Timer readyToStart;
+
+    public ExecutionMetrics(MeterRegistry registry, WriteActionRepository writeActionRepository) {
+        this.registry = registry;
+        this.writeActionRepository = writeActionRepository;
+        for (WriteActionStatus status : QUEUE_STATUSES) {
+            AtomicLong depth = new AtomicLong();
+            queueDepth.put(status, depth);
+            Gauge.builder("execution.actions.queue.depth", depth, AtomicLong::get)
+                .description("Write actions by status, sampled from write_actions")
+                .tag("status", status.name())
+                .register(registry);
+        }
+        this.readyToStart = Timer.builder("execution.actions.claim.lag")
+            .description("Time from a write action becoming due to it being leased")
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${campaign-execution.metrics.queue-depth-interval-ms:30000}")
+    public void refreshQueueDepth() {
+        try {
+            Map<WriteActionStatus, Long> counts = writeActionRepository.countActiveByStatus();
+            queueDepth.forEach((status, depth) -> depth.set(counts.getOrDefault(status, 0L)));
+        } catch (Exception e) {
+            log.warn("Failed to sample write action queue depth: {}", e.getMessage());
+        }
+    }
+
+    public void recordClaimToStart(Duration lag) {
+        readyToStart.record(lag.isNegative() ? Duration.ZERO : lag);
+    }
+
+    /** Records one mutate RPC, tagged {@code succeeded}, {@code auth} or the failure class. */
+    public void recordMutate(WriteActionType actionType, int operations, Duration duration, String outcome) {
+        Timer.builder("execution.mutate")
+            .description("Latency of one Google Ads mutate request")
+            .tag("action_type", actionType.name())
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(duration);
+        registry.counter("execution.mutate.operations", "action_type", actionType.name())
+            .increment(operations);
+    }
+
+    public void recordRetry(FailureClass failureClass) {
+        registry.counter("execution.actions.retries", "failure_class", failureClass.name()).increment();
+    }
+
+    public void recordFailure(FailureClass failureClass) {
+        registry.counter("execution.actions.failures", "failure_class", failureClass.name()).increment();
+    }
+
+    /** Records a RUNNING action whose lease expired, by whether it was {@code requeued} or {@code failed}. */
+    public void recordLeaseRecovery(String outcome) {
+        registry.counter("execution.actions.lease.recoveries", "outcome", outcome).increment();
+    }
+}
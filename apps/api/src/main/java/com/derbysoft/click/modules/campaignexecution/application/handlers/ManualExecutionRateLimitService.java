@@ -1,39 +1,37 @@
 package com.derbysoft.click.modules.campaignexecution.application.handlers;
 
-import com.derbysoft.click.modules.campaignexecution.domain.WriteActionRepository;
+import com.derbysoft.click.bootstrap.ratelimit.SlidingWindowRateLimiter;
+import com.derbysoft.click.bootstrap.ratelimit.SlidingWindowRateLimiter.Decision;
+import com.derbysoft.click.bootstrap.ratelimit.SlidingWindowRateLimiter.Policy;
 import com.derbysoft.click.modules.campaignexecution.domain.errors.RateLimitExceededException;
-import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.TriggerType;
 import java.time.Duration;
-import java.time.Instant;
-import java.util.List;
 import java.util.UUID;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ManualExecutionRateLimitService {
 
-    private static final int MAX_MANUAL_TRIGGERS_PER_HOUR = 3;
-    // Gap #6: APPLY is now counted as a manual trigger alongside FORCE_RUN and RETRY
-    private static final List<TriggerType> MANUAL_TRIGGER_TYPES =
-        List.of(TriggerType.FORCE_RUN, TriggerType.RETRY, TriggerType.APPLY);
+    // Gap #6: APPLY counts as a manual trigger alongside FORCE_RUN and RETRY; all three check here
+    private static final Policy MANUAL_TRIGGERS =
+        new Policy("execution-manual", 3, Duration.ofHours(1));
 
-    private final WriteActionRepository writeActionRepository;
+    private final SlidingWindowRateLimiter limiter;
 
-    public ManualExecutionRateLimitService(WriteActionRepository writeActionRepository) {
-        this.writeActionRepository = writeActionRepository;
+    public ManualExecutionRateLimitService(SlidingWindowRateLimiter limiter) {
+        this.limiter = limiter;
     }
 
     /**
-     * Checks whether the tenant has exceeded the manual trigger rate limit.
+     * Checks whether the tenant has exceeded the manual trigger rate limit, counting this
+     * call against it if not. The count is handed back if the caller's transaction rolls back.
      *
      * @throws RateLimitExceededException with retryAfter duration if the limit is exceeded
      */
     public void checkOrThrow(UUID tenantId) {
-        Instant since = Instant.now().minusSeconds(3600);
-        long count = writeActionRepository.countManualTriggersSince(tenantId, MANUAL_TRIGGER_TYPES, since);
-        if (count >= MAX_MANUAL_TRIGGERS_PER_HOUR) {
+        Decision decision = limiter.tryAcquireForTransaction(MANUAL_TRIGGERS, tenantId);
+        if (!decision.allowed()) {
             // Gap #7: surface retryAfter so callers can return 429 with Retry-After header
-            throw new RateLimitExceededException(Duration.ofHours(1));
+            throw new RateLimitExceededException(decision.retryAfter());
         }
     }
 }
@@ -7,6 +7,8 @@ import com.derbysoft.click.modules.campaignexecution.domain.WriteActionRepositor
 import com.derbysoft.click.modules.campaignexecution.domain.aggregates.PlanRevision;
 import com.derbysoft.click.modules.campaignexecution.domain.aggregates.WriteAction;
 import com.derbysoft.click.modules.campaignexecution.domain.entities.PlanItem;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.ApplyDependencyGraph;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.PlanItemStatus;
 import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.PlanRevisionStatus;
 import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.TriggerType;
 import com.derbysoft.click.modules.googleadsmanagement.api.contracts.AccountBindingInfo;
@@ -14,10 +16,15 @@ import com.derbysoft.click.modules.googleadsmanagement.api.ports.GoogleAdsQueryP
 import com.derbysoft.click.sharedkernel.api.EventEnvelope;
 import com.derbysoft.click.sharedkernel.domain.errors.DomainError;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @Transactional
@@ -46,9 +53,6 @@ public class PlanApplyService {
 
     public PlanRevision applyRevision(UUID revisionId, UUID tenantId,
                                        String triggeredBy, String reason) {
-        // Gap #6: count APPLY as a manual trigger against the rate limit
-        rateLimitService.checkOrThrow(tenantId);
-
         if (revisionRepository.findActiveApplyingByTenantId(tenantId).isPresent()) {
             throw new DomainError.Conflict("CE_409",
                 "Another revision is already being applied for tenant: " + tenantId);
@@ -74,40 +78,77 @@ public class PlanApplyService {
         // Use the first active binding (one connection per tenant)
         String targetCustomerId = bindings.get(0).customerId();
 
+        // Gap #6: count APPLY as a manual trigger against the rate limit, once it is known to
+        // be valid; a hit taken here is handed back if the apply then rolls back
+        rateLimitService.checkOrThrow(tenantId);
+
         Instant now = Instant.now();
         revision.startApply(now);
         PlanRevision saved = revisionRepository.save(revision);
-        publishAndClear(saved);
+        List<Object> events = new ArrayList<>(revision.getEvents());
+        revision.clearEvents();
 
-        List<PlanItem> items = planItemRepository.findByRevisionId(revisionId);
+        // Set-based enqueue: one UPDATE for the items and batched INSERTs for the actions
+        // instead of two flushed saves per item.
+        List<PlanItem> revisionItems = planItemRepository.findByRevisionId(revisionId);
+        List<PlanItem> items = revisionItems.stream()
+            .filter(item -> item.getStatus() == PlanItemStatus.PUBLISHED)
+            .toList();
+
+        // Pin parents inferred from resource ownership, so the claim query can gate children
+        // on parent_item_id alone instead of rebuilding the graph on every tick.
+        ApplyDependencyGraph graph = ApplyDependencyGraph.of(revisionItems);
+        Map<UUID, UUID> inferredParents = new HashMap<>();
+        for (PlanItem item : items) {
+            if (item.getParentItemId() == null) {
+                graph.parentOf(item.getId())
+                    .ifPresent(parent -> inferredParents.put(item.getId(), parent.getId()));
+            }
+        }
+        if (!inferredParents.isEmpty()) {
+            planItemRepository.linkParents(inferredParents);
+        }
+
+        List<WriteAction> actions = new ArrayList<>(items.size());
         for (PlanItem item : items) {
             item.enqueue(now);
-            planItemRepository.save(item);
-            publishAndClear(item);
+            events.addAll(item.getEvents());
+            item.clearEvents();
 
-            WriteAction action = WriteAction.create(
+            actions.add(WriteAction.create(
                 UUID.randomUUID(), revisionId, item.getId(), tenantId,
                 item.getActionType(), item.getAttempts(),
                 targetCustomerId,
                 TriggerType.APPLY, triggeredBy, reason, now
-            );
-            writeActionRepository.save(action);
+            ));
         }
+        planItemRepository.enqueuePublished(revisionId, now);
+        writeActionRepository.insertAll(actions);
 
+        publishAfterCommit(events);
         return saved;
     }
 
-    private void publishAndClear(PlanRevision revision) {
-        revision.getEvents().forEach(event ->
-            eventBus.publish(EventEnvelope.of(event.getClass().getSimpleName(), event))
-        );
-        revision.clearEvents();
+    /**
+     * Listeners react to queued items by reading them back, so events are held until the
+     * enqueue is committed and then published as one batch.
+     */
+    private void publishAfterCommit(List<Object> events) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(events);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(events);
+            }
+        });
     }
 
-    private void publishAndClear(PlanItem item) {
-        item.getEvents().forEach(event ->
+    private void publish(List<Object> events) {
+        events.forEach(event ->
             eventBus.publish(EventEnvelope.of(event.getClass().getSimpleName(), event))
         );
-        item.clearEvents();
     }
 }
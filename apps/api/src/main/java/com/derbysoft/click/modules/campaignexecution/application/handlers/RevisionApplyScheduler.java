@@ -0,0 +1,127 @@
+package com.derbysoft.click.modules.campaignexecution.application.handlers;
+
+import com.derbysoft.click.bootstrap.messaging.InProcessEventBus;
+import com.derbysoft.click.modules.campaignexecution.domain.PlanItemRepository;
+import com.derbysoft.click.modules.campaignexecution.domain.WriteActionRepository;
+import com.derbysoft.click.modules.campaignexecution.domain.aggregates.WriteAction;
+import com.derbysoft.click.modules.campaignexecution.domain.entities.PlanItem;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.ApplyOrder;
+import com.derbysoft.click.sharedkernel.api.EventEnvelope;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps the write action queue consistent with each revision's dependency tree. The claim
+ * query only releases an action once its item has no parent or its parent has SUCCEEDED;
+ * this class copies the parent's resource id onto claimed create items and blocks items whose
+ * parent ended BLOCKED, FAILED or CANCELLED, cancelling their actions.
+ */
+@Component
+public class RevisionApplyScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(RevisionApplyScheduler.class);
+
+    // One pass per dependency level, so a dead campaign blocks its keywords in the same tick
+    private static final int MAX_ORPHAN_PASSES = ApplyOrder.values().length;
+
+    private final WriteActionRepository writeActionRepository;
+    private final PlanItemRepository planItemRepository;
+    private final InProcessEventBus eventBus;
+
+    public RevisionApplyScheduler(WriteActionRepository writeActionRepository,
+                                  PlanItemRepository planItemRepository,
+                                  InProcessEventBus eventBus) {
+        this.writeActionRepository = writeActionRepository;
+        this.planItemRepository = planItemRepository;
+        this.eventBus = eventBus;
+    }
+
+    /** Copies each claimed create item's parent resource id onto it before it is mutated. */
+    @Transactional
+    public void adoptParents(List<WriteAction> claimed, Instant now) {
+        Map<UUID, PlanItem> items = loadItems(claimed.stream().map(WriteAction::getItemId).toList());
+        Map<UUID, PlanItem> parents = loadItems(items.values().stream()
+            .map(PlanItem::getParentItemId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList());
+
+        for (PlanItem item : items.values()) {
+            PlanItem parent = item.getParentItemId() == null ? null : parents.get(item.getParentItemId());
+            if (parent != null) {
+                adoptParent(item, parent, now);
+            }
+        }
+    }
+
+    /**
+     * Blocks PENDING actions whose parent item is dead, up to {@code limit} per pass.
+     * Returns the revisions that had items blocked. The orphans stay row-locked until this
+     * transaction commits, so a concurrent claim cannot lease one that is being cancelled.
+     */
+    @Transactional
+    public Set<UUID> blockOrphans(int limit, Instant now) {
+        Set<UUID> touched = new LinkedHashSet<>();
+        for (int pass = 0; pass < MAX_ORPHAN_PASSES; pass++) {
+            List<WriteAction> orphans = writeActionRepository.findPendingWithDeadParent(limit);
+            if (orphans.isEmpty()) break;
+
+            Map<UUID, PlanItem> items = loadItems(orphans.stream().map(WriteAction::getItemId).toList());
+            Map<UUID, PlanItem> parents = loadItems(items.values().stream()
+                .map(PlanItem::getParentItemId)
+                .distinct()
+                .toList());
+
+            for (WriteAction action : orphans) {
+                PlanItem item = items.get(action.getItemId());
+                if (item == null) {
+                    log.warn("Write action {} has no plan item {} in revision {}",
+                        action.getId(), action.getItemId(), action.getRevisionId());
+                    continue;
+                }
+                blockOrphan(action, item, parents.get(item.getParentItemId()), now);
+                touched.add(action.getRevisionId());
+            }
+        }
+        return touched;
+    }
+
+    private void adoptParent(PlanItem item, PlanItem parent, Instant now) {
+        if (!item.getActionType().isCreate()
+                || Objects.equals(item.getResourceId(), parent.getResourceId())) {
+            return;
+        }
+        item.resolveParent(parent.getResourceId(), now);
+        planItemRepository.save(item);
+    }
+
+    private void blockOrphan(WriteAction action, PlanItem item, PlanItem parent, Instant now) {
+        action.cancel(now);
+        writeActionRepository.save(action);
+
+        item.block("Parent item " + parent.getId() + " ended " + parent.getStatus(), now);
+        planItemRepository.save(item);
+        item.getEvents().forEach(event ->
+            eventBus.publish(EventEnvelope.of(event.getClass().getSimpleName(), event))
+        );
+        item.clearEvents();
+    }
+
+    private Map<UUID, PlanItem> loadItems(List<UUID> ids) {
+        Map<UUID, PlanItem> byId = new HashMap<>();
+        if (!ids.isEmpty()) {
+            planItemRepository.findAllById(ids).forEach(item -> byId.put(item.getId(), item));
+        }
+        return byId;
+    }
+}
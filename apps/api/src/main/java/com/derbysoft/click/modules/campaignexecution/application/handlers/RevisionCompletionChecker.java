@@ -4,12 +4,11 @@ import com.derbysoft.click.bootstrap.messaging.InProcessEventBus;
 import com.derbysoft.click.modules.campaignexecution.domain.PlanItemRepository;
 import com.derbysoft.click.modules.campaignexecution.domain.PlanRevisionRepository;
 import com.derbysoft.click.modules.campaignexecution.domain.aggregates.PlanRevision;
-import com.derbysoft.click.modules.campaignexecution.domain.entities.PlanItem;
 import com.derbysoft.click.modules.campaignexecution.domain.events.ExecutionSummaryUpdated;
-import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.PlanItemStatus;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.PlanRevisionStatus;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.RevisionProgress;
 import com.derbysoft.click.sharedkernel.api.EventEnvelope;
 import java.time.Instant;
-import java.util.List;
 import java.util.UUID;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,11 +16,6 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class RevisionCompletionChecker {
 
-    private static final List<PlanItemStatus> TERMINAL_STATUSES = List.of(
-        PlanItemStatus.SUCCEEDED, PlanItemStatus.FAILED,
-        PlanItemStatus.CANCELLED, PlanItemStatus.BLOCKED
-    );
-
     private final PlanRevisionRepository revisionRepository;
     private final PlanItemRepository planItemRepository;
     private final InProcessEventBus eventBus;
@@ -34,31 +28,38 @@ public class RevisionCompletionChecker {
         this.eventBus = eventBus;
     }
 
+    /**
+     * Reads the revision's status counters (kept by the database on every item transition)
+     * rather than its items, so each call costs the same regardless of revision size.
+     * Emits live progress while the apply is running and completes the revision once every
+     * item is terminal.
+     */
     @Transactional
     public void checkRevisionCompletion(UUID revisionId) {
-        PlanRevision revision = revisionRepository.findById(revisionId).orElse(null);
-        if (revision == null) return;
+        RevisionProgress progress = planItemRepository.findProgress(revisionId);
+        if (progress.total() == 0) return;
 
-        List<PlanItem> items = planItemRepository.findByRevisionId(revisionId);
-        if (items.isEmpty()) return;
+        PlanRevision revision = revisionRepository.findById(revisionId).orElse(null);
+        if (revision == null || revision.getStatus() != PlanRevisionStatus.APPLYING) return;
 
-        boolean allTerminal = items.stream()
-            .allMatch(i -> TERMINAL_STATUSES.contains(i.getStatus()));
-        if (!allTerminal) return;
+        // Blocked items count as failed in the summary, as they always have
+        int succeeded = progress.succeeded();
+        int failed = progress.failed() + progress.blocked();
+        Instant now = Instant.now();
 
-        long succeeded = items.stream()
-            .filter(i -> i.getStatus() == PlanItemStatus.SUCCEEDED).count();
-        long failed = items.stream()
-            .filter(i -> i.getStatus() == PlanItemStatus.FAILED
-                      || i.getStatus() == PlanItemStatus.BLOCKED).count();
+        if (!progress.isComplete()) {
+            eventBus.publish(EventEnvelope.of("ExecutionSummaryUpdated",
+                new ExecutionSummaryUpdated(revision.getId(), revision.getTenantId(),
+                    progress.queued(), progress.inProgress(), succeeded, failed, 0, now)));
+            return;
+        }
 
-        Instant now = Instant.now();
-        revision.completeApply((int) succeeded, (int) failed, now);
-        PlanRevision saved = revisionRepository.save(revision);
-        saved.getEvents().forEach(event ->
+        revision.completeApply(succeeded, failed, now);
+        revisionRepository.save(revision);
+        revision.getEvents().forEach(event ->
             eventBus.publish(EventEnvelope.of(event.getClass().getSimpleName(), event))
         );
-        saved.clearEvents();
+        revision.clearEvents();
 
         // Gap #10: emit ExecutionSummaryUpdated after completion
         eventBus.publish(EventEnvelope.of("ExecutionSummaryUpdated",
@@ -66,8 +67,8 @@ public class RevisionCompletionChecker {
                 revision.getId(),
                 revision.getTenantId(),
                 0, 0,  // queued/inProgress are 0 at completion
-                (int) succeeded,
-                (int) failed,
+                succeeded,
+                failed,
                 0,     // blocked count already included in failed per spec
                 now
             )
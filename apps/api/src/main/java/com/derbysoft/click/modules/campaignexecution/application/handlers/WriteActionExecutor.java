@@ -8,24 +8,37 @@ import com.derbysoft.click.modules.campaignexecution.domain.WriteActionRepositor
 import com.derbysoft.click.modules.campaignexecution.domain.aggregates.WriteAction;
 import com.derbysoft.click.modules.campaignexecution.domain.entities.PlanItem;
 import com.derbysoft.click.modules.campaignexecution.domain.events.AccessFailureObserved;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.ApplyOrder;
 import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.FailureClass;
 import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.WriteActionStatus;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.WriteActionType;
 import com.derbysoft.click.modules.campaignexecution.infrastructure.googleads.MutationApiException;
 import com.derbysoft.click.modules.campaignexecution.infrastructure.googleads.MutationAuthException;
 import com.derbysoft.click.modules.googleadsmanagement.api.ports.GoogleAdsQueryPort;
 import com.derbysoft.click.modules.tenantgovernance.api.ports.TenantGovernancePort;
 import com.derbysoft.click.sharedkernel.api.EventEnvelope;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 @Service
 public class WriteActionExecutor {
 
     private static final Logger log = LoggerFactory.getLogger(WriteActionExecutor.class);
+    // A blocked tenant is rechecked at this fixed pace rather than on the retry backoff
+    static final Duration GOVERNANCE_DEFERRAL = Duration.ofMinutes(5);
 
     private final WriteActionRepository writeActionRepository;
     private final PlanItemRepository planItemRepository;
@@ -35,7 +48,8 @@ public class WriteActionExecutor {
     private final InProcessEventBus eventBus;
     private final RetryPolicyEngine retryPolicyEngine;
     private final ExecutionIncidentLifecycleService incidentLifecycleService;
-    private final RevisionCompletionChecker revisionCompletionChecker;
+    private final ExecutionMetrics metrics;
+    private final TransactionOperations transactions;
 
     public WriteActionExecutor(WriteActionRepository writeActionRepository,
                                 PlanItemRepository planItemRepository,
@@ -45,7 +59,8 @@ public class WriteActionExecutor {
                                 InProcessEventBus eventBus,
                                 RetryPolicyEngine retryPolicyEngine,
                                 ExecutionIncidentLifecycleService incidentLifecycleService,
-                                RevisionCompletionChecker revisionCompletionChecker) {
+                                ExecutionMetrics metrics,
+                                TransactionOperations transactions) {
         this.writeActionRepository = writeActionRepository;
         this.planItemRepository = planItemRepository;
         this.mutationPort = mutationPort;
@@ -54,126 +69,274 @@ public class WriteActionExecutor {
         this.eventBus = eventBus;
         this.retryPolicyEngine = retryPolicyEngine;
         this.incidentLifecycleService = incidentLifecycleService;
-        this.revisionCompletionChecker = revisionCompletionChecker;
+        this.metrics = metrics;
+        this.transactions = transactions;
     }
 
-    @Transactional
-    public void execute(UUID writeActionId) {
-        WriteAction action = writeActionRepository.findById(writeActionId)
-            .orElseThrow(() -> new IllegalStateException("WriteAction not found: " + writeActionId));
+    /**
+     * Executes a group of claimed actions that share tenant, customer and action type with
+     * one partial-failure mutate request per {@link ApplyOrder} level. The claim has already
+     * moved them to RUNNING with a lease; actions whose lease was lost since are skipped, and
+     * the rest have their lease renewed for the size of the batch before anything is sent.
+     * Each operation's result is applied to its own action and item, so one rejected operation
+     * does not fail the rest. Batches run concurrently, so revision completion is left to the
+     * caller: the returned revisions are those that had an item reach a terminal state.
+     *
+     * <p>The claim, the mutate requests and the outcomes are kept apart: each mutate request
+     * runs outside any transaction and its level's results are committed right after it, so
+     * a mutation Google applied is never rolled back locally and no connection is held
+     * across the RPC.
+     */
+    public Set<UUID> executeBatch(List<UUID> writeActionIds) {
+        Map<ApplyOrder, List<Claimed>> byLevel = transactions.execute(status -> startBatch(writeActionIds));
+        if (byLevel == null || byLevel.isEmpty()) {
+            return Set.of();
+        }
+        WriteAction first = byLevel.values().iterator().next().getFirst().action();
+
+        Set<UUID> touchedRevisions = new LinkedHashSet<>();
+        boolean accessFailurePublished = false;
+        for (List<Claimed> level : byLevel.values()) {
+            List<MutationResult> results;
+            try {
+                var connectionInfo = googleAdsQueryPort.findConnectionByTenantId(first.getTenantId())
+                    .orElseThrow(() -> new IllegalStateException(
+                        "No Google Ads connection for tenant: " + first.getTenantId()));
+
+                List<PlanItem> items = level.stream().map(Claimed::item).toList();
+                results = timed(first.getActionType(), items.size(),
+                    () -> dispatchBatch(first.getActionType(), items,
+                        resolveCustomerId(first), connectionInfo.managerId()));
+
+            } catch (MutationAuthException e) {
+                // The batch shares one customer, so one event covers every action in it
+                boolean publish = !accessFailurePublished;
+                accessFailurePublished = true;
+                transactions.executeWithoutResult(status -> {
+                    if (publish) {
+                        publishAccessFailure(first, e);
+                    }
+                    for (Claimed claimed : level) {
+                        recordAuthFailure(claimed.action(), claimed.item(), e);
+                        touchedRevisions.add(claimed.action().getRevisionId());
+                    }
+                });
+                continue;
 
-        if (action.getStatus() != WriteActionStatus.PENDING) {
-            log.debug("Skipping action {} — status is {}", writeActionId, action.getStatus());
-            return;
+            } catch (Exception e) {
+                FailureClass fc = retryPolicyEngine.classify(e);
+                transactions.executeWithoutResult(status -> {
+                    for (Claimed claimed : level) {
+                        if (recordFailure(claimed.action(), claimed.item(), fc, e.getMessage())) {
+                            touchedRevisions.add(claimed.action().getRevisionId());
+                        }
+                    }
+                });
+                continue;
+            }
+
+            if (results.size() != level.size()) {
+                log.warn("Mutate returned {} results for {} {} operations on customer {}",
+                    results.size(), level.size(), first.getActionType(), first.getTargetCustomerId());
+            }
+            transactions.executeWithoutResult(status -> {
+                for (int i = 0; i < level.size(); i++) {
+                    Claimed claimed = level.get(i);
+                    if (i >= results.size()) {
+                        // The operation may have been applied, so it is not retried blind
+                        if (recordFailure(claimed.action(), claimed.item(), FailureClass.PERMANENT,
+                                "No result returned for operation " + i)) {
+                            touchedRevisions.add(claimed.action().getRevisionId());
+                        }
+                        continue;
+                    }
+                    MutationResult result = results.get(i);
+                    if (result.success()) {
+                        recordSuccess(claimed.action(), claimed.item(), result.resourceId());
+                        touchedRevisions.add(claimed.action().getRevisionId());
+                    } else if (recordFailure(claimed.action(), claimed.item(),
+                            FailureClass.valueOf(result.failureClass()), result.failureReason())) {
+                        touchedRevisions.add(claimed.action().getRevisionId());
+                    }
+                }
+            });
         }
 
-        // Gap #1: governance gate before any write
+        return touchedRevisions;
+    }
+
+    /**
+     * Loads the claimed actions that still hold their lease and starts their items, grouped
+     * by apply order level. Returns an empty map when nothing is left to send.
+     */
+    private Map<ApplyOrder, List<Claimed>> startBatch(List<UUID> writeActionIds) {
+        List<WriteAction> actions = new ArrayList<>();
+        for (UUID id : writeActionIds) {
+            WriteAction action = writeActionRepository.findById(id)
+                .orElseThrow(() -> new IllegalStateException("WriteAction not found: " + id));
+            if (action.getStatus() != WriteActionStatus.RUNNING) {
+                log.debug("Skipping claimed action {} — status is {}", id, action.getStatus());
+                continue;
+            }
+            actions.add(action);
+        }
+        if (actions.isEmpty()) {
+            return Map.of();
+        }
+
+        WriteAction first = actions.getFirst();
+        for (WriteAction action : actions) {
+            if (!action.getTenantId().equals(first.getTenantId())
+                    || !Objects.equals(action.getTargetCustomerId(), first.getTargetCustomerId())
+                    || action.getActionType() != first.getActionType()) {
+                throw new IllegalArgumentException(
+                    "Batch mixes tenants, customers or action types: " + writeActionIds);
+            }
+        }
+
+        Instant now = Instant.now();
         try {
-            governancePort.assertCanExecuteCampaigns(action.getTenantId());
+            governancePort.assertCanExecuteCampaigns(first.getTenantId());
         } catch (Exception e) {
-            throw new MutationApiException(FailureClass.PERMANENT,
-                "Governance blocked execution: " + e.getMessage(), e);
+            // Hand the claim back so the actions are picked up again once the tenant is
+            // unblocked. Nothing was sent, so the claim's attempt is returned: a long block
+            // must not exhaust max attempts or stretch the retry backoff.
+            log.warn("Governance blocked execution of {} actions for tenant {}: {}",
+                actions.size(), first.getTenantId(), e.getMessage());
+            for (WriteAction action : actions) {
+                action.deferClaim(now.plus(GOVERNANCE_DEFERRAL), now);
+                writeActionRepository.save(action);
+            }
+            return Map.of();
         }
 
-        PlanItem item = planItemRepository.findById(action.getItemId())
-            .orElseThrow(() -> new IllegalStateException("PlanItem not found: " + action.getItemId()));
+        Duration lease = WriteAction.leaseFor(actions.size());
+        Map<ApplyOrder, List<Claimed>> byLevel = new TreeMap<>();
+        for (WriteAction action : actions) {
+            action.renewLease(lease, now);
+            writeActionRepository.save(action);
+            PlanItem item = planItemRepository.findById(action.getItemId())
+                .orElseThrow(() -> new IllegalStateException("PlanItem not found: " + action.getItemId()));
+            recordClaimLag(action, action.getLastAttemptAt());
+            item.startExecution(now);
+            planItemRepository.save(item);
+            publishAndClear(item);
+            byLevel.computeIfAbsent(item.getApplyOrder(), k -> new ArrayList<>())
+                .add(new Claimed(action, item));
+        }
+        return byLevel;
+    }
 
+    private void recordSuccess(WriteAction action, PlanItem item, String resourceId) {
         Instant now = Instant.now();
-        action.acquireLease(now);
-        item.startExecution(now);
+        action.markSucceeded(now);
+        item.markSucceeded(resourceId, now);
         writeActionRepository.save(action);
         planItemRepository.save(item);
         publishAndClear(item);
 
-        try {
-            var connectionInfo = googleAdsQueryPort.findConnectionByTenantId(action.getTenantId())
-                .orElseThrow(() -> new IllegalStateException(
-                    "No Google Ads connection for tenant: " + action.getTenantId()));
-
-            String customerId = resolveCustomerId(action);
-            String managerId = connectionInfo.managerId();
+        incidentLifecycleService.onSuccess(
+            action.getRevisionId(), action.getItemId(), action.getTenantId());
+    }
 
-            MutationResult result = dispatch(action, item, customerId, managerId);
+    // Gap #3: publish cross-BC event so BC5 can mark connection broken
+    private void publishAccessFailure(WriteAction action, MutationAuthException e) {
+        eventBus.publish(EventEnvelope.of("AccessFailureObserved",
+            new AccessFailureObserved(action.getTenantId(),
+                action.getTargetCustomerId(), e.getMessage())));
+    }
 
-            now = Instant.now();
-            action.markSucceeded(now);
-            item.markSucceeded(result.resourceId(), now);
-            writeActionRepository.save(action);
-            planItemRepository.save(item);
-            publishAndClear(item);
+    private void recordAuthFailure(WriteAction action, PlanItem item, MutationAuthException e) {
+        FailureClass fc = FailureClass.PERMANENT;
+        Instant now = Instant.now();
+        action.markFailed(fc, e.getMessage(), now);
+        metrics.recordFailure(fc);
+        writeActionRepository.save(action);
 
-            incidentLifecycleService.onSuccess(
-                action.getRevisionId(), action.getItemId(), action.getTenantId());
-            revisionCompletionChecker.checkRevisionCompletion(action.getRevisionId());
+        incidentLifecycleService.onFailure(
+            action.getRevisionId(), action.getItemId(), action.getTenantId(), fc);
 
-        } catch (MutationAuthException e) {
-            // Gap #3: publish cross-BC event so BC5 can mark connection broken
-            eventBus.publish(EventEnvelope.of("AccessFailureObserved",
-                new AccessFailureObserved(action.getTenantId(),
-                    action.getTargetCustomerId(), e.getMessage())));
-
-            FailureClass fc = FailureClass.PERMANENT;
-            now = Instant.now();
-            action.markFailed(fc, e.getMessage(), now);
-            writeActionRepository.save(action);
+        item.block("Auth failure: " + e.getMessage(), now);
+        planItemRepository.save(item);
+        publishAndClear(item);
+    }
 
-            incidentLifecycleService.onFailure(
-                action.getRevisionId(), action.getItemId(), action.getTenantId(), fc);
+    /** Returns {@code true} when the item reached a terminal state instead of being requeued. */
+    private boolean recordFailure(WriteAction action, PlanItem item, FailureClass fc, String reason) {
+        Instant now = Instant.now();
+        action.markFailed(fc, reason, now);
+        writeActionRepository.save(action);
+        metrics.recordFailure(fc);
 
-            item.block("Auth failure: " + e.getMessage(), now);
-            planItemRepository.save(item);
-            publishAndClear(item);
-            revisionCompletionChecker.checkRevisionCompletion(action.getRevisionId());
+        incidentLifecycleService.onFailure(
+            action.getRevisionId(), action.getItemId(), action.getTenantId(), fc);
 
-        } catch (Exception e) {
-            FailureClass fc = retryPolicyEngine.classify(e);
-            now = Instant.now();
-            action.markFailed(fc, e.getMessage(), now);
+        if (action.canRetry()) {
+            var delay = retryPolicyEngine.computeDelay(action);
+            action.requeueForRetry(now.plus(delay), now);
+            item.requeueForRetry(now.plus(delay), now);
             writeActionRepository.save(action);
+            planItemRepository.save(item);
+            metrics.recordRetry(fc);
+            return false;
+        }
+        if (fc == FailureClass.PERMANENT) {
+            item.block("Permanent failure: " + reason, now);
+        } else {
+            item.markFailed(fc, reason, now);
+        }
+        planItemRepository.save(item);
+        publishAndClear(item);
+        return true;
+    }
 
-            incidentLifecycleService.onFailure(
-                action.getRevisionId(), action.getItemId(), action.getTenantId(), fc);
+    /** Actions become due at their retry time, or at creation for a first attempt. */
+    private void recordClaimLag(WriteAction action, Instant claimedAt) {
+        Instant dueAt = action.getNextAttemptAfter() != null
+            ? action.getNextAttemptAfter() : action.getCreatedAt();
+        if (dueAt != null && claimedAt != null) {
+            metrics.recordClaimToStart(Duration.between(dueAt, claimedAt));
+        }
+    }
 
-            if (action.canRetry()) {
-                var delay = retryPolicyEngine.computeDelay(action);
-                action.requeueForRetry(now.plus(delay), now);
-                item.requeueForRetry(now.plus(delay), now);
-                writeActionRepository.save(action);
-                planItemRepository.save(item);
-            } else {
-                if (fc == FailureClass.PERMANENT) {
-                    item.block("Permanent failure: " + e.getMessage(), now);
-                } else {
-                    item.markFailed(fc, e.getMessage(), now);
-                }
-                planItemRepository.save(item);
-                publishAndClear(item);
-                revisionCompletionChecker.checkRevisionCompletion(action.getRevisionId());
-            }
+    private <T> T timed(WriteActionType type, int operations, Supplier<T> mutate) {
+        long start = System.nanoTime();
+        String outcome = "succeeded";
+        try {
+            return mutate.get();
+        } catch (MutationAuthException e) {
+            outcome = "auth";
+            throw e;
+        } catch (MutationApiException e) {
+            outcome = e.getFailureClass().name();
+            throw e;
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            metrics.recordMutate(type, operations, Duration.ofNanos(System.nanoTime() - start), outcome);
         }
     }
 
-    private MutationResult dispatch(WriteAction action, PlanItem item,
-                                     String customerId, String managerId) {
-        String payload = item.getPayload();
-        String resourceId = item.getResourceId();
-        return switch (action.getActionType()) {
-            case CREATE_CAMPAIGN -> mutationPort.createCampaign(customerId, managerId,
-                new GoogleAdsMutationPort.CampaignSpec(null, payload));
-            case UPDATE_CAMPAIGN -> mutationPort.updateCampaign(customerId, managerId,
-                new GoogleAdsMutationPort.CampaignSpec(resourceId, payload));
-            case CREATE_AD_GROUP -> mutationPort.createAdGroup(customerId, managerId,
-                new GoogleAdsMutationPort.AdGroupSpec(null, resourceId, payload));
-            case UPDATE_AD_GROUP -> mutationPort.updateAdGroup(customerId, managerId,
-                new GoogleAdsMutationPort.AdGroupSpec(resourceId, null, payload));
-            case CREATE_AD -> mutationPort.createAd(customerId, managerId,
-                new GoogleAdsMutationPort.AdSpec(null, resourceId, payload));
-            case UPDATE_AD -> mutationPort.updateAd(customerId, managerId,
-                new GoogleAdsMutationPort.AdSpec(resourceId, null, payload));
-            case CREATE_KEYWORD -> mutationPort.createKeyword(customerId, managerId,
-                new GoogleAdsMutationPort.KeywordSpec(null, resourceId, payload));
-            case UPDATE_KEYWORD -> mutationPort.updateKeyword(customerId, managerId,
-                new GoogleAdsMutationPort.KeywordSpec(resourceId, null, payload));
+    private List<MutationResult> dispatchBatch(WriteActionType type, List<PlanItem> items,
+                                               String customerId, String managerId) {
+        return switch (type) {
+            case CREATE_CAMPAIGN -> mutationPort.createCampaigns(customerId, managerId, items.stream()
+                .map(i -> new GoogleAdsMutationPort.CampaignSpec(null, i.getPayload())).toList());
+            case UPDATE_CAMPAIGN -> mutationPort.updateCampaigns(customerId, managerId, items.stream()
+                .map(i -> new GoogleAdsMutationPort.CampaignSpec(i.getResourceId(), i.getPayload())).toList());
+            case CREATE_AD_GROUP -> mutationPort.createAdGroups(customerId, managerId, items.stream()
+                .map(i -> new GoogleAdsMutationPort.AdGroupSpec(null, i.getResourceId(), i.getPayload())).toList());
+            case UPDATE_AD_GROUP -> mutationPort.updateAdGroups(customerId, managerId, items.stream()
+                .map(i -> new GoogleAdsMutationPort.AdGroupSpec(i.getResourceId(), null, i.getPayload())).toList());
+            case CREATE_AD -> mutationPort.createAds(customerId, managerId, items.stream()
+                .map(i -> new GoogleAdsMutationPort.AdSpec(null, i.getResourceId(), i.getPayload())).toList());
+            case UPDATE_AD -> mutationPort.updateAds(customerId, managerId, items.stream()
+                .map(i -> new GoogleAdsMutationPort.AdSpec(i.getResourceId(), null, i.getPayload())).toList());
+            case CREATE_KEYWORD -> mutationPort.createKeywords(customerId, managerId, items.stream()
+                .map(i -> new GoogleAdsMutationPort.KeywordSpec(null, i.getResourceId(), i.getPayload())).toList());
+            case UPDATE_KEYWORD -> mutationPort.updateKeywords(customerId, managerId, items.stream()
+                .map(i -> new GoogleAdsMutationPort.KeywordSpec(i.getResourceId(), null, i.getPayload())).toList());
         };
     }
 
@@ -181,6 +344,8 @@ public class WriteActionExecutor {
         return action.getTargetCustomerId();
     }
 
+    private record Claimed(WriteAction action, PlanItem item) {}
+
     private void publishAndClear(PlanItem item) {
         item.getEvents().forEach(event ->
             eventBus.publish(EventEnvelope.of(event.getClass().getSimpleName(), event))
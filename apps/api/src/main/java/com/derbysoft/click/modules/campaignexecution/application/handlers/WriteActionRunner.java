@@ -1,10 +1,26 @@
 package com.derbysoft.click.modules.campaignexecution.application.handlers;
 
+import com.derbysoft.click.modules.campaignexecution.application.ports.GoogleAdsMutationPort;
 import com.derbysoft.click.modules.campaignexecution.domain.WriteActionRepository;
 import com.derbysoft.click.modules.campaignexecution.domain.aggregates.WriteAction;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.ApplyOrder;
 import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.FailureClass;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.WriteActionType;
+import jakarta.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -14,38 +30,66 @@ import org.springframework.stereotype.Component;
 public class WriteActionRunner {
 
     private static final Logger log = LoggerFactory.getLogger(WriteActionRunner.class);
-    private static final int MAX_ACTIONS_PER_TICK = 10;
+    private static final int MAX_ACTIONS_PER_TICK = 2_000;
+    private static final int MAX_PARALLEL_BATCHES = 8;
+    // One wave per dependency level, so a full campaign → keyword chain finishes in one tick
+    private static final int MAX_WAVES_PER_TICK = ApplyOrder.values().length;
+
+    // WriteActionType is declared in apply order, so campaigns are mutated before their children.
+    private static final Comparator<BatchKey> BATCH_ORDER = Comparator
+        .comparing(BatchKey::actionType)
+        .thenComparing(BatchKey::tenantId)
+        .thenComparing(BatchKey::customerId, Comparator.nullsFirst(Comparator.naturalOrder()));
 
     private final WriteActionRepository writeActionRepository;
     private final WriteActionExecutor writeActionExecutor;
+    private final RevisionApplyScheduler applyScheduler;
+    private final RevisionCompletionChecker revisionCompletionChecker;
     private final RetryPolicyEngine retryPolicyEngine;
     private final ExecutionIncidentLifecycleService incidentLifecycleService;
+    private final ExecutionMetrics metrics;
+    private final WriteActionWorkerConfig workerConfig;
+    // "pid@host", recorded on claimed rows to tell replicas apart
+    private final String workerId = ManagementFactory.getRuntimeMXBean().getName();
+    private final ExecutorService batchPool = Executors.newFixedThreadPool(MAX_PARALLEL_BATCHES,
+        Thread.ofVirtual().name("write-batch-", 0).factory());
 
     public WriteActionRunner(WriteActionRepository writeActionRepository,
                               WriteActionExecutor writeActionExecutor,
+                              RevisionApplyScheduler applyScheduler,
+                              RevisionCompletionChecker revisionCompletionChecker,
                               RetryPolicyEngine retryPolicyEngine,
-                              ExecutionIncidentLifecycleService incidentLifecycleService) {
+                              ExecutionIncidentLifecycleService incidentLifecycleService,
+                              ExecutionMetrics metrics,
+                              WriteActionWorkerConfig workerConfig) {
         this.writeActionRepository = writeActionRepository;
         this.writeActionExecutor = writeActionExecutor;
+        this.applyScheduler = applyScheduler;
+        this.revisionCompletionChecker = revisionCompletionChecker;
         this.retryPolicyEngine = retryPolicyEngine;
         this.incidentLifecycleService = incidentLifecycleService;
+        this.metrics = metrics;
+        this.workerConfig = workerConfig;
     }
 
     @Scheduled(fixedDelay = 15_000)
     public void runPendingActions() {
         Instant now = Instant.now();
 
-        // 1. Recover actions with expired leases
-        List<WriteAction> expired = writeActionRepository.findRunningActionsWithExpiredLease(now);
+        // 1. Recover actions with expired leases, a bounded batch per tick
+        List<WriteAction> expired = writeActionRepository.findRunningActionsWithExpiredLease(
+            now, workerConfig.getRecoveryBatchSize());
         for (WriteAction action : expired) {
             try {
                 if (action.canRetry()) {
                     var delay = retryPolicyEngine.computeDelay(action);
                     action.requeueForRetry(now.plus(delay), now);
                     writeActionRepository.save(action);
+                    metrics.recordLeaseRecovery("requeued");
                 } else {
                     action.markFailed(FailureClass.TRANSIENT, "lease expired — max attempts reached", now);
                     writeActionRepository.save(action);
+                    metrics.recordLeaseRecovery("failed");
                     incidentLifecycleService.onFailure(
                         action.getRevisionId(), action.getItemId(),
                         action.getTenantId(), FailureClass.TRANSIENT);
@@ -55,17 +99,91 @@ public class WriteActionRunner {
             }
         }
 
-        // 2. Pick up to 10 PENDING actions ordered by apply_order (via PlanItem.applyOrder)
-        List<WriteAction> pending = writeActionRepository.findPendingActions(now);
-        int count = 0;
-        for (WriteAction action : pending) {
-            if (count >= MAX_ACTIONS_PER_TICK) break;
+        // 2. Claim and dispatch waves of ready actions; each wave unlocks the children of what
+        //    it applied. Blocking orphans first lets their revisions complete in the same wave.
+        int dispatched = 0;
+        for (int wave = 0; wave < MAX_WAVES_PER_TICK && dispatched < MAX_ACTIONS_PER_TICK; wave++) {
+            Set<UUID> revisions = new LinkedHashSet<>();
+            List<WriteAction> claimed;
             try {
-                writeActionExecutor.execute(action.getId());
-                count++;
+                revisions.addAll(applyScheduler.blockOrphans(workerConfig.getClaimBatchSize(), Instant.now()));
+                claimed = claim(Math.min(workerConfig.getClaimBatchSize(), MAX_ACTIONS_PER_TICK - dispatched));
             } catch (Exception e) {
-                log.warn("Failed to execute action {}: {}", action.getId(), e.getMessage());
+                log.warn("Failed to claim pending actions: {}", e.getMessage());
+                return;
+            }
+            dispatched += claimed.size();
+
+            revisions.addAll(dispatchInParallel(claimed));
+            for (UUID revisionId : revisions) {
+                try {
+                    revisionCompletionChecker.checkRevisionCompletion(revisionId);
+                } catch (Exception e) {
+                    log.warn("Failed to check completion of revision {}: {}", revisionId, e.getMessage());
+                }
+            }
+
+            if (claimed.isEmpty()) break;
+        }
+    }
+
+    private List<WriteAction> claim(int limit) {
+        Instant now = Instant.now();
+        List<UUID> ids = writeActionRepository.claimNext(limit, workerConfig.getPerTenantLimit(),
+            workerId, now, now.plus(WriteAction.LEASE_DURATION));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<WriteAction> claimed = writeActionRepository.findAllById(ids);
+        applyScheduler.adoptParents(claimed, now);
+        return claimed;
+    }
+
+    /**
+     * Groups claimed actions by action type, tenant and customer, chunks each group to the
+     * mutate operation limit and runs the chunks concurrently. Returns the revisions that
+     * had an item reach a terminal state.
+     */
+    private Set<UUID> dispatchInParallel(List<WriteAction> claimed) {
+        Map<BatchKey, List<UUID>> batches = new TreeMap<>(BATCH_ORDER);
+        for (WriteAction action : claimed) {
+            batches.computeIfAbsent(new BatchKey(action.getActionType(), action.getTenantId(),
+                    action.getTargetCustomerId()), k -> new ArrayList<>())
+                .add(action.getId());
+        }
+
+        Set<UUID> touched = Collections.synchronizedSet(new LinkedHashSet<>());
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (Map.Entry<BatchKey, List<UUID>> batch : batches.entrySet()) {
+            List<UUID> ids = batch.getValue();
+            for (int from = 0; from < ids.size(); from += GoogleAdsMutationPort.MAX_OPERATIONS_PER_REQUEST) {
+                List<UUID> chunk = ids.subList(from,
+                    Math.min(from + GoogleAdsMutationPort.MAX_OPERATIONS_PER_REQUEST, ids.size()));
+                tasks.add(() -> {
+                    try {
+                        touched.addAll(writeActionExecutor.executeBatch(chunk));
+                    } catch (Exception e) {
+                        log.warn("Failed to execute {} batch of {} actions for customer {}: {}",
+                            batch.getKey().actionType(), chunk.size(), batch.getKey().customerId(),
+                            e.getMessage());
+                    }
+                    return null;
+                });
             }
         }
+
+        try {
+            batchPool.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return touched;
     }
+
+    @PreDestroy
+    void shutdown() {
+        batchPool.shutdown();
+    }
+
+    private record BatchKey(WriteActionType actionType, UUID tenantId, String customerId) {}
 }
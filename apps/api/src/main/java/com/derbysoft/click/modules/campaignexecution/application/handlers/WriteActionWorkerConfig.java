@@ -0,0 +1,22 @@
+package com.derbysoft.click.modules.campaignexecution.application.handlers;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "campaign-execution.workers")
+public class WriteActionWorkerConfig {
+
+    private int claimBatchSize = 500;
+    private int perTenantLimit = 100;
+    private int recoveryBatchSize = 100;
+
+    public int getClaimBatchSize() { return claimBatchSize; }
+    public void setClaimBatchSize(int claimBatchSize) { this.claimBatchSize = claimBatchSize; }
+
+    public int getPerTenantLimit() { return perTenantLimit; }
+    public void setPerTenantLimit(int perTenantLimit) { this.perTenantLimit = perTenantLimit; }
+
+    public int getRecoveryBatchSize() { return recoveryBatchSize; }
+    public void setRecoveryBatchSize(int recoveryBatchSize) { this.recoveryBatchSize = recoveryBatchSize; }
+}
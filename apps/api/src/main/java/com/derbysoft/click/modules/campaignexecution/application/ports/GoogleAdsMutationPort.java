@@ -1,7 +1,12 @@
 package com.derbysoft.click.modules.campaignexecution.application.ports;
 
+import java.util.List;
+
 public interface GoogleAdsMutationPort {
 
+    /** Google Ads caps a mutate request at 10,000 operations; stay well below to bound payload size. */
+    int MAX_OPERATIONS_PER_REQUEST = 5_000;
+
     MutationResult createCampaign(String customerId, String managerId, CampaignSpec spec);
     MutationResult updateCampaign(String customerId, String managerId, CampaignSpec spec);
     MutationResult createAdGroup(String customerId, String managerId, AdGroupSpec spec);
@@ -11,6 +16,18 @@ public interface GoogleAdsMutationPort {
     MutationResult createKeyword(String customerId, String managerId, KeywordSpec spec);
     MutationResult updateKeyword(String customerId, String managerId, KeywordSpec spec);
 
+    // Batch variants send every spec in one partial-failure mutate request. Results are
+    // positional; a rejected operation comes back as an unsuccessful result instead of an
+    // exception. Failures of the whole request (auth, transport) still throw.
+    List<MutationResult> createCampaigns(String customerId, String managerId, List<CampaignSpec> specs);
+    List<MutationResult> updateCampaigns(String customerId, String managerId, List<CampaignSpec> specs);
+    List<MutationResult> createAdGroups(String customerId, String managerId, List<AdGroupSpec> specs);
+    List<MutationResult> updateAdGroups(String customerId, String managerId, List<AdGroupSpec> specs);
+    List<MutationResult> createAds(String customerId, String managerId, List<AdSpec> specs);
+    List<MutationResult> updateAds(String customerId, String managerId, List<AdSpec> specs);
+    List<MutationResult> createKeywords(String customerId, String managerId, List<KeywordSpec> specs);
+    List<MutationResult> updateKeywords(String customerId, String managerId, List<KeywordSpec> specs);
+
     record CampaignSpec(String resourceId, String payload) {}
     record AdGroupSpec(String resourceId, String campaignId, String payload) {}
     record AdSpec(String resourceId, String adGroupId, String payload) {}
@@ -2,16 +2,25 @@ package com.derbysoft.click.modules.campaignexecution.domain;
 
 import com.derbysoft.click.modules.campaignexecution.domain.entities.PlanItem;
 import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.PlanItemStatus;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.RevisionProgress;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface PlanItemRepository {
     Optional<PlanItem> findById(UUID id);
+    List<PlanItem> findAllById(Collection<UUID> ids);
     List<PlanItem> findByRevisionId(UUID revisionId);
     List<PlanItem> findQueuedItems(Instant now);
     List<PlanItem> findByRevisionIdAndStatusIn(UUID revisionId, List<PlanItemStatus> statuses);
+    RevisionProgress findProgress(UUID revisionId);
+    /** Moves every PUBLISHED item of the revision to QUEUED in one statement. */
+    int enqueuePublished(UUID revisionId, Instant now);
+    /** Records parents inferred from resource ownership, keyed by child item id. */
+    void linkParents(Map<UUID, UUID> parentByItemId);
     PlanItem save(PlanItem item);
     List<PlanItem> saveAll(List<PlanItem> items);
 }
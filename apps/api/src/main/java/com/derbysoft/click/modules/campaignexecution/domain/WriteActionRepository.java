@@ -1,18 +1,38 @@
 package com.derbysoft.click.modules.campaignexecution.domain;
 
 import com.derbysoft.click.modules.campaignexecution.domain.aggregates.WriteAction;
-import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.TriggerType;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.WriteActionStatus;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface WriteActionRepository {
     Optional<WriteAction> findById(UUID id);
     Optional<WriteAction> findByIdempotencyKey(String key);
-    List<WriteAction> findPendingActions(Instant now);
-    List<WriteAction> findRunningActionsWithExpiredLease(Instant now);
+    List<WriteAction> findAllById(Collection<UUID> ids);
+    /**
+     * Moves up to {@code limit} due PENDING actions whose item has no parent or a SUCCEEDED
+     * parent to RUNNING with the given lease, in one statement that skips rows locked by other
+     * workers. At most {@code perTenantLimit} actions are taken per tenant, lowest apply order
+     * and oldest due first, and tenants are interleaved when the batch is full.
+     *
+     * @return ids of the claimed actions
+     */
+    List<UUID> claimNext(int limit, int perTenantLimit, String workerId,
+                         Instant now, Instant leaseExpiresAt);
+    List<WriteAction> findRunningActionsWithExpiredLease(Instant now, int limit);
+    /**
+     * PENDING actions whose item's parent ended FAILED, BLOCKED or CANCELLED, locked until
+     * the caller's transaction ends. Rows another worker is claiming are skipped.
+     */
+    List<WriteAction> findPendingWithDeadParent(int limit);
     List<WriteAction> findByRevisionId(UUID revisionId);
-    long countManualTriggersSince(UUID tenantId, List<TriggerType> triggerTypes, Instant since);
+    /** Counts PENDING and RUNNING actions; statuses with no actions are absent from the map. */
+    Map<WriteActionStatus, Long> countActiveByStatus();
     WriteAction save(WriteAction action);
+    /** Inserts newly created actions in bulk; does not return reconstituted copies. */
+    void insertAll(List<WriteAction> actions);
 }
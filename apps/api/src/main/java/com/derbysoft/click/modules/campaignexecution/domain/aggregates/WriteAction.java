@@ -5,6 +5,7 @@ import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.Idempot
 import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.TriggerType;
 import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.WriteActionStatus;
 import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.WriteActionType;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -13,6 +14,10 @@ import java.util.UUID;
 
 public final class WriteAction {
 
+    public static final Duration LEASE_DURATION = Duration.ofMinutes(10);
+    // Extra lease per operation in a batch, so a 5,000-operation mutate still fits its lease
+    static final Duration LEASE_PER_OPERATION = Duration.ofMillis(200);
+
     private final UUID id;
     private final UUID revisionId;
     private final UUID itemId;
@@ -101,12 +106,26 @@ public final class WriteAction {
 
     public void acquireLease(Instant now) {
         this.status = WriteActionStatus.RUNNING;
-        this.leaseExpiresAt = now.plusSeconds(600);
+        this.leaseExpiresAt = now.plus(LEASE_DURATION);
         this.attempts++;
         this.lastAttemptAt = now;
         this.updatedAt = now;
     }
 
+    /** Lease long enough to send {@code operations} mutations in one batch. */
+    public static Duration leaseFor(int operations) {
+        return LEASE_DURATION.plus(LEASE_PER_OPERATION.multipliedBy(operations));
+    }
+
+    /**
+     * Extends a held lease from {@code now}, just before the work is sent, so time spent
+     * queued after the claim does not eat into it.
+     */
+    public void renewLease(Duration lease, Instant now) {
+        this.leaseExpiresAt = now.plus(lease);
+        this.updatedAt = now;
+    }
+
     public void markSucceeded(Instant now) {
         this.status = WriteActionStatus.SUCCEEDED;
         this.leaseExpiresAt = null;
@@ -128,6 +147,18 @@ public final class WriteAction {
         this.updatedAt = now;
     }
 
+    /**
+     * Hands a claim back without it counting as an attempt, for work that was never tried
+     * (the tenant was blocked, not the mutation).
+     */
+    public void deferClaim(Instant nextAttemptAfter, Instant now) {
+        this.status = WriteActionStatus.PENDING;
+        this.nextAttemptAfter = nextAttemptAfter;
+        this.leaseExpiresAt = null;
+        this.attempts = Math.max(0, attempts - 1);
+        this.updatedAt = now;
+    }
+
     public void cancel(Instant now) {
         this.status = WriteActionStatus.CANCELLED;
         this.leaseExpiresAt = null;
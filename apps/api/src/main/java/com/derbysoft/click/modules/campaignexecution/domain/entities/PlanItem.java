@@ -26,6 +26,7 @@ public final class PlanItem {
     private String resourceId;
     private final String payload;
     private final ApplyOrder applyOrder;
+    private final UUID parentItemId;
     private int attempts;
     private final int maxAttempts;
     private Instant lastAttemptAt;
@@ -38,7 +39,7 @@ public final class PlanItem {
 
     private PlanItem(UUID id, UUID revisionId, UUID tenantId, PlanItemStatus status,
                      WriteActionType actionType, String resourceType, String resourceId,
-                     String payload, ApplyOrder applyOrder,
+                     String payload, ApplyOrder applyOrder, UUID parentItemId,
                      int attempts, int maxAttempts,
                      Instant lastAttemptAt, Instant nextAttemptAfter,
                      FailureClass failureClass, String failureReason,
@@ -52,6 +53,7 @@ public final class PlanItem {
         this.resourceId = resourceId;
         this.payload = payload;
         this.applyOrder = applyOrder;
+        this.parentItemId = parentItemId;
         this.attempts = attempts;
         this.maxAttempts = maxAttempts;
         this.lastAttemptAt = lastAttemptAt;
@@ -66,8 +68,20 @@ public final class PlanItem {
                                    WriteActionType actionType, String resourceType,
                                    String resourceId, String payload, ApplyOrder applyOrder,
                                    Instant now) {
+        return create(id, revisionId, tenantId, actionType, resourceType, resourceId,
+            payload, applyOrder, null, now);
+    }
+
+    /**
+     * {@code parentItemId} points at the item in the same revision that creates this item's
+     * parent resource; its resource id is filled in once the parent has been applied.
+     */
+    public static PlanItem create(UUID id, UUID revisionId, UUID tenantId,
+                                   WriteActionType actionType, String resourceType,
+                                   String resourceId, String payload, ApplyOrder applyOrder,
+                                   UUID parentItemId, Instant now) {
         return new PlanItem(id, revisionId, tenantId, PlanItemStatus.DRAFT,
-            actionType, resourceType, resourceId, payload, applyOrder,
+            actionType, resourceType, resourceId, payload, applyOrder, parentItemId,
             0, 3, null, null, null, null, now, now);
     }
 
@@ -75,12 +89,13 @@ public final class PlanItem {
                                          PlanItemStatus status,
                                          WriteActionType actionType, String resourceType,
                                          String resourceId, String payload, ApplyOrder applyOrder,
+                                         UUID parentItemId,
                                          int attempts, int maxAttempts,
                                          Instant lastAttemptAt, Instant nextAttemptAfter,
                                          FailureClass failureClass, String failureReason,
                                          Instant createdAt, Instant updatedAt) {
         return new PlanItem(id, revisionId, tenantId, status,
-            actionType, resourceType, resourceId, payload, applyOrder,
+            actionType, resourceType, resourceId, payload, applyOrder, parentItemId,
             attempts, maxAttempts, lastAttemptAt, nextAttemptAfter,
             failureClass, failureReason, createdAt, updatedAt);
     }
@@ -125,6 +140,13 @@ public final class PlanItem {
         events.add(new WriteActionBlocked(id, revisionId, tenantId, reason, now));
     }
 
+    /** Create actions address their parent through resourceId, so adopt the parent's id. */
+    public void resolveParent(String parentResourceId, Instant now) {
+        if (!actionType.isCreate()) return;
+        this.resourceId = parentResourceId;
+        this.updatedAt = now;
+    }
+
     public void cancel(Instant now) {
         this.status = PlanItemStatus.CANCELLED;
         this.updatedAt = now;
@@ -149,6 +171,7 @@ public final class PlanItem {
     public String getResourceId() { return resourceId; }
     public String getPayload() { return payload; }
     public ApplyOrder getApplyOrder() { return applyOrder; }
+    public UUID getParentItemId() { return parentItemId; }
     public int getAttempts() { return attempts; }
     public int getMaxAttempts() { return maxAttempts; }
     public Instant getLastAttemptAt() { return lastAttemptAt; }
@@ -0,0 +1,64 @@
+package com.derbysoft.click.modules.campaignexecution.domain.valueobjects;
+
+import com.derbysoft.click.modules.campaignexecution.domain.entities.PlanItem;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Parent links between the items of one revision. An explicit {@code parentItemId} wins;
+ * otherwise a create item depends on the item one {@link ApplyOrder} level up that owns the
+ * resource its {@code resourceId} points at (an update of that resource, or a create that
+ * has already produced it).
+ */
+public final class ApplyDependencyGraph {
+
+    private final Map<UUID, PlanItem> items;
+    private final Map<UUID, UUID> parents;
+
+    private ApplyDependencyGraph(Map<UUID, PlanItem> items, Map<UUID, UUID> parents) {
+        this.items = items;
+        this.parents = parents;
+    }
+
+    public static ApplyDependencyGraph of(Collection<PlanItem> revisionItems) {
+        Map<UUID, PlanItem> items = new HashMap<>();
+        Map<String, PlanItem> owners = new HashMap<>();
+        for (PlanItem item : revisionItems) {
+            items.put(item.getId(), item);
+            boolean ownsResource = !item.getActionType().isCreate()
+                || item.getStatus() == PlanItemStatus.SUCCEEDED;
+            if (ownsResource && item.getResourceId() != null) {
+                owners.put(ownerKey(item.getApplyOrder().getOrder(), item.getResourceId()), item);
+            }
+        }
+
+        Map<UUID, UUID> parents = new HashMap<>();
+        for (PlanItem item : revisionItems) {
+            if (item.getParentItemId() != null && items.containsKey(item.getParentItemId())) {
+                parents.put(item.getId(), item.getParentItemId());
+            } else if (item.getActionType().isCreate() && item.getResourceId() != null) {
+                PlanItem owner = owners.get(
+                    ownerKey(item.getApplyOrder().getOrder() - 1, item.getResourceId()));
+                if (owner != null && !owner.getId().equals(item.getId())) {
+                    parents.put(item.getId(), owner.getId());
+                }
+            }
+        }
+        return new ApplyDependencyGraph(items, parents);
+    }
+
+    public Optional<PlanItem> item(UUID itemId) {
+        return Optional.ofNullable(items.get(itemId));
+    }
+
+    public Optional<PlanItem> parentOf(UUID itemId) {
+        return Optional.ofNullable(parents.get(itemId)).map(items::get);
+    }
+
+    private static String ownerKey(int applyOrder, String resourceId) {
+        return applyOrder + ":" + resourceId;
+    }
+}
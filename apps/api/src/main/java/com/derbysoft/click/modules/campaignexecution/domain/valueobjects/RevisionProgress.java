@@ -0,0 +1,18 @@
+package com.derbysoft.click.modules.campaignexecution.domain.valueobjects;
+
+public record RevisionProgress(int draft, int published, int queued, int inProgress,
+                                int succeeded, int failed, int blocked, int cancelled) {
+
+    public static RevisionProgress empty() {
+        return new RevisionProgress(0, 0, 0, 0, 0, 0, 0, 0);
+    }
+
+    public int total() {
+        return draft + published + queued + inProgress + succeeded + failed + blocked + cancelled;
+    }
+
+    /** Every item has reached SUCCEEDED, FAILED, BLOCKED or CANCELLED. */
+    public boolean isComplete() {
+        return total() > 0 && draft + published + queued + inProgress == 0;
+    }
+}
@@ -4,5 +4,9 @@ public enum WriteActionType {
     CREATE_CAMPAIGN, UPDATE_CAMPAIGN,
     CREATE_AD_GROUP, UPDATE_AD_GROUP,
     CREATE_AD, UPDATE_AD,
-    CREATE_KEYWORD, UPDATE_KEYWORD
+    CREATE_KEYWORD, UPDATE_KEYWORD;
+
+    public boolean isCreate() {
+        return name().startsWith("CREATE_");
+    }
 }
@@ -0,0 +1,157 @@
+package com.derbysoft.click.modules.campaignexecution.infrastructure.googleads;
+
+import com.derbysoft.click.bootstrap.loadtest.FakeGoogleAdsBehaviour;
+import com.derbysoft.click.modules.campaignexecution.application.ports.GoogleAdsMutationPort;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.FailureClass;
+import com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads.GoogleAdsQuotaExceededException;
+import com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads.GoogleAdsQuotaGuard;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Load-test stand-in for {@link GoogleAdsMutationClient}. Every call costs one simulated round
+ * trip; request-level faults surface as the same exceptions the real client throws, and in
+ * batch calls each operation can additionally fail on its own like a partial-failure response.
+ * Calls go through {@link GoogleAdsQuotaGuard} like the real client's, so injected
+ * {@code RESOURCE_EXHAUSTED} faults drive the adaptive rate limiter.
+ */
+@Component
+@Primary
+@Profile("loadtest")
+public class FakeGoogleAdsMutationClient implements GoogleAdsMutationPort {
+
+    private final FakeGoogleAdsBehaviour behaviour;
+    private final GoogleAdsQuotaGuard quotaGuard;
+    private final AtomicLong sequence = new AtomicLong(1_000_000L);
+
+    public FakeGoogleAdsMutationClient(FakeGoogleAdsBehaviour behaviour, GoogleAdsQuotaGuard quotaGuard) {
+        this.behaviour = behaviour;
+        this.quotaGuard = quotaGuard;
+    }
+
+    @Override
+    public MutationResult createCampaign(String customerId, String managerId, CampaignSpec spec) {
+        return createCampaigns(customerId, managerId, List.of(spec)).getFirst();
+    }
+
+    @Override
+    public MutationResult updateCampaign(String customerId, String managerId, CampaignSpec spec) {
+        return updateCampaigns(customerId, managerId, List.of(spec)).getFirst();
+    }
+
+    @Override
+    public MutationResult createAdGroup(String customerId, String managerId, AdGroupSpec spec) {
+        return createAdGroups(customerId, managerId, List.of(spec)).getFirst();
+    }
+
+    @Override
+    public MutationResult updateAdGroup(String customerId, String managerId, AdGroupSpec spec) {
+        return updateAdGroups(customerId, managerId, List.of(spec)).getFirst();
+    }
+
+    @Override
+    public MutationResult createAd(String customerId, String managerId, AdSpec spec) {
+        return createAds(customerId, managerId, List.of(spec)).getFirst();
+    }
+
+    @Override
+    public MutationResult updateAd(String customerId, String managerId, AdSpec spec) {
+        return updateAds(customerId, managerId, List.of(spec)).getFirst();
+    }
+
+    @Override
+    public MutationResult createKeyword(String customerId, String managerId, KeywordSpec spec) {
+        return createKeywords(customerId, managerId, List.of(spec)).getFirst();
+    }
+
+    @Override
+    public MutationResult updateKeyword(String customerId, String managerId, KeywordSpec spec) {
+        return updateKeywords(customerId, managerId, List.of(spec)).getFirst();
+    }
+
+    @Override
+    public List<MutationResult> createCampaigns(String customerId, String managerId, List<CampaignSpec> specs) {
+        return mutate(customerId, specs, spec -> newResourceName(customerId, "campaigns"));
+    }
+
+    @Override
+    public List<MutationResult> updateCampaigns(String customerId, String managerId, List<CampaignSpec> specs) {
+        return mutate(customerId, specs, CampaignSpec::resourceId);
+    }
+
+    @Override
+    public List<MutationResult> createAdGroups(String customerId, String managerId, List<AdGroupSpec> specs) {
+        return mutate(customerId, specs, spec -> newResourceName(customerId, "adGroups"));
+    }
+
+    @Override
+    public List<MutationResult> updateAdGroups(String customerId, String managerId, List<AdGroupSpec> specs) {
+        return mutate(customerId, specs, AdGroupSpec::resourceId);
+    }
+
+    @Override
+    public List<MutationResult> createAds(String customerId, String managerId, List<AdSpec> specs) {
+        return mutate(customerId, specs, spec -> newResourceName(customerId, "adGroupAds"));
+    }
+
+    @Override
+    public List<MutationResult> updateAds(String customerId, String managerId, List<AdSpec> specs) {
+        return mutate(customerId, specs, AdSpec::resourceId);
+    }
+
+    @Override
+    public List<MutationResult> createKeywords(String customerId, String managerId, List<KeywordSpec> specs) {
+        return mutate(customerId, specs, spec -> newResourceName(customerId, "adGroupCriteria"));
+    }
+
+    @Override
+    public List<MutationResult> updateKeywords(String customerId, String managerId, List<KeywordSpec> specs) {
+        return mutate(customerId, specs, KeywordSpec::resourceId);
+    }
+
+    private <S> List<MutationResult> mutate(String customerId, List<S> specs,
+                                            Function<S, String> resourceName) {
+        try {
+            quotaGuard.call(customerId, () -> {
+                behaviour.simulateLatency();
+                switch (behaviour.nextFault()) {
+                    case AUTH -> throw new MutationAuthException(
+                        "Google Ads auth failure for customer " + customerId + " (fake)", null);
+                    case RESOURCE_EXHAUSTED -> throw new StatusRuntimeException(
+                        Status.RESOURCE_EXHAUSTED.withDescription("fake"));
+                    case UNAVAILABLE -> throw new MutationApiException(FailureClass.TRANSIENT,
+                        "Transient gRPC error (UNAVAILABLE): fake", null);
+                    case NONE -> { }
+                }
+                return null;
+            });
+        } catch (GoogleAdsQuotaExceededException e) {
+            throw new MutationApiException(FailureClass.TRANSIENT, e.getMessage(), e);
+        } catch (StatusRuntimeException e) {
+            throw new MutationApiException(FailureClass.TRANSIENT,
+                "Transient gRPC error (" + e.getStatus().getCode() + "): fake", e);
+        } catch (IOException e) {
+            throw new MutationApiException(FailureClass.TRANSIENT, e.getMessage(), e);
+        }
+        List<MutationResult> results = new ArrayList<>(specs.size());
+        for (S spec : specs) {
+            results.add(behaviour.nextOperationFails()
+                ? new MutationResult(false, null, FailureClass.PERMANENT.name(),
+                    "FIELD_ERROR: REQUIRED (fake)")
+                : new MutationResult(true, resourceName.apply(spec), null, null));
+        }
+        return results;
+    }
+
+    private String newResourceName(String customerId, String collection) {
+        return "customers/" + customerId.replace("-", "") + "/" + collection + "/" + sequence.incrementAndGet();
+    }
+}
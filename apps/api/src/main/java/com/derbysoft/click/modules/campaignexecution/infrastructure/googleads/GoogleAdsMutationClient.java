@@ -2,9 +2,10 @@ package com.derbysoft.click.modules.campaignexecution.infrastructure.googleads;
 
 import com.derbysoft.click.modules.campaignexecution.application.ports.GoogleAdsMutationPort;
 import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.FailureClass;
-import com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads.GoogleAdsConfig;
+import com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads.GoogleAdsClientRegistry;
+import com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads.GoogleAdsQuotaExceededException;
+import com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads.GoogleAdsQuotaGuard;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.ads.googleads.lib.GoogleAdsClient;
 import com.google.ads.googleads.v23.common.AdTextAsset;
 import com.google.ads.googleads.v23.common.KeywordInfo;
 import com.google.ads.googleads.v23.common.ManualCpc;
@@ -18,8 +19,11 @@ import com.google.ads.googleads.v23.enums.CampaignStatusEnum.CampaignStatus;
 import com.google.ads.googleads.v23.enums.AdGroupCriterionStatusEnum.AdGroupCriterionStatus;
 import com.google.ads.googleads.v23.enums.EuPoliticalAdvertisingStatusEnum.EuPoliticalAdvertisingStatus;
 import com.google.ads.googleads.v23.enums.KeywordMatchTypeEnum.KeywordMatchType;
+import com.google.ads.googleads.v23.errors.ErrorCode;
+import com.google.ads.googleads.v23.errors.ErrorLocation.FieldPathElement;
 import com.google.ads.googleads.v23.errors.GoogleAdsError;
 import com.google.ads.googleads.v23.errors.GoogleAdsException;
+import com.google.ads.googleads.v23.errors.GoogleAdsFailure;
 import com.google.ads.googleads.v23.resources.Ad;
 import com.google.ads.googleads.v23.resources.AdGroup;
 import com.google.ads.googleads.v23.resources.AdGroupAd;
@@ -36,14 +40,36 @@ import com.google.ads.googleads.v23.services.CampaignBudgetOperation;
 import com.google.ads.googleads.v23.services.CampaignBudgetServiceClient;
 import com.google.ads.googleads.v23.services.CampaignOperation;
 import com.google.ads.googleads.v23.services.CampaignServiceClient;
-import com.google.auth.oauth2.GoogleCredentials;
+import com.google.ads.googleads.v23.services.GoogleAdsVersion;
+import com.google.ads.googleads.v23.services.MutateAdGroupAdResult;
+import com.google.ads.googleads.v23.services.MutateAdGroupAdsRequest;
+import com.google.ads.googleads.v23.services.MutateAdGroupAdsResponse;
+import com.google.ads.googleads.v23.services.MutateAdGroupCriteriaRequest;
+import com.google.ads.googleads.v23.services.MutateAdGroupCriteriaResponse;
+import com.google.ads.googleads.v23.services.MutateAdGroupCriterionResult;
+import com.google.ads.googleads.v23.services.MutateAdGroupResult;
+import com.google.ads.googleads.v23.services.MutateAdGroupsRequest;
+import com.google.ads.googleads.v23.services.MutateAdGroupsResponse;
+import com.google.ads.googleads.v23.services.MutateCampaignBudgetResult;
+import com.google.ads.googleads.v23.services.MutateCampaignBudgetsRequest;
+import com.google.ads.googleads.v23.services.MutateCampaignBudgetsResponse;
+import com.google.ads.googleads.v23.services.MutateCampaignResult;
+import com.google.ads.googleads.v23.services.MutateCampaignsRequest;
+import com.google.ads.googleads.v23.services.MutateCampaignsResponse;
+import com.google.api.gax.core.BackgroundResource;
+import com.google.protobuf.Any;
 import com.google.protobuf.FieldMask;
+import com.google.protobuf.InvalidProtocolBufferException;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -52,13 +78,14 @@ import org.springframework.stereotype.Component;
 public class GoogleAdsMutationClient implements GoogleAdsMutationPort {
 
     private static final Logger log = LoggerFactory.getLogger(GoogleAdsMutationClient.class);
-    private static final String ADS_SCOPE = "https://www.googleapis.com/auth/adwords";
 
-    private final GoogleAdsConfig config;
+    private final GoogleAdsClientRegistry clientRegistry;
+    private final GoogleAdsQuotaGuard quotaGuard;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    public GoogleAdsMutationClient(GoogleAdsConfig config) {
-        this.config = config;
+    public GoogleAdsMutationClient(GoogleAdsClientRegistry clientRegistry, GoogleAdsQuotaGuard quotaGuard) {
+        this.clientRegistry = clientRegistry;
+        this.quotaGuard = quotaGuard;
     }
 
     // ── Campaign ─────────────────────────────────────────────────────────────
@@ -68,41 +95,20 @@ public class GoogleAdsMutationClient implements GoogleAdsMutationPort {
         try {
             CampaignPayload payload = parse(spec.payload(), CampaignPayload.class);
             String strippedId = customerId.replace("-", "");
-            GoogleAdsClient client = buildClient(managerId);
-
-            String budgetResourceName;
-            try (CampaignBudgetServiceClient budgetClient =
-                     client.getLatestVersion().createCampaignBudgetServiceClient()) {
-                CampaignBudget budget = CampaignBudget.newBuilder()
-                    .setName(payload.name() + " Budget " + System.currentTimeMillis())
-                    .setAmountMicros(payload.budgetAmountMicros())
-                    .setDeliveryMethod(BudgetDeliveryMethod.STANDARD)
-                    .build();
-                CampaignBudgetOperation budgetOp = CampaignBudgetOperation.newBuilder()
-                    .setCreate(budget).build();
-                budgetResourceName = budgetClient.mutateCampaignBudgets(
-                    strippedId, List.of(budgetOp)).getResults(0).getResourceName();
-            }
-
-            try (CampaignServiceClient campaignClient =
-                     client.getLatestVersion().createCampaignServiceClient()) {
-                Campaign.Builder campaignBuilder = Campaign.newBuilder()
-                    .setName(payload.name())
-                    .setCampaignBudget(budgetResourceName)
-                    .setAdvertisingChannelType(AdvertisingChannelType.valueOf(payload.advertisingChannelType()))
-                    .setStatus(CampaignStatus.valueOf(payload.status()))
-                    .setManualCpc(ManualCpc.newBuilder().setEnhancedCpcEnabled(false).build())
-                    .setContainsEuPoliticalAdvertising(EuPoliticalAdvertisingStatus.DOES_NOT_CONTAIN_EU_POLITICAL_ADVERTISING);
-                if (payload.startDate() != null) campaignBuilder.setStartDateTime(payload.startDate());
-                if (payload.endDate() != null) campaignBuilder.setEndDateTime(payload.endDate());
-
-                CampaignOperation op = CampaignOperation.newBuilder()
-                    .setCreate(campaignBuilder.build()).build();
-                String resourceName = campaignClient.mutateCampaigns(
-                    strippedId, List.of(op)).getResults(0).getResourceName();
-                log.info("createCampaign customerId={} resourceName={}", customerId, resourceName);
-                return new MutationResult(true, resourceName, null, null);
-            }
+            CampaignBudgetServiceClient budgetClient = service(managerId, CampaignBudgetServiceClient.class,
+                GoogleAdsVersion::createCampaignBudgetServiceClient);
+            String budgetResourceName = quotaGuard.call(customerId, () -> budgetClient.mutateCampaignBudgets(
+                strippedId, List.of(budgetOperation(payload)))).getResults(0).getResourceName();
+
+            CampaignServiceClient campaignClient = service(managerId, CampaignServiceClient.class,
+                GoogleAdsVersion::createCampaignServiceClient);
+            String resourceName = quotaGuard.call(customerId, () -> campaignClient.mutateCampaigns(
+                strippedId, List.of(campaignCreateOperation(payload, budgetResourceName))))
+                .getResults(0).getResourceName();
+            log.info("createCampaign customerId={} resourceName={}", customerId, resourceName);
+            return new MutationResult(true, resourceName, null, null);
+        } catch (GoogleAdsQuotaExceededException e) {
+            throw new MutationApiException(FailureClass.TRANSIENT, e.getMessage(), e);
         } catch (GoogleAdsException e) {
             handleGoogleAdsException(e);
             throw new MutationApiException(FailureClass.PERMANENT, "Unexpected error", e);
@@ -120,31 +126,14 @@ public class GoogleAdsMutationClient implements GoogleAdsMutationPort {
         try {
             CampaignPayload payload = parse(spec.payload(), CampaignPayload.class);
             String strippedId = customerId.replace("-", "");
-            GoogleAdsClient client = buildClient(managerId);
-
-            try (CampaignServiceClient campaignClient =
-                     client.getLatestVersion().createCampaignServiceClient()) {
-                Campaign.Builder campaignBuilder = Campaign.newBuilder()
-                    .setResourceName(spec.resourceId())
-                    .setName(payload.name())
-                    .setStatus(CampaignStatus.valueOf(payload.status()));
-                if (payload.startDate() != null) campaignBuilder.setStartDateTime(payload.startDate());
-                if (payload.endDate() != null) campaignBuilder.setEndDateTime(payload.endDate());
-
-                FieldMask.Builder maskBuilder = FieldMask.newBuilder()
-                    .addPaths("name")
-                    .addPaths("status");
-                if (payload.startDate() != null) maskBuilder.addPaths("start_date_time");
-                if (payload.endDate() != null) maskBuilder.addPaths("end_date_time");
-
-                CampaignOperation op = CampaignOperation.newBuilder()
-                    .setUpdate(campaignBuilder.build())
-                    .setUpdateMask(maskBuilder.build())
-                    .build();
-                campaignClient.mutateCampaigns(strippedId, List.of(op));
-                log.info("updateCampaign customerId={} resourceId={}", customerId, spec.resourceId());
-                return new MutationResult(true, spec.resourceId(), null, null);
-            }
+            CampaignServiceClient campaignClient = service(managerId, CampaignServiceClient.class,
+                GoogleAdsVersion::createCampaignServiceClient);
+            quotaGuard.call(customerId, () ->
+                campaignClient.mutateCampaigns(strippedId, List.of(campaignUpdateOperation(spec, payload))));
+            log.info("updateCampaign customerId={} resourceId={}", customerId, spec.resourceId());
+            return new MutationResult(true, spec.resourceId(), null, null);
+        } catch (GoogleAdsQuotaExceededException e) {
+            throw new MutationApiException(FailureClass.TRANSIENT, e.getMessage(), e);
         } catch (GoogleAdsException e) {
             handleGoogleAdsException(e);
             throw new MutationApiException(FailureClass.PERMANENT, "Unexpected error", e);
@@ -157,6 +146,109 @@ public class GoogleAdsMutationClient implements GoogleAdsMutationPort {
         }
     }
 
+    @Override
+    public List<MutationResult> createCampaigns(String customerId, String managerId,
+                                                List<CampaignSpec> specs) {
+        List<MutationResult> budgets = mutateBatch("createCampaignBudgets", customerId, specs,
+            spec -> budgetOperation(parse(spec.payload(), CampaignPayload.class)),
+            spec -> null,
+            (strippedId, operations) -> {
+                MutateCampaignBudgetsResponse response = service(managerId,
+                    CampaignBudgetServiceClient.class, GoogleAdsVersion::createCampaignBudgetServiceClient)
+                    .mutateCampaignBudgets(MutateCampaignBudgetsRequest.newBuilder()
+                        .setCustomerId(strippedId)
+                        .addAllOperations(operations)
+                        .setPartialFailure(true)
+                        .build());
+                return new BatchResponse(response.getResultsList().stream()
+                    .map(MutateCampaignBudgetResult::getResourceName).toList(),
+                    response.hasPartialFailureError() ? response.getPartialFailureError() : null);
+            });
+
+        List<BudgetedCampaign> budgeted = new ArrayList<>(specs.size());
+        for (int i = 0; i < specs.size(); i++) {
+            budgeted.add(new BudgetedCampaign(specs.get(i), budgets.get(i)));
+        }
+        return mutateBatch("createCampaigns", customerId, budgeted,
+            campaign -> {
+                MutationResult budget = campaign.budget();
+                if (!budget.success()) {
+                    throw new MutationApiException(FailureClass.valueOf(budget.failureClass()),
+                        "Budget creation failed: " + budget.failureReason(), null);
+                }
+                return campaignCreateOperation(
+                    parse(campaign.spec().payload(), CampaignPayload.class), budget.resourceId());
+            },
+            campaign -> null,
+            campaignMutation(managerId));
+    }
+
+    @Override
+    public List<MutationResult> updateCampaigns(String customerId, String managerId,
+                                                List<CampaignSpec> specs) {
+        return mutateBatch("updateCampaigns", customerId, specs,
+            spec -> campaignUpdateOperation(spec, parse(spec.payload(), CampaignPayload.class)),
+            CampaignSpec::resourceId,
+            campaignMutation(managerId));
+    }
+
+    private BatchMutation<CampaignOperation> campaignMutation(String managerId) {
+        return (strippedId, operations) -> {
+            MutateCampaignsResponse response = service(managerId,
+                CampaignServiceClient.class, GoogleAdsVersion::createCampaignServiceClient)
+                .mutateCampaigns(MutateCampaignsRequest.newBuilder()
+                    .setCustomerId(strippedId)
+                    .addAllOperations(operations)
+                    .setPartialFailure(true)
+                    .build());
+            return new BatchResponse(response.getResultsList().stream()
+                .map(MutateCampaignResult::getResourceName).toList(),
+                response.hasPartialFailureError() ? response.getPartialFailureError() : null);
+        };
+    }
+
+    private CampaignBudgetOperation budgetOperation(CampaignPayload payload) {
+        CampaignBudget budget = CampaignBudget.newBuilder()
+            .setName(payload.name() + " Budget " + System.currentTimeMillis())
+            .setAmountMicros(payload.budgetAmountMicros())
+            .setDeliveryMethod(BudgetDeliveryMethod.STANDARD)
+            .build();
+        return CampaignBudgetOperation.newBuilder().setCreate(budget).build();
+    }
+
+    private CampaignOperation campaignCreateOperation(CampaignPayload payload, String budgetResourceName) {
+        Campaign.Builder campaignBuilder = Campaign.newBuilder()
+            .setName(payload.name())
+            .setCampaignBudget(budgetResourceName)
+            .setAdvertisingChannelType(AdvertisingChannelType.valueOf(payload.advertisingChannelType()))
+            .setStatus(CampaignStatus.valueOf(payload.status()))
+            .setManualCpc(ManualCpc.newBuilder().setEnhancedCpcEnabled(false).build())
+            .setContainsEuPoliticalAdvertising(EuPoliticalAdvertisingStatus.DOES_NOT_CONTAIN_EU_POLITICAL_ADVERTISING);
+        if (payload.startDate() != null) campaignBuilder.setStartDateTime(payload.startDate());
+        if (payload.endDate() != null) campaignBuilder.setEndDateTime(payload.endDate());
+        return CampaignOperation.newBuilder().setCreate(campaignBuilder.build()).build();
+    }
+
+    private CampaignOperation campaignUpdateOperation(CampaignSpec spec, CampaignPayload payload) {
+        Campaign.Builder campaignBuilder = Campaign.newBuilder()
+            .setResourceName(spec.resourceId())
+            .setName(payload.name())
+            .setStatus(CampaignStatus.valueOf(payload.status()));
+        if (payload.startDate() != null) campaignBuilder.setStartDateTime(payload.startDate());
+        if (payload.endDate() != null) campaignBuilder.setEndDateTime(payload.endDate());
+
+        FieldMask.Builder maskBuilder = FieldMask.newBuilder()
+            .addPaths("name")
+            .addPaths("status");
+        if (payload.startDate() != null) maskBuilder.addPaths("start_date_time");
+        if (payload.endDate() != null) maskBuilder.addPaths("end_date_time");
+
+        return CampaignOperation.newBuilder()
+            .setUpdate(campaignBuilder.build())
+            .setUpdateMask(maskBuilder.build())
+            .build();
+    }
+
     // ── AdGroup ──────────────────────────────────────────────────────────────
 
     @Override
@@ -164,22 +256,14 @@ public class GoogleAdsMutationClient implements GoogleAdsMutationPort {
         try {
             AdGroupPayload payload = parse(spec.payload(), AdGroupPayload.class);
             String strippedId = customerId.replace("-", "");
-            GoogleAdsClient client = buildClient(managerId);
-
-            try (AdGroupServiceClient adGroupClient =
-                     client.getLatestVersion().createAdGroupServiceClient()) {
-                AdGroup adGroup = AdGroup.newBuilder()
-                    .setName(payload.name())
-                    .setCampaign(spec.campaignId())
-                    .setStatus(AdGroupStatus.valueOf(payload.status()))
-                    .setCpcBidMicros(payload.cpcBidMicros())
-                    .build();
-                AdGroupOperation op = AdGroupOperation.newBuilder().setCreate(adGroup).build();
-                String resourceName = adGroupClient.mutateAdGroups(
-                    strippedId, List.of(op)).getResults(0).getResourceName();
-                log.info("createAdGroup customerId={} resourceName={}", customerId, resourceName);
-                return new MutationResult(true, resourceName, null, null);
-            }
+            AdGroupServiceClient adGroupClient = service(managerId, AdGroupServiceClient.class,
+                GoogleAdsVersion::createAdGroupServiceClient);
+            String resourceName = quotaGuard.call(customerId, () -> adGroupClient.mutateAdGroups(
+                strippedId, List.of(adGroupCreateOperation(spec, payload)))).getResults(0).getResourceName();
+            log.info("createAdGroup customerId={} resourceName={}", customerId, resourceName);
+            return new MutationResult(true, resourceName, null, null);
+        } catch (GoogleAdsQuotaExceededException e) {
+            throw new MutationApiException(FailureClass.TRANSIENT, e.getMessage(), e);
         } catch (GoogleAdsException e) {
             handleGoogleAdsException(e);
             throw new MutationApiException(FailureClass.PERMANENT, "Unexpected error", e);
@@ -197,29 +281,14 @@ public class GoogleAdsMutationClient implements GoogleAdsMutationPort {
         try {
             AdGroupPayload payload = parse(spec.payload(), AdGroupPayload.class);
             String strippedId = customerId.replace("-", "");
-            GoogleAdsClient client = buildClient(managerId);
-
-            try (AdGroupServiceClient adGroupClient =
-                     client.getLatestVersion().createAdGroupServiceClient()) {
-                AdGroup adGroup = AdGroup.newBuilder()
-                    .setResourceName(spec.resourceId())
-                    .setName(payload.name())
-                    .setStatus(AdGroupStatus.valueOf(payload.status()))
-                    .setCpcBidMicros(payload.cpcBidMicros())
-                    .build();
-                FieldMask updateMask = FieldMask.newBuilder()
-                    .addPaths("name")
-                    .addPaths("status")
-                    .addPaths("cpc_bid_micros")
-                    .build();
-                AdGroupOperation op = AdGroupOperation.newBuilder()
-                    .setUpdate(adGroup)
-                    .setUpdateMask(updateMask)
-                    .build();
-                adGroupClient.mutateAdGroups(strippedId, List.of(op));
-                log.info("updateAdGroup customerId={} resourceId={}", customerId, spec.resourceId());
-                return new MutationResult(true, spec.resourceId(), null, null);
-            }
+            AdGroupServiceClient adGroupClient = service(managerId, AdGroupServiceClient.class,
+                GoogleAdsVersion::createAdGroupServiceClient);
+            quotaGuard.call(customerId, () ->
+                adGroupClient.mutateAdGroups(strippedId, List.of(adGroupUpdateOperation(spec, payload))));
+            log.info("updateAdGroup customerId={} resourceId={}", customerId, spec.resourceId());
+            return new MutationResult(true, spec.resourceId(), null, null);
+        } catch (GoogleAdsQuotaExceededException e) {
+            throw new MutationApiException(FailureClass.TRANSIENT, e.getMessage(), e);
         } catch (GoogleAdsException e) {
             handleGoogleAdsException(e);
             throw new MutationApiException(FailureClass.PERMANENT, "Unexpected error", e);
@@ -232,6 +301,67 @@ public class GoogleAdsMutationClient implements GoogleAdsMutationPort {
         }
     }
 
+    @Override
+    public List<MutationResult> createAdGroups(String customerId, String managerId,
+                                               List<AdGroupSpec> specs) {
+        return mutateBatch("createAdGroups", customerId, specs,
+            spec -> adGroupCreateOperation(spec, parse(spec.payload(), AdGroupPayload.class)),
+            spec -> null,
+            adGroupMutation(managerId));
+    }
+
+    @Override
+    public List<MutationResult> updateAdGroups(String customerId, String managerId,
+                                               List<AdGroupSpec> specs) {
+        return mutateBatch("updateAdGroups", customerId, specs,
+            spec -> adGroupUpdateOperation(spec, parse(spec.payload(), AdGroupPayload.class)),
+            AdGroupSpec::resourceId,
+            adGroupMutation(managerId));
+    }
+
+    private BatchMutation<AdGroupOperation> adGroupMutation(String managerId) {
+        return (strippedId, operations) -> {
+            MutateAdGroupsResponse response = service(managerId,
+                AdGroupServiceClient.class, GoogleAdsVersion::createAdGroupServiceClient)
+                .mutateAdGroups(MutateAdGroupsRequest.newBuilder()
+                    .setCustomerId(strippedId)
+                    .addAllOperations(operations)
+                    .setPartialFailure(true)
+                    .build());
+            return new BatchResponse(response.getResultsList().stream()
+                .map(MutateAdGroupResult::getResourceName).toList(),
+                response.hasPartialFailureError() ? response.getPartialFailureError() : null);
+        };
+    }
+
+    private AdGroupOperation adGroupCreateOperation(AdGroupSpec spec, AdGroupPayload payload) {
+        AdGroup adGroup = AdGroup.newBuilder()
+            .setName(payload.name())
+            .setCampaign(spec.campaignId())
+            .setStatus(AdGroupStatus.valueOf(payload.status()))
+            .setCpcBidMicros(payload.cpcBidMicros())
+            .build();
+        return AdGroupOperation.newBuilder().setCreate(adGroup).build();
+    }
+
+    private AdGroupOperation adGroupUpdateOperation(AdGroupSpec spec, AdGroupPayload payload) {
+        AdGroup adGroup = AdGroup.newBuilder()
+            .setResourceName(spec.resourceId())
+            .setName(payload.name())
+            .setStatus(AdGroupStatus.valueOf(payload.status()))
+            .setCpcBidMicros(payload.cpcBidMicros())
+            .build();
+        FieldMask updateMask = FieldMask.newBuilder()
+            .addPaths("name")
+            .addPaths("status")
+            .addPaths("cpc_bid_micros")
+            .build();
+        return AdGroupOperation.newBuilder()
+            .setUpdate(adGroup)
+            .setUpdateMask(updateMask)
+            .build();
+    }
+
     // ── Ad ───────────────────────────────────────────────────────────────────
 
     @Override
@@ -239,30 +369,14 @@ public class GoogleAdsMutationClient implements GoogleAdsMutationPort {
         try {
             AdPayload payload = parse(spec.payload(), AdPayload.class);
             String strippedId = customerId.replace("-", "");
-            GoogleAdsClient client = buildClient(managerId);
-
-            try (AdGroupAdServiceClient adGroupAdClient =
-                     client.getLatestVersion().createAdGroupAdServiceClient()) {
-                ResponsiveSearchAdInfo.Builder rsaBuilder = ResponsiveSearchAdInfo.newBuilder();
-                payload.headlines().forEach(h ->
-                    rsaBuilder.addHeadlines(AdTextAsset.newBuilder().setText(h.text())));
-                payload.descriptions().forEach(d ->
-                    rsaBuilder.addDescriptions(AdTextAsset.newBuilder().setText(d.text())));
-
-                Ad ad = Ad.newBuilder()
-                    .setResponsiveSearchAd(rsaBuilder.build())
-                    .addAllFinalUrls(payload.finalUrls())
-                    .build();
-                AdGroupAd adGroupAd = AdGroupAd.newBuilder()
-                    .setAdGroup(spec.adGroupId())
-                    .setAd(ad)
-                    .build();
-                AdGroupAdOperation op = AdGroupAdOperation.newBuilder().setCreate(adGroupAd).build();
-                String resourceName = adGroupAdClient.mutateAdGroupAds(
-                    strippedId, List.of(op)).getResults(0).getResourceName();
-                log.info("createAd customerId={} resourceName={}", customerId, resourceName);
-                return new MutationResult(true, resourceName, null, null);
-            }
+            AdGroupAdServiceClient adGroupAdClient = service(managerId, AdGroupAdServiceClient.class,
+                GoogleAdsVersion::createAdGroupAdServiceClient);
+            String resourceName = quotaGuard.call(customerId, () -> adGroupAdClient.mutateAdGroupAds(
+                strippedId, List.of(adCreateOperation(spec, payload)))).getResults(0).getResourceName();
+            log.info("createAd customerId={} resourceName={}", customerId, resourceName);
+            return new MutationResult(true, resourceName, null, null);
+        } catch (GoogleAdsQuotaExceededException e) {
+            throw new MutationApiException(FailureClass.TRANSIENT, e.getMessage(), e);
         } catch (GoogleAdsException e) {
             handleGoogleAdsException(e);
             throw new MutationApiException(FailureClass.PERMANENT, "Unexpected error", e);
@@ -280,37 +394,14 @@ public class GoogleAdsMutationClient implements GoogleAdsMutationPort {
         try {
             AdPayload payload = parse(spec.payload(), AdPayload.class);
             String strippedId = customerId.replace("-", "");
-            GoogleAdsClient client = buildClient(managerId);
-
-            try (AdGroupAdServiceClient adGroupAdClient =
-                     client.getLatestVersion().createAdGroupAdServiceClient()) {
-                ResponsiveSearchAdInfo.Builder rsaBuilder = ResponsiveSearchAdInfo.newBuilder();
-                payload.headlines().forEach(h ->
-                    rsaBuilder.addHeadlines(AdTextAsset.newBuilder().setText(h.text())));
-                payload.descriptions().forEach(d ->
-                    rsaBuilder.addDescriptions(AdTextAsset.newBuilder().setText(d.text())));
-
-                Ad ad = Ad.newBuilder()
-                    .setResponsiveSearchAd(rsaBuilder.build())
-                    .addAllFinalUrls(payload.finalUrls())
-                    .build();
-                AdGroupAd adGroupAd = AdGroupAd.newBuilder()
-                    .setResourceName(spec.resourceId())
-                    .setAd(ad)
-                    .build();
-                FieldMask updateMask = FieldMask.newBuilder()
-                    .addPaths("ad.responsive_search_ad.headlines")
-                    .addPaths("ad.responsive_search_ad.descriptions")
-                    .addPaths("ad.final_urls")
-                    .build();
-                AdGroupAdOperation op = AdGroupAdOperation.newBuilder()
-                    .setUpdate(adGroupAd)
-                    .setUpdateMask(updateMask)
-                    .build();
-                adGroupAdClient.mutateAdGroupAds(strippedId, List.of(op));
-                log.info("updateAd customerId={} resourceId={}", customerId, spec.resourceId());
-                return new MutationResult(true, spec.resourceId(), null, null);
-            }
+            AdGroupAdServiceClient adGroupAdClient = service(managerId, AdGroupAdServiceClient.class,
+                GoogleAdsVersion::createAdGroupAdServiceClient);
+            quotaGuard.call(customerId, () ->
+                adGroupAdClient.mutateAdGroupAds(strippedId, List.of(adUpdateOperation(spec, payload))));
+            log.info("updateAd customerId={} resourceId={}", customerId, spec.resourceId());
+            return new MutationResult(true, spec.resourceId(), null, null);
+        } catch (GoogleAdsQuotaExceededException e) {
+            throw new MutationApiException(FailureClass.TRANSIENT, e.getMessage(), e);
         } catch (GoogleAdsException e) {
             handleGoogleAdsException(e);
             throw new MutationApiException(FailureClass.PERMANENT, "Unexpected error", e);
@@ -323,6 +414,74 @@ public class GoogleAdsMutationClient implements GoogleAdsMutationPort {
         }
     }
 
+    @Override
+    public List<MutationResult> createAds(String customerId, String managerId, List<AdSpec> specs) {
+        return mutateBatch("createAds", customerId, specs,
+            spec -> adCreateOperation(spec, parse(spec.payload(), AdPayload.class)),
+            spec -> null,
+            adGroupAdMutation(managerId));
+    }
+
+    @Override
+    public List<MutationResult> updateAds(String customerId, String managerId, List<AdSpec> specs) {
+        return mutateBatch("updateAds", customerId, specs,
+            spec -> adUpdateOperation(spec, parse(spec.payload(), AdPayload.class)),
+            AdSpec::resourceId,
+            adGroupAdMutation(managerId));
+    }
+
+    private BatchMutation<AdGroupAdOperation> adGroupAdMutation(String managerId) {
+        return (strippedId, operations) -> {
+            MutateAdGroupAdsResponse response = service(managerId,
+                AdGroupAdServiceClient.class, GoogleAdsVersion::createAdGroupAdServiceClient)
+                .mutateAdGroupAds(MutateAdGroupAdsRequest.newBuilder()
+                    .setCustomerId(strippedId)
+                    .addAllOperations(operations)
+                    .setPartialFailure(true)
+                    .build());
+            return new BatchResponse(response.getResultsList().stream()
+                .map(MutateAdGroupAdResult::getResourceName).toList(),
+                response.hasPartialFailureError() ? response.getPartialFailureError() : null);
+        };
+    }
+
+    private Ad responsiveSearchAd(AdPayload payload) {
+        ResponsiveSearchAdInfo.Builder rsaBuilder = ResponsiveSearchAdInfo.newBuilder();
+        payload.headlines().forEach(h ->
+            rsaBuilder.addHeadlines(AdTextAsset.newBuilder().setText(h.text())));
+        payload.descriptions().forEach(d ->
+            rsaBuilder.addDescriptions(AdTextAsset.newBuilder().setText(d.text())));
+
+        return Ad.newBuilder()
+            .setResponsiveSearchAd(rsaBuilder.build())
+            .addAllFinalUrls(payload.finalUrls())
+            .build();
+    }
+
+    private AdGroupAdOperation adCreateOperation(AdSpec spec, AdPayload payload) {
+        AdGroupAd adGroupAd = AdGroupAd.newBuilder()
+            .setAdGroup(spec.adGroupId())
+            .setAd(responsiveSearchAd(payload))
+            .build();
+        return AdGroupAdOperation.newBuilder().setCreate(adGroupAd).build();
+    }
+
+    private AdGroupAdOperation adUpdateOperation(AdSpec spec, AdPayload payload) {
+        AdGroupAd adGroupAd = AdGroupAd.newBuilder()
+            .setResourceName(spec.resourceId())
+            .setAd(responsiveSearchAd(payload))
+            .build();
+        FieldMask updateMask = FieldMask.newBuilder()
+            .addPaths("ad.responsive_search_ad.headlines")
+            .addPaths("ad.responsive_search_ad.descriptions")
+            .addPaths("ad.final_urls")
+            .build();
+        return AdGroupAdOperation.newBuilder()
+            .setUpdate(adGroupAd)
+            .setUpdateMask(updateMask)
+            .build();
+    }
+
     // ── Keyword ──────────────────────────────────────────────────────────────
 
     @Override
@@ -330,27 +489,14 @@ public class GoogleAdsMutationClient implements GoogleAdsMutationPort {
         try {
             KeywordPayload payload = parse(spec.payload(), KeywordPayload.class);
             String strippedId = customerId.replace("-", "");
-            GoogleAdsClient client = buildClient(managerId);
-
-            try (AdGroupCriterionServiceClient criterionClient =
-                     client.getLatestVersion().createAdGroupCriterionServiceClient()) {
-                KeywordInfo keyword = KeywordInfo.newBuilder()
-                    .setText(payload.text())
-                    .setMatchType(KeywordMatchType.valueOf(payload.matchType()))
-                    .build();
-                AdGroupCriterion criterion = AdGroupCriterion.newBuilder()
-                    .setAdGroup(spec.adGroupId())
-                    .setKeyword(keyword)
-                    .setCpcBidMicros(payload.cpcBidMicros())
-                    .setStatus(AdGroupCriterionStatus.valueOf(payload.status()))
-                    .build();
-                AdGroupCriterionOperation op = AdGroupCriterionOperation.newBuilder()
-                    .setCreate(criterion).build();
-                String resourceName = criterionClient.mutateAdGroupCriteria(
-                    strippedId, List.of(op)).getResults(0).getResourceName();
-                log.info("createKeyword customerId={} resourceName={}", customerId, resourceName);
-                return new MutationResult(true, resourceName, null, null);
-            }
+            AdGroupCriterionServiceClient criterionClient = service(managerId, AdGroupCriterionServiceClient.class,
+                GoogleAdsVersion::createAdGroupCriterionServiceClient);
+            String resourceName = quotaGuard.call(customerId, () -> criterionClient.mutateAdGroupCriteria(
+                strippedId, List.of(keywordCreateOperation(spec, payload)))).getResults(0).getResourceName();
+            log.info("createKeyword customerId={} resourceName={}", customerId, resourceName);
+            return new MutationResult(true, resourceName, null, null);
+        } catch (GoogleAdsQuotaExceededException e) {
+            throw new MutationApiException(FailureClass.TRANSIENT, e.getMessage(), e);
         } catch (GoogleAdsException e) {
             handleGoogleAdsException(e);
             throw new MutationApiException(FailureClass.PERMANENT, "Unexpected error", e);
@@ -368,34 +514,131 @@ public class GoogleAdsMutationClient implements GoogleAdsMutationPort {
         try {
             KeywordPayload payload = parse(spec.payload(), KeywordPayload.class);
             String strippedId = customerId.replace("-", "");
-            GoogleAdsClient client = buildClient(managerId);
-
-            try (AdGroupCriterionServiceClient criterionClient =
-                     client.getLatestVersion().createAdGroupCriterionServiceClient()) {
-                KeywordInfo keyword = KeywordInfo.newBuilder()
-                    .setText(payload.text())
-                    .setMatchType(KeywordMatchType.valueOf(payload.matchType()))
-                    .build();
-                AdGroupCriterion criterion = AdGroupCriterion.newBuilder()
-                    .setResourceName(spec.resourceId())
-                    .setKeyword(keyword)
-                    .setCpcBidMicros(payload.cpcBidMicros())
-                    .setStatus(AdGroupCriterionStatus.valueOf(payload.status()))
-                    .build();
-                FieldMask updateMask = FieldMask.newBuilder()
-                    .addPaths("keyword.text")
-                    .addPaths("keyword.match_type")
-                    .addPaths("cpc_bid_micros")
-                    .addPaths("status")
-                    .build();
-                AdGroupCriterionOperation op = AdGroupCriterionOperation.newBuilder()
-                    .setUpdate(criterion)
-                    .setUpdateMask(updateMask)
-                    .build();
-                criterionClient.mutateAdGroupCriteria(strippedId, List.of(op));
-                log.info("updateKeyword customerId={} resourceId={}", customerId, spec.resourceId());
-                return new MutationResult(true, spec.resourceId(), null, null);
+            AdGroupCriterionServiceClient criterionClient = service(managerId, AdGroupCriterionServiceClient.class,
+                GoogleAdsVersion::createAdGroupCriterionServiceClient);
+            quotaGuard.call(customerId, () ->
+                criterionClient.mutateAdGroupCriteria(strippedId, List.of(keywordUpdateOperation(spec, payload))));
+            log.info("updateKeyword customerId={} resourceId={}", customerId, spec.resourceId());
+            return new MutationResult(true, spec.resourceId(), null, null);
+        } catch (GoogleAdsQuotaExceededException e) {
+            throw new MutationApiException(FailureClass.TRANSIENT, e.getMessage(), e);
+        } catch (GoogleAdsException e) {
+            handleGoogleAdsException(e);
+            throw new MutationApiException(FailureClass.PERMANENT, "Unexpected error", e);
+        } catch (StatusRuntimeException e) {
+            handleStatusRuntimeException(e);
+            throw new MutationApiException(FailureClass.PERMANENT, "gRPC error: " + e.getMessage(), e);
+        } catch (IOException e) {
+            throw new MutationApiException(FailureClass.TRANSIENT,
+                "Failed to load credentials: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<MutationResult> createKeywords(String customerId, String managerId,
+                                               List<KeywordSpec> specs) {
+        return mutateBatch("createKeywords", customerId, specs,
+            spec -> keywordCreateOperation(spec, parse(spec.payload(), KeywordPayload.class)),
+            spec -> null,
+            criterionMutation(managerId));
+    }
+
+    @Override
+    public List<MutationResult> updateKeywords(String customerId, String managerId,
+                                               List<KeywordSpec> specs) {
+        return mutateBatch("updateKeywords", customerId, specs,
+            spec -> keywordUpdateOperation(spec, parse(spec.payload(), KeywordPayload.class)),
+            KeywordSpec::resourceId,
+            criterionMutation(managerId));
+    }
+
+    private BatchMutation<AdGroupCriterionOperation> criterionMutation(String managerId) {
+        return (strippedId, operations) -> {
+            MutateAdGroupCriteriaResponse response = service(managerId,
+                AdGroupCriterionServiceClient.class, GoogleAdsVersion::createAdGroupCriterionServiceClient)
+                .mutateAdGroupCriteria(MutateAdGroupCriteriaRequest.newBuilder()
+                    .setCustomerId(strippedId)
+                    .addAllOperations(operations)
+                    .setPartialFailure(true)
+                    .build());
+            return new BatchResponse(response.getResultsList().stream()
+                .map(MutateAdGroupCriterionResult::getResourceName).toList(),
+                response.hasPartialFailureError() ? response.getPartialFailureError() : null);
+        };
+    }
+
+    private AdGroupCriterionOperation keywordCreateOperation(KeywordSpec spec, KeywordPayload payload) {
+        AdGroupCriterion criterion = AdGroupCriterion.newBuilder()
+            .setAdGroup(spec.adGroupId())
+            .setKeyword(keywordInfo(payload))
+            .setCpcBidMicros(payload.cpcBidMicros())
+            .setStatus(AdGroupCriterionStatus.valueOf(payload.status()))
+            .build();
+        return AdGroupCriterionOperation.newBuilder().setCreate(criterion).build();
+    }
+
+    private AdGroupCriterionOperation keywordUpdateOperation(KeywordSpec spec, KeywordPayload payload) {
+        AdGroupCriterion criterion = AdGroupCriterion.newBuilder()
+            .setResourceName(spec.resourceId())
+            .setKeyword(keywordInfo(payload))
+            .setCpcBidMicros(payload.cpcBidMicros())
+            .setStatus(AdGroupCriterionStatus.valueOf(payload.status()))
+            .build();
+        FieldMask updateMask = FieldMask.newBuilder()
+            .addPaths("keyword.text")
+            .addPaths("keyword.match_type")
+            .addPaths("cpc_bid_micros")
+            .addPaths("status")
+            .build();
+        return AdGroupCriterionOperation.newBuilder()
+            .setUpdate(criterion)
+            .setUpdateMask(updateMask)
+            .build();
+    }
+
+    private KeywordInfo keywordInfo(KeywordPayload payload) {
+        return KeywordInfo.newBuilder()
+            .setText(payload.text())
+            .setMatchType(KeywordMatchType.valueOf(payload.matchType()))
+            .build();
+    }
+
+    // ── Batching ──────────────────────────────────────────────────────────────
+
+    /**
+     * Sends all buildable operations in one partial-failure request and maps each result
+     * back to its spec position. Specs whose payload cannot be turned into an operation,
+     * and operations Google rejects individually, become failed results; only errors that
+     * fail the whole request are thrown.
+     */
+    private <S, O> List<MutationResult> mutateBatch(String operationName, String customerId,
+                                                    List<S> specs,
+                                                    Function<S, O> toOperation,
+                                                    Function<S, String> knownResourceId,
+                                                    BatchMutation<O> mutation) {
+        MutationResult[] results = new MutationResult[specs.size()];
+        List<O> operations = new ArrayList<>(specs.size());
+        List<Integer> positions = new ArrayList<>(specs.size());
+        for (int i = 0; i < specs.size(); i++) {
+            try {
+                operations.add(toOperation.apply(specs.get(i)));
+                positions.add(i);
+            } catch (MutationApiException e) {
+                results[i] = new MutationResult(false, null, e.getFailureClass().name(), e.getMessage());
+            } catch (RuntimeException e) {
+                results[i] = new MutationResult(false, null, FailureClass.PERMANENT.name(),
+                    "Invalid operation: " + e.getMessage());
             }
+        }
+        if (operations.isEmpty()) {
+            return Arrays.asList(results);
+        }
+
+        BatchResponse response;
+        try {
+            response = quotaGuard.call(customerId, () -> mutation.mutate(customerId.replace("-", ""), operations));
+        } catch (GoogleAdsQuotaExceededException e) {
+            throw new MutationApiException(FailureClass.TRANSIENT, e.getMessage(), e);
         } catch (GoogleAdsException e) {
             handleGoogleAdsException(e);
             throw new MutationApiException(FailureClass.PERMANENT, "Unexpected error", e);
@@ -406,20 +649,80 @@ public class GoogleAdsMutationClient implements GoogleAdsMutationPort {
             throw new MutationApiException(FailureClass.TRANSIENT,
                 "Failed to load credentials: " + e.getMessage(), e);
         }
+
+        Map<Integer, List<GoogleAdsError>> errors = errorsByOperation(response.partialFailureError());
+        for (int j = 0; j < positions.size(); j++) {
+            int i = positions.get(j);
+            List<GoogleAdsError> operationErrors = errors.get(j);
+            if (operationErrors != null) {
+                results[i] = new MutationResult(false, null,
+                    classify(operationErrors).name(), describe(operationErrors));
+            } else {
+                String resourceName = j < response.resourceNames().size()
+                    ? response.resourceNames().get(j) : "";
+                results[i] = new MutationResult(true,
+                    resourceName.isEmpty() ? knownResourceId.apply(specs.get(i)) : resourceName,
+                    null, null);
+            }
+        }
+        log.info("{} customerId={} operations={} failed={}", operationName, customerId,
+            specs.size(), Arrays.stream(results).filter(r -> !r.success()).count());
+        return Arrays.asList(results);
+    }
+
+    private Map<Integer, List<GoogleAdsError>> errorsByOperation(com.google.rpc.Status partialFailure) {
+        if (partialFailure == null) {
+            return Map.of();
+        }
+        Map<Integer, List<GoogleAdsError>> errors = new HashMap<>();
+        for (Any detail : partialFailure.getDetailsList()) {
+            if (!detail.is(GoogleAdsFailure.class)) continue;
+            GoogleAdsFailure failure;
+            try {
+                failure = detail.unpack(GoogleAdsFailure.class);
+            } catch (InvalidProtocolBufferException e) {
+                throw new MutationApiException(FailureClass.PERMANENT,
+                    "Unreadable partial failure details: " + e.getMessage(), e);
+            }
+            for (GoogleAdsError error : failure.getErrorsList()) {
+                for (FieldPathElement element : error.getLocation().getFieldPathElementsList()) {
+                    if ("operations".equals(element.getFieldName()) && element.hasIndex()) {
+                        errors.computeIfAbsent((int) element.getIndex(), k -> new ArrayList<>()).add(error);
+                        break;
+                    }
+                }
+            }
+        }
+        return errors;
+    }
+
+    private FailureClass classify(List<GoogleAdsError> errors) {
+        for (GoogleAdsError error : errors) {
+            ErrorCode.ErrorCodeCase code = error.getErrorCode().getErrorCodeCase();
+            if (code != ErrorCode.ErrorCodeCase.QUOTA_ERROR
+                    && code != ErrorCode.ErrorCodeCase.INTERNAL_ERROR) {
+                return FailureClass.PERMANENT;
+            }
+        }
+        return FailureClass.TRANSIENT;
+    }
+
+    private String describe(List<GoogleAdsError> errors) {
+        return errors.stream()
+            .map(error -> error.getErrorCode().toString().trim() + ": " + error.getMessage())
+            .collect(Collectors.joining("; "));
     }
 
     // ── Infrastructure ────────────────────────────────────────────────────────
 
-    protected GoogleAdsClient buildClient(String managerId) throws IOException {
-        GoogleCredentials credentials = GoogleCredentials
-            .fromStream(new FileInputStream(config.getCredentialsPath()))
-            .createScoped(Collections.singletonList(ADS_SCOPE));
-        long parsedManagerId = Long.parseLong(managerId.replace("-", ""));
-        return GoogleAdsClient.newBuilder()
-            .setCredentials(credentials)
-            .setDeveloperToken(config.getDeveloperToken())
-            .setLoginCustomerId(parsedManagerId)
-            .build();
+    /**
+     * Shared, long-lived service client from the registry; never closed per call.
+     * Mutations always authenticate with the configured default credentials.
+     */
+    protected <T extends BackgroundResource> T service(String managerId, Class<T> type,
+                                                       Function<GoogleAdsVersion, T> factory)
+            throws IOException {
+        return clientRegistry.service(managerId, null, type, factory);
     }
 
     private void handleGoogleAdsException(GoogleAdsException e) {
@@ -473,4 +776,15 @@ public class GoogleAdsMutationClient implements GoogleAdsMutationPort {
 
     private record KeywordPayload(String text, String matchType,
         long cpcBidMicros, String status) {}
+
+    private record BudgetedCampaign(CampaignSpec spec, MutationResult budget) {}
+
+    // ── Batch plumbing ────────────────────────────────────────────────────────
+
+    @FunctionalInterface
+    private interface BatchMutation<O> {
+        BatchResponse mutate(String strippedCustomerId, List<O> operations) throws IOException;
+    }
+
+    private record BatchResponse(List<String> resourceNames, com.google.rpc.Status partialFailureError) {}
 }
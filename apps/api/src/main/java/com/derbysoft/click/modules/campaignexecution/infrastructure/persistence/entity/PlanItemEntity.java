@@ -41,6 +41,9 @@ public class PlanItemEntity {
     @Column(name = "apply_order", nullable = false, updatable = false)
     private int applyOrder;
 
+    @Column(name = "parent_item_id", updatable = false)
+    private UUID parentItemId;
+
     @Column(nullable = false)
     private int attempts;
 
@@ -71,7 +74,7 @@ public class PlanItemEntity {
 
     public PlanItemEntity(UUID id, UUID revisionId, UUID tenantId, String status,
                            String actionType, String resourceType, String resourceId,
-                           String payload, int applyOrder,
+                           String payload, int applyOrder, UUID parentItemId,
                            int attempts, int maxAttempts,
                            Instant lastAttemptAt, Instant nextAttemptAfter,
                            String failureClass, String failureReason) {
@@ -84,6 +87,7 @@ public class PlanItemEntity {
         this.resourceId = resourceId;
         this.payload = payload;
         this.applyOrder = applyOrder;
+        this.parentItemId = parentItemId;
         this.attempts = attempts;
         this.maxAttempts = maxAttempts;
         this.lastAttemptAt = lastAttemptAt;
@@ -101,6 +105,7 @@ public class PlanItemEntity {
     public String getResourceId() { return resourceId; }
     public String getPayload() { return payload; }
     public int getApplyOrder() { return applyOrder; }
+    public UUID getParentItemId() { return parentItemId; }
     public int getAttempts() { return attempts; }
     public int getMaxAttempts() { return maxAttempts; }
     public Instant getLastAttemptAt() { return lastAttemptAt; }
@@ -22,6 +22,7 @@ public class PlanItemMapper {
             entity.getResourceId(),
             entity.getPayload(),
             applyOrderFromInt(entity.getApplyOrder()),
+            entity.getParentItemId(),
             entity.getAttempts(),
             entity.getMaxAttempts(),
             entity.getLastAttemptAt(),
@@ -44,6 +45,7 @@ public class PlanItemMapper {
             domain.getResourceId(),
             domain.getPayload(),
             domain.getApplyOrder().getOrder(),
+            domain.getParentItemId(),
             domain.getAttempts(),
             domain.getMaxAttempts(),
             domain.getLastAttemptAt(),
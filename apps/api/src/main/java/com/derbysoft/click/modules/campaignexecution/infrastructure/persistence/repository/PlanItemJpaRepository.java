@@ -5,10 +5,12 @@ import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface PlanItemJpaRepository extends JpaRepository<PlanItemEntity, UUID> {
+public interface PlanItemJpaRepository extends JpaRepository<PlanItemEntity, UUID>,
+        PlanItemLinkRepository {
 
     List<PlanItemEntity> findByRevisionId(UUID revisionId);
 
@@ -18,4 +20,32 @@ public interface PlanItemJpaRepository extends JpaRepository<PlanItemEntity, UUI
     List<PlanItemEntity> findQueuedItems(@Param("now") Instant now);
 
     List<PlanItemEntity> findByRevisionIdAndStatusIn(UUID revisionId, List<String> statuses);
+
+    @Modifying
+    @Query("UPDATE PlanItemEntity i SET i.status = 'QUEUED', i.updatedAt = :now " +
+           "WHERE i.revisionId = :revisionId AND i.status = 'PUBLISHED'")
+    int markPublishedAsQueued(@Param("revisionId") UUID revisionId, @Param("now") Instant now);
+
+    @Query(value = "SELECT COALESCE(SUM(draft_count), 0) AS draft, " +
+                   "COALESCE(SUM(published_count), 0) AS published, " +
+                   "COALESCE(SUM(queued_count), 0) AS queued, " +
+                   "COALESCE(SUM(in_progress_count), 0) AS \"inProgress\", " +
+                   "COALESCE(SUM(succeeded_count), 0) AS succeeded, " +
+                   "COALESCE(SUM(failed_count), 0) AS failed, " +
+                   "COALESCE(SUM(blocked_count), 0) AS blocked, " +
+                   "COALESCE(SUM(cancelled_count), 0) AS cancelled " +
+                   "FROM plan_revision_progress WHERE revision_id = :revisionId",
+           nativeQuery = true)
+    ProgressCounts sumProgress(@Param("revisionId") UUID revisionId);
+
+    interface ProgressCounts {
+        long getDraft();
+        long getPublished();
+        long getQueued();
+        long getInProgress();
+        long getSucceeded();
+        long getFailed();
+        long getBlocked();
+        long getCancelled();
+    }
 }
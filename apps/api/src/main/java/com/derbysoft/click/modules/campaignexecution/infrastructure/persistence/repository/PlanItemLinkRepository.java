@@ -0,0 +1,18 @@
+package com.derbysoft.click.modules.campaignexecution.infrastructure.persistence.repository;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Spring Data fragment that pins inferred parents onto a revision's items in one statement,
+ * instead of one UPDATE per item while a revision is being applied.
+ */
+public interface PlanItemLinkRepository {
+
+    /**
+     * Sets each item's {@code parent_item_id} where it is still unset.
+     *
+     * @return number of items linked
+     */
+    int linkParents(Map<UUID, UUID> parentByItemId);
+}
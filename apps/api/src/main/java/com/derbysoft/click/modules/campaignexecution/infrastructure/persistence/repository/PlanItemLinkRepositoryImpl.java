@@ -0,0 +1,40 @@
+package com.derbysoft.click.modules.campaignexecution.infrastructure.persistence.repository;
+
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class PlanItemLinkRepositoryImpl implements PlanItemLinkRepository {
+
+    static final String LINK_SQL = """
+        UPDATE plan_items p
+        SET parent_item_id = v.parent_id
+        FROM unnest(?::uuid[], ?::uuid[]) AS v(id, parent_id)
+        WHERE p.id = v.id AND p.parent_item_id IS NULL
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PlanItemLinkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int linkParents(Map<UUID, UUID> parentByItemId) {
+        if (parentByItemId.isEmpty()) {
+            return 0;
+        }
+        UUID[] ids = new UUID[parentByItemId.size()];
+        UUID[] parents = new UUID[parentByItemId.size()];
+        int i = 0;
+        for (Map.Entry<UUID, UUID> link : parentByItemId.entrySet()) {
+            ids[i] = link.getKey();
+            parents[i] = link.getValue();
+            i++;
+        }
+        return jdbcTemplate.update(LINK_SQL, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids));
+            ps.setArray(2, ps.getConnection().createArrayOf("uuid", parents));
+        });
+    }
+}
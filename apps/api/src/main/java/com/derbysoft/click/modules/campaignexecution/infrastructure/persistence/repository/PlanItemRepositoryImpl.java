@@ -3,9 +3,12 @@ package com.derbysoft.click.modules.campaignexecution.infrastructure.persistence
 import com.derbysoft.click.modules.campaignexecution.domain.PlanItemRepository;
 import com.derbysoft.click.modules.campaignexecution.domain.entities.PlanItem;
 import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.PlanItemStatus;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.RevisionProgress;
 import com.derbysoft.click.modules.campaignexecution.infrastructure.persistence.mapper.PlanItemMapper;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -24,6 +27,11 @@ public class PlanItemRepositoryImpl implements PlanItemRepository {
         return jpaRepository.findById(id).map(mapper::toDomain);
     }
 
+    @Override
+    public List<PlanItem> findAllById(Collection<UUID> ids) {
+        return jpaRepository.findAllById(ids).stream().map(mapper::toDomain).toList();
+    }
+
     @Override
     public List<PlanItem> findByRevisionId(UUID revisionId) {
         return jpaRepository.findByRevisionId(revisionId).stream().map(mapper::toDomain).toList();
@@ -42,6 +50,27 @@ public class PlanItemRepositoryImpl implements PlanItemRepository {
             .stream().map(mapper::toDomain).toList();
     }
 
+    @Override
+    public RevisionProgress findProgress(UUID revisionId) {
+        var counts = jpaRepository.sumProgress(revisionId);
+        if (counts == null) return RevisionProgress.empty();
+        return new RevisionProgress(
+            (int) counts.getDraft(), (int) counts.getPublished(),
+            (int) counts.getQueued(), (int) counts.getInProgress(),
+            (int) counts.getSucceeded(), (int) counts.getFailed(),
+            (int) counts.getBlocked(), (int) counts.getCancelled());
+    }
+
+    @Override
+    public int enqueuePublished(UUID revisionId, Instant now) {
+        return jpaRepository.markPublishedAsQueued(revisionId, now);
+    }
+
+    @Override
+    public void linkParents(Map<UUID, UUID> parentByItemId) {
+        jpaRepository.linkParents(parentByItemId);
+    }
+
     @Override
     public PlanItem save(PlanItem item) {
         var entity = mapper.toEntity(item);
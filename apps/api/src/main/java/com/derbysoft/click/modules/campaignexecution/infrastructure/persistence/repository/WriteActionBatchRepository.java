@@ -0,0 +1,18 @@
+package com.derbysoft.click.modules.campaignexecution.infrastructure.persistence.repository;
+
+import com.derbysoft.click.modules.campaignexecution.infrastructure.persistence.entity.WriteActionEntity;
+import java.util.List;
+
+/**
+ * Spring Data fragment for bulk inserts into {@code write_actions}, so applying a large
+ * revision goes out as JDBC batches instead of one flushed persist per action.
+ */
+public interface WriteActionBatchRepository {
+
+    /**
+     * Inserts new actions; {@code created_at}/{@code updated_at} take the column defaults.
+     *
+     * @return number of actions written
+     */
+    int batchInsert(List<WriteActionEntity> actions);
+}
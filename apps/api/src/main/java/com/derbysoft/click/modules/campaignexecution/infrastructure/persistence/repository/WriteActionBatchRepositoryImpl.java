@@ -0,0 +1,46 @@
+package com.derbysoft.click.modules.campaignexecution.infrastructure.persistence.repository;
+
+import com.derbysoft.click.modules.campaignexecution.infrastructure.persistence.entity.WriteActionEntity;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class WriteActionBatchRepositoryImpl implements WriteActionBatchRepository {
+
+    static final int BATCH_SIZE = 500;
+
+    static final String INSERT_SQL = """
+        INSERT INTO write_actions
+            (id, revision_id, item_id, tenant_id, action_type, idempotency_key, status,
+             attempts, max_attempts, target_customer_id, triggered_by, trigger_type, trigger_reason)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public WriteActionBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int batchInsert(List<WriteActionEntity> actions) {
+        if (actions.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, actions, BATCH_SIZE, (ps, action) -> {
+            ps.setObject(1, action.getId());
+            ps.setObject(2, action.getRevisionId());
+            ps.setObject(3, action.getItemId());
+            ps.setObject(4, action.getTenantId());
+            ps.setString(5, action.getActionType());
+            ps.setString(6, action.getIdempotencyKey());
+            ps.setString(7, action.getStatus());
+            ps.setInt(8, action.getAttempts());
+            ps.setInt(9, action.getMaxAttempts());
+            ps.setString(10, action.getTargetCustomerId());
+            ps.setString(11, action.getTriggeredBy());
+            ps.setString(12, action.getTriggerType());
+            ps.setString(13, action.getTriggerReason());
+        });
+        return actions.size();
+    }
+}
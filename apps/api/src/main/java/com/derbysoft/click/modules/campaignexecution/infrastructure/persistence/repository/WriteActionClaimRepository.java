@@ -0,0 +1,22 @@
+package com.derbysoft.click.modules.campaignexecution.infrastructure.persistence.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data fragment for claiming {@code write_actions}. The claim is a single
+ * {@code UPDATE ... RETURNING} over a per-tenant, {@code SKIP LOCKED} selection, so only ids
+ * cross the wire and one large revision cannot take a whole batch.
+ */
+public interface WriteActionClaimRepository {
+
+    /**
+     * Moves up to {@code limit} ready PENDING actions to RUNNING, stamping the attempt, the
+     * lease and the claiming worker.
+     *
+     * @return ids of the claimed actions, interleaved across tenants
+     */
+    List<UUID> claimNext(int limit, int perTenantLimit, String workerId,
+                         Instant now, Instant leaseExpiresAt);
+}
@@ -0,0 +1,93 @@
+package com.derbysoft.click.modules.campaignexecution.infrastructure.persistence.repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class WriteActionClaimRepositoryImpl implements WriteActionClaimRepository {
+
+    // Each tenant with due work contributes at most :perTenantLimit locked rows, lowest apply
+    // order first; an action is ready once its item has no parent or the parent SUCCEEDED.
+    // The batch then takes every tenant's first row before any tenant's second.
+    static final String CLAIM_SQL = """
+        WITH tenants AS (
+            SELECT DISTINCT tenant_id
+            FROM write_actions
+            WHERE status = 'PENDING'
+        ),
+        locked AS (
+            SELECT c.*
+            FROM tenants t
+            CROSS JOIN LATERAL (
+                SELECT a.id, a.tenant_id, i.apply_order,
+                       COALESCE(a.next_attempt_after, a.created_at) AS due_at
+                FROM write_actions a
+                JOIN plan_items i ON i.id = a.item_id
+                LEFT JOIN plan_items p ON p.id = i.parent_item_id
+                WHERE a.tenant_id = t.tenant_id
+                  AND a.status = 'PENDING'
+                  AND COALESCE(a.next_attempt_after, a.created_at) <= ?
+                  AND (i.parent_item_id IS NULL OR p.status = 'SUCCEEDED')
+                ORDER BY i.apply_order, due_at
+                LIMIT ?
+                FOR UPDATE OF a SKIP LOCKED
+            ) c
+        ),
+        picked AS (
+            SELECT id, tenant_rank, apply_order, due_at
+            FROM (
+                SELECT id, apply_order, due_at,
+                       ROW_NUMBER() OVER (PARTITION BY tenant_id ORDER BY apply_order, due_at)
+                           AS tenant_rank
+                FROM locked
+            ) ranked
+            ORDER BY tenant_rank, apply_order, due_at
+            LIMIT ?
+        )
+        UPDATE write_actions w
+        SET status = 'RUNNING',
+            attempts = w.attempts + 1,
+            last_attempt_at = ?,
+            lease_expires_at = ?,
+            leased_by = ?,
+            updated_at = ?
+        FROM picked
+        WHERE w.id = picked.id
+        RETURNING w.id, picked.tenant_rank, picked.apply_order, picked.due_at
+        """;
+
+    private static final Comparator<Claimed> CLAIM_ORDER = Comparator
+        .comparingLong(Claimed::tenantRank)
+        .thenComparingInt(Claimed::applyOrder)
+        .thenComparing(Claimed::dueAt);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public WriteActionClaimRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<UUID> claimNext(int limit, int perTenantLimit, String workerId,
+                                Instant now, Instant leaseExpiresAt) {
+        if (limit <= 0 || perTenantLimit <= 0) {
+            return List.of();
+        }
+        OffsetDateTime nowUtc = OffsetDateTime.ofInstant(now, ZoneOffset.UTC);
+        OffsetDateTime leaseUtc = OffsetDateTime.ofInstant(leaseExpiresAt, ZoneOffset.UTC);
+        // RETURNING carries no order, so restore the picked order from the columns it hands back
+        return jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new Claimed(rs.getObject(1, UUID.class), rs.getLong(2),
+                    rs.getInt(3), rs.getObject(4, OffsetDateTime.class)),
+                nowUtc, perTenantLimit, limit, nowUtc, leaseUtc, workerId, nowUtc).stream()
+            .sorted(CLAIM_ORDER)
+            .map(Claimed::id)
+            .toList();
+    }
+
+    private record Claimed(UUID id, long tenantRank, int applyOrder, OffsetDateTime dueAt) {}
+}
@@ -0,0 +1,16 @@
+package com.derbysoft.click.modules.campaignexecution.infrastructure.persistence.repository;
+
+import com.derbysoft.click.modules.campaignexecution.api.contracts.WriteActionInfo;
+import com.derbysoft.click.sharedkernel.api.HistoryQuery;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data fragment for paging through a revision's write actions newest first, reading
+ * only the columns the history view shows into {@link WriteActionInfo}.
+ */
+public interface WriteActionHistoryRepository {
+
+    /** Returns up to {@code query.limit() + 1} rows, so the caller can tell whether more follow. */
+    List<WriteActionInfo> findHistory(UUID revisionId, HistoryQuery query);
+}
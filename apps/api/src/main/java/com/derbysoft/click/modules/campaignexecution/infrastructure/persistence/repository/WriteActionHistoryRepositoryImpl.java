@@ -0,0 +1,86 @@
+package com.derbysoft.click.modules.campaignexecution.infrastructure.persistence.repository;
+
+import com.derbysoft.click.modules.campaignexecution.api.contracts.WriteActionInfo;
+import com.derbysoft.click.sharedkernel.api.HistoryQuery;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+public class WriteActionHistoryRepositoryImpl implements WriteActionHistoryRepository {
+
+    /** Columns read into {@link WriteActionInfo}; shared with the tenant queue view. */
+    static final String INFO_COLUMNS = """
+        id, revision_id, item_id, action_type, idempotency_key, status, attempts, trigger_type,
+        failure_class, failure_reason, next_attempt_after, created_at, updated_at
+        """;
+
+    static final RowMapper<WriteActionInfo> INFO_MAPPER = (rs, rowNum) -> new WriteActionInfo(
+        rs.getObject("id", UUID.class),
+        rs.getObject("revision_id", UUID.class),
+        rs.getObject("item_id", UUID.class),
+        rs.getString("action_type"),
+        rs.getString("idempotency_key"),
+        rs.getString("status"),
+        rs.getInt("attempts"),
+        rs.getString("trigger_type"),
+        rs.getString("failure_class"),
+        rs.getString("failure_reason"),
+        toInstant(rs.getObject("next_attempt_after", OffsetDateTime.class)),
+        toInstant(rs.getObject("created_at", OffsetDateTime.class)),
+        toInstant(rs.getObject("updated_at", OffsetDateTime.class)));
+
+    static final String SELECT_SQL = "SELECT " + INFO_COLUMNS + """
+        FROM write_actions
+        WHERE revision_id = ?
+        """;
+
+    // Walks idx_write_actions_revision_created from the cursor, or its status-keyed sibling
+    // when filtered, as in SyncJobHistoryRepositoryImpl.
+    static final String ORDER_SQL = """
+        ORDER BY created_at DESC, id DESC
+        LIMIT ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public WriteActionHistoryRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<WriteActionInfo> findHistory(UUID revisionId, HistoryQuery query) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> args = new ArrayList<>();
+        args.add(revisionId);
+        if (query.status() != null) {
+            sql.append("  AND status = ?\n");
+            args.add(query.status());
+        }
+        if (query.createdFrom() != null) {
+            sql.append("  AND created_at >= ?\n");
+            args.add(OffsetDateTime.ofInstant(query.createdFrom(), ZoneOffset.UTC));
+        }
+        if (query.createdBefore() != null) {
+            sql.append("  AND created_at < ?\n");
+            args.add(OffsetDateTime.ofInstant(query.createdBefore(), ZoneOffset.UTC));
+        }
+        if (query.after() != null) {
+            sql.append("  AND (created_at, id) < (?, ?)\n");
+            args.add(OffsetDateTime.ofInstant(query.after().at(), ZoneOffset.UTC));
+            args.add(query.after().id());
+        }
+        sql.append(ORDER_SQL);
+        args.add(query.limit() + 1);
+
+        return jdbcTemplate.query(sql.toString(), INFO_MAPPER, args.toArray());
+    }
+
+    private static Instant toInstant(OffsetDateTime value) {
+        return value == null ? null : value.toInstant();
+    }
+}
@@ -9,20 +9,35 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface WriteActionJpaRepository extends JpaRepository<WriteActionEntity, UUID> {
+public interface WriteActionJpaRepository extends JpaRepository<WriteActionEntity, UUID>,
+        WriteActionBatchRepository, WriteActionClaimRepository, WriteActionHistoryRepository,
+        WriteActionQueueRepository {
 
     Optional<WriteActionEntity> findByIdempotencyKey(String idempotencyKey);
 
-    @Query("SELECT a FROM WriteActionEntity a WHERE a.status = 'PENDING' " +
-           "AND (a.nextAttemptAfter IS NULL OR a.nextAttemptAfter <= :now) " +
-           "ORDER BY a.createdAt ASC")
-    List<WriteActionEntity> findPendingActions(@Param("now") Instant now);
+    @Query(value = """
+        SELECT * FROM write_actions
+        WHERE status = 'RUNNING' AND lease_expires_at < :now
+        ORDER BY lease_expires_at
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<WriteActionEntity> findRunningActionsWithExpiredLease(@Param("now") Instant now,
+                                                               @Param("limit") int limit);
 
-    @Query("SELECT a FROM WriteActionEntity a WHERE a.status = 'RUNNING' AND a.leaseExpiresAt < :now")
-    List<WriteActionEntity> findRunningActionsWithExpiredLease(@Param("now") Instant now);
+    @Query(value = """
+        SELECT a.* FROM write_actions a
+        JOIN plan_items i ON i.id = a.item_id
+        JOIN plan_items p ON p.id = i.parent_item_id
+        WHERE a.status = 'PENDING'
+          AND p.status IN ('FAILED', 'BLOCKED', 'CANCELLED')
+        LIMIT :limit
+        FOR UPDATE OF a SKIP LOCKED
+        """, nativeQuery = true)
+    List<WriteActionEntity> findPendingWithDeadParent(@Param("limit") int limit);
 
     List<WriteActionEntity> findByRevisionId(UUID revisionId);
 
-    long countByTenantIdAndTriggerTypeInAndCreatedAtAfter(
-        UUID tenantId, List<String> triggerTypes, Instant createdAt);
+    @Query("SELECT a.status, COUNT(a) FROM WriteActionEntity a " +
+           "WHERE a.status IN ('PENDING', 'RUNNING') GROUP BY a.status")
+    List<Object[]> countActiveByStatus();
 }
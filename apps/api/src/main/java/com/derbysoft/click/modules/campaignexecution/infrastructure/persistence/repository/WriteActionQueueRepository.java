@@ -0,0 +1,27 @@
+package com.derbysoft.click.modules.campaignexecution.infrastructure.persistence.repository;
+
+import com.derbysoft.click.modules.campaignexecution.api.contracts.WriteActionInfo;
+import com.derbysoft.click.sharedkernel.api.KeysetCursor;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Spring Data fragment for one tenant's view of the write action queue, read through
+ * tenant-leading indexes so a dashboard poll never scans other tenants' work.
+ */
+public interface WriteActionQueueRepository {
+
+    /** PENDING and RUNNING counts, and how many PENDING actions are due at {@code now}. */
+    record QueueCounts(Map<String, Long> byStatus, long due) {}
+
+    QueueCounts countQueue(UUID tenantId, Instant now);
+
+    /**
+     * The tenant's PENDING actions in the order they fall due, after {@code after} (from the
+     * start when {@code null}). Returns up to {@code limit + 1} rows, so the caller can tell
+     * whether more follow.
+     */
+    List<WriteActionInfo> findQueued(UUID tenantId, KeysetCursor after, int limit);
+}
@@ -0,0 +1,73 @@
+package com.derbysoft.click.modules.campaignexecution.infrastructure.persistence.repository;
+
+import com.derbysoft.click.modules.campaignexecution.api.contracts.WriteActionInfo;
+import com.derbysoft.click.sharedkernel.api.KeysetCursor;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class WriteActionQueueRepositoryImpl implements WriteActionQueueRepository {
+
+    // A range scan of idx_write_actions_tenant_status_next_attempt; every column it reads is
+    // in the index.
+    static final String COUNT_SQL = """
+        SELECT status,
+               COUNT(*) AS total,
+               COUNT(*) FILTER (WHERE status = 'PENDING'
+                                  AND (next_attempt_after IS NULL OR next_attempt_after <= ?)) AS due
+        FROM write_actions
+        WHERE tenant_id = ? AND status IN ('PENDING', 'RUNNING')
+        GROUP BY status
+        """;
+
+    // Due order is the claim's, so this walks idx_write_actions_pending_tenant_due
+    static final String QUEUED_SQL = "SELECT " + WriteActionHistoryRepositoryImpl.INFO_COLUMNS + """
+        FROM write_actions
+        WHERE tenant_id = ? AND status = 'PENDING'
+        ORDER BY COALESCE(next_attempt_after, created_at), id
+        LIMIT ?
+        """;
+
+    static final String QUEUED_AFTER_SQL = "SELECT " + WriteActionHistoryRepositoryImpl.INFO_COLUMNS + """
+        FROM write_actions
+        WHERE tenant_id = ? AND status = 'PENDING'
+          AND (COALESCE(next_attempt_after, created_at), id) > (?, ?)
+        ORDER BY COALESCE(next_attempt_after, created_at), id
+        LIMIT ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public WriteActionQueueRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public QueueCounts countQueue(UUID tenantId, Instant now) {
+        Map<String, Long> byStatus = new HashMap<>();
+        AtomicLong due = new AtomicLong();
+        jdbcTemplate.query(COUNT_SQL,
+            rs -> {
+                byStatus.put(rs.getString("status"), rs.getLong("total"));
+                due.addAndGet(rs.getLong("due"));
+            },
+            OffsetDateTime.ofInstant(now, ZoneOffset.UTC), tenantId);
+        return new QueueCounts(byStatus, due.get());
+    }
+
+    @Override
+    public List<WriteActionInfo> findQueued(UUID tenantId, KeysetCursor after, int limit) {
+        if (after == null) {
+            return jdbcTemplate.query(QUEUED_SQL, WriteActionHistoryRepositoryImpl.INFO_MAPPER,
+                tenantId, limit + 1);
+        }
+        return jdbcTemplate.query(QUEUED_AFTER_SQL, WriteActionHistoryRepositoryImpl.INFO_MAPPER,
+            tenantId, OffsetDateTime.ofInstant(after.at(), ZoneOffset.UTC), after.id(), limit + 1);
+    }
+}
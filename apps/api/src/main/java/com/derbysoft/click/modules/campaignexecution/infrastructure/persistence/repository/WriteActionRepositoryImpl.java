@@ -3,13 +3,22 @@ package com.derbysoft.click.modules.campaignexecution.infrastructure.persistence
 import com.derbysoft.click.modules.campaignexecution.api.contracts.ExecutionIncidentSummary;
 import com.derbysoft.click.modules.campaignexecution.api.contracts.PlanItemInfo;
 import com.derbysoft.click.modules.campaignexecution.api.contracts.PlanRevisionInfo;
+import com.derbysoft.click.modules.campaignexecution.api.contracts.WriteActionInfo;
+import com.derbysoft.click.modules.campaignexecution.api.contracts.WriteActionQueueSummary;
 import com.derbysoft.click.modules.campaignexecution.api.ports.CampaignManagementQueryPort;
 import com.derbysoft.click.modules.campaignexecution.domain.WriteActionRepository;
 import com.derbysoft.click.modules.campaignexecution.domain.aggregates.WriteAction;
-import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.TriggerType;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.WriteActionStatus;
 import com.derbysoft.click.modules.campaignexecution.infrastructure.persistence.mapper.WriteActionMapper;
+import com.derbysoft.click.sharedkernel.api.CursorPage;
+import com.derbysoft.click.sharedkernel.api.HistoryQuery;
+import com.derbysoft.click.sharedkernel.api.KeysetCursor;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -53,14 +62,26 @@ public class WriteActionRepositoryImpl implements WriteActionRepository, Campaig
     }
 
     @Override
-    public List<WriteAction> findPendingActions(Instant now) {
-        return writeActionJpaRepository.findPendingActions(now)
+    public List<WriteAction> findAllById(Collection<UUID> ids) {
+        return writeActionJpaRepository.findAllById(ids)
             .stream().map(writeActionMapper::toDomain).toList();
     }
 
     @Override
-    public List<WriteAction> findRunningActionsWithExpiredLease(Instant now) {
-        return writeActionJpaRepository.findRunningActionsWithExpiredLease(now)
+    public List<UUID> claimNext(int limit, int perTenantLimit, String workerId,
+                                Instant now, Instant leaseExpiresAt) {
+        return writeActionJpaRepository.claimNext(limit, perTenantLimit, workerId, now, leaseExpiresAt);
+    }
+
+    @Override
+    public List<WriteAction> findRunningActionsWithExpiredLease(Instant now, int limit) {
+        return writeActionJpaRepository.findRunningActionsWithExpiredLease(now, limit)
+            .stream().map(writeActionMapper::toDomain).toList();
+    }
+
+    @Override
+    public List<WriteAction> findPendingWithDeadParent(int limit) {
+        return writeActionJpaRepository.findPendingWithDeadParent(limit)
             .stream().map(writeActionMapper::toDomain).toList();
     }
 
@@ -71,11 +92,12 @@ public class WriteActionRepositoryImpl implements WriteActionRepository, Campaig
     }
 
     @Override
-    public long countManualTriggersSince(UUID tenantId, List<TriggerType> triggerTypes,
-                                          Instant since) {
-        List<String> triggerTypeStrings = triggerTypes.stream().map(TriggerType::name).toList();
-        return writeActionJpaRepository.countByTenantIdAndTriggerTypeInAndCreatedAtAfter(
-            tenantId, triggerTypeStrings, since);
+    public Map<WriteActionStatus, Long> countActiveByStatus() {
+        Map<WriteActionStatus, Long> counts = new EnumMap<>(WriteActionStatus.class);
+        for (Object[] row : writeActionJpaRepository.countActiveByStatus()) {
+            counts.put(WriteActionStatus.valueOf((String) row[0]), (Long) row[1]);
+        }
+        return counts;
     }
 
     @Override
@@ -85,6 +107,11 @@ public class WriteActionRepositoryImpl implements WriteActionRepository, Campaig
         return writeActionMapper.toDomain(saved);
     }
 
+    @Override
+    public void insertAll(List<WriteAction> actions) {
+        writeActionJpaRepository.batchInsert(actions.stream().map(writeActionMapper::toEntity).toList());
+    }
+
     // CampaignManagementQueryPort
 
     @Override
@@ -106,6 +133,28 @@ public class WriteActionRepositoryImpl implements WriteActionRepository, Campaig
             ));
     }
 
+    @Override
+    public CursorPage<WriteActionInfo> listActionHistory(UUID revisionId, HistoryQuery query) {
+        return CursorPage.of(writeActionJpaRepository.findHistory(revisionId, query), query.limit(),
+            info -> new KeysetCursor(info.createdAt(), info.id()));
+    }
+
+    @Override
+    public WriteActionQueueSummary summarizeQueue(UUID tenantId, KeysetCursor after, int limit) {
+        WriteActionQueueRepository.QueueCounts counts =
+            writeActionJpaRepository.countQueue(tenantId, Instant.now());
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (WriteActionStatus status : List.of(WriteActionStatus.PENDING, WriteActionStatus.RUNNING)) {
+            byStatus.put(status.name(), counts.byStatus().getOrDefault(status.name(), 0L));
+        }
+        CursorPage<WriteActionInfo> next = CursorPage.of(
+            writeActionJpaRepository.findQueued(tenantId, after, limit), limit,
+            info -> new KeysetCursor(
+                info.nextAttemptAfter() != null ? info.nextAttemptAfter() : info.createdAt(),
+                info.id()));
+        return new WriteActionQueueSummary(byStatus, counts.due(), next);
+    }
+
     @Override
     public List<PlanItemInfo> listSucceededItems(UUID revisionId) {
         return planItemJpaRepository.findByRevisionIdAndStatusIn(revisionId, List.of("SUCCEEDED"))
@@ -100,7 +100,8 @@ public class CampaignPlanController {
                 d.resourceType(),
                 d.resourceId(),
                 d.payload(),
-                ApplyOrder.valueOf(d.applyOrder())
+                ApplyOrder.valueOf(d.applyOrder()),
+                d.parentIndex()
             ))
             .toList();
         PlanRevision revision = campaignPlanService.saveDraftRevision(planId, tenantId, drafts, by);
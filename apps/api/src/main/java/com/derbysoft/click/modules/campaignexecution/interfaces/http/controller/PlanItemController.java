@@ -172,7 +172,7 @@ public class PlanItemController {
             action.getAttempts(), action.getTriggerType().name(),
             action.getFailureClass() != null ? action.getFailureClass().name() : null,
             action.getFailureReason(),
-            action.getCreatedAt(), action.getUpdatedAt()
+            action.getNextAttemptAfter(), action.getCreatedAt(), action.getUpdatedAt()
         );
     }
 
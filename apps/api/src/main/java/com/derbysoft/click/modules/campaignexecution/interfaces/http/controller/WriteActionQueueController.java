@@ -1,13 +1,20 @@
 package com.derbysoft.click.modules.campaignexecution.interfaces.http.controller;
 
-import com.derbysoft.click.modules.campaignexecution.domain.WriteActionRepository;
-import com.derbysoft.click.modules.campaignexecution.domain.aggregates.WriteAction;
+import com.derbysoft.click.modules.campaignexecution.api.contracts.WriteActionInfo;
+import com.derbysoft.click.modules.campaignexecution.api.contracts.WriteActionQueueSummary;
+import com.derbysoft.click.modules.campaignexecution.api.ports.CampaignManagementQueryPort;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.WriteActionStatus;
+import com.derbysoft.click.modules.campaignexecution.interfaces.http.dto.WriteActionQueueResponse;
 import com.derbysoft.click.modules.campaignexecution.interfaces.http.dto.WriteActionResponse;
 import com.derbysoft.click.sharedkernel.api.ApiResponse;
+import com.derbysoft.click.sharedkernel.api.CursorPage;
+import com.derbysoft.click.sharedkernel.api.HistoryQuery;
+import com.derbysoft.click.sharedkernel.api.KeysetCursor;
+import com.derbysoft.click.sharedkernel.domain.errors.DomainError;
 import jakarta.servlet.http.HttpServletRequest;
-import java.time.Instant;
-import java.util.List;
+import java.time.LocalDate;
 import java.util.UUID;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -18,43 +25,59 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/v1/execution/queue")
 public class WriteActionQueueController {
 
-    private final WriteActionRepository writeActionRepository;
+    private final CampaignManagementQueryPort queryPort;
 
-    public WriteActionQueueController(WriteActionRepository writeActionRepository) {
-        this.writeActionRepository = writeActionRepository;
+    public WriteActionQueueController(CampaignManagementQueryPort queryPort) {
+        this.queryPort = queryPort;
     }
 
     @GetMapping
-    public ApiResponse<List<WriteActionResponse>> listQueueByTenant(
+    public ApiResponse<WriteActionQueueResponse> listQueueByTenant(
         @RequestParam UUID tenantId,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "50") int limit,
         HttpServletRequest request
     ) {
-        List<WriteActionResponse> actions = writeActionRepository.findPendingActions(Instant.now())
-            .stream()
-            .filter(a -> a.getTenantId().equals(tenantId))
-            .map(this::toResponse)
-            .toList();
-        return ApiResponse.success(actions, requestId(request));
+        WriteActionQueueSummary summary = queryPort.summarizeQueue(
+            tenantId, KeysetCursor.decode(cursor), Math.clamp(limit, 1, HistoryQuery.MAX_LIMIT));
+        CursorPage<WriteActionResponse> next = summary.next().map(WriteActionQueueController::toResponse);
+        return ApiResponse.success(
+            new WriteActionQueueResponse(summary.countsByStatus(), summary.due(),
+                next.items(), next.nextCursor()),
+            requestId(request));
     }
 
     @GetMapping("/{revisionId}")
-    public ApiResponse<List<WriteActionResponse>> listActionsByRevision(
+    public ApiResponse<CursorPage<WriteActionResponse>> listActionsByRevision(
         @PathVariable UUID revisionId,
+        @RequestParam(required = false) String status,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "50") int limit,
         HttpServletRequest request
     ) {
-        List<WriteActionResponse> actions = writeActionRepository.findByRevisionId(revisionId)
-            .stream().map(this::toResponse).toList();
+        HistoryQuery query = HistoryQuery.of(parseStatus(status), createdFrom, createdTo, cursor, limit);
+        CursorPage<WriteActionResponse> actions = queryPort.listActionHistory(revisionId, query)
+            .map(WriteActionQueueController::toResponse);
         return ApiResponse.success(actions, requestId(request));
     }
 
-    private WriteActionResponse toResponse(WriteAction action) {
+    private static String parseStatus(String status) {
+        if (status == null) return null;
+        try {
+            return WriteActionStatus.valueOf(status.toUpperCase()).name();
+        } catch (IllegalArgumentException e) {
+            throw new DomainError.ValidationError("CE_400", "Unknown write action status: " + status);
+        }
+    }
+
+    private static WriteActionResponse toResponse(WriteActionInfo info) {
         return new WriteActionResponse(
-            action.getId(), action.getRevisionId(), action.getItemId(),
-            action.getActionType().name(), action.getIdempotencyKey(), action.getStatus().name(),
-            action.getAttempts(), action.getTriggerType().name(),
-            action.getFailureClass() != null ? action.getFailureClass().name() : null,
-            action.getFailureReason(),
-            action.getCreatedAt(), action.getUpdatedAt()
+            info.id(), info.revisionId(), info.itemId(), info.actionType(),
+            info.idempotencyKey(), info.status(), info.attempts(), info.triggerType(),
+            info.failureClass(), info.failureReason(),
+            info.nextAttemptAfter(), info.createdAt(), info.updatedAt()
         );
     }
 
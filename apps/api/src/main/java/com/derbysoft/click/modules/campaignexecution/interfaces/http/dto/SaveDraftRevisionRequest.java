@@ -11,6 +11,7 @@ public record SaveDraftRevisionRequest(
         String resourceType,
         String resourceId,
         String payload,
-        String applyOrder
+        String applyOrder,
+        Integer parentIndex
     ) {}
 }
@@ -0,0 +1,7 @@
+package com.derbysoft.click.modules.campaignexecution.interfaces.http.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public record WriteActionQueueResponse(Map<String, Long> countsByStatus, long due,
+                                        List<WriteActionResponse> next, String nextCursor) {}
@@ -6,4 +6,4 @@ import java.util.UUID;
 public record WriteActionResponse(UUID id, UUID revisionId, UUID itemId, String actionType,
                                    String idempotencyKey, String status, int attempts,
                                    String triggerType, String failureClass, String failureReason,
-                                   Instant createdAt, Instant updatedAt) {}
+                                   Instant nextAttemptAfter, Instant createdAt, Instant updatedAt) {}
@@ -0,0 +1,6 @@
+package com.derbysoft.click.modules.googleadsmanagement.api.contracts;
+
+import java.util.UUID;
+
+/** An active binding on an active connection, with the account's time zone ({@code null} if not yet discovered). */
+public record AccountScheduleInfo(UUID bindingId, UUID tenantId, String customerId, String timeZone) {}
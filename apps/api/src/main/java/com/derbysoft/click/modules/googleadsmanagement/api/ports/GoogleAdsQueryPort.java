@@ -1,6 +1,7 @@
 package com.derbysoft.click.modules.googleadsmanagement.api.ports;
 
 import com.derbysoft.click.modules.googleadsmanagement.api.contracts.AccountBindingInfo;
+import com.derbysoft.click.modules.googleadsmanagement.api.contracts.AccountScheduleInfo;
 import com.derbysoft.click.modules.googleadsmanagement.api.contracts.GoogleAdsConnectionInfo;
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +11,7 @@ public interface GoogleAdsQueryPort {
     Optional<GoogleAdsConnectionInfo> findConnectionByTenantId(UUID tenantId);
     List<GoogleAdsConnectionInfo> findAllActiveConnections();
     List<AccountBindingInfo> listActiveBindings(UUID tenantId);
+    List<AccountScheduleInfo> listActiveAccountSchedules();
+    /** IANA time zone discovered for the tenant's account, if any. */
+    Optional<String> findAccountTimeZone(UUID tenantId, String customerId);
 }
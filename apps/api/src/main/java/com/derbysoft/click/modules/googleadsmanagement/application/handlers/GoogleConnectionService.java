@@ -44,7 +44,8 @@ public class GoogleConnectionService {
         GoogleConnection connection = findById(connectionId);
         connection.rotateCredential(newCredentialPath);
         GoogleConnection saved = repository.save(connection);
-        publishAndClear(saved);
+        // Publish from the mutated aggregate: the saved copy is reconstituted without events
+        publishAndClear(connection);
         return saved;
     }
 
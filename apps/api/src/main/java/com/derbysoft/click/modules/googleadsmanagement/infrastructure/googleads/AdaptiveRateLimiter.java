@@ -0,0 +1,80 @@
+package com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket whose refill rate follows AIMD: every successful call adds
+ * {@code increase / rate} permits per second (about {@code increase} per second at a steady
+ * rate), and quota exhaustion multiplies the rate by {@code decreaseFactor} and drains the
+ * burst. Decreases are spaced by {@code cooldownNanos} so one burst of rejections from calls
+ * already in flight counts once.
+ */
+final class AdaptiveRateLimiter {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final double minRate;
+    private final double maxRate;
+    private final double increase;
+    private final double decreaseFactor;
+    private final long cooldownNanos;
+    private final LongSupplier nanoClock;
+
+    private double rate;
+    private double tokens;
+    private long refilledAt;
+    private long decreasedAt;
+
+    AdaptiveRateLimiter(double initialRate, double minRate, double maxRate, double increase,
+                        double decreaseFactor, long cooldownNanos, LongSupplier nanoClock) {
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.increase = increase;
+        this.decreaseFactor = decreaseFactor;
+        this.cooldownNanos = cooldownNanos;
+        this.nanoClock = nanoClock;
+        this.rate = Math.clamp(initialRate, minRate, maxRate);
+        this.tokens = rate;
+        this.refilledAt = nanoClock.getAsLong();
+        this.decreasedAt = refilledAt - cooldownNanos;
+    }
+
+    /**
+     * Takes one permit and returns how long the caller must wait before using it, or
+     * {@code -1} without taking anything if that wait would exceed {@code maxWaitNanos}.
+     */
+    synchronized long reserve(long maxWaitNanos) {
+        refill(nanoClock.getAsLong());
+        long waitNanos = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / rate * NANOS_PER_SECOND);
+        if (waitNanos > maxWaitNanos) {
+            return -1;
+        }
+        tokens -= 1;
+        return waitNanos;
+    }
+
+    synchronized void onSuccess() {
+        rate = Math.min(maxRate, rate + increase / rate);
+    }
+
+    synchronized void onThrottled() {
+        long now = nanoClock.getAsLong();
+        if (now - decreasedAt < cooldownNanos) {
+            return;
+        }
+        refill(now);
+        decreasedAt = now;
+        rate = Math.max(minRate, rate * decreaseFactor);
+        tokens = Math.min(tokens, 0);
+    }
+
+    synchronized double rate() {
+        return rate;
+    }
+
+    private void refill(long now) {
+        // Burst is capped at one second's worth of permits
+        tokens = Math.min(rate, tokens + (now - refilledAt) / NANOS_PER_SECOND * rate);
+        refilledAt = now;
+    }
+}
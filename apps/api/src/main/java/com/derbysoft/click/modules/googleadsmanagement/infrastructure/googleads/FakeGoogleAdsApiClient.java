@@ -0,0 +1,52 @@
+package com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads;
+
+import com.derbysoft.click.bootstrap.loadtest.FakeGoogleAdsBehaviour;
+import com.derbysoft.click.modules.googleadsmanagement.application.ports.GoogleAdsApiPort;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Load-test stand-in for {@link GoogleAdsApiClient}: discovery returns
+ * {@code accountsPerManager} synthetic customer ids derived from the manager id.
+ */
+@Component
+@Primary
+@Profile("loadtest")
+public class FakeGoogleAdsApiClient implements GoogleAdsApiPort {
+
+    private final FakeGoogleAdsBehaviour behaviour;
+
+    public FakeGoogleAdsApiClient(FakeGoogleAdsBehaviour behaviour) {
+        this.behaviour = behaviour;
+    }
+
+    @Override
+    public List<DiscoveredAccount> listAccessibleAccounts(String managerId, String credentialPath) {
+        behaviour.simulateLatency();
+        switch (behaviour.nextFault()) {
+            case AUTH -> throw new RuntimeException("Google Ads API error: NOT_AUTHORIZED (fake)");
+            case RESOURCE_EXHAUSTED, UNAVAILABLE ->
+                throw new RuntimeException("Google Ads API error: transient failure (fake)");
+            case NONE -> { }
+        }
+        long base = Long.parseLong(managerId.replace("-", "")) % 1_000_000L * 1_000L;
+        List<DiscoveredAccount> accounts = new ArrayList<>(behaviour.getAccountsPerManager());
+        for (int i = 0; i < behaviour.getAccountsPerManager(); i++) {
+            accounts.add(new DiscoveredAccount(String.valueOf(9_000_000_000L + base + i), null, null, null));
+        }
+        return accounts;
+    }
+
+    @Override
+    public boolean validateCredential(String managerId, String credentialPath) {
+        try {
+            listAccessibleAccounts(managerId, credentialPath);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
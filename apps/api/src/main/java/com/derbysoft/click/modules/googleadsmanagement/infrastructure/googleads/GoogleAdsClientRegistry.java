@@ -0,0 +1,201 @@
+package com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads;
+
+import com.derbysoft.click.bootstrap.messaging.Broadcast;
+import com.derbysoft.click.modules.googleadsmanagement.domain.GoogleConnectionRepository;
+import com.derbysoft.click.modules.googleadsmanagement.domain.events.ConnectionCredentialRotated;
+import com.derbysoft.click.sharedkernel.api.EventEnvelope;
+import com.google.ads.googleads.lib.GoogleAdsClient;
+import com.google.ads.googleads.v23.services.GoogleAdsVersion;
+import com.google.api.gax.core.BackgroundResource;
+import com.google.auth.oauth2.GoogleCredentials;
+import jakarta.annotation.PreDestroy;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shared {@link GoogleAdsClient} cache for every Google Ads adapter (BC5 discovery, BC6
+ * mutations, BC7 reporting), keyed by (managerId, credentialPath).
+ *
+ * <p>Credentials are read from disk once per path; the scoped {@link GoogleCredentials}
+ * instance caches its access token and refreshes it shortly before expiry. Service clients
+ * are created lazily per client and kept open, so their gRPC channels (and TLS sessions) are
+ * reused across calls. Callers must not close the service clients they obtain here.
+ *
+ * <p>On {@link ConnectionCredentialRotated}, which every replica receives, each entry built
+ * from one of the rotated manager's credential files is swapped out, whichever manager it
+ * serves. Other threads may still hold the old service clients, so they are closed only
+ * after {@link #CLOSE_GRACE}, by which time any call made on them has finished.
+ */
+@Component
+public class GoogleAdsClientRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(GoogleAdsClientRegistry.class);
+    private static final String ADS_SCOPE = "https://www.googleapis.com/auth/adwords";
+    static final Duration CLOSE_GRACE = Duration.ofMinutes(15);
+
+    private final GoogleAdsConfig config;
+    private final GoogleConnectionRepository connectionRepository;
+    private final Map<String, GoogleCredentials> credentialsByPath = new ConcurrentHashMap<>();
+    private final Map<ClientKey, CachedClient> clients = new ConcurrentHashMap<>();
+    private final Queue<Retired> retired = new ConcurrentLinkedQueue<>();
+
+    public GoogleAdsClientRegistry(GoogleAdsConfig config,
+                                   GoogleConnectionRepository connectionRepository) {
+        this.config = config;
+        this.connectionRepository = connectionRepository;
+    }
+
+    /**
+     * Returns the cached client for the manager, building it on first use.
+     *
+     * @param credentialPath credentials JSON path, or {@code null} for the configured default
+     */
+    public GoogleAdsClient client(String managerId, String credentialPath) throws IOException {
+        return cached(managerId, credentialPath).client();
+    }
+
+    /**
+     * Returns a long-lived service client (e.g. {@code CampaignServiceClient}) bound to the
+     * manager's cached client. The instance is shared and must not be closed by the caller.
+     */
+    public <T extends BackgroundResource> T service(String managerId, String credentialPath,
+                                                    Class<T> type,
+                                                    Function<GoogleAdsVersion, T> factory)
+            throws IOException {
+        CachedClient cached = cached(managerId, credentialPath);
+        return type.cast(cached.services().computeIfAbsent(type,
+            t -> factory.apply(cached.client().getLatestVersion())));
+    }
+
+    /**
+     * Forces the credentials used by the manager to be re-read: every cached client built
+     * from one of its credential files, or from {@code credentialPath}, is dropped and
+     * retired, so the next call builds a fresh one.
+     */
+    public void invalidate(String managerId, String credentialPath) {
+        String normalized = normalize(managerId);
+        Set<String> paths = new HashSet<>();
+        if (credentialPath != null) {
+            paths.add(credentialPath);
+        }
+        clients.keySet().stream()
+            .filter(key -> key.managerId().equals(normalized))
+            .forEach(key -> paths.add(key.credentialPath()));
+
+        Instant now = Instant.now();
+        synchronized (clients) {
+            paths.forEach(credentialsByPath::remove);
+            clients.entrySet().removeIf(entry -> {
+                if (!paths.contains(entry.getKey().credentialPath())) {
+                    return false;
+                }
+                retired.add(new Retired(entry.getValue(), now));
+                return true;
+            });
+        }
+        log.info("Invalidated Google Ads clients using the credentials of manager {}", managerId);
+    }
+
+    @Broadcast
+    @EventListener
+    public void onCredentialRotated(EventEnvelope<ConnectionCredentialRotated> envelope) {
+        connectionRepository.findById(envelope.payload().connectionId())
+            .ifPresent(connection -> invalidate(connection.getManagerId(), connection.getCredentialPath()));
+    }
+
+    /** Closes clients retired more than {@link #CLOSE_GRACE} ago. */
+    @Scheduled(fixedDelay = 60_000)
+    public void closeRetired() {
+        closeRetired(Instant.now());
+    }
+
+    void closeRetired(Instant now) {
+        Instant cutoff = now.minus(CLOSE_GRACE);
+        Retired next;
+        while ((next = retired.peek()) != null && next.retiredAt().isBefore(cutoff)) {
+            retired.poll();
+            close(next.cached());
+        }
+    }
+
+    @PreDestroy
+    void closeAll() {
+        clients.values().forEach(this::close);
+        clients.clear();
+        retired.forEach(entry -> close(entry.cached()));
+        retired.clear();
+    }
+
+    private CachedClient cached(String managerId, String credentialPath) throws IOException {
+        ClientKey key = new ClientKey(normalize(managerId),
+            credentialPath != null ? credentialPath : config.getCredentialsPath());
+        CachedClient existing = clients.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        synchronized (clients) {
+            existing = clients.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            GoogleAdsClient client = GoogleAdsClient.newBuilder()
+                .setCredentials(credentials(key.credentialPath()))
+                .setDeveloperToken(config.getDeveloperToken())
+                .setLoginCustomerId(Long.parseLong(key.managerId()))
+                .build();
+            CachedClient created = new CachedClient(client, new ConcurrentHashMap<>());
+            clients.put(key, created);
+            return created;
+        }
+    }
+
+    private GoogleCredentials credentials(String path) throws IOException {
+        GoogleCredentials existing = credentialsByPath.get(path);
+        if (existing != null) {
+            return existing;
+        }
+        try (InputStream in = new FileInputStream(path)) {
+            GoogleCredentials credentials = GoogleCredentials.fromStream(in)
+                .createScoped(Collections.singletonList(ADS_SCOPE));
+            credentialsByPath.put(path, credentials);
+            return credentials;
+        }
+    }
+
+    private void close(CachedClient cached) {
+        cached.services().values().forEach(service -> {
+            try {
+                service.close();
+            } catch (Exception e) {
+                log.warn("Failed to close Google Ads service client: {}", e.getMessage());
+            }
+        });
+    }
+
+    private static String normalize(String managerId) {
+        return managerId.replace("-", "");
+    }
+
+    private record ClientKey(String managerId, String credentialPath) {}
+
+    private record CachedClient(GoogleAdsClient client,
+                                Map<Class<?>, BackgroundResource> services) {}
+
+    private record Retired(CachedClient cached, Instant retiredAt) {}
+}
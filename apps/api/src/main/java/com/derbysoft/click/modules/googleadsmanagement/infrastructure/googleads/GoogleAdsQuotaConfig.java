@@ -0,0 +1,50 @@
+package com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "google.ads.quota")
+public class GoogleAdsQuotaConfig {
+
+    private double developerTokenQps = 20;
+    private double customerQps = 5;
+    private double minQps = 0.5;
+    private double additiveIncrease = 0.5;
+    private double decreaseFactor = 0.5;
+    private long decreaseCooldownMs = 1000;
+    private long maxWaitMs = 5000;
+    private int breakerFailureThreshold = 5;
+    private long breakerOpenMs = 30000;
+    private long idleEvictionMs = 600000;
+
+    public double getDeveloperTokenQps() { return developerTokenQps; }
+    public void setDeveloperTokenQps(double developerTokenQps) { this.developerTokenQps = developerTokenQps; }
+
+    public double getCustomerQps() { return customerQps; }
+    public void setCustomerQps(double customerQps) { this.customerQps = customerQps; }
+
+    public double getMinQps() { return minQps; }
+    public void setMinQps(double minQps) { this.minQps = minQps; }
+
+    public double getAdditiveIncrease() { return additiveIncrease; }
+    public void setAdditiveIncrease(double additiveIncrease) { this.additiveIncrease = additiveIncrease; }
+
+    public double getDecreaseFactor() { return decreaseFactor; }
+    public void setDecreaseFactor(double decreaseFactor) { this.decreaseFactor = decreaseFactor; }
+
+    public long getDecreaseCooldownMs() { return decreaseCooldownMs; }
+    public void setDecreaseCooldownMs(long decreaseCooldownMs) { this.decreaseCooldownMs = decreaseCooldownMs; }
+
+    public long getMaxWaitMs() { return maxWaitMs; }
+    public void setMaxWaitMs(long maxWaitMs) { this.maxWaitMs = maxWaitMs; }
+
+    public int getBreakerFailureThreshold() { return breakerFailureThreshold; }
+    public void setBreakerFailureThreshold(int breakerFailureThreshold) { this.breakerFailureThreshold = breakerFailureThreshold; }
+
+    public long getBreakerOpenMs() { return breakerOpenMs; }
+    public void setBreakerOpenMs(long breakerOpenMs) { this.breakerOpenMs = breakerOpenMs; }
+
+    public long getIdleEvictionMs() { return idleEvictionMs; }
+    public void setIdleEvictionMs(long idleEvictionMs) { this.idleEvictionMs = idleEvictionMs; }
+}
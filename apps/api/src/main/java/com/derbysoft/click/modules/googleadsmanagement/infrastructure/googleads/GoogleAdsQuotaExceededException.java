@@ -0,0 +1,21 @@
+package com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads;
+
+import java.time.Duration;
+
+/**
+ * Thrown by {@link GoogleAdsQuotaGuard} instead of making a call, when a circuit is open or
+ * the rate limiter cannot grant a permit within the configured wait. No request was sent.
+ */
+public class GoogleAdsQuotaExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public GoogleAdsQuotaExceededException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,222 @@
+package com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads;
+
+import com.google.ads.googleads.v23.errors.ErrorCode;
+import com.google.ads.googleads.v23.errors.GoogleAdsException;
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.StatusCode;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Client-side quota control shared by every Google Ads adapter that sends requests on behalf
+ * of a customer (BC6 mutations, BC7 reporting). Each call takes a permit from the developer
+ * token's bucket and from the customer's bucket, waiting up to {@code max-wait-ms} for one.
+ *
+ * <p>Both buckets adapt: quota exhaustion (gRPC {@code RESOURCE_EXHAUSTED} or a
+ * {@code QUOTA_ERROR}) halves their rate and counts towards their circuit breaker, and every
+ * other outcome nudges the rate back up. So one throttled call slows every worker sharing the
+ * token instead of only backing off the job that saw it, and repeated exhaustion stops traffic
+ * for a while rather than feeding a retry storm.
+ *
+ * <p>State is per replica; the limits are meant to sit under Google's, not to mirror them.
+ */
+@Component
+public class GoogleAdsQuotaGuard {
+
+    private static final Logger log = LoggerFactory.getLogger(GoogleAdsQuotaGuard.class);
+
+    @FunctionalInterface
+    public interface QuotaCall<T> {
+        T call() throws IOException;
+    }
+
+    private final GoogleAdsConfig adsConfig;
+    private final GoogleAdsQuotaConfig config;
+    private final MeterRegistry registry;
+    private final Map<String, Scope> developerTokens = new ConcurrentHashMap<>();
+    private final Map<String, Scope> customers = new ConcurrentHashMap<>();
+
+    public GoogleAdsQuotaGuard(GoogleAdsConfig adsConfig, GoogleAdsQuotaConfig config,
+                               MeterRegistry registry) {
+        this.adsConfig = adsConfig;
+        this.config = config;
+        this.registry = registry;
+    }
+
+    /**
+     * Runs {@code call} once permits are granted and feeds its outcome back into the limiters.
+     *
+     * @throws GoogleAdsQuotaExceededException if a circuit is open or no permit is granted in
+     *         time; {@code call} is not run
+     */
+    public <T> T call(String customerId, QuotaCall<T> call) throws IOException {
+        Scope token = developerToken();
+        Scope customer = customers.computeIfAbsent(customerId.replace("-", ""),
+            id -> newScope(config.getCustomerQps()));
+        customer.touch();
+
+        acquire(token, customer, customerId);
+        boolean reported = false;
+        try {
+            T result = call.call();
+            token.onSuccess();
+            customer.onSuccess();
+            reported = true;
+            return result;
+        } catch (IOException | RuntimeException e) {
+            if (isQuotaExhausted(e)) {
+                token.onThrottled();
+                customer.onThrottled();
+                registry.counter("googleads.quota.throttled").increment();
+                log.warn("Google Ads quota exhausted for customer {}; rate now {}/s (token), {}/s (customer)",
+                    customerId, String.format("%.2f", token.limiter().rate()),
+                    String.format("%.2f", customer.limiter().rate()));
+            } else {
+                token.onSuccess();
+                customer.onSuccess();
+            }
+            reported = true;
+            throw e;
+        } finally {
+            // An Error says nothing about quota; hand back a half-open probe so the next
+            // call can take it, instead of the circuit rejecting everything until restart
+            if (!reported) {
+                token.breaker().release();
+                customer.breaker().release();
+            }
+        }
+    }
+
+    /**
+     * Drops customer scopes that have not been used for {@code idle-eviction-ms} and hold no
+     * breaker state, so the map tracks active customers rather than every customer ever seen.
+     * A returning customer starts again at the configured rate.
+     */
+    @Scheduled(fixedDelayString = "${google.ads.quota.idle-eviction-ms:600000}")
+    public void evictIdleCustomers() {
+        long cutoff = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(config.getIdleEvictionMs());
+        customers.values().removeIf(scope -> scope.idleSince(cutoff));
+    }
+
+    // Package-private for tests
+    double developerTokenRate() {
+        return developerToken().limiter().rate();
+    }
+
+    int customerScopes() {
+        return customers.size();
+    }
+
+    double customerRate(String customerId) {
+        Scope customer = customers.get(customerId.replace("-", ""));
+        return customer != null ? customer.limiter().rate() : config.getCustomerQps();
+    }
+
+    private void acquire(Scope token, Scope customer, String customerId) {
+        if (!token.breaker().tryAcquire()) {
+            throw rejected("circuit_open", "Google Ads quota circuit open for developer token",
+                Duration.ofNanos(token.breaker().remainingOpenNanos()));
+        }
+        if (!customer.breaker().tryAcquire()) {
+            token.breaker().release();
+            throw rejected("circuit_open", "Google Ads quota circuit open for customer " + customerId,
+                Duration.ofNanos(customer.breaker().remainingOpenNanos()));
+        }
+
+        long maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(config.getMaxWaitMs());
+        long tokenWait = token.limiter().reserve(maxWaitNanos);
+        long customerWait = tokenWait < 0 ? -1 : customer.limiter().reserve(maxWaitNanos);
+        if (tokenWait < 0 || customerWait < 0) {
+            token.breaker().release();
+            customer.breaker().release();
+            throw rejected("rate_limited", "Google Ads rate limit reached for customer " + customerId,
+                Duration.ofMillis(config.getMaxWaitMs()));
+        }
+
+        long waitNanos = Math.max(tokenWait, customerWait);
+        if (waitNanos > 0) {
+            try {
+                Thread.sleep(Duration.ofNanos(waitNanos));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                token.breaker().release();
+                customer.breaker().release();
+                throw new GoogleAdsQuotaExceededException(
+                    "Interrupted waiting for Google Ads quota", Duration.ZERO);
+            }
+        }
+    }
+
+    private GoogleAdsQuotaExceededException rejected(String reason, String message, Duration retryAfter) {
+        registry.counter("googleads.quota.rejected", "reason", reason).increment();
+        return new GoogleAdsQuotaExceededException(message, retryAfter);
+    }
+
+    private Scope developerToken() {
+        String developerToken = adsConfig.getDeveloperToken() != null ? adsConfig.getDeveloperToken() : "";
+        return developerTokens.computeIfAbsent(developerToken, t -> {
+            Scope scope = newScope(config.getDeveloperTokenQps());
+            Gauge.builder("googleads.quota.rate", scope.limiter(), AdaptiveRateLimiter::rate)
+                .description("Current request rate allowed per developer token")
+                .register(registry);
+            return scope;
+        });
+    }
+
+    private Scope newScope(double qps) {
+        return new Scope(
+            new AdaptiveRateLimiter(qps, Math.min(config.getMinQps(), qps), qps,
+                config.getAdditiveIncrease(), config.getDecreaseFactor(),
+                TimeUnit.MILLISECONDS.toNanos(config.getDecreaseCooldownMs()), System::nanoTime),
+            new CircuitBreaker(config.getBreakerFailureThreshold(),
+                TimeUnit.MILLISECONDS.toNanos(config.getBreakerOpenMs()), System::nanoTime),
+            new AtomicLong(System.nanoTime()));
+    }
+
+    private static boolean isQuotaExhausted(Exception e) {
+        if (e instanceof GoogleAdsException googleAdsException) {
+            return googleAdsException.getGoogleAdsFailure().getErrorsList().stream()
+                .anyMatch(error -> error.getErrorCode().getErrorCodeCase() == ErrorCode.ErrorCodeCase.QUOTA_ERROR);
+        }
+        if (e instanceof ApiException apiException) {
+            return apiException.getStatusCode().getCode() == StatusCode.Code.RESOURCE_EXHAUSTED;
+        }
+        if (e instanceof StatusRuntimeException statusException) {
+            return statusException.getStatus().getCode() == Status.Code.RESOURCE_EXHAUSTED;
+        }
+        return false;
+    }
+
+    private record Scope(AdaptiveRateLimiter limiter, CircuitBreaker breaker, AtomicLong lastUsedNanos) {
+
+        void touch() {
+            lastUsedNanos.set(System.nanoTime());
+        }
+
+        boolean idleSince(long cutoffNanos) {
+            return lastUsedNanos.get() - cutoffNanos <= 0 && breaker.isIdle();
+        }
+
+        void onSuccess() {
+            limiter.onSuccess();
+            breaker.onSuccess();
+        }
+
+        void onThrottled() {
+            limiter.onThrottled();
+            breaker.onFailure();
+        }
+    }
+}
@@ -5,9 +5,24 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface AccountBindingJpaRepository extends JpaRepository<AccountBindingEntity, UUID> {
     List<AccountBindingEntity> findByConnectionId(UUID connectionId);
     List<AccountBindingEntity> findByTenantId(UUID tenantId);
     Optional<AccountBindingEntity> findByConnectionIdAndCustomerId(UUID connectionId, String customerId);
+
+    @Query("SELECT b.id, b.tenantId, b.customerId, g.timeZone FROM AccountBindingEntity b " +
+           "JOIN GoogleConnectionEntity c ON c.id = b.connectionId " +
+           "LEFT JOIN AccountGraphStateEntity g " +
+           "ON g.connectionId = b.connectionId AND g.customerId = b.customerId " +
+           "WHERE b.status = 'ACTIVE' AND c.status = 'ACTIVE'")
+    List<Object[]> findActiveSchedules();
+
+    @Query("SELECT g.timeZone FROM AccountBindingEntity b " +
+           "JOIN AccountGraphStateEntity g " +
+           "ON g.connectionId = b.connectionId AND g.customerId = b.customerId " +
+           "WHERE b.tenantId = :tenantId AND b.customerId = :customerId AND g.timeZone IS NOT NULL")
+    List<String> findTimeZones(@Param("tenantId") UUID tenantId, @Param("customerId") String customerId);
 }
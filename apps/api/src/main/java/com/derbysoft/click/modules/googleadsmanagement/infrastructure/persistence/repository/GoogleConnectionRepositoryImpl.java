@@ -1,6 +1,7 @@
 package com.derbysoft.click.modules.googleadsmanagement.infrastructure.persistence.repository;
 
 import com.derbysoft.click.modules.googleadsmanagement.api.contracts.AccountBindingInfo;
+import com.derbysoft.click.modules.googleadsmanagement.api.contracts.AccountScheduleInfo;
 import com.derbysoft.click.modules.googleadsmanagement.api.contracts.GoogleAdsConnectionInfo;
 import com.derbysoft.click.modules.googleadsmanagement.api.ports.GoogleAdsQueryPort;
 import com.derbysoft.click.modules.googleadsmanagement.domain.GoogleConnectionRepository;
@@ -81,4 +82,18 @@ public class GoogleConnectionRepositoryImpl
             ))
             .toList();
     }
+
+    @Override
+    public List<AccountScheduleInfo> listActiveAccountSchedules() {
+        return bindingJpaRepository.findActiveSchedules().stream()
+            .map(row -> new AccountScheduleInfo(
+                (UUID) row[0], (UUID) row[1], (String) row[2], (String) row[3]
+            ))
+            .toList();
+    }
+
+    @Override
+    public Optional<String> findAccountTimeZone(UUID tenantId, String customerId) {
+        return bindingJpaRepository.findTimeZones(tenantId, customerId).stream().findFirst();
+    }
 }
@@ -31,6 +31,7 @@ public class SecurityConfig {
         .exceptionHandling(ex -> ex.authenticationEntryPoint(apiAuthEntryPoint))
         .authorizeHttpRequests(auth -> auth
             .requestMatchers("/health", "/api/health").permitAll()
+            .requestMatchers(HttpMethod.GET, "/actuator/health", "/actuator/prometheus").permitAll()
             .requestMatchers(HttpMethod.POST, "/api/v1/auth/login", "/api/v1/auth/refresh").permitAll()
             .anyRequest().authenticated()
         )
@@ -2,11 +2,14 @@ package com.derbysoft.click.modules.ingestion.api.ports;
 
 import com.derbysoft.click.modules.ingestion.api.contracts.SyncIncidentInfo;
 import com.derbysoft.click.modules.ingestion.api.contracts.SyncJobInfo;
+import com.derbysoft.click.sharedkernel.api.CursorPage;
+import com.derbysoft.click.sharedkernel.api.HistoryQuery;
 import java.util.List;
 import java.util.UUID;
 
 public interface IngestionQueryPort {
-    List<SyncJobInfo> listJobHistory(UUID integrationId);
+    /** One page of an integration's jobs, newest first. */
+    CursorPage<SyncJobInfo> listJobHistory(UUID integrationId, HistoryQuery query);
     List<SyncIncidentInfo> listOpenIncidents(UUID tenantId);
     List<SyncIncidentInfo> listEscalatedIncidents(UUID tenantId);
 }
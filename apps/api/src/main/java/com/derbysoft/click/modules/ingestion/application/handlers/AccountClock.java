@@ -0,0 +1,46 @@
+package com.derbysoft.click.modules.ingestion.application.handlers;
+
+import com.derbysoft.click.modules.googleadsmanagement.api.ports.GoogleAdsQueryPort;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Calendar of a Google Ads account. Report days are cut in the account's own time zone, so
+ * every decision about which days are past, recent or settled takes "today" from here rather
+ * than from UTC. Accounts without a discovered or known time zone use UTC.
+ */
+@Component
+public class AccountClock {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountClock.class);
+
+    private final GoogleAdsQueryPort googleAdsQueryPort;
+
+    public AccountClock(GoogleAdsQueryPort googleAdsQueryPort) {
+        this.googleAdsQueryPort = googleAdsQueryPort;
+    }
+
+    public LocalDate today(UUID tenantId, String customerId, Instant now) {
+        String timeZone = googleAdsQueryPort.findAccountTimeZone(tenantId, customerId).orElse(null);
+        return LocalDate.ofInstant(now, zoneOf(timeZone, customerId));
+    }
+
+    static ZoneId zoneOf(String timeZone, String customerId) {
+        if (timeZone == null || timeZone.isBlank()) {
+            return ZoneOffset.UTC;
+        }
+        try {
+            return ZoneId.of(timeZone);
+        } catch (DateTimeException e) {
+            log.debug("Unknown time zone {} for account {}; using UTC", timeZone, customerId);
+            return ZoneOffset.UTC;
+        }
+    }
+}
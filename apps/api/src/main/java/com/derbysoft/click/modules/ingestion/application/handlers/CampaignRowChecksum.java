@@ -0,0 +1,69 @@
+package com.derbysoft.click.modules.ingestion.application.handlers;
+
+import com.derbysoft.click.modules.ingestion.application.ports.GoogleAdsReportingPort.CampaignRow;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Order-independent checksum over streamed campaign rows. Each row is hashed from its
+ * primitive fields into 64 bits and the hashes are added into two independently mixed
+ * lanes, so the result does not depend on the order rows or pages arrive in and nothing
+ * needs to be buffered or sorted. Adding rather than XOR-ing keeps a repeated row from
+ * cancelling itself out. Nothing is allocated per row.
+ */
+public final class CampaignRowChecksum {
+
+    private static final long LANE_SEED = 0x9e3779b97f4a7c15L;
+
+    private long lane0;
+    private long lane1;
+
+    public void update(List<CampaignRow> page) {
+        for (int i = 0, n = page.size(); i < n; i++) {
+            update(page.get(i));
+        }
+    }
+
+    public void update(CampaignRow r) {
+        long h = rowHash(r);
+        lane0 += h;
+        lane1 += mix(h ^ LANE_SEED);
+    }
+
+    /** 32 hex characters; the same for any ordering of the same rows. */
+    public String hex() {
+        HexFormat hex = HexFormat.of();
+        return hex.toHexDigits(lane0) + hex.toHexDigits(lane1);
+    }
+
+    /** 64-bit hash of a row's natural key (campaign and date) and its {@link #contentHash}. */
+    static long rowHash(CampaignRow r) {
+        String campaignId = r.campaignId();
+        long key = 0;
+        for (int i = 0, n = campaignId.length(); i < n; i++) {
+            key = 31 * key + campaignId.charAt(i);
+        }
+        long h = mix(key ^ mix(r.reportDate().toEpochDay()));
+        return mix(h ^ contentHash(r));
+    }
+
+    /**
+     * 64-bit fingerprint of a row's name and metrics, stored as
+     * {@code raw_campaign_rows.content_hash} to tell whether a re-fetched row changed. The
+     * natural key is left out; rows are only ever compared with the same key.
+     */
+    public static long contentHash(CampaignRow r) {
+        long h = mix(r.clicks());
+        h = mix(h ^ r.impressions());
+        h = mix(h ^ r.costMicros());
+        h = mix(h ^ Double.doubleToLongBits(r.conversions()));
+        return mix(h ^ (r.campaignName() != null ? r.campaignName().hashCode() : 0));
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,13 +1,36 @@
 package com.derbysoft.click.modules.ingestion.application.handlers;
 
+import com.derbysoft.click.modules.googleadsmanagement.api.contracts.AccountScheduleInfo;
 import com.derbysoft.click.modules.googleadsmanagement.api.ports.GoogleAdsQueryPort;
-import java.time.LocalTime;
-import java.time.ZoneOffset;
+import com.derbysoft.click.modules.ingestion.application.handlers.IngestionJobService.DailySyncTarget;
+import com.derbysoft.click.modules.ingestion.domain.SyncJobRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * Enqueues each account's daily sync at {@code dailyLocalTime} in the account's own time
+ * zone, plus a jitter slot derived from its binding id, instead of every account at once at
+ * 02:00 UTC. Accounts in Asia are fetched soon after their day closes, and the load is
+ * spread over the day rather than landing in one burst on the database and the Google Ads
+ * quota. Accounts without a discovered time zone use UTC.
+ *
+ * <p>Every tick enqueues, one batch per tenant, the accounts whose latest due time has passed
+ * but which have no DAILY job for that day yet. Whether a day was enqueued comes from the job
+ * table rather than from the previous tick, so accounts that fell due while no replica was
+ * running are caught up on the first tick after start. A sync already pending or running for
+ * the same window is not duplicated, so a tick that overlaps another replica's is harmless.
+ */
 @Component
 public class DailyIngestionScheduler {
 
@@ -15,29 +38,71 @@ public class DailyIngestionScheduler {
 
     private final IngestionJobService ingestionJobService;
     private final GoogleAdsQueryPort googleAdsQueryPort;
+    private final IngestionSyncConfig syncConfig;
+    private final SyncJobRepository syncJobRepository;
 
     public DailyIngestionScheduler(IngestionJobService ingestionJobService,
-                                    GoogleAdsQueryPort googleAdsQueryPort) {
+                                    GoogleAdsQueryPort googleAdsQueryPort,
+                                    IngestionSyncConfig syncConfig,
+                                    SyncJobRepository syncJobRepository) {
         this.ingestionJobService = ingestionJobService;
         this.googleAdsQueryPort = googleAdsQueryPort;
+        this.syncConfig = syncConfig;
+        this.syncJobRepository = syncJobRepository;
     }
 
     @Scheduled(cron = "0 */5 * * * *")
-    public void scheduleDailyJobs() {
-        // MVP: fire when UTC hour == 2 and minute < 5 (global default 02:00 UTC)
-        LocalTime now = LocalTime.now(ZoneOffset.UTC);
-        if (now.getHour() != 2 || now.getMinute() >= 5) {
+    public synchronized void scheduleDailyJobs() {
+        enqueueDue(Instant.now().truncatedTo(ChronoUnit.MINUTES));
+    }
+
+    /**
+     * Enqueues every account whose daily sync for its latest due day is due by {@code now}
+     * and not yet enqueued. A day's DAILY job always ends the day before it, so an account
+     * whose latest DAILY window ends there has already been handled.
+     */
+    public void enqueueDue(Instant now) {
+        List<DailySyncTarget> due = new ArrayList<>();
+        Map<UUID, UUID> tenantOf = new LinkedHashMap<>();
+        for (AccountScheduleInfo account : googleAdsQueryPort.listActiveAccountSchedules()) {
+            ZoneId zone = AccountClock.zoneOf(account.timeZone(), account.customerId());
+            LocalDate localToday = LocalDate.ofInstant(now, zone);
+            // The jitter can carry a due time past local midnight, so yesterday's may fall due today
+            LocalDate day = dueAt(account.bindingId(), localToday, zone).isAfter(now)
+                ? localToday.minusDays(1) : localToday;
+            if (!dueAt(account.bindingId(), day, zone).isAfter(now)) {
+                due.add(new DailySyncTarget(account.bindingId(), account.customerId(), day));
+                tenantOf.put(account.bindingId(), account.tenantId());
+            }
+        }
+        if (due.isEmpty()) {
             return;
         }
 
-        var connections = googleAdsQueryPort.findAllActiveConnections();
-        for (var connection : connections) {
+        LocalDate earliest = due.stream().map(DailySyncTarget::localToday)
+            .min(LocalDate::compareTo).orElseThrow();
+        Map<UUID, LocalDate> enqueuedThrough = syncJobRepository.findLatestDailyWindowEnds(
+            tenantOf.keySet(), earliest.minusDays(1));
+        Map<UUID, List<DailySyncTarget>> byTenant = new LinkedHashMap<>();
+        for (DailySyncTarget target : due) {
+            LocalDate through = enqueuedThrough.get(target.bindingId());
+            if (through == null || through.isBefore(target.localToday().minusDays(1))) {
+                byTenant.computeIfAbsent(tenantOf.get(target.bindingId()), t -> new ArrayList<>())
+                    .add(target);
+            }
+        }
+
+        byTenant.forEach((tenantId, targets) -> {
             try {
-                ingestionJobService.enqueueDailySync(connection.id(), connection.tenantId());
+                ingestionJobService.enqueueDailySync(tenantId, targets);
             } catch (Exception e) {
-                log.warn("Failed to enqueue daily sync for tenant {}: {}",
-                    connection.tenantId(), e.getMessage());
+                log.warn("Failed to enqueue daily sync for tenant {}: {}", tenantId, e.getMessage());
             }
-        }
+        });
+    }
+
+    private Instant dueAt(UUID bindingId, LocalDate day, ZoneId zone) {
+        long jitter = Math.floorMod(bindingId.hashCode(), Math.max(1, syncConfig.getDailyJitterMinutes()));
+        return day.atTime(syncConfig.getDailyLocalTime()).plusMinutes(jitter).atZone(zone).toInstant();
     }
 }
@@ -0,0 +1,94 @@
+package com.derbysoft.click.modules.ingestion.application.handlers;
+
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.ClaimCandidate;
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.TriggerType;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * Picks which locked candidates to lease with deficit round robin across tenants. Each round
+ * a tenant earns credit by the weight of its most urgent trigger and spends one credit per
+ * job, so a tenant with a backfill storm gets one slot per round while a tenant with a daily
+ * sync gets two, and nobody waits behind another tenant's backlog. Within a tenant, jobs go
+ * by trigger priority and then due time. A Google Ads customer never has more than
+ * {@code maxPerCustomer} jobs running, counting those already leased.
+ *
+ * <p>Credit left over when a claim fills up carries to the next claim, and tenants served
+ * least recently go first, so fairness holds across ticks and not just within one. A tenant
+ * with no candidates in a claim is forgotten, so state stays bounded by the candidate set
+ * and a returning tenant starts as the least recently served.
+ */
+@Component
+public class FairJobScheduler {
+
+    private static final Map<TriggerType, Integer> WEIGHTS = new EnumMap<>(Map.of(
+        TriggerType.FORCE_RUN, 8,
+        TriggerType.MANUAL, 4,
+        TriggerType.DAILY, 2,
+        TriggerType.BACKFILL, 1
+    ));
+
+    private static final Comparator<ClaimCandidate> TENANT_ORDER = Comparator
+        .comparing((ClaimCandidate c) -> -WEIGHTS.get(c.triggerType()))
+        .thenComparing(ClaimCandidate::dueAt);
+
+    private final Map<UUID, Integer> deficits = new HashMap<>();
+    private final Map<UUID, Long> lastServed = new HashMap<>();
+    private long round;
+
+    public synchronized List<UUID> select(List<ClaimCandidate> candidates,
+                                          Map<String, Long> runningByAccount,
+                                          int maxPerCustomer, int limit) {
+        Map<UUID, Deque<ClaimCandidate>> queues = new LinkedHashMap<>();
+        candidates.stream()
+            .sorted(TENANT_ORDER)
+            .forEach(c -> queues.computeIfAbsent(c.tenantId(), t -> new ArrayDeque<>()).add(c));
+
+        lastServed.keySet().retainAll(queues.keySet());
+        deficits.keySet().retainAll(queues.keySet());
+
+        List<UUID> tenants = new ArrayList<>(queues.keySet());
+        tenants.sort(Comparator.comparing((UUID t) -> lastServed.getOrDefault(t, -1L)));
+
+        Map<String, Long> perCustomer = new HashMap<>(runningByAccount);
+        List<UUID> selected = new ArrayList<>();
+        while (selected.size() < limit && !queues.isEmpty()) {
+            round++;
+            for (UUID tenant : tenants) {
+                Deque<ClaimCandidate> queue = queues.get(tenant);
+                if (queue == null) continue;
+
+                int deficit = deficits.getOrDefault(tenant, 0) + WEIGHTS.get(queue.peek().triggerType());
+                while (deficit > 0 && !queue.isEmpty() && selected.size() < limit) {
+                    ClaimCandidate next = queue.poll();
+                    long running = perCustomer.getOrDefault(next.accountId(), 0L);
+                    if (running >= maxPerCustomer) continue;
+
+                    perCustomer.put(next.accountId(), running + 1);
+                    selected.add(next.jobId());
+                    lastServed.put(tenant, round);
+                    deficit--;
+                }
+
+                if (queue.isEmpty()) {
+                    // An idle tenant does not bank credit (standard DRR)
+                    queues.remove(tenant);
+                    deficits.remove(tenant);
+                } else {
+                    deficits.put(tenant, deficit);
+                }
+                if (selected.size() >= limit) break;
+            }
+        }
+        return selected;
+    }
+}
@@ -1,9 +1,9 @@
 package com.derbysoft.click.modules.ingestion.application.handlers;
 
 import com.derbysoft.click.bootstrap.messaging.InProcessEventBus;
-import com.derbysoft.click.modules.googleadsmanagement.api.contracts.AccountBindingInfo;
 import com.derbysoft.click.modules.googleadsmanagement.api.ports.GoogleAdsQueryPort;
 import com.derbysoft.click.modules.ingestion.application.handlers.RateLimitService.RateLimitResult;
+import com.derbysoft.click.modules.ingestion.domain.RawSnapshotRepository;
 import com.derbysoft.click.modules.ingestion.domain.SyncIncidentRepository;
 import com.derbysoft.click.modules.ingestion.domain.SyncJobRepository;
 import com.derbysoft.click.modules.ingestion.domain.aggregates.SyncIncident;
@@ -14,12 +14,15 @@ import com.derbysoft.click.sharedkernel.api.EventEnvelope;
 import com.derbysoft.click.sharedkernel.domain.errors.DomainError;
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @Transactional
@@ -29,59 +32,106 @@ public class IngestionJobService {
 
     private final SyncJobRepository syncJobRepository;
     private final SyncIncidentRepository incidentRepository;
+    private final RawSnapshotRepository rawSnapshotRepository;
     private final RateLimitService rateLimitService;
     private final GoogleAdsQueryPort googleAdsQueryPort;
     private final InProcessEventBus eventBus;
+    private final IngestionSyncConfig syncConfig;
+    private final RawRowPartitionMaintainer partitionMaintainer;
+    private final AccountClock accountClock;
 
     public IngestionJobService(
         SyncJobRepository syncJobRepository,
         SyncIncidentRepository incidentRepository,
+        RawSnapshotRepository rawSnapshotRepository,
         RateLimitService rateLimitService,
         GoogleAdsQueryPort googleAdsQueryPort,
-        InProcessEventBus eventBus
+        InProcessEventBus eventBus,
+        IngestionSyncConfig syncConfig,
+        RawRowPartitionMaintainer partitionMaintainer,
+        AccountClock accountClock
     ) {
         this.syncJobRepository = syncJobRepository;
         this.incidentRepository = incidentRepository;
+        this.rawSnapshotRepository = rawSnapshotRepository;
         this.rateLimitService = rateLimitService;
         this.googleAdsQueryPort = googleAdsQueryPort;
         this.eventBus = eventBus;
+        this.syncConfig = syncConfig;
+        this.partitionMaintainer = partitionMaintainer;
+        this.accountClock = accountClock;
     }
 
-    public void enqueueDailySync(UUID integrationId, UUID tenantId) {
+    /** One account's daily sync, with "today" taken in the account's own time zone. */
+    public record DailySyncTarget(UUID bindingId, String accountId, LocalDate localToday) {}
+
+    public Set<UUID> enqueueDailySync(UUID integrationId, UUID tenantId) {
         Instant now = Instant.now();
-        LocalDate today = LocalDate.now(ZoneOffset.UTC);
-        LocalDate yesterday = today.minusDays(1);
-        LocalDate from = today.minusDays(3);
-        DateWindow dateWindow = new DateWindow(from, yesterday);
+        List<DailySyncTarget> targets = googleAdsQueryPort.listActiveBindings(tenantId).stream()
+            .filter(b -> !"BROKEN".equals(b.status()) && !"REMOVED".equals(b.status()))
+            .map(b -> new DailySyncTarget(b.id(), b.customerId(),
+                accountClock.today(tenantId, b.customerId(), now)))
+            .toList();
+        return enqueueDailySync(tenantId, targets);
+    }
 
-        List<AccountBindingInfo> bindings = googleAdsQueryPort.listActiveBindings(tenantId);
+    /**
+     * Enqueues the daily sync of each target for the days before its local today that may still
+     * change: one more than the conversion lag, so every day is fetched once after it settles,
+     * less any leading days already final because an earlier fetch (a manual sync, a backfill,
+     * a retry that ran late) saw them settled. All targets go in as one insert; a target with a
+     * sync for the same window still pending or running is skipped by the database, and only
+     * the jobs actually created announce {@code SyncStarted}, once the insert commits.
+     *
+     * @return ids of the jobs created
+     */
+    public Set<UUID> enqueueDailySync(UUID tenantId, List<DailySyncTarget> targets) {
+        if (targets.isEmpty()) {
+            return Set.of();
+        }
+        Instant now = Instant.now();
+        long lookbackDays = lookbackDays();
 
-        for (AccountBindingInfo binding : bindings) {
-            String status = binding.status();
-            if ("BROKEN".equals(status) || "REMOVED".equals(status)) {
+        // Days fetched after their metrics settled cannot change; start after them
+        LocalDate earliest = targets.stream().map(DailySyncTarget::localToday)
+            .min(LocalDate::compareTo).orElseThrow();
+        LocalDate latest = targets.stream().map(DailySyncTarget::localToday)
+            .max(LocalDate::compareTo).orElseThrow();
+        Map<UUID, Set<LocalDate>> finalDays = rawSnapshotRepository.findFinalDays(
+            targets.stream().map(DailySyncTarget::bindingId).toList(), REPORT_TYPE,
+            new DateWindow(earliest.minusDays(lookbackDays), latest.minusDays(1)));
+
+        List<SyncJob> jobs = new ArrayList<>(targets.size());
+        for (DailySyncTarget target : targets) {
+            LocalDate yesterday = target.localToday().minusDays(1);
+            Set<LocalDate> settled = finalDays.getOrDefault(target.bindingId(), Set.of());
+            LocalDate from = target.localToday().minusDays(lookbackDays);
+            while (!from.isAfter(yesterday) && settled.contains(from)) {
+                from = from.plusDays(1);
+            }
+            if (from.isAfter(yesterday)) {
                 continue;
             }
 
-            String accountId = binding.customerId();
-            UUID bindingId = binding.id();
-            String idempotencyKey = bindingId + ":" + accountId + ":"
-                + from + ":" + yesterday + ":" + REPORT_TYPE;
-
-            Optional<SyncJob> existing = syncJobRepository.findByIdempotencyKey(idempotencyKey);
-            if (existing.isPresent()) {
-                String existingStatus = existing.get().getStatus().name();
-                if ("PENDING".equals(existingStatus) || "RUNNING".equals(existingStatus)) {
-                    continue;
-                }
-            }
+            jobs.add(SyncJob.create(
+                UUID.randomUUID(), target.bindingId(), tenantId, target.accountId(), REPORT_TYPE,
+                new DateWindow(from, yesterday), TriggerType.DAILY, null, "daily-scheduler", now
+            ));
+        }
+        if (jobs.isEmpty()) {
+            return Set.of();
+        }
 
-            SyncJob job = SyncJob.create(
-                UUID.randomUUID(), bindingId, tenantId, accountId, REPORT_TYPE,
-                dateWindow, TriggerType.DAILY, null, "daily-scheduler", now
-            );
-            SyncJob saved = syncJobRepository.save(job);
-            publishAndClear(saved);
+        Set<UUID> created = syncJobRepository.insertAllIfAbsent(jobs);
+        List<Object> events = new ArrayList<>(created.size());
+        for (SyncJob job : jobs) {
+            if (created.contains(job.getId())) {
+                events.addAll(job.getEvents());
+            }
+            job.clearEvents();
         }
+        publishAfterCommit(events);
+        return created;
     }
 
     public SyncJob enqueueManualSync(UUID tenantId, UUID integrationId, String accountId,
@@ -93,12 +143,9 @@ public class IngestionJobService {
         }
 
         Instant now = Instant.now();
-        LocalDate today = LocalDate.now(ZoneOffset.UTC);
-        DateWindow dateWindow = new DateWindow(today.minusDays(3), today.minusDays(1));
-
         SyncJob job = SyncJob.create(
             UUID.randomUUID(), integrationId, tenantId, accountId, REPORT_TYPE,
-            dateWindow, TriggerType.MANUAL, triggeredBy, reason, now
+            recentWindow(tenantId, accountId, now), TriggerType.MANUAL, triggeredBy, reason, now
         );
         SyncJob saved = syncJobRepository.save(job);
         publishAndClear(saved);
@@ -111,6 +158,10 @@ public class IngestionJobService {
             throw new DomainError.ValidationError("INGEST_400",
                 "Backfill date range must not exceed 14 days; requested: " + dateRange.days() + " days.");
         }
+        if (!partitionMaintainer.isRetained(dateRange)) {
+            throw new DomainError.ValidationError("INGEST_400",
+                "Backfill date range starts before the raw data retention period: " + dateRange.from());
+        }
 
         RateLimitResult result = rateLimitService.checkAndRecord(tenantId);
         if (!result.allowed()) {
@@ -137,12 +188,9 @@ public class IngestionJobService {
         }
 
         Instant now = Instant.now();
-        LocalDate today = LocalDate.now(ZoneOffset.UTC);
-        DateWindow dateWindow = new DateWindow(today.minusDays(3), today.minusDays(1));
-
         SyncJob job = SyncJob.create(
             UUID.randomUUID(), integrationId, tenantId, accountId, REPORT_TYPE,
-            dateWindow, TriggerType.FORCE_RUN, triggeredBy, reason, now
+            recentWindow(tenantId, accountId, now), TriggerType.FORCE_RUN, triggeredBy, reason, now
         );
         SyncJob saved = syncJobRepository.save(job);
         publishAndClear(saved);
@@ -160,6 +208,42 @@ public class IngestionJobService {
         return saved;
     }
 
+    /**
+     * The days before the account's local today that may still change, as the daily sync
+     * fetches them before skipping final days: one more than the conversion lag.
+     */
+    private DateWindow recentWindow(UUID tenantId, String accountId, Instant now) {
+        LocalDate today = accountClock.today(tenantId, accountId, now);
+        return new DateWindow(today.minusDays(lookbackDays()), today.minusDays(1));
+    }
+
+    private long lookbackDays() {
+        return syncConfig.getConversionLagDays() + 1L;
+    }
+
+    /**
+     * A rolled-back insert created no jobs, so events for a batch are held until the insert
+     * is committed and then published together.
+     */
+    private void publishAfterCommit(List<Object> events) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(events);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(events);
+            }
+        });
+    }
+
+    private void publish(List<Object> events) {
+        events.forEach(event ->
+            eventBus.publish(EventEnvelope.of(event.getClass().getSimpleName(), event))
+        );
+    }
+
     private void publishAndClear(SyncJob job) {
         job.getEvents().forEach(event ->
             eventBus.publish(EventEnvelope.of(event.getClass().getSimpleName(), event))
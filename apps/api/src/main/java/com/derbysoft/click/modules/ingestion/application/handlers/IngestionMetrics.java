@@ -0,0 +1,123 @@
+package com.derbysoft.click.modules.ingestion.application.handlers;
+
+import com.derbysoft.click.modules.ingestion.domain.SyncJobRepository;
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.FailureClass;
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.SyncJobStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Meters for the sync job pipeline, scraped from {@code /actuator/prometheus}. Queue depth is
+ * sampled from the database on a fixed schedule rather than on every scrape, so a burst of
+ * scrapes never turns into a burst of {@code COUNT} queries.
+ */
+@Component
+public class IngestionMetrics {
+
+    private static final Logger log = LoggerFactory.getLogger(IngestionMetrics.class);
+    private static final List<SyncJobStatus> QUEUE_STATUSES =
+        List.of(SyncJobStatus.PENDING, SyncJobStatus.RUNNING);
+
+    private final MeterRegistry registry;
+    private final SyncJobRepository syncJobRepository;
+    private final Map<SyncJobStatus, AtomicLong> queueDepth = new EnumMap<>(SyncJobStatus.class);
+    private final Timer claimToStart;
+    private final Timer upsert;
+    private final Counter rowsIngested;
+    private final Counter rowsUnchanged;
+    private final DistributionSummary upsertBatchSize;
+
+    public IngestionMetrics(MeterRegistry registry, SyncJobRepository syncJobRepository) {
+        this.registry = registry;
+        this.syncJobRepository = syncJobRepository;
+        for (SyncJobStatus status : QUEUE_STATUSES) {
+            AtomicLong depth = new AtomicLong();
+            queueDepth.put(status, depth);
+            Gauge.builder("ingestion.jobs.queue.depth", depth, AtomicLong::get)
+                .description("Sync jobs by status, sampled from sync_jobs")
+                .tag("status", status.name())
+                .register(registry);
+        }
+        this.claimToStart = Timer.builder("ingestion.jobs.claim.lag")
+            .description("Time from a job being claimed to a worker starting it")
+            .publishPercentileHistogram()
+            .register(registry);
+        this.upsert = Timer.builder("ingestion.rows.upsert")
+            .description("Duration of one raw_campaign_rows batch upsert")
+            .publishPercentileHistogram()
+            .register(registry);
+        this.rowsIngested = Counter.builder("ingestion.rows.ingested")
+            .description("Campaign rows written to raw_campaign_rows")
+            .register(registry);
+        this.rowsUnchanged = Counter.builder("ingestion.rows.unchanged")
+            .description("Fetched campaign rows skipped because their content hash was unchanged")
+            .register(registry);
+        this.upsertBatchSize = DistributionSummary.builder("ingestion.rows.upsert.batch")
+            .description("Rows per raw_campaign_rows batch upsert")
+            .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${ingestion.metrics.queue-depth-interval-ms:30000}")
+    public void refreshQueueDepth() {
+        try {
+            Map<SyncJobStatus, Long> counts = syncJobRepository.countActiveByStatus();
+            queueDepth.forEach((status, depth) -> depth.set(counts.getOrDefault(status, 0L)));
+        } catch (Exception e) {
+            log.warn("Failed to sample sync job queue depth: {}", e.getMessage());
+        }
+    }
+
+    public void recordClaimToStart(Duration lag) {
+        claimToStart.record(lag.isNegative() ? Duration.ZERO : lag);
+    }
+
+    /** Records one account's report fetch, tagged {@code succeeded} or the failure class. */
+    public void recordFetch(Duration duration, String outcome) {
+        Timer.builder("ingestion.fetch")
+            .description("Duration of streaming one account's report into raw_campaign_rows")
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(registry)
+            .record(duration);
+    }
+
+    public void recordUpsert(Duration duration, int rows) {
+        upsert.record(duration);
+        upsertBatchSize.record(rows);
+        rowsIngested.increment(rows);
+    }
+
+    public void recordUnchanged(int rows) {
+        rowsUnchanged.increment(rows);
+    }
+
+    /** Counts snapshots moved by the retention pass, tagged {@code archived} or {@code pruned}. */
+    public void recordRetention(String action, int snapshots) {
+        registry.counter("ingestion.snapshots.retention", "action", action).increment(snapshots);
+    }
+
+    public void recordRetry(FailureClass failureClass) {
+        registry.counter("ingestion.jobs.retries", "failure_class", failureClass.name()).increment();
+    }
+
+    public void recordFailure(FailureClass failureClass) {
+        registry.counter("ingestion.jobs.failures", "failure_class", failureClass.name()).increment();
+    }
+
+    /** Records a RUNNING job whose lease expired, by whether it was {@code requeued} or {@code stuck}. */
+    public void recordLeaseRecovery(String outcome) {
+        registry.counter("ingestion.jobs.lease.recoveries", "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,29 @@
+package com.derbysoft.click.modules.ingestion.application.handlers;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "ingestion.retention")
+public class IngestionRetentionConfig {
+
+    // Snapshots whose window ended more than this many days ago move to the archive
+    private int hotDays = 400;
+    // A superseded snapshot with no rows left is kept this long before it is deleted
+    private int supersededGraceDays = 7;
+    // Snapshots archived, and superseded snapshots deleted, per pass
+    private int batchSize = 200;
+    private String archiveDir = "data/raw-archive";
+
+    public int getHotDays() { return hotDays; }
+    public void setHotDays(int hotDays) { this.hotDays = hotDays; }
+
+    public int getSupersededGraceDays() { return supersededGraceDays; }
+    public void setSupersededGraceDays(int supersededGraceDays) { this.supersededGraceDays = supersededGraceDays; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public String getArchiveDir() { return archiveDir; }
+    public void setArchiveDir(String archiveDir) { this.archiveDir = archiveDir; }
+}
@@ -0,0 +1,27 @@
+package com.derbysoft.click.modules.ingestion.application.handlers;
+
+import java.time.LocalTime;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "ingestion.sync")
+public class IngestionSyncConfig {
+
+    // A report day is final once it is more than this many days old when fetched; the daily
+    // sync looks back one day more than this so each day is fetched once after it settles
+    private int conversionLagDays = 2;
+    // Local time in each account's own time zone at which its daily sync becomes due
+    private LocalTime dailyLocalTime = LocalTime.of(2, 0);
+    // Accounts are spread over this many minutes after dailyLocalTime by a hash of the binding
+    private int dailyJitterMinutes = 120;
+
+    public int getConversionLagDays() { return conversionLagDays; }
+    public void setConversionLagDays(int conversionLagDays) { this.conversionLagDays = conversionLagDays; }
+
+    public LocalTime getDailyLocalTime() { return dailyLocalTime; }
+    public void setDailyLocalTime(LocalTime dailyLocalTime) { this.dailyLocalTime = dailyLocalTime; }
+
+    public int getDailyJitterMinutes() { return dailyJitterMinutes; }
+    public void setDailyJitterMinutes(int dailyJitterMinutes) { this.dailyJitterMinutes = dailyJitterMinutes; }
+}
@@ -0,0 +1,30 @@
+package com.derbysoft.click.modules.ingestion.application.handlers;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "ingestion.workers")
+public class IngestionWorkerConfig {
+
+    private int poolSize = 8;
+    private int claimBatchSize = 16;
+    private int recoveryBatchSize = 100;
+    private int maxConcurrentPerCustomer = 2;
+    private boolean virtualThreads = true;
+
+    public int getPoolSize() { return poolSize; }
+    public void setPoolSize(int poolSize) { this.poolSize = poolSize; }
+
+    public int getClaimBatchSize() { return claimBatchSize; }
+    public void setClaimBatchSize(int claimBatchSize) { this.claimBatchSize = claimBatchSize; }
+
+    public int getRecoveryBatchSize() { return recoveryBatchSize; }
+    public void setRecoveryBatchSize(int recoveryBatchSize) { this.recoveryBatchSize = recoveryBatchSize; }
+
+    public int getMaxConcurrentPerCustomer() { return maxConcurrentPerCustomer; }
+    public void setMaxConcurrentPerCustomer(int maxConcurrentPerCustomer) { this.maxConcurrentPerCustomer = maxConcurrentPerCustomer; }
+
+    public boolean isVirtualThreads() { return virtualThreads; }
+    public void setVirtualThreads(boolean virtualThreads) { this.virtualThreads = virtualThreads; }
+}
@@ -0,0 +1,57 @@
+package com.derbysoft.click.modules.ingestion.application.handlers;
+
+import com.derbysoft.click.modules.ingestion.domain.SyncJobRepository;
+import com.derbysoft.click.modules.ingestion.domain.aggregates.SyncJob;
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.ClaimCandidate;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Claims PENDING sync jobs for this worker. Candidates from the longest-waiting tenants are
+ * read without locks, {@link FairJobScheduler} picks which of them to run, and only the picks
+ * are locked with {@code FOR UPDATE SKIP LOCKED} and moved to RUNNING with a lease in the
+ * same short transaction, so concurrent workers and other API replicas never pick up the
+ * same job.
+ */
+@Component
+public class JobClaimer {
+
+    // Enough tenants that one tenant's backlog never fills the candidate set on its own
+    private static final int TENANTS_PER_SLOT = 4;
+
+    private final SyncJobRepository syncJobRepository;
+    private final FairJobScheduler fairJobScheduler;
+    private final IngestionWorkerConfig workerConfig;
+
+    public JobClaimer(SyncJobRepository syncJobRepository,
+                      FairJobScheduler fairJobScheduler,
+                      IngestionWorkerConfig workerConfig) {
+        this.syncJobRepository = syncJobRepository;
+        this.fairJobScheduler = fairJobScheduler;
+        this.workerConfig = workerConfig;
+    }
+
+    @Transactional
+    public List<UUID> claim(Instant now, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        List<ClaimCandidate> candidates =
+            syncJobRepository.findClaimCandidates(now, limit * TENANTS_PER_SLOT, limit);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        // The count steers selection away from busy customers; the lease re-enforces the cap
+        // under a per-customer lock, since another replica may lease in between.
+        int maxPerCustomer = workerConfig.getMaxConcurrentPerCustomer();
+        Map<String, Long> running = syncJobRepository.countRunningByAccount(
+            candidates.stream().map(ClaimCandidate::accountId).distinct().toList());
+        List<UUID> selected = fairJobScheduler.select(candidates, running, maxPerCustomer, limit);
+        return syncJobRepository.leaseAll(selected, now, now.plus(SyncJob.LEASE_DURATION), maxPerCustomer);
+    }
+}
@@ -3,8 +3,15 @@ package com.derbysoft.click.modules.ingestion.application.handlers;
 import com.derbysoft.click.modules.ingestion.domain.SyncJobRepository;
 import com.derbysoft.click.modules.ingestion.domain.aggregates.SyncJob;
 import com.derbysoft.click.modules.ingestion.domain.valueobjects.FailureClass;
+import jakarta.annotation.PreDestroy;
 import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -14,40 +21,57 @@ import org.springframework.stereotype.Component;
 public class JobRunner {
 
     private static final Logger log = LoggerFactory.getLogger(JobRunner.class);
-    private static final int MAX_JOBS_PER_TICK = 5;
 
     private final SyncJobRepository syncJobRepository;
+    private final JobClaimer jobClaimer;
     private final JobExecutor jobExecutor;
     private final RetryPolicyEngine retryPolicyEngine;
     private final IncidentLifecycleService incidentLifecycleService;
+    private final IngestionWorkerConfig workerConfig;
+    private final IngestionMetrics metrics;
+    private final ExecutorService workers;
+    private final AtomicInteger inFlight = new AtomicInteger();
 
     public JobRunner(
         SyncJobRepository syncJobRepository,
+        JobClaimer jobClaimer,
         JobExecutor jobExecutor,
         RetryPolicyEngine retryPolicyEngine,
-        IncidentLifecycleService incidentLifecycleService
+        IncidentLifecycleService incidentLifecycleService,
+        IngestionWorkerConfig workerConfig,
+        IngestionMetrics metrics
     ) {
         this.syncJobRepository = syncJobRepository;
+        this.jobClaimer = jobClaimer;
         this.jobExecutor = jobExecutor;
         this.retryPolicyEngine = retryPolicyEngine;
         this.incidentLifecycleService = incidentLifecycleService;
+        this.workerConfig = workerConfig;
+        this.metrics = metrics;
+        this.workers = workerConfig.isVirtualThreads()
+            ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sync-job-", 0).factory())
+            : Executors.newFixedThreadPool(workerConfig.getPoolSize(),
+                Thread.ofPlatform().name("sync-job-", 0).daemon(true).factory());
     }
 
-    @Scheduled(fixedDelay = 30_000)
+    @Scheduled(fixedDelayString = "${ingestion.workers.poll-interval-ms:5000}")
     public void runPendingJobs() {
         Instant now = Instant.now();
 
-        // 1. Recover stuck jobs: RUNNING with expired lease
-        List<SyncJob> expiredJobs = syncJobRepository.findRunningJobsWithExpiredLease(now);
+        // 1. Recover stuck jobs: RUNNING with expired lease, a bounded batch per tick
+        List<SyncJob> expiredJobs = syncJobRepository.findRunningJobsWithExpiredLease(
+            now, workerConfig.getRecoveryBatchSize());
         for (SyncJob job : expiredJobs) {
             try {
                 if (job.canRetry()) {
                     var delay = retryPolicyEngine.computeDelay(job);
                     job.requeueForRetry(now.plus(delay), now);
                     syncJobRepository.save(job);
+                    metrics.recordLeaseRecovery("requeued");
                 } else {
                     job.markStuck(now);
                     syncJobRepository.save(job);
+                    metrics.recordLeaseRecovery("stuck");
                     incidentLifecycleService.onFailure(
                         job.getIdempotencyKey(), job.getTenantId(), FailureClass.TRANSIENT);
                 }
@@ -56,17 +80,48 @@ public class JobRunner {
             }
         }
 
-        // 2. Pick up to 5 PENDING jobs where nextAttemptAfter <= now
-        List<SyncJob> pendingJobs = syncJobRepository.findPendingJobs(now);
-        int count = 0;
-        for (SyncJob job : pendingJobs) {
-            if (count >= MAX_JOBS_PER_TICK) break;
+        // 2. Claim as many PENDING jobs as there are free worker slots and hand them to the pool
+        int freeSlots = workerConfig.getPoolSize() - inFlight.get();
+        int limit = Math.min(freeSlots, workerConfig.getClaimBatchSize());
+        if (limit <= 0) {
+            return;
+        }
+
+        List<UUID> claimed;
+        try {
+            claimed = jobClaimer.claim(now, limit);
+        } catch (Exception e) {
+            log.warn("Failed to claim pending jobs: {}", e.getMessage());
+            return;
+        }
+
+        for (UUID jobId : claimed) {
+            inFlight.incrementAndGet();
             try {
-                jobExecutor.execute(job.getId());
-                count++;
-            } catch (Exception e) {
-                log.warn("Failed to execute job {}: {}", job.getId(), e.getMessage());
+                workers.submit(() -> runClaimed(jobId));
+            } catch (RejectedExecutionException e) {
+                // Shutting down: the lease expires and step 1 requeues the job
+                inFlight.decrementAndGet();
+                log.warn("Worker pool rejected job {}: {}", jobId, e.getMessage());
             }
         }
     }
+
+    private void runClaimed(UUID jobId) {
+        try {
+            jobExecutor.executeClaimed(jobId);
+        } catch (Exception e) {
+            log.warn("Failed to execute job {}: {}", jobId, e.getMessage());
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
 }
@@ -0,0 +1,21 @@
+package com.derbysoft.click.modules.ingestion.application.handlers;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "ingestion.partitions")
+public class RawRowPartitionConfig {
+
+    // Months past the current one that always have a raw_campaign_rows partition
+    private int monthsAhead = 3;
+    // Whole months of report dates kept; an older partition is dropped once snapshot retention
+    // has archived all its rows. 0, the default, keeps everything
+    private int retentionMonths = 0;
+
+    public int getMonthsAhead() { return monthsAhead; }
+    public void setMonthsAhead(int monthsAhead) { this.monthsAhead = monthsAhead; }
+
+    public int getRetentionMonths() { return retentionMonths; }
+    public void setRetentionMonths(int retentionMonths) { this.retentionMonths = retentionMonths; }
+}
@@ -0,0 +1,138 @@
+package com.derbysoft.click.modules.ingestion.application.handlers;
+
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.DateWindow;
+import com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository.RawCampaignRowJpaRepository;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the monthly partitions of {@code raw_campaign_rows} in step with the calendar: a daily
+ * pass creates the partitions for the next few months and, when a retention is configured,
+ * removes those past it. Snapshot retention archives rows through the parent table, so a
+ * month past retention stays attached until archiving has emptied it, and is only then
+ * detached and dropped. A table left detached with rows in it, by an interrupted pass or by
+ * hand, is attached again so archiving can reach them. Jobs call {@link #ensureCovered}
+ * before writing, so a backfill into a month that has no partition creates it first instead
+ * of failing the insert, and one into a month past retention is refused.
+ *
+ * <p>Partition DDL runs outside the write transaction. Creating a partition locks the parent
+ * table, and holding that lock for a whole report stream would stall every other worker.
+ */
+@Component
+public class RawRowPartitionMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(RawRowPartitionMaintainer.class);
+
+    private final RawCampaignRowJpaRepository rawCampaignRowJpaRepository;
+    private final RawRowPartitionConfig config;
+    private final Set<YearMonth> knownMonths = ConcurrentHashMap.newKeySet();
+
+    public RawRowPartitionMaintainer(RawCampaignRowJpaRepository rawCampaignRowJpaRepository,
+                                     RawRowPartitionConfig config) {
+        this.rawCampaignRowJpaRepository = rawCampaignRowJpaRepository;
+        this.config = config;
+    }
+
+    @Scheduled(cron = "${ingestion.partitions.maintenance-cron:0 15 1 * * *}", zone = "UTC")
+    public void maintain() {
+        try {
+            YearMonth current = YearMonth.now(ZoneOffset.UTC);
+            Set<YearMonth> existing = refresh();
+
+            for (int i = 0; i <= config.getMonthsAhead(); i++) {
+                YearMonth month = current.plusMonths(i);
+                if (!existing.contains(month)) {
+                    rawCampaignRowJpaRepository.createPartition(month);
+                    knownMonths.add(month);
+                    log.info("Created raw_campaign_rows partition for {}", month);
+                }
+            }
+
+            for (YearMonth month : rawCampaignRowJpaRepository.findDetachedMonths()) {
+                if (rawCampaignRowJpaRepository.isPartitionEmpty(month)) {
+                    rawCampaignRowJpaRepository.dropDetachedPartition(month);
+                    log.info("Dropped detached raw_campaign_rows partition for {}", month);
+                } else {
+                    rawCampaignRowJpaRepository.attachPartition(month);
+                    knownMonths.add(month);
+                    log.warn("Reattached raw_campaign_rows partition for {}; it still holds rows", month);
+                }
+            }
+
+            if (config.getRetentionMonths() <= 0) {
+                return;
+            }
+            YearMonth oldestKept = oldestKept(current);
+            for (YearMonth month : existing) {
+                if (!month.isBefore(oldestKept)) {
+                    continue;
+                }
+                if (!rawCampaignRowJpaRepository.isPartitionEmpty(month)) {
+                    log.debug("Expired raw_campaign_rows partition for {} still holds unarchived rows", month);
+                    continue;
+                }
+                knownMonths.remove(month);
+                rawCampaignRowJpaRepository.detachPartition(month);
+                // Checked again once detached, in case a write landed in between
+                if (rawCampaignRowJpaRepository.isPartitionEmpty(month)) {
+                    rawCampaignRowJpaRepository.dropDetachedPartition(month);
+                    log.info("Dropped expired raw_campaign_rows partition for {}", month);
+                } else {
+                    rawCampaignRowJpaRepository.attachPartition(month);
+                    knownMonths.add(month);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("raw_campaign_rows partition maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Whether every month the window spans is within retention, so rows for it may be written.
+     * Always true when retention is disabled.
+     */
+    public boolean isRetained(DateWindow window) {
+        return config.getRetentionMonths() <= 0
+            || !YearMonth.from(window.from()).isBefore(oldestKept(YearMonth.now(ZoneOffset.UTC)));
+    }
+
+    /**
+     * Creates any missing partition for the months the window spans.
+     *
+     * @throws IllegalStateException if the window reaches into a month past retention
+     */
+    public void ensureCovered(DateWindow window) {
+        if (!isRetained(window)) {
+            throw new IllegalStateException("Report dates from " + window.from()
+                + " are past raw_campaign_rows retention");
+        }
+        YearMonth last = YearMonth.from(window.to());
+        for (YearMonth month = YearMonth.from(window.from()); !month.isAfter(last); month = month.plusMonths(1)) {
+            if (knownMonths.contains(month)) {
+                continue;
+            }
+            if (!refresh().contains(month)) {
+                rawCampaignRowJpaRepository.createPartition(month);
+                knownMonths.add(month);
+                log.info("Created raw_campaign_rows partition for {}", month);
+            }
+        }
+    }
+
+    private YearMonth oldestKept(YearMonth current) {
+        return current.minusMonths(config.getRetentionMonths() - 1L);
+    }
+
+    private Set<YearMonth> refresh() {
+        Set<YearMonth> existing = rawCampaignRowJpaRepository.findPartitionMonths();
+        knownMonths.retainAll(existing);
+        knownMonths.addAll(existing);
+        return existing;
+    }
+}
@@ -0,0 +1,127 @@
+package com.derbysoft.click.modules.ingestion.application.handlers;
+
+import com.derbysoft.click.modules.ingestion.application.ports.GoogleAdsReportingPort;
+import com.derbysoft.click.modules.ingestion.application.ports.GoogleAdsReportingPort.CampaignRow;
+import com.derbysoft.click.modules.ingestion.domain.RawSnapshotRepository;
+import com.derbysoft.click.modules.ingestion.domain.aggregates.RawSnapshot;
+import com.derbysoft.click.modules.ingestion.domain.aggregates.SyncJob;
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.DateWindow;
+import com.derbysoft.click.modules.ingestion.infrastructure.persistence.entity.RawCampaignRowEntity;
+import com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository.RawCampaignRowBatchRepository.RowKey;
+import com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository.RawCampaignRowJpaRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Streams a job's report from Google Ads straight into {@code raw_campaign_rows}: each page is
+ * mapped, folded into the checksum and batch-written before the next one is pulled. The
+ * snapshot row is inserted last (its FK from raw rows is deferred) and the whole write runs in
+ * its own transaction, so a stream that fails half-way leaves no partial rows behind.
+ *
+ * <p>Only rows whose content hash differs from the stored one are written; unchanged rows keep
+ * the snapshot that last changed them. Days of the window older than the conversion lag, by
+ * the account's own calendar, are then marked final, so the daily sync stops re-fetching them.
+ */
+@Component
+public class RawSnapshotWriter {
+
+    private final RawSnapshotRepository rawSnapshotRepository;
+    private final RawCampaignRowJpaRepository rawCampaignRowJpaRepository;
+    private final GoogleAdsReportingPort googleAdsReportingPort;
+    private final IngestionMetrics metrics;
+    private final IngestionSyncConfig syncConfig;
+    private final AccountClock accountClock;
+
+    public RawSnapshotWriter(
+        RawSnapshotRepository rawSnapshotRepository,
+        RawCampaignRowJpaRepository rawCampaignRowJpaRepository,
+        GoogleAdsReportingPort googleAdsReportingPort,
+        IngestionMetrics metrics,
+        IngestionSyncConfig syncConfig,
+        AccountClock accountClock
+    ) {
+        this.rawSnapshotRepository = rawSnapshotRepository;
+        this.rawCampaignRowJpaRepository = rawCampaignRowJpaRepository;
+        this.googleAdsReportingPort = googleAdsReportingPort;
+        this.metrics = metrics;
+        this.syncConfig = syncConfig;
+        this.accountClock = accountClock;
+    }
+
+    @Transactional
+    public RawSnapshot write(SyncJob job, String managerId) {
+        UUID snapshotId = UUID.randomUUID();
+        CampaignRowChecksum checksum = new CampaignRowChecksum();
+        Instant ingestedAt = Instant.now();
+
+        long rowCount = googleAdsReportingPort.streamCampaignMetrics(
+            job.getAccountId(), managerId, null, job.getDateWindow(), page -> {
+                checksum.update(page);
+                List<RawCampaignRowEntity> changed = changedRows(page, snapshotId, job, ingestedAt);
+                metrics.recordUnchanged(page.size() - changed.size());
+                if (changed.isEmpty()) {
+                    return;
+                }
+                long upsertStart = System.nanoTime();
+                rawCampaignRowJpaRepository.batchUpsert(changed);
+                metrics.recordUpsert(Duration.ofNanos(System.nanoTime() - upsertStart), changed.size());
+            }
+        );
+
+        RawSnapshot snapshot = RawSnapshot.create(
+            snapshotId, job.getId(), job.getIntegrationId(), job.getTenantId(),
+            job.getAccountId(), job.getReportType(), job.getDateWindow(),
+            Math.toIntExact(rowCount), checksum.hex(), Instant.now()
+        );
+        rawSnapshotRepository.save(snapshot);
+        markSettledDaysFinal(job, ingestedAt);
+        return snapshot;
+    }
+
+    private List<RawCampaignRowEntity> changedRows(List<CampaignRow> page, UUID snapshotId,
+                                                   SyncJob job, Instant ingestedAt) {
+        if (page.isEmpty()) {
+            return List.of();
+        }
+        Set<String> campaignIds = page.stream().map(CampaignRow::campaignId).collect(Collectors.toSet());
+        DateWindow window = job.getDateWindow();
+        Map<RowKey, Long> stored = rawCampaignRowJpaRepository.findContentHashes(
+            job.getIntegrationId(), job.getAccountId(), campaignIds, window.from(), window.to());
+
+        List<RawCampaignRowEntity> changed = new ArrayList<>(page.size());
+        for (CampaignRow r : page) {
+            long hash = CampaignRowChecksum.contentHash(r);
+            Long previous = stored.get(new RowKey(r.campaignId(), r.reportDate()));
+            if (previous != null && previous == hash) {
+                continue;
+            }
+            changed.add(new RawCampaignRowEntity(
+                UUID.randomUUID(), snapshotId, job.getIntegrationId(), job.getAccountId(),
+                r.campaignId(), r.campaignName(), r.reportDate(),
+                r.clicks(), r.impressions(), r.costMicros(), r.conversions(), hash, ingestedAt
+            ));
+        }
+        return changed;
+    }
+
+    private void markSettledDaysFinal(SyncJob job, Instant fetchedAt) {
+        LocalDate settledThrough = accountClock.today(job.getTenantId(), job.getAccountId(), fetchedAt)
+            .minusDays(syncConfig.getConversionLagDays() + 1L);
+        DateWindow window = job.getDateWindow();
+        if (settledThrough.isBefore(window.from())) {
+            return;
+        }
+        LocalDate to = window.to().isBefore(settledThrough) ? window.to() : settledThrough;
+        rawSnapshotRepository.markFinal(job.getIntegrationId(), job.getAccountId(), job.getReportType(),
+            new DateWindow(window.from(), to), fetchedAt);
+    }
+}
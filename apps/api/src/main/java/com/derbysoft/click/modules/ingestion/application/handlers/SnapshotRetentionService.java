@@ -0,0 +1,133 @@
+package com.derbysoft.click.modules.ingestion.application.handlers;
+
+import com.derbysoft.click.modules.ingestion.domain.RawSnapshotRepository;
+import com.derbysoft.click.modules.ingestion.domain.aggregates.RawSnapshot;
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.DateWindow;
+import com.derbysoft.click.modules.ingestion.infrastructure.archive.RawRowArchive;
+import com.derbysoft.click.modules.ingestion.infrastructure.persistence.entity.RawCampaignRowEntity;
+import com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository.RawCampaignRowJpaRepository;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps raw_snapshots and raw_campaign_rows down to the data syncs still touch. Each row
+ * in raw_campaign_rows is the latest value for its (campaign, date) and points at the
+ * snapshot that last changed it, so the tables only need two kinds of pruning:
+ *
+ * <ul>
+ *   <li>Snapshots whose window ended more than {@code hotDays} ago are compacted: the rows
+ *       they own are written to a compressed columnar file and deleted from
+ *       raw_campaign_rows, and the snapshot records where they went.</li>
+ *   <li>Snapshots superseded by a newer fetch of the same window, and left with no rows
+ *       because every one was rewritten, are deleted.</li>
+ * </ul>
+ *
+ * The latest snapshot for each window always stays, and so do the rows it points at. Rows are
+ * read through the partitioned parent, so a snapshot is only archived while every month of
+ * its window has a partition attached; otherwise its rows would be invisible and it would be
+ * archived as empty. Hot snapshots must also be archived before {@link RawRowPartitionMaintainer}
+ * may drop their month, so {@code hotDays} has to fit inside the partition retention.
+ */
+@Component
+public class SnapshotRetentionService {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotRetentionService.class);
+
+    private final RawSnapshotRepository rawSnapshotRepository;
+    private final RawCampaignRowJpaRepository rawCampaignRowJpaRepository;
+    private final RawRowArchive rawRowArchive;
+    private final IngestionRetentionConfig config;
+    private final IngestionMetrics metrics;
+
+    public SnapshotRetentionService(
+        RawSnapshotRepository rawSnapshotRepository,
+        RawCampaignRowJpaRepository rawCampaignRowJpaRepository,
+        RawRowArchive rawRowArchive,
+        IngestionRetentionConfig config,
+        IngestionMetrics metrics,
+        RawRowPartitionConfig partitionConfig
+    ) {
+        // An expired month's last day is at least (retentionMonths - 1) * 28 days old
+        long expiresAfterDays = (partitionConfig.getRetentionMonths() - 1L) * 28;
+        if (partitionConfig.getRetentionMonths() > 0 && config.getHotDays() > expiresAfterDays) {
+            throw new IllegalStateException("ingestion.retention.hot-days (" + config.getHotDays()
+                + ") must not exceed " + expiresAfterDays + " with ingestion.partitions.retention-months "
+                + partitionConfig.getRetentionMonths() + ", or expired months are never archived");
+        }
+        this.rawSnapshotRepository = rawSnapshotRepository;
+        this.rawCampaignRowJpaRepository = rawCampaignRowJpaRepository;
+        this.rawRowArchive = rawRowArchive;
+        this.config = config;
+        this.metrics = metrics;
+    }
+
+    @Scheduled(cron = "${ingestion.retention.cron:0 45 1 * * *}", zone = "UTC")
+    public void runRetention() {
+        Instant now = Instant.now();
+        try {
+            archiveCold(now);
+            int pruned = rawSnapshotRepository.deleteSuperseded(
+                now.minus(Duration.ofDays(config.getSupersededGraceDays())), config.getBatchSize());
+            metrics.recordRetention("pruned", pruned);
+        } catch (Exception e) {
+            log.warn("Raw snapshot retention pass failed: {}", e.getMessage());
+        }
+    }
+
+    private void archiveCold(Instant now) {
+        LocalDate cutoff = LocalDate.ofInstant(now, ZoneOffset.UTC).minusDays(config.getHotDays());
+        List<RawSnapshot> cold = rawSnapshotRepository.findHotEndingBefore(cutoff, config.getBatchSize());
+        if (cold.isEmpty()) {
+            return;
+        }
+        Set<YearMonth> attached = rawCampaignRowJpaRepository.findPartitionMonths();
+        for (RawSnapshot snapshot : cold) {
+            if (!coversWindow(attached, snapshot.getDateWindow())) {
+                log.warn("Not archiving raw snapshot {}: a month of {} has no attached partition",
+                    snapshot.getId(), snapshot.getDateWindow());
+                continue;
+            }
+            try {
+                archive(snapshot, now);
+                metrics.recordRetention("archived", 1);
+            } catch (Exception e) {
+                // Left hot; the next pass retries it and overwrites any file written here
+                log.warn("Failed to archive raw snapshot {}: {}", snapshot.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private static boolean coversWindow(Set<YearMonth> attached, DateWindow window) {
+        YearMonth last = YearMonth.from(window.to());
+        for (YearMonth month = YearMonth.from(window.from()); !month.isAfter(last); month = month.plusMonths(1)) {
+            if (!attached.contains(month)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void archive(RawSnapshot snapshot, Instant now) throws IOException {
+        DateWindow window = snapshot.getDateWindow();
+        List<RawCampaignRowEntity> rows = rawCampaignRowJpaRepository.findBySnapshotIdAndReportDateBetween(
+            snapshot.getId(), window.from(), window.to());
+
+        Path file = Path.of(config.getArchiveDir(), snapshot.getIntegrationId().toString(),
+            snapshot.getId() + ".rows.gz").toAbsolutePath();
+        rawRowArchive.write(file, snapshot.getId(), snapshot.getIntegrationId(), snapshot.getAccountId(), rows);
+
+        snapshot.archive(file.toUri().toString(), now);
+        rawSnapshotRepository.saveArchived(snapshot, rows.size());
+    }
+}
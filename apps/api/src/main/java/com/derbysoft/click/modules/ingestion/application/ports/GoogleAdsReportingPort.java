@@ -3,11 +3,19 @@ package com.derbysoft.click.modules.ingestion.application.ports;
 import com.derbysoft.click.modules.ingestion.domain.valueobjects.DateWindow;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface GoogleAdsReportingPort {
 
-    List<CampaignRow> fetchCampaignMetrics(String customerId, String managerId,
-                                            String credentialPath, DateWindow window);
+    /**
+     * Streams campaign metrics ordered by campaign id and date, handing each
+     * {@code SearchGoogleAdsStream} page to {@code pageConsumer} as soon as it arrives.
+     * Only one page is held in memory at a time.
+     *
+     * @return total number of rows streamed
+     */
+    long streamCampaignMetrics(String customerId, String managerId, String credentialPath,
+                               DateWindow window, Consumer<List<CampaignRow>> pageConsumer);
 
     record CampaignRow(
         String campaignId,
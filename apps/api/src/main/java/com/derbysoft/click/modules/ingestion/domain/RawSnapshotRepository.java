@@ -1,12 +1,42 @@
 package com.derbysoft.click.modules.ingestion.domain;
 
 import com.derbysoft.click.modules.ingestion.domain.aggregates.RawSnapshot;
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.DateWindow;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface RawSnapshotRepository {
     Optional<RawSnapshot> findById(UUID id);
     List<RawSnapshot> findByJobId(UUID jobId);
     RawSnapshot save(RawSnapshot snapshot);
+
+    /**
+     * Days in {@code window} whose metrics had settled when they were last fetched, by
+     * integration. Integrations with no final days are absent from the map.
+     */
+    Map<UUID, Set<LocalDate>> findFinalDays(Collection<UUID> integrationIds, String reportType, DateWindow window);
+
+    void markFinal(UUID integrationId, String accountId, String reportType, DateWindow days, Instant now);
+
+    /** Snapshots whose rows are still in raw_campaign_rows and whose window ended before {@code cutoff}, oldest first. */
+    List<RawSnapshot> findHotEndingBefore(LocalDate cutoff, int limit);
+
+    /**
+     * Records an archived snapshot's rows location and deletes its rows from raw_campaign_rows in
+     * one transaction. Fails, changing nothing, unless exactly {@code archivedRows} rows were deleted
+     * and the snapshot was still hot.
+     */
+    void saveArchived(RawSnapshot snapshot, int archivedRows);
+
+    /**
+     * Deletes up to {@code limit} snapshots created before {@code createdBefore} that have a newer
+     * snapshot for the same window and no rows left in raw_campaign_rows.
+     */
+    int deleteSuperseded(Instant createdBefore, int limit);
 }
@@ -1,16 +1,44 @@
 package com.derbysoft.click.modules.ingestion.domain;
 
 import com.derbysoft.click.modules.ingestion.domain.aggregates.SyncJob;
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.ClaimCandidate;
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.SyncJobStatus;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface SyncJobRepository {
     Optional<SyncJob> findById(UUID id);
     Optional<SyncJob> findByIdempotencyKey(String key);
-    List<SyncJob> findPendingJobs(Instant maxNextAttemptAfter);
-    List<SyncJob> findRunningJobsWithExpiredLease(Instant now);
+    /**
+     * Due PENDING jobs to choose a claim from, without locking them: up to
+     * {@code perTenantLimit} per tenant for the {@code tenantLimit} longest-waiting tenants.
+     */
+    List<ClaimCandidate> findClaimCandidates(Instant now, int tenantLimit, int perTenantLimit);
+    /**
+     * Moves the given PENDING jobs to RUNNING with the lease, keeping each customer at or
+     * under {@code maxPerAccount} RUNNING jobs across replicas; returns those that were moved.
+     */
+    List<UUID> leaseAll(List<UUID> jobIds, Instant now, Instant leaseExpiresAt, int maxPerAccount);
+    Map<String, Long> countRunningByAccount(Collection<String> accountIds);
+    /**
+     * Latest end date of a DAILY job per integration, among those ending on or after
+     * {@code notBefore}; integrations with none are absent from the map.
+     */
+    Map<UUID, LocalDate> findLatestDailyWindowEnds(Collection<UUID> integrationIds, LocalDate notBefore);
+    List<SyncJob> findRunningJobsWithExpiredLease(Instant now, int limit);
     List<SyncJob> findByIntegrationId(UUID integrationId);
+    /** Counts PENDING and RUNNING jobs; statuses with no jobs are absent from the map. */
+    Map<SyncJobStatus, Long> countActiveByStatus();
+    /**
+     * Inserts, in one statement, the jobs whose idempotency key has no PENDING or RUNNING
+     * job; returns the ids of those inserted.
+     */
+    Set<UUID> insertAllIfAbsent(List<SyncJob> jobs);
     SyncJob save(SyncJob job);
 }
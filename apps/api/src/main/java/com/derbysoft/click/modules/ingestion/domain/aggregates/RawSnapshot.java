@@ -20,12 +20,15 @@ public final class RawSnapshot {
     private final int rowCount;
     private final String checksum;
     private final Instant createdAt;
+    private String rowsLocation;
+    private Instant archivedAt;
     private final List<Object> events = new ArrayList<>();
 
     private RawSnapshot(
         UUID id, UUID syncJobId, UUID integrationId, UUID tenantId,
         String accountId, String reportType, DateWindow dateWindow,
-        int rowCount, String checksum, Instant createdAt
+        int rowCount, String checksum, Instant createdAt,
+        String rowsLocation, Instant archivedAt
     ) {
         this.id = id;
         this.syncJobId = syncJobId;
@@ -37,6 +40,8 @@ public final class RawSnapshot {
         this.rowCount = rowCount;
         this.checksum = checksum;
         this.createdAt = createdAt;
+        this.rowsLocation = rowsLocation;
+        this.archivedAt = archivedAt;
     }
 
     public static RawSnapshot create(
@@ -47,7 +52,8 @@ public final class RawSnapshot {
         RawSnapshot snapshot = new RawSnapshot(
             id, syncJobId, integrationId, tenantId,
             accountId, reportType, dateWindow,
-            rowCount, checksum, now
+            rowCount, checksum, now,
+            null, null
         );
         snapshot.events.add(new RawSnapshotWritten(
             id, syncJobId, integrationId, tenantId,
@@ -61,15 +67,26 @@ public final class RawSnapshot {
     public static RawSnapshot reconstitute(
         UUID id, UUID syncJobId, UUID integrationId, UUID tenantId,
         String accountId, String reportType, DateWindow dateWindow,
-        int rowCount, String checksum, Instant createdAt
+        int rowCount, String checksum, Instant createdAt,
+        String rowsLocation, Instant archivedAt
     ) {
         return new RawSnapshot(
             id, syncJobId, integrationId, tenantId,
             accountId, reportType, dateWindow,
-            rowCount, checksum, createdAt
+            rowCount, checksum, createdAt,
+            rowsLocation, archivedAt
         );
     }
 
+    /** Records that the snapshot's rows were compacted out of raw_campaign_rows into {@code location}. */
+    public void archive(String location, Instant now) {
+        if (isArchived()) {
+            throw new IllegalStateException("RawSnapshot " + id + " is already archived at " + rowsLocation);
+        }
+        this.rowsLocation = location;
+        this.archivedAt = now;
+    }
+
     public UUID getId() { return id; }
     public UUID getSyncJobId() { return syncJobId; }
     public UUID getIntegrationId() { return integrationId; }
@@ -80,6 +97,10 @@ public final class RawSnapshot {
     public int getRowCount() { return rowCount; }
     public String getChecksum() { return checksum; }
     public Instant getCreatedAt() { return createdAt; }
+    /** The archive holding this snapshot's rows, or {@code null} while they are in raw_campaign_rows. */
+    public String getRowsLocation() { return rowsLocation; }
+    public Instant getArchivedAt() { return archivedAt; }
+    public boolean isArchived() { return rowsLocation != null; }
     public List<Object> getEvents() { return Collections.unmodifiableList(events); }
     public void clearEvents() { events.clear(); }
 }
@@ -7,6 +7,7 @@ import com.derbysoft.click.modules.ingestion.domain.valueobjects.DateWindow;
 import com.derbysoft.click.modules.ingestion.domain.valueobjects.FailureClass;
 import com.derbysoft.click.modules.ingestion.domain.valueobjects.SyncJobStatus;
 import com.derbysoft.click.modules.ingestion.domain.valueobjects.TriggerType;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -15,6 +16,8 @@ import java.util.UUID;
 
 public final class SyncJob {
 
+    public static final Duration LEASE_DURATION = Duration.ofHours(1);
+
     private final UUID id;
     private final UUID integrationId;
     private final UUID tenantId;
@@ -110,7 +113,7 @@ public final class SyncJob {
 
     public void acquireLease(Instant now) {
         this.status = SyncJobStatus.RUNNING;
-        this.leaseExpiresAt = now.plusSeconds(3600);
+        this.leaseExpiresAt = now.plus(LEASE_DURATION);
         this.attempts++;
         this.lastAttemptAt = now;
         this.updatedAt = now;
@@ -0,0 +1,9 @@
+package com.derbysoft.click.modules.ingestion.domain.valueobjects;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** A due PENDING sync job, locked for the current claim but not yet leased. */
+public record ClaimCandidate(UUID jobId, UUID tenantId, String accountId,
+                             TriggerType triggerType, Instant dueAt) {
+}
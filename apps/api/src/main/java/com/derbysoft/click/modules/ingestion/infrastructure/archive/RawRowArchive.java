@@ -0,0 +1,121 @@
+package com.derbysoft.click.modules.ingestion.infrastructure.archive;
+
+import com.derbysoft.click.modules.ingestion.infrastructure.persistence.entity.RawCampaignRowEntity;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads and writes the cold-tier archive of one snapshot's campaign rows: a gzip-compressed
+ * file laid out column by column, so runs of similar values (dates, names, small counters)
+ * sit next to each other and compress well. Fields every row of a snapshot shares
+ * (snapshot, integration, account) are stored once in the header.
+ *
+ * <p>Files are written to a temporary sibling and moved into place, so a reader never sees
+ * a partial archive.
+ */
+@Component
+public class RawRowArchive {
+
+    private static final int MAGIC = 0x52524131; // "RRA1"
+
+    public void write(Path file, UUID snapshotId, UUID integrationId, String accountId,
+                      List<RawCampaignRowEntity> rows) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(tmp))))) {
+            out.writeInt(MAGIC);
+            writeUuid(out, snapshotId);
+            writeUuid(out, integrationId);
+            out.writeUTF(accountId);
+            out.writeInt(rows.size());
+
+            for (RawCampaignRowEntity r : rows) writeUuid(out, r.getId());
+            for (RawCampaignRowEntity r : rows) out.writeUTF(r.getCampaignId());
+            for (RawCampaignRowEntity r : rows) {
+                out.writeBoolean(r.getCampaignName() != null);
+                if (r.getCampaignName() != null) out.writeUTF(r.getCampaignName());
+            }
+            for (RawCampaignRowEntity r : rows) out.writeLong(r.getReportDate().toEpochDay());
+            for (RawCampaignRowEntity r : rows) out.writeLong(r.getClicks());
+            for (RawCampaignRowEntity r : rows) out.writeLong(r.getImpressions());
+            for (RawCampaignRowEntity r : rows) out.writeLong(r.getCostMicros());
+            for (RawCampaignRowEntity r : rows) {
+                out.writeLong(r.getConversions().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+            }
+            for (RawCampaignRowEntity r : rows) out.writeLong(r.getContentHash() == null ? 0L : r.getContentHash());
+            for (RawCampaignRowEntity r : rows) out.writeLong(r.getIngestedAt().toEpochMilli());
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public List<RawCampaignRowEntity> read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(file))))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a raw row archive: " + file);
+            }
+            UUID snapshotId = readUuid(in);
+            UUID integrationId = readUuid(in);
+            String accountId = in.readUTF();
+            int n = in.readInt();
+
+            UUID[] ids = new UUID[n];
+            String[] campaignIds = new String[n];
+            String[] names = new String[n];
+            long[] dates = new long[n];
+            long[] clicks = new long[n];
+            long[] impressions = new long[n];
+            long[] costMicros = new long[n];
+            long[] conversions = new long[n];
+            long[] hashes = new long[n];
+            long[] ingestedAt = new long[n];
+            for (int i = 0; i < n; i++) ids[i] = readUuid(in);
+            for (int i = 0; i < n; i++) campaignIds[i] = in.readUTF();
+            for (int i = 0; i < n; i++) names[i] = in.readBoolean() ? in.readUTF() : null;
+            for (int i = 0; i < n; i++) dates[i] = in.readLong();
+            for (int i = 0; i < n; i++) clicks[i] = in.readLong();
+            for (int i = 0; i < n; i++) impressions[i] = in.readLong();
+            for (int i = 0; i < n; i++) costMicros[i] = in.readLong();
+            for (int i = 0; i < n; i++) conversions[i] = in.readLong();
+            for (int i = 0; i < n; i++) hashes[i] = in.readLong();
+            for (int i = 0; i < n; i++) ingestedAt[i] = in.readLong();
+
+            List<RawCampaignRowEntity> rows = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                rows.add(new RawCampaignRowEntity(
+                    ids[i], snapshotId, integrationId, accountId,
+                    campaignIds[i], names[i], LocalDate.ofEpochDay(dates[i]),
+                    clicks[i], impressions[i], costMicros[i],
+                    BigDecimal.valueOf(conversions[i], 2).doubleValue(), hashes[i],
+                    Instant.ofEpochMilli(ingestedAt[i])));
+            }
+            return rows;
+        }
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+}
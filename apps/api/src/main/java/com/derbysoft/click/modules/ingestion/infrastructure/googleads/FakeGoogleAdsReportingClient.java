@@ -0,0 +1,88 @@
+package com.derbysoft.click.modules.ingestion.infrastructure.googleads;
+
+import com.derbysoft.click.bootstrap.loadtest.FakeGoogleAdsBehaviour;
+import com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads.GoogleAdsQuotaExceededException;
+import com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads.GoogleAdsQuotaGuard;
+import com.derbysoft.click.modules.ingestion.application.ports.GoogleAdsReportingPort;
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.DateWindow;
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.FailureClass;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Load-test stand-in for {@link GoogleAdsReportingClient}. Generates a synthetic report of
+ * {@code campaignsPerAccount} campaigns per day of the window, streamed in pages of
+ * {@code pageSize} rows ordered by campaign id and date like the real stream. Metrics are
+ * derived from the campaign and date, so re-fetching a window yields identical rows. The
+ * first round trip goes through {@link GoogleAdsQuotaGuard} like the real client's.
+ */
+@Component
+@Primary
+@Profile("loadtest")
+public class FakeGoogleAdsReportingClient implements GoogleAdsReportingPort {
+
+    private final FakeGoogleAdsBehaviour behaviour;
+    private final GoogleAdsQuotaGuard quotaGuard;
+
+    public FakeGoogleAdsReportingClient(FakeGoogleAdsBehaviour behaviour, GoogleAdsQuotaGuard quotaGuard) {
+        this.behaviour = behaviour;
+        this.quotaGuard = quotaGuard;
+    }
+
+    @Override
+    public long streamCampaignMetrics(String customerId, String managerId, String credentialPath,
+                                      DateWindow window, Consumer<List<CampaignRow>> pageConsumer) {
+        try {
+            quotaGuard.call(customerId, () -> {
+                behaviour.simulateLatency();
+                switch (behaviour.nextFault()) {
+                    case AUTH -> throw new IngestionAuthException("Google Ads auth failure: OAUTH_TOKEN_INVALID (fake)");
+                    case RESOURCE_EXHAUSTED -> throw new StatusRuntimeException(
+                        Status.RESOURCE_EXHAUSTED.withDescription("fake"));
+                    case UNAVAILABLE -> throw new IngestionFetchException(FailureClass.TRANSIENT,
+                        "Transient gRPC error (UNAVAILABLE): fake");
+                    case NONE -> { }
+                }
+                return null;
+            });
+        } catch (GoogleAdsQuotaExceededException e) {
+            throw new IngestionFetchException(FailureClass.TRANSIENT, e.getMessage(), e);
+        } catch (StatusRuntimeException e) {
+            throw new IngestionFetchException(FailureClass.TRANSIENT,
+                "Transient gRPC error (" + e.getStatus().getCode() + "): fake", e);
+        } catch (IOException e) {
+            throw new IngestionFetchException(FailureClass.TRANSIENT, e.getMessage(), e);
+        }
+
+        long base = Long.parseLong(customerId.replace("-", "")) % 1_000_000L * 1_000L;
+        List<CampaignRow> page = new ArrayList<>(behaviour.getPageSize());
+        long rowCount = 0;
+        for (int c = 0; c < behaviour.getCampaignsPerAccount(); c++) {
+            String campaignId = String.valueOf(base + c);
+            for (LocalDate day = window.from(); !day.isAfter(window.to()); day = day.plusDays(1)) {
+                long seed = (campaignId + day).hashCode() & 0x7fffffffL;
+                page.add(new CampaignRow(campaignId, "Campaign " + campaignId,
+                    seed % 500, seed % 20_000, (seed % 5_000) * 10_000L, (seed % 40) / 4.0, day));
+                if (page.size() == behaviour.getPageSize()) {
+                    pageConsumer.accept(page);
+                    rowCount += page.size();
+                    page = new ArrayList<>(behaviour.getPageSize());
+                    behaviour.simulateLatency();
+                }
+            }
+        }
+        if (!page.isEmpty()) {
+            pageConsumer.accept(page);
+            rowCount += page.size();
+        }
+        return rowCount;
+    }
+}
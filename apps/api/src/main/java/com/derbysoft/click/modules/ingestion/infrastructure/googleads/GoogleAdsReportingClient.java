@@ -1,25 +1,25 @@
 package com.derbysoft.click.modules.ingestion.infrastructure.googleads;
 
-import com.google.ads.googleads.lib.GoogleAdsClient;
 import com.google.ads.googleads.v23.errors.GoogleAdsError;
 import com.google.ads.googleads.v23.errors.GoogleAdsException;
 import com.google.ads.googleads.v23.services.GoogleAdsRow;
 import com.google.ads.googleads.v23.services.GoogleAdsServiceClient;
+import com.google.ads.googleads.v23.services.GoogleAdsVersion;
 import com.google.ads.googleads.v23.services.SearchGoogleAdsStreamRequest;
 import com.google.ads.googleads.v23.services.SearchGoogleAdsStreamResponse;
-import com.google.auth.oauth2.GoogleCredentials;
-import com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads.GoogleAdsConfig;
+import com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads.GoogleAdsClientRegistry;
+import com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads.GoogleAdsQuotaExceededException;
+import com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads.GoogleAdsQuotaGuard;
 import com.derbysoft.click.modules.ingestion.application.ports.GoogleAdsReportingPort;
 import com.derbysoft.click.modules.ingestion.domain.valueobjects.DateWindow;
 import com.derbysoft.click.modules.ingestion.domain.valueobjects.FailureClass;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -28,42 +28,49 @@ import org.springframework.stereotype.Component;
 public class GoogleAdsReportingClient implements GoogleAdsReportingPort {
 
     private static final Logger log = LoggerFactory.getLogger(GoogleAdsReportingClient.class);
-    private static final String ADS_SCOPE = "https://www.googleapis.com/auth/adwords";
 
-    private final GoogleAdsConfig config;
+    private final GoogleAdsClientRegistry clientRegistry;
+    private final GoogleAdsQuotaGuard quotaGuard;
 
-    public GoogleAdsReportingClient(GoogleAdsConfig config) {
-        this.config = config;
+    public GoogleAdsReportingClient(GoogleAdsClientRegistry clientRegistry, GoogleAdsQuotaGuard quotaGuard) {
+        this.clientRegistry = clientRegistry;
+        this.quotaGuard = quotaGuard;
     }
 
     @Override
-    public List<CampaignRow> fetchCampaignMetrics(String customerId, String managerId,
-                                                   String credentialPath, DateWindow window) {
+    public long streamCampaignMetrics(String customerId, String managerId, String credentialPath,
+                                      DateWindow window, Consumer<List<CampaignRow>> pageConsumer) {
         try {
-            GoogleAdsClient googleAdsClient = buildClient(managerId, credentialPath);
+            GoogleAdsServiceClient serviceClient = clientRegistry.service(managerId, credentialPath,
+                GoogleAdsServiceClient.class, GoogleAdsVersion::createGoogleAdsServiceClient);
             String gaql = buildGaql(window);
 
-            try (GoogleAdsServiceClient serviceClient =
-                     googleAdsClient.getLatestVersion().createGoogleAdsServiceClient()) {
+            SearchGoogleAdsStreamRequest request = SearchGoogleAdsStreamRequest.newBuilder()
+                .setCustomerId(customerId.replace("-", ""))
+                .setQuery(gaql)
+                .build();
 
-                SearchGoogleAdsStreamRequest request = SearchGoogleAdsStreamRequest.newBuilder()
-                    .setCustomerId(customerId.replace("-", ""))
-                    .setQuery(gaql)
-                    .build();
-
-                List<CampaignRow> results = new ArrayList<>();
+            // One permit per report: the stream is a single request however many pages it returns
+            return quotaGuard.call(customerId, () -> {
+                long rowCount = 0;
                 Iterable<SearchGoogleAdsStreamResponse> stream =
                     serviceClient.searchStreamCallable().call(request);
 
+                // The server stream is pulled one response at a time, so only the current page
+                // is held in memory while the consumer writes it
                 for (SearchGoogleAdsStreamResponse response : stream) {
+                    List<CampaignRow> page = new ArrayList<>(response.getResultsCount());
                     for (GoogleAdsRow row : response.getResultsList()) {
-                        results.add(mapRow(row));
+                        page.add(mapRow(row));
                     }
+                    pageConsumer.accept(page);
+                    rowCount += page.size();
                 }
+                return rowCount;
+            });
 
-                return results;
-            }
-
+        } catch (GoogleAdsQuotaExceededException e) {
+            throw new IngestionFetchException(FailureClass.TRANSIENT, e.getMessage(), e);
         } catch (GoogleAdsException e) {
             handleGoogleAdsException(e);
             throw new IngestionFetchException(FailureClass.TRANSIENT, "Unexpected error", e);
@@ -82,7 +89,8 @@ public class GoogleAdsReportingClient implements GoogleAdsReportingPort {
             "metrics.clicks, metrics.impressions, metrics.cost_micros, metrics.conversions, " +
             "segments.date " +
             "FROM campaign " +
-            "WHERE segments.date BETWEEN '%s' AND '%s'",
+            "WHERE segments.date BETWEEN '%s' AND '%s' " +
+            "ORDER BY campaign.id, segments.date",
             window.from(), window.to()
         );
     }
@@ -122,19 +130,4 @@ public class GoogleAdsReportingClient implements GoogleAdsReportingPort {
         throw new IngestionFetchException(FailureClass.PERMANENT,
             "Permanent gRPC error (" + code + "): " + e.getMessage(), e);
     }
-
-    private GoogleAdsClient buildClient(String managerId, String credentialPath) throws IOException {
-        String path = credentialPath != null ? credentialPath : config.getCredentialsPath();
-        GoogleCredentials credentials = GoogleCredentials
-            .fromStream(new FileInputStream(path))
-            .createScoped(Collections.singletonList(ADS_SCOPE));
-
-        long parsedManagerId = Long.parseLong(managerId.replace("-", ""));
-
-        return GoogleAdsClient.newBuilder()
-            .setCredentials(credentials)
-            .setDeveloperToken(config.getDeveloperToken())
-            .setLoginCustomerId(parsedManagerId)
-            .build();
-    }
 }
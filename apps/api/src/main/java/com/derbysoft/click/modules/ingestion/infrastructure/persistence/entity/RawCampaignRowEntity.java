@@ -47,6 +47,9 @@ public class RawCampaignRowEntity {
     @Column(nullable = false, precision = 12, scale = 2)
     private BigDecimal conversions;
 
+    @Column(name = "content_hash")
+    private Long contentHash;
+
     @Column(name = "ingested_at", nullable = false, updatable = false)
     private Instant ingestedAt;
 
@@ -55,7 +58,7 @@ public class RawCampaignRowEntity {
     public RawCampaignRowEntity(UUID id, UUID snapshotId, UUID integrationId, String accountId,
                                  String campaignId, String campaignName, LocalDate reportDate,
                                  long clicks, long impressions, long costMicros,
-                                 double conversions, Instant ingestedAt) {
+                                 double conversions, long contentHash, Instant ingestedAt) {
         this.id = id;
         this.snapshotId = snapshotId;
         this.integrationId = integrationId;
@@ -67,6 +70,7 @@ public class RawCampaignRowEntity {
         this.impressions = impressions;
         this.costMicros = costMicros;
         this.conversions = BigDecimal.valueOf(conversions);
+        this.contentHash = contentHash;
         this.ingestedAt = ingestedAt;
     }
 
@@ -81,6 +85,7 @@ public class RawCampaignRowEntity {
     public long getImpressions() { return impressions; }
     public long getCostMicros() { return costMicros; }
     public BigDecimal getConversions() { return conversions; }
+    public Long getContentHash() { return contentHash; }
     public Instant getIngestedAt() { return ingestedAt; }
 
     public void setSnapshotId(UUID snapshotId) { this.snapshotId = snapshotId; }
@@ -89,4 +94,5 @@ public class RawCampaignRowEntity {
     public void setImpressions(long impressions) { this.impressions = impressions; }
     public void setCostMicros(long costMicros) { this.costMicros = costMicros; }
     public void setConversions(BigDecimal conversions) { this.conversions = conversions; }
+    public void setContentHash(Long contentHash) { this.contentHash = contentHash; }
 }
@@ -48,6 +48,12 @@ public class RawSnapshotEntity {
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt;
 
+    @Column(name = "rows_location", length = 1024)
+    private String rowsLocation;
+
+    @Column(name = "archived_at")
+    private Instant archivedAt;
+
     protected RawSnapshotEntity() {}
 
     public RawSnapshotEntity(UUID id, UUID syncJobId, UUID integrationId, UUID tenantId,
@@ -77,4 +83,9 @@ public class RawSnapshotEntity {
     public int getRowCount() { return rowCount; }
     public String getChecksum() { return checksum; }
     public Instant getCreatedAt() { return createdAt; }
+    public String getRowsLocation() { return rowsLocation; }
+    public Instant getArchivedAt() { return archivedAt; }
+
+    public void setRowsLocation(String rowsLocation) { this.rowsLocation = rowsLocation; }
+    public void setArchivedAt(Instant archivedAt) { this.archivedAt = archivedAt; }
 }
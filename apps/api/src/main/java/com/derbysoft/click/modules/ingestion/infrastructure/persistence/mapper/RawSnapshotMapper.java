@@ -19,12 +19,14 @@ public class RawSnapshotMapper {
             new DateWindow(entity.getDateFrom(), entity.getDateTo()),
             entity.getRowCount(),
             entity.getChecksum(),
-            entity.getCreatedAt()
+            entity.getCreatedAt(),
+            entity.getRowsLocation(),
+            entity.getArchivedAt()
         );
     }
 
     public RawSnapshotEntity toEntity(RawSnapshot domain) {
-        return new RawSnapshotEntity(
+        RawSnapshotEntity entity = new RawSnapshotEntity(
             domain.getId(),
             domain.getSyncJobId(),
             domain.getIntegrationId(),
@@ -36,5 +38,8 @@ public class RawSnapshotMapper {
             domain.getRowCount(),
             domain.getChecksum()
         );
+        entity.setRowsLocation(domain.getRowsLocation());
+        entity.setArchivedAt(domain.getArchivedAt());
+        return entity;
     }
 }
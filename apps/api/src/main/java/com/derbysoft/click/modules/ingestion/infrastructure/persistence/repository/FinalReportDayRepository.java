@@ -0,0 +1,23 @@
+package com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Spring Data fragment over {@code raw_report_final_days}: report days whose metrics had
+ * settled when they were last fetched, so re-fetching them cannot change anything.
+ */
+public interface FinalReportDayRepository {
+
+    /** Final days from {@code from} to {@code to} by integration; integrations with none are absent. */
+    Map<UUID, Set<LocalDate>> findFinalDays(Collection<UUID> integrationIds, String reportType,
+                                            LocalDate from, LocalDate to);
+
+    /** Marks every day from {@code from} to {@code to} inclusive final; already-final days are kept. */
+    void markFinal(UUID integrationId, String accountId, String reportType,
+                   LocalDate from, LocalDate to, Instant now);
+}
@@ -0,0 +1,67 @@
+package com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository;
+
+import java.sql.Array;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class FinalReportDayRepositoryImpl implements FinalReportDayRepository {
+
+    static final String FIND_SQL = """
+        SELECT integration_id, report_date
+        FROM raw_report_final_days
+        WHERE integration_id = ANY(?) AND report_type = ?
+          AND report_date BETWEEN ? AND ?
+        """;
+
+    static final String MARK_SQL = """
+        INSERT INTO raw_report_final_days
+            (integration_id, account_id, report_type, report_date, finalized_at)
+        SELECT ?, ?, ?, d::date, ?
+        FROM generate_series(?::date, ?::date, interval '1 day') AS d
+        ON CONFLICT DO NOTHING
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FinalReportDayRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Map<UUID, Set<LocalDate>> findFinalDays(Collection<UUID> integrationIds, String reportType,
+                                                   LocalDate from, LocalDate to) {
+        Map<UUID, Set<LocalDate>> finalDays = new HashMap<>();
+        if (integrationIds.isEmpty()) {
+            return finalDays;
+        }
+        jdbcTemplate.query(FIND_SQL,
+            ps -> {
+                Array ids = ps.getConnection().createArrayOf("uuid", integrationIds.toArray());
+                ps.setArray(1, ids);
+                ps.setString(2, reportType);
+                ps.setObject(3, from);
+                ps.setObject(4, to);
+            },
+            rs -> {
+                finalDays.computeIfAbsent(rs.getObject("integration_id", UUID.class), id -> new HashSet<>())
+                    .add(rs.getObject("report_date", LocalDate.class));
+            });
+        return finalDays;
+    }
+
+    @Override
+    public void markFinal(UUID integrationId, String accountId, String reportType,
+                          LocalDate from, LocalDate to, Instant now) {
+        jdbcTemplate.update(MARK_SQL, integrationId, accountId, reportType,
+            OffsetDateTime.ofInstant(now, ZoneOffset.UTC), from, to);
+    }
+}
@@ -0,0 +1,35 @@
+package com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository;
+
+import com.derbysoft.click.modules.ingestion.infrastructure.persistence.entity.RawCampaignRowEntity;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Spring Data fragment for bulk writes to {@code raw_campaign_rows}. Kept outside JPA so rows
+ * go out as JDBC batches instead of one native statement per row.
+ */
+public interface RawCampaignRowBatchRepository {
+
+    /** A row's natural key within one integration and account. */
+    record RowKey(String campaignId, LocalDate reportDate) {}
+
+    /**
+     * Upserts all rows on the natural key (integration, account, campaign, report date).
+     * Rows must already carry the snapshot id they belong to. A row whose stored content
+     * hash already matches is left untouched.
+     *
+     * @return number of rows sent
+     */
+    int batchUpsert(List<RawCampaignRowEntity> rows);
+
+    /**
+     * Returns the stored content hash of each existing row for the given campaigns between
+     * {@code from} and {@code to} inclusive. Rows written before hashes existed map to
+     * {@code null}.
+     */
+    Map<RowKey, Long> findContentHashes(UUID integrationId, String accountId,
+                                        Collection<String> campaignIds, LocalDate from, LocalDate to);
+}
@@ -9,48 +9,18 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface RawCampaignRowJpaRepository extends JpaRepository<RawCampaignRowEntity, UUID> {
+public interface RawCampaignRowJpaRepository
+    extends JpaRepository<RawCampaignRowEntity, UUID>, RawCampaignRowBatchRepository,
+            RawCampaignRowPartitionRepository {
 
     List<RawCampaignRowEntity> findBySnapshotId(UUID snapshotId);
 
-    @Modifying
-    @Query(value = """
-        INSERT INTO raw_campaign_rows
-            (id, snapshot_id, integration_id, account_id, campaign_id, campaign_name,
-             report_date, clicks, impressions, cost_micros, conversions, ingested_at)
-        VALUES
-            (:#{#row.id}, :#{#row.snapshotId}, :#{#row.integrationId}, :#{#row.accountId},
-             :#{#row.campaignId}, :#{#row.campaignName}, :#{#row.reportDate},
-             :#{#row.clicks}, :#{#row.impressions}, :#{#row.costMicros},
-             :#{#row.conversions}, :#{#row.ingestedAt})
-        ON CONFLICT (integration_id, account_id, campaign_id, report_date)
-        DO UPDATE SET
-            snapshot_id = EXCLUDED.snapshot_id,
-            campaign_name = EXCLUDED.campaign_name,
-            clicks = EXCLUDED.clicks,
-            impressions = EXCLUDED.impressions,
-            cost_micros = EXCLUDED.cost_micros,
-            conversions = EXCLUDED.conversions,
-            ingested_at = EXCLUDED.ingested_at
-        """, nativeQuery = true)
-    void upsert(@Param("row") RawCampaignRowEntity row);
-
-    default void upsertAll(List<RawCampaignRowEntity> rows) {
-        rows.forEach(this::upsert);
-    }
+    // The report date bounds let the planner prune to the window's partitions
+    List<RawCampaignRowEntity> findBySnapshotIdAndReportDateBetween(UUID snapshotId, LocalDate from, LocalDate to);
 
     @Modifying
-    @Query(value = """
-        UPDATE raw_campaign_rows
-        SET snapshot_id = :snapshotId
-        WHERE integration_id = :integrationId
-          AND account_id = :accountId
-          AND report_date BETWEEN :dateFrom AND :dateTo
-        """, nativeQuery = true)
-    void updateSnapshotIdForJob(
-        @Param("snapshotId") UUID snapshotId,
-        @Param("integrationId") UUID integrationId,
-        @Param("accountId") String accountId,
-        @Param("dateFrom") LocalDate dateFrom,
-        @Param("dateTo") LocalDate dateTo);
+    @Query("DELETE FROM RawCampaignRowEntity r " +
+           "WHERE r.snapshotId = :snapshotId AND r.reportDate BETWEEN :from AND :to")
+    int deleteBySnapshot(@Param("snapshotId") UUID snapshotId,
+                         @Param("from") LocalDate from, @Param("to") LocalDate to);
 }
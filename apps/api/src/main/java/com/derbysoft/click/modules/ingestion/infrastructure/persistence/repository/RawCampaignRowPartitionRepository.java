@@ -0,0 +1,36 @@
+package com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository;
+
+import java.time.YearMonth;
+import java.util.Set;
+
+/**
+ * Spring Data fragment managing the monthly range partitions of {@code raw_campaign_rows},
+ * one per calendar month of {@code report_date}.
+ */
+public interface RawCampaignRowPartitionRepository {
+
+    /** Months with a partition attached, including one whose detach is still pending. */
+    Set<YearMonth> findPartitionMonths();
+
+    /** Months whose partition table exists but is no longer attached. */
+    Set<YearMonth> findDetachedMonths();
+
+    /** Creates the month's partition unless it already exists. */
+    void createPartition(YearMonth month);
+
+    /** Whether the month's table, attached or not, holds no rows. */
+    boolean isPartitionEmpty(YearMonth month);
+
+    /**
+     * Detaches the month's partition, leaving it as a standalone table. Must run outside a
+     * transaction: the detach is concurrent, so inserts into other months are never blocked.
+     * A detach left pending by an interrupted run is finalized instead.
+     */
+    void detachPartition(YearMonth month);
+
+    /** Attaches the month's standalone table back as its partition. */
+    void attachPartition(YearMonth month);
+
+    /** Drops the month's table, which must already be detached. */
+    void dropDetachedPartition(YearMonth month);
+}
@@ -0,0 +1,108 @@
+package com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository;
+
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class RawCampaignRowPartitionRepositoryImpl implements RawCampaignRowPartitionRepository {
+
+    // Same naming as V202603100010__partition_raw_campaign_rows
+    private static final Pattern PARTITION_NAME = Pattern.compile("raw_campaign_rows_y(\\d{4})m(\\d{2})");
+
+    static final String PARTITIONS_SQL = """
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'raw_campaign_rows'::regclass
+        """;
+
+    static final String DETACH_PENDING_SQL = """
+        SELECT i.inhdetachpending
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'raw_campaign_rows'::regclass
+          AND c.relname = ?
+        """;
+
+    // Tables named like a partition that no longer inherit from raw_campaign_rows
+    static final String DETACHED_SQL = """
+        SELECT c.relname
+        FROM pg_class c
+        WHERE c.relkind = 'r'
+          AND c.relnamespace = (SELECT n.oid FROM pg_namespace n WHERE n.nspname = current_schema())
+          AND c.relname ~ '^raw_campaign_rows_y[0-9]{4}m[0-9]{2}$'
+          AND NOT EXISTS (SELECT 1 FROM pg_inherits i WHERE i.inhrelid = c.oid)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public RawCampaignRowPartitionRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Set<YearMonth> findPartitionMonths() {
+        return months(PARTITIONS_SQL);
+    }
+
+    @Override
+    public Set<YearMonth> findDetachedMonths() {
+        return months(DETACHED_SQL);
+    }
+
+    @Override
+    public void createPartition(YearMonth month) {
+        // Names and bounds come from a YearMonth, never from input, so formatting them in is safe
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month)
+            + " PARTITION OF raw_campaign_rows FOR VALUES FROM ('" + month.atDay(1)
+            + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+    }
+
+    @Override
+    public boolean isPartitionEmpty(YearMonth month) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            "SELECT NOT EXISTS (SELECT 1 FROM " + partitionName(month) + ")", Boolean.class));
+    }
+
+    @Override
+    public void detachPartition(YearMonth month) {
+        String name = partitionName(month);
+        List<Boolean> pending = jdbcTemplate.queryForList(DETACH_PENDING_SQL, Boolean.class, name);
+        if (pending.isEmpty()) {
+            return;
+        }
+        // A concurrent detach interrupted after its first transaction can only be finalized
+        jdbcTemplate.execute("ALTER TABLE raw_campaign_rows DETACH PARTITION " + name
+            + (pending.getFirst() ? " FINALIZE" : " CONCURRENTLY"));
+    }
+
+    @Override
+    public void attachPartition(YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE raw_campaign_rows ATTACH PARTITION " + partitionName(month)
+            + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+    }
+
+    @Override
+    public void dropDetachedPartition(YearMonth month) {
+        jdbcTemplate.execute("DROP TABLE " + partitionName(month));
+    }
+
+    private Set<YearMonth> months(String sql) {
+        Set<YearMonth> months = new HashSet<>();
+        jdbcTemplate.query(sql, rs -> {
+            Matcher m = PARTITION_NAME.matcher(rs.getString("relname"));
+            if (m.matches()) {
+                months.add(YearMonth.of(Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2))));
+            }
+        });
+        return months;
+    }
+
+    static String partitionName(YearMonth month) {
+        return "raw_campaign_rows_y%04dm%02d".formatted(month.getYear(), month.getMonthValue());
+    }
+}
@@ -1,10 +1,51 @@
 package com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository;
 
 import com.derbysoft.click.modules.ingestion.infrastructure.persistence.entity.RawSnapshotEntity;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RawSnapshotJpaRepository
+    extends JpaRepository<RawSnapshotEntity, UUID>, FinalReportDayRepository {
 
-public interface RawSnapshotJpaRepository extends JpaRepository<RawSnapshotEntity, UUID> {
     List<RawSnapshotEntity> findBySyncJobId(UUID syncJobId);
+
+    @Query(value = """
+        SELECT * FROM raw_snapshots
+        WHERE rows_location IS NULL AND date_to < :cutoff
+        ORDER BY date_to
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<RawSnapshotEntity> findHotEndingBefore(@Param("cutoff") LocalDate cutoff, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE RawSnapshotEntity s SET s.rowsLocation = :location, s.archivedAt = :now " +
+           "WHERE s.id = :id AND s.rowsLocation IS NULL")
+    int markArchived(@Param("id") UUID id, @Param("location") String location, @Param("now") Instant now);
+
+    // A newer snapshot exists for the same window and every row this one wrote has since
+    // been rewritten by a later snapshot, so it no longer points at any data
+    @Modifying
+    @Query(value = """
+        DELETE FROM raw_snapshots
+        WHERE id IN (
+            SELECT s.id FROM raw_snapshots s
+            WHERE s.rows_location IS NULL AND s.created_at < :createdBefore
+              AND EXISTS (
+                  SELECT 1 FROM raw_snapshots n
+                  WHERE n.integration_id = s.integration_id AND n.account_id = s.account_id
+                    AND n.report_type = s.report_type
+                    AND n.date_from = s.date_from AND n.date_to = s.date_to
+                    AND n.created_at > s.created_at)
+              AND NOT EXISTS (
+                  SELECT 1 FROM raw_campaign_rows r
+                  WHERE r.snapshot_id = s.id AND r.report_date BETWEEN s.date_from AND s.date_to)
+            LIMIT :limit)
+        """, nativeQuery = true)
+    int deleteSuperseded(@Param("createdBefore") Instant createdBefore, @Param("limit") int limit);
 }
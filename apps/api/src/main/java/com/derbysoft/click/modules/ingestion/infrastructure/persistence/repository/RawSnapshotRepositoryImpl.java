@@ -2,18 +2,29 @@ package com.derbysoft.click.modules.ingestion.infrastructure.persistence.reposit
 
 import com.derbysoft.click.modules.ingestion.domain.RawSnapshotRepository;
 import com.derbysoft.click.modules.ingestion.domain.aggregates.RawSnapshot;
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.DateWindow;
 import com.derbysoft.click.modules.ingestion.infrastructure.persistence.mapper.RawSnapshotMapper;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import org.springframework.transaction.annotation.Transactional;
 
 public class RawSnapshotRepositoryImpl implements RawSnapshotRepository {
 
     private final RawSnapshotJpaRepository jpaRepository;
+    private final RawCampaignRowJpaRepository rowJpaRepository;
     private final RawSnapshotMapper mapper;
 
-    public RawSnapshotRepositoryImpl(RawSnapshotJpaRepository jpaRepository, RawSnapshotMapper mapper) {
+    public RawSnapshotRepositoryImpl(RawSnapshotJpaRepository jpaRepository,
+                                     RawCampaignRowJpaRepository rowJpaRepository,
+                                     RawSnapshotMapper mapper) {
         this.jpaRepository = jpaRepository;
+        this.rowJpaRepository = rowJpaRepository;
         this.mapper = mapper;
     }
 
@@ -35,4 +46,44 @@ public class RawSnapshotRepositoryImpl implements RawSnapshotRepository {
         var saved = jpaRepository.saveAndFlush(entity);
         return mapper.toDomain(saved);
     }
+
+    @Override
+    public Map<UUID, Set<LocalDate>> findFinalDays(Collection<UUID> integrationIds, String reportType,
+                                                   DateWindow window) {
+        return jpaRepository.findFinalDays(integrationIds, reportType, window.from(), window.to());
+    }
+
+    @Override
+    public void markFinal(UUID integrationId, String accountId, String reportType,
+                          DateWindow days, Instant now) {
+        jpaRepository.markFinal(integrationId, accountId, reportType, days.from(), days.to(), now);
+    }
+
+    @Override
+    public List<RawSnapshot> findHotEndingBefore(LocalDate cutoff, int limit) {
+        return jpaRepository.findHotEndingBefore(cutoff, limit).stream()
+            .map(mapper::toDomain)
+            .toList();
+    }
+
+    @Override
+    @Transactional
+    public void saveArchived(RawSnapshot snapshot, int archivedRows) {
+        if (jpaRepository.markArchived(snapshot.getId(), snapshot.getRowsLocation(), snapshot.getArchivedAt()) == 0) {
+            throw new IllegalStateException("RawSnapshot " + snapshot.getId() + " was archived concurrently");
+        }
+        DateWindow window = snapshot.getDateWindow();
+        int deleted = rowJpaRepository.deleteBySnapshot(snapshot.getId(), window.from(), window.to());
+        if (deleted != archivedRows) {
+            // A sync rewrote some of the rows after they were read; try again on the next pass
+            throw new IllegalStateException("RawSnapshot " + snapshot.getId() + " owns " + deleted
+                + " rows but " + archivedRows + " were archived");
+        }
+    }
+
+    @Override
+    @Transactional
+    public int deleteSuperseded(Instant createdBefore, int limit) {
+        return jpaRepository.deleteSuperseded(createdBefore, limit);
+    }
 }
@@ -7,6 +7,9 @@ import com.derbysoft.click.modules.ingestion.domain.SyncIncidentRepository;
 import com.derbysoft.click.modules.ingestion.domain.aggregates.SyncIncident;
 import com.derbysoft.click.modules.ingestion.infrastructure.persistence.mapper.SyncIncidentMapper;
 import com.derbysoft.click.modules.ingestion.infrastructure.persistence.mapper.SyncJobMapper;
+import com.derbysoft.click.sharedkernel.api.CursorPage;
+import com.derbysoft.click.sharedkernel.api.HistoryQuery;
+import com.derbysoft.click.sharedkernel.api.KeysetCursor;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -74,14 +77,9 @@ public class SyncIncidentRepositoryImpl implements SyncIncidentRepository, Inges
     // IngestionQueryPort
 
     @Override
-    public List<SyncJobInfo> listJobHistory(UUID integrationId) {
-        return syncJobJpaRepository.findByIntegrationId(integrationId).stream()
-            .map(e -> new SyncJobInfo(
-                e.getId(), e.getIntegrationId(), e.getAccountId(), e.getReportType(),
-                e.getDateFrom(), e.getDateTo(), e.getStatus(), e.getAttempts(),
-                e.getTriggerType(), e.getFailureClass(), e.getCreatedAt()
-            ))
-            .toList();
+    public CursorPage<SyncJobInfo> listJobHistory(UUID integrationId, HistoryQuery query) {
+        return CursorPage.of(syncJobJpaRepository.findHistory(integrationId, query), query.limit(),
+            info -> new KeysetCursor(info.createdAt(), info.id()));
     }
 
     @Override
@@ -0,0 +1,21 @@
+package com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository;
+
+import com.derbysoft.click.modules.ingestion.infrastructure.persistence.entity.SyncJobEntity;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Spring Data fragment for enqueueing many sync jobs in one statement, so a daily sync
+ * over hundreds of accounts is one round trip instead of a lookup and a flushed save each.
+ */
+public interface SyncJobBatchRepository {
+
+    /**
+     * Inserts the jobs whose idempotency key has no PENDING or RUNNING job, deferring to
+     * {@code uq_job_idempotency_active} rather than checking first.
+     *
+     * @return ids of the jobs actually inserted
+     */
+    Set<UUID> insertIfAbsent(List<SyncJobEntity> jobs);
+}
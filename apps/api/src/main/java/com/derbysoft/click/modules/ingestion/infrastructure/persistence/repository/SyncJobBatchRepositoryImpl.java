@@ -0,0 +1,75 @@
+package com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository;
+
+import com.derbysoft.click.modules.ingestion.infrastructure.persistence.entity.SyncJobEntity;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class SyncJobBatchRepositoryImpl implements SyncJobBatchRepository {
+
+    // One array per column; dates go over as text so the driver needs no java.time array
+    // support, and created_at/updated_at take the column defaults. A key already held by an
+    // active job, or repeated within the batch, is skipped by the partial unique index and
+    // is not returned.
+    static final String INSERT_SQL = """
+        INSERT INTO sync_jobs
+            (id, integration_id, tenant_id, account_id, report_type, date_from, date_to,
+             trigger_type, idempotency_key, status, attempts, max_attempts,
+             triggered_by, trigger_reason)
+        SELECT j.id, j.integration_id, j.tenant_id, j.account_id, j.report_type,
+               j.date_from::date, j.date_to::date, j.trigger_type, j.idempotency_key,
+               j.status, j.attempts, j.max_attempts, j.triggered_by, j.trigger_reason
+        FROM unnest(?::uuid[], ?::uuid[], ?::uuid[], ?::varchar[], ?::varchar[], ?::text[], ?::text[],
+                    ?::varchar[], ?::varchar[], ?::varchar[], ?::int[], ?::int[],
+                    ?::varchar[], ?::text[])
+            AS j(id, integration_id, tenant_id, account_id, report_type, date_from, date_to,
+                 trigger_type, idempotency_key, status, attempts, max_attempts,
+                 triggered_by, trigger_reason)
+        ON CONFLICT (idempotency_key) WHERE status IN ('PENDING', 'RUNNING') DO NOTHING
+        RETURNING id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SyncJobBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Set<UUID> insertIfAbsent(List<SyncJobEntity> jobs) {
+        if (jobs.isEmpty()) {
+            return Set.of();
+        }
+        List<UUID> inserted = jdbcTemplate.query(INSERT_SQL,
+            ps -> {
+                Connection connection = ps.getConnection();
+                ps.setArray(1, column(connection, "uuid", jobs, SyncJobEntity::getId));
+                ps.setArray(2, column(connection, "uuid", jobs, SyncJobEntity::getIntegrationId));
+                ps.setArray(3, column(connection, "uuid", jobs, SyncJobEntity::getTenantId));
+                ps.setArray(4, column(connection, "varchar", jobs, SyncJobEntity::getAccountId));
+                ps.setArray(5, column(connection, "varchar", jobs, SyncJobEntity::getReportType));
+                ps.setArray(6, column(connection, "text", jobs, j -> j.getDateFrom().toString()));
+                ps.setArray(7, column(connection, "text", jobs, j -> j.getDateTo().toString()));
+                ps.setArray(8, column(connection, "varchar", jobs, SyncJobEntity::getTriggerType));
+                ps.setArray(9, column(connection, "varchar", jobs, SyncJobEntity::getIdempotencyKey));
+                ps.setArray(10, column(connection, "varchar", jobs, SyncJobEntity::getStatus));
+                ps.setArray(11, column(connection, "int4", jobs, SyncJobEntity::getAttempts));
+                ps.setArray(12, column(connection, "int4", jobs, SyncJobEntity::getMaxAttempts));
+                ps.setArray(13, column(connection, "varchar", jobs, SyncJobEntity::getTriggeredBy));
+                ps.setArray(14, column(connection, "text", jobs, SyncJobEntity::getTriggerReason));
+            },
+            (rs, rowNum) -> rs.getObject(1, UUID.class));
+        return new HashSet<>(inserted);
+    }
+
+    private static Array column(Connection connection, String type, List<SyncJobEntity> jobs,
+                                Function<SyncJobEntity, Object> value) throws SQLException {
+        return connection.createArrayOf(type, jobs.stream().map(value).toArray());
+    }
+}
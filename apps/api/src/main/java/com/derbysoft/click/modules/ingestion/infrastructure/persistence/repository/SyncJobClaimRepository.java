@@ -0,0 +1,32 @@
+package com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository;
+
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.ClaimCandidate;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data fragment for claiming {@code sync_jobs}. Candidates are read as projections
+ * without locks, and only the chosen ones are locked with {@code SKIP LOCKED} and leased in
+ * a single {@code UPDATE ... RETURNING}, so only ids and scheduling keys cross the wire.
+ */
+public interface SyncJobClaimRepository {
+
+    /**
+     * Reads up to {@code perTenantLimit} due PENDING jobs for each of the {@code tenantLimit}
+     * tenants that have waited longest, highest priority trigger and oldest due first. No
+     * rows are locked; another replica may lease some of them before {@link #leaseAll}.
+     */
+    List<ClaimCandidate> findCandidates(Instant now, int tenantLimit, int perTenantLimit);
+
+    /**
+     * Moves the given PENDING jobs to RUNNING, stamping the attempt and lease. Jobs another
+     * transaction has locked or already moved on are skipped. A Google Ads
+     * customer never ends up with more than {@code maxPerAccount} RUNNING jobs, counting
+     * leases committed by other replicas; jobs over the cap are left PENDING, later ones in
+     * the given order first. Must run inside the claim transaction.
+     *
+     * @return ids of the jobs that were leased, in the order given
+     */
+    List<UUID> leaseAll(List<UUID> jobIds, Instant now, Instant leaseExpiresAt, int maxPerAccount);
+}
@@ -0,0 +1,174 @@
+package com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository;
+
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.ClaimCandidate;
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.TriggerType;
+import java.sql.Array;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class SyncJobClaimRepositoryImpl implements SyncJobClaimRepository {
+
+    // Trigger priority as idx_job_pending_tenant_priority_due indexes it; the lateral below
+    // must order by exactly this expression for the index to supply rows in order.
+    static final String PRIORITY_SQL = """
+        CASE trigger_type
+            WHEN 'FORCE_RUN' THEN 0
+            WHEN 'MANUAL' THEN 1
+            WHEN 'DAILY' THEN 2
+            ELSE 3
+        END""";
+
+    // Distinct waiting tenants come from a loose index scan of idx_job_pending_tenant_due,
+    // one index probe per tenant, and each tenant's oldest due job from one more probe, so a
+    // tick costs O(tenants) index lookups however deep the backlog. Tenants are taken
+    // longest-waiting first so a tenant with one old job is always in the candidate set.
+    // Nothing is locked here: the scheduler picks a few of these rows and only those are
+    // locked, by LEASE_SQL.
+    static final String CANDIDATES_SQL = """
+        WITH RECURSIVE pending_tenants AS (
+            (SELECT tenant_id FROM sync_jobs
+             WHERE status = 'PENDING'
+             ORDER BY tenant_id
+             LIMIT 1)
+            UNION ALL
+            SELECT (SELECT s.tenant_id FROM sync_jobs s
+                    WHERE s.status = 'PENDING' AND s.tenant_id > p.tenant_id
+                    ORDER BY s.tenant_id
+                    LIMIT 1)
+            FROM pending_tenants p
+            WHERE p.tenant_id IS NOT NULL
+        ),
+        tenants AS (
+            SELECT p.tenant_id, o.oldest_due
+            FROM pending_tenants p
+            CROSS JOIN LATERAL (
+                SELECT COALESCE(j.next_attempt_after, j.created_at) AS oldest_due
+                FROM sync_jobs j
+                WHERE j.tenant_id = p.tenant_id
+                  AND j.status = 'PENDING'
+                  AND COALESCE(j.next_attempt_after, j.created_at) <= ?
+                ORDER BY COALESCE(j.next_attempt_after, j.created_at)
+                LIMIT 1
+            ) o
+            ORDER BY o.oldest_due
+            LIMIT ?
+        )
+        SELECT c.id, c.tenant_id, c.account_id, c.trigger_type, c.due_at
+        FROM tenants t
+        CROSS JOIN LATERAL (
+            SELECT id, tenant_id, account_id, trigger_type,
+                   COALESCE(next_attempt_after, created_at) AS due_at
+            FROM sync_jobs
+            WHERE tenant_id = t.tenant_id
+              AND status = 'PENDING'
+              AND COALESCE(next_attempt_after, created_at) <= ?
+            ORDER BY %s,
+                     COALESCE(next_attempt_after, created_at)
+            LIMIT ?
+        ) c
+        """.formatted(PRIORITY_SQL);
+
+    // Serialises leases per customer across replicas. Locks are taken in key order so two
+    // claims never deadlock, and are held until the claim transaction commits.
+    static final String LOCK_ACCOUNTS_SQL = """
+        SELECT pg_advisory_xact_lock(k)
+        FROM (
+            SELECT DISTINCT hashtextextended('sync_jobs.account:' || account_id, 0) AS k
+            FROM sync_jobs
+            WHERE id = ANY(?)
+            ORDER BY k
+        ) keys
+        """;
+
+    // Runs after LOCK_ACCOUNTS_SQL in a new statement, so its snapshot sees every lease other
+    // replicas committed for these customers. Only the selected jobs are locked, skipping any
+    // another transaction holds. Jobs keep the scheduler's order within a customer, and only
+    // as many as fit under the cap are leased.
+    static final String LEASE_SQL = """
+        WITH locked AS (
+            SELECT id, account_id
+            FROM sync_jobs
+            WHERE id = ANY(?) AND status = 'PENDING'
+            FOR UPDATE SKIP LOCKED
+        ),
+        picked AS (
+            SELECT j.id, j.account_id,
+                   ROW_NUMBER() OVER (PARTITION BY j.account_id
+                                      ORDER BY array_position(?::uuid[], j.id)) AS account_rank
+            FROM locked j
+        ),
+        running AS (
+            SELECT account_id, COUNT(*) AS running
+            FROM sync_jobs
+            WHERE status = 'RUNNING'
+              AND account_id IN (SELECT account_id FROM picked)
+            GROUP BY account_id
+        )
+        UPDATE sync_jobs s
+        SET status = 'RUNNING',
+            attempts = s.attempts + 1,
+            last_attempt_at = ?,
+            lease_expires_at = ?,
+            updated_at = ?
+        FROM picked p
+        LEFT JOIN running r ON r.account_id = p.account_id
+        WHERE s.id = p.id
+          AND COALESCE(r.running, 0) + p.account_rank <= ?
+        RETURNING s.id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SyncJobClaimRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<ClaimCandidate> findCandidates(Instant now, int tenantLimit, int perTenantLimit) {
+        if (tenantLimit <= 0 || perTenantLimit <= 0) {
+            return List.of();
+        }
+        OffsetDateTime nowUtc = OffsetDateTime.ofInstant(now, ZoneOffset.UTC);
+        return jdbcTemplate.query(CANDIDATES_SQL,
+            (rs, rowNum) -> new ClaimCandidate(
+                rs.getObject("id", UUID.class),
+                rs.getObject("tenant_id", UUID.class),
+                rs.getString("account_id"),
+                TriggerType.valueOf(rs.getString("trigger_type")),
+                rs.getObject("due_at", OffsetDateTime.class).toInstant()),
+            nowUtc, tenantLimit, nowUtc, perTenantLimit);
+    }
+
+    @Override
+    public List<UUID> leaseAll(List<UUID> jobIds, Instant now, Instant leaseExpiresAt,
+                               int maxPerAccount) {
+        if (jobIds.isEmpty()) {
+            return List.of();
+        }
+        OffsetDateTime nowUtc = OffsetDateTime.ofInstant(now, ZoneOffset.UTC);
+        OffsetDateTime leaseUtc = OffsetDateTime.ofInstant(leaseExpiresAt, ZoneOffset.UTC);
+        jdbcTemplate.query(LOCK_ACCOUNTS_SQL,
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", jobIds.toArray())),
+            rs -> {});
+        List<UUID> leased = jdbcTemplate.query(LEASE_SQL,
+            ps -> {
+                Array ids = ps.getConnection().createArrayOf("uuid", jobIds.toArray());
+                ps.setArray(1, ids);
+                ps.setArray(2, ids);
+                ps.setObject(3, nowUtc);
+                ps.setObject(4, leaseUtc);
+                ps.setObject(5, nowUtc);
+                ps.setInt(6, maxPerAccount);
+            },
+            (rs, rowNum) -> rs.getObject(1, UUID.class));
+        // RETURNING carries no order, so keep the scheduler's
+        Set<UUID> leasedIds = new HashSet<>(leased);
+        return jobIds.stream().filter(leasedIds::contains).toList();
+    }
+}
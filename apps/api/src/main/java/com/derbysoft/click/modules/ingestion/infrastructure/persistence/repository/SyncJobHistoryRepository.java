@@ -0,0 +1,16 @@
+package com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository;
+
+import com.derbysoft.click.modules.ingestion.api.contracts.SyncJobInfo;
+import com.derbysoft.click.sharedkernel.api.HistoryQuery;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data fragment for paging through an integration's jobs newest first. Reads only the
+ * columns the history view shows, straight into {@link SyncJobInfo}, without loading entities.
+ */
+public interface SyncJobHistoryRepository {
+
+    /** Returns up to {@code query.limit() + 1} rows, so the caller can tell whether more follow. */
+    List<SyncJobInfo> findHistory(UUID integrationId, HistoryQuery query);
+}
@@ -0,0 +1,76 @@
+package com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository;
+
+import com.derbysoft.click.modules.ingestion.api.contracts.SyncJobInfo;
+import com.derbysoft.click.sharedkernel.api.HistoryQuery;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class SyncJobHistoryRepositoryImpl implements SyncJobHistoryRepository {
+
+    static final String SELECT_SQL = """
+        SELECT id, integration_id, account_id, report_type, date_from, date_to, status,
+               attempts, trigger_type, failure_class, created_at
+        FROM sync_jobs
+        WHERE integration_id = ?
+        """;
+
+    // Walks idx_job_integration_created from the cursor, or idx_job_integration_status_created
+    // when filtered by status; each filter is only added when set, so every combination gets
+    // a plan of its own.
+    static final String ORDER_SQL = """
+        ORDER BY created_at DESC, id DESC
+        LIMIT ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SyncJobHistoryRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<SyncJobInfo> findHistory(UUID integrationId, HistoryQuery query) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> args = new ArrayList<>();
+        args.add(integrationId);
+        if (query.status() != null) {
+            sql.append("  AND status = ?\n");
+            args.add(query.status());
+        }
+        if (query.createdFrom() != null) {
+            sql.append("  AND created_at >= ?\n");
+            args.add(OffsetDateTime.ofInstant(query.createdFrom(), ZoneOffset.UTC));
+        }
+        if (query.createdBefore() != null) {
+            sql.append("  AND created_at < ?\n");
+            args.add(OffsetDateTime.ofInstant(query.createdBefore(), ZoneOffset.UTC));
+        }
+        if (query.after() != null) {
+            sql.append("  AND (created_at, id) < (?, ?)\n");
+            args.add(OffsetDateTime.ofInstant(query.after().at(), ZoneOffset.UTC));
+            args.add(query.after().id());
+        }
+        sql.append(ORDER_SQL);
+        args.add(query.limit() + 1);
+
+        return jdbcTemplate.query(sql.toString(),
+            (rs, rowNum) -> new SyncJobInfo(
+                rs.getObject("id", UUID.class),
+                rs.getObject("integration_id", UUID.class),
+                rs.getString("account_id"),
+                rs.getString("report_type"),
+                rs.getObject("date_from", LocalDate.class),
+                rs.getObject("date_to", LocalDate.class),
+                rs.getString("status"),
+                rs.getInt("attempts"),
+                rs.getString("trigger_type"),
+                rs.getString("failure_class"),
+                rs.getObject("created_at", OffsetDateTime.class).toInstant()),
+            args.toArray());
+    }
+}
@@ -2,6 +2,8 @@ package com.derbysoft.click.modules.ingestion.infrastructure.persistence.reposit
 
 import com.derbysoft.click.modules.ingestion.infrastructure.persistence.entity.SyncJobEntity;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -9,27 +11,32 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface SyncJobJpaRepository extends JpaRepository<SyncJobEntity, UUID> {
+public interface SyncJobJpaRepository extends JpaRepository<SyncJobEntity, UUID>,
+        SyncJobClaimRepository, SyncJobBatchRepository, SyncJobHistoryRepository {
 
     Optional<SyncJobEntity> findByIdempotencyKey(String idempotencyKey);
 
-    @Query("SELECT j FROM SyncJobEntity j WHERE j.status = 'PENDING' " +
-           "AND (j.nextAttemptAfter IS NULL OR j.nextAttemptAfter <= :now) " +
-           "ORDER BY j.createdAt ASC")
-    List<SyncJobEntity> findPendingJobs(@Param("now") Instant now);
-
-    @Query("SELECT j FROM SyncJobEntity j WHERE j.status = 'RUNNING' AND j.leaseExpiresAt < :now")
-    List<SyncJobEntity> findRunningJobsWithExpiredLease(@Param("now") Instant now);
+    @Query(value = """
+        SELECT * FROM sync_jobs
+        WHERE status = 'RUNNING' AND lease_expires_at < :now
+        ORDER BY lease_expires_at
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<SyncJobEntity> findRunningJobsWithExpiredLease(@Param("now") Instant now, @Param("limit") int limit);
 
     List<SyncJobEntity> findByIntegrationId(UUID integrationId);
 
-    long countByTenantIdAndTriggerTypeInAndCreatedAtAfter(
-        UUID tenantId, List<String> triggerTypes, Instant createdAfter);
+    @Query("SELECT j.accountId, COUNT(j) FROM SyncJobEntity j " +
+           "WHERE j.status = 'RUNNING' AND j.accountId IN :accountIds GROUP BY j.accountId")
+    List<Object[]> countRunningByAccount(@Param("accountIds") Collection<String> accountIds);
+
+    @Query("SELECT j.integrationId, MAX(j.dateTo) FROM SyncJobEntity j " +
+           "WHERE j.triggerType = 'DAILY' AND j.integrationId IN :integrationIds " +
+           "AND j.dateTo >= :notBefore GROUP BY j.integrationId")
+    List<Object[]> findLatestDailyWindowEnds(@Param("integrationIds") Collection<UUID> integrationIds,
+                                             @Param("notBefore") LocalDate notBefore);
 
-    @Query("SELECT MIN(j.createdAt) FROM SyncJobEntity j " +
-           "WHERE j.tenantId = :tenantId AND j.triggerType IN :triggerTypes AND j.createdAt > :since")
-    Instant findOldestManualTriggerCreatedAt(
-        @Param("tenantId") UUID tenantId,
-        @Param("triggerTypes") List<String> triggerTypes,
-        @Param("since") Instant since);
+    @Query("SELECT j.status, COUNT(j) FROM SyncJobEntity j " +
+           "WHERE j.status IN ('PENDING', 'RUNNING') GROUP BY j.status")
+    List<Object[]> countActiveByStatus();
 }
@@ -2,10 +2,18 @@ package com.derbysoft.click.modules.ingestion.infrastructure.persistence.reposit
 
 import com.derbysoft.click.modules.ingestion.domain.SyncJobRepository;
 import com.derbysoft.click.modules.ingestion.domain.aggregates.SyncJob;
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.ClaimCandidate;
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.SyncJobStatus;
 import com.derbysoft.click.modules.ingestion.infrastructure.persistence.mapper.SyncJobMapper;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public class SyncJobRepositoryImpl implements SyncJobRepository {
@@ -29,15 +37,44 @@ public class SyncJobRepositoryImpl implements SyncJobRepository {
     }
 
     @Override
-    public List<SyncJob> findPendingJobs(Instant maxNextAttemptAfter) {
-        return jpaRepository.findPendingJobs(maxNextAttemptAfter).stream()
-            .map(mapper::toDomain)
-            .toList();
+    public List<ClaimCandidate> findClaimCandidates(Instant now, int tenantLimit, int perTenantLimit) {
+        return jpaRepository.findCandidates(now, tenantLimit, perTenantLimit);
+    }
+
+    @Override
+    public List<UUID> leaseAll(List<UUID> jobIds, Instant now, Instant leaseExpiresAt,
+                               int maxPerAccount) {
+        return jpaRepository.leaseAll(jobIds, now, leaseExpiresAt, maxPerAccount);
     }
 
     @Override
-    public List<SyncJob> findRunningJobsWithExpiredLease(Instant now) {
-        return jpaRepository.findRunningJobsWithExpiredLease(now).stream()
+    public Map<String, Long> countRunningByAccount(Collection<String> accountIds) {
+        if (accountIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : jpaRepository.countRunningByAccount(accountIds)) {
+            counts.put((String) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<UUID, LocalDate> findLatestDailyWindowEnds(Collection<UUID> integrationIds,
+                                                          LocalDate notBefore) {
+        if (integrationIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, LocalDate> ends = new HashMap<>();
+        for (Object[] row : jpaRepository.findLatestDailyWindowEnds(integrationIds, notBefore)) {
+            ends.put((UUID) row[0], (LocalDate) row[1]);
+        }
+        return ends;
+    }
+
+    @Override
+    public List<SyncJob> findRunningJobsWithExpiredLease(Instant now, int limit) {
+        return jpaRepository.findRunningJobsWithExpiredLease(now, limit).stream()
             .map(mapper::toDomain)
             .toList();
     }
@@ -49,6 +86,20 @@ public class SyncJobRepositoryImpl implements SyncJobRepository {
             .toList();
     }
 
+    @Override
+    public Map<SyncJobStatus, Long> countActiveByStatus() {
+        Map<SyncJobStatus, Long> counts = new EnumMap<>(SyncJobStatus.class);
+        for (Object[] row : jpaRepository.countActiveByStatus()) {
+            counts.put(SyncJobStatus.valueOf((String) row[0]), (Long) row[1]);
+        }
+        return counts;
+    }
+
+    @Override
+    public Set<UUID> insertAllIfAbsent(List<SyncJob> jobs) {
+        return jpaRepository.insertIfAbsent(jobs.stream().map(mapper::toEntity).toList());
+    }
+
     @Override
     public SyncJob save(SyncJob job) {
         var entity = mapper.toEntity(job);
@@ -4,16 +4,20 @@ import com.derbysoft.click.modules.ingestion.api.ports.IngestionQueryPort;
 import com.derbysoft.click.modules.ingestion.application.handlers.IngestionJobService;
 import com.derbysoft.click.modules.ingestion.domain.aggregates.SyncJob;
 import com.derbysoft.click.modules.ingestion.domain.valueobjects.DateWindow;
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.SyncJobStatus;
 import com.derbysoft.click.modules.ingestion.interfaces.http.dto.BackfillRequest;
 import com.derbysoft.click.modules.ingestion.interfaces.http.dto.ForceRunRequest;
 import com.derbysoft.click.modules.ingestion.interfaces.http.dto.ManualSyncRequest;
 import com.derbysoft.click.modules.ingestion.interfaces.http.dto.SyncJobResponse;
 import com.derbysoft.click.sharedkernel.api.ApiResponse;
+import com.derbysoft.click.sharedkernel.api.CursorPage;
+import com.derbysoft.click.sharedkernel.api.HistoryQuery;
+import com.derbysoft.click.sharedkernel.domain.errors.DomainError;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.time.LocalDate;
-import java.util.List;
 import java.util.UUID;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -80,20 +84,34 @@ public class SyncJobController {
     }
 
     @GetMapping
-    public ApiResponse<List<SyncJobResponse>> listJobs(
+    public ApiResponse<CursorPage<SyncJobResponse>> listJobs(
         @RequestParam UUID integrationId,
+        @RequestParam(required = false) String status,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "50") int limit,
         HttpServletRequest request
     ) {
-        List<SyncJobResponse> jobs = ingestionQueryPort.listJobHistory(integrationId).stream()
+        HistoryQuery query = HistoryQuery.of(parseStatus(status), createdFrom, createdTo, cursor, limit);
+        CursorPage<SyncJobResponse> jobs = ingestionQueryPort.listJobHistory(integrationId, query)
             .map(info -> new SyncJobResponse(
                 info.id(), info.integrationId(), info.accountId(), info.reportType(),
                 info.dateFrom(), info.dateTo(), info.status(), info.attempts(),
                 info.triggerType(), info.failureClass(), info.createdAt()
-            ))
-            .toList();
+            ));
         return ApiResponse.success(jobs, requestId(request));
     }
 
+    private static String parseStatus(String status) {
+        if (status == null) return null;
+        try {
+            return SyncJobStatus.valueOf(status.toUpperCase()).name();
+        } catch (IllegalArgumentException e) {
+            throw new DomainError.ValidationError("INGEST_400", "Unknown job status: " + status);
+        }
+    }
+
     private SyncJobResponse toResponse(SyncJob job) {
         return new SyncJobResponse(
             job.getId(), job.getIntegrationId(), job.getAccountId(), job.getReportType(),
@@ -0,0 +1,24 @@
+package com.derbysoft.click.sharedkernel.api;
+
+import java.util.List;
+import java.util.function.Function;
+
+/** A page of a keyset-paginated list; {@code nextCursor} is {@code null} on the last page. */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+  /**
+   * Builds a page from up to {@code limit + 1} rows, the extra row only signalling that
+   * another page exists.
+   */
+  public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, KeysetCursor> cursorOf) {
+    if (rows.size() <= limit) {
+      return new CursorPage<>(rows, null);
+    }
+    List<T> items = rows.subList(0, limit);
+    return new CursorPage<>(List.copyOf(items), cursorOf.apply(items.get(limit - 1)).encode());
+  }
+
+  public <R> CursorPage<R> map(Function<T, R> mapper) {
+    return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor);
+  }
+}
@@ -0,0 +1,29 @@
+package com.derbysoft.click.sharedkernel.api;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * One page of a history list: rows after {@code after} (the first page when {@code null}),
+ * optionally restricted to a status and to {@code createdFrom <= created_at < createdBefore}.
+ */
+public record HistoryQuery(String status, Instant createdFrom, Instant createdBefore,
+                           KeysetCursor after, int limit) {
+
+  public static final int MAX_LIMIT = 200;
+
+  /**
+   * Builds a query from request parameters: {@code createdFrom} and {@code createdTo} are
+   * inclusive UTC days, and {@code limit} is clamped to {@code [1, MAX_LIMIT]}.
+   */
+  public static HistoryQuery of(String status, LocalDate createdFrom, LocalDate createdTo,
+                                String cursor, int limit) {
+    return new HistoryQuery(
+        status,
+        createdFrom == null ? null : createdFrom.atStartOfDay(ZoneOffset.UTC).toInstant(),
+        createdTo == null ? null : createdTo.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant(),
+        KeysetCursor.decode(cursor),
+        Math.clamp(limit, 1, MAX_LIMIT));
+  }
+}
@@ -0,0 +1,35 @@
+package com.derbysoft.click.sharedkernel.api;
+
+import com.derbysoft.click.sharedkernel.domain.errors.DomainError;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a list ordered by an instant and then id, such as {@code (created_at, id)}:
+ * the next page starts strictly after this row. Clients see it only as an opaque string.
+ */
+public record KeysetCursor(Instant at, UUID id) {
+
+  public String encode() {
+    String raw = at + "|" + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** Returns {@code null} for a missing cursor, meaning the first page. */
+  public static KeysetCursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.indexOf('|');
+      return new KeysetCursor(Instant.parse(raw.substring(0, separator)),
+          UUID.fromString(raw.substring(separator + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw new DomainError.ValidationError("PAGE_400", "Invalid cursor: " + cursor);
+    }
+  }
+}
@@ -0,0 +1,4 @@
+-- Streaming ingestion writes rows page by page before the snapshot's row count and checksum
+-- are known; the snapshot is inserted last in the same transaction.
+ALTER TABLE raw_campaign_rows
+    ALTER CONSTRAINT raw_campaign_rows_snapshot_id_fkey DEFERRABLE INITIALLY DEFERRED;
@@ -0,0 +1,4 @@
+ALTER TABLE plan_items ADD COLUMN parent_item_id UUID REFERENCES plan_items(id);
+
+CREATE INDEX idx_plan_items_parent_item_id ON plan_items(parent_item_id)
+    WHERE parent_item_id IS NOT NULL;
@@ -0,0 +1,84 @@
+-- Per-revision plan item counts by status, maintained by trigger on every item insert,
+-- status change and delete. Rows are sharded by backend pid so concurrent apply batches
+-- of one revision do not serialise on a single counter row; readers sum the shards.
+CREATE TABLE plan_revision_progress (
+    revision_id UUID NOT NULL REFERENCES plan_revisions(id),
+    shard SMALLINT NOT NULL,
+    draft_count INT NOT NULL DEFAULT 0,
+    published_count INT NOT NULL DEFAULT 0,
+    queued_count INT NOT NULL DEFAULT 0,
+    in_progress_count INT NOT NULL DEFAULT 0,
+    succeeded_count INT NOT NULL DEFAULT 0,
+    failed_count INT NOT NULL DEFAULT 0,
+    blocked_count INT NOT NULL DEFAULT 0,
+    cancelled_count INT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (revision_id, shard)
+);
+
+CREATE FUNCTION plan_revision_progress_add(p_revision_id UUID, p_status VARCHAR, p_delta INT)
+RETURNS void AS $$
+BEGIN
+    INSERT INTO plan_revision_progress AS p (
+        revision_id, shard,
+        draft_count, published_count, queued_count, in_progress_count,
+        succeeded_count, failed_count, blocked_count, cancelled_count)
+    VALUES (
+        p_revision_id, pg_backend_pid() % 32,
+        CASE WHEN p_status = 'DRAFT' THEN p_delta ELSE 0 END,
+        CASE WHEN p_status = 'PUBLISHED' THEN p_delta ELSE 0 END,
+        CASE WHEN p_status = 'QUEUED' THEN p_delta ELSE 0 END,
+        CASE WHEN p_status = 'IN_PROGRESS' THEN p_delta ELSE 0 END,
+        CASE WHEN p_status = 'SUCCEEDED' THEN p_delta ELSE 0 END,
+        CASE WHEN p_status = 'FAILED' THEN p_delta ELSE 0 END,
+        CASE WHEN p_status = 'BLOCKED' THEN p_delta ELSE 0 END,
+        CASE WHEN p_status = 'CANCELLED' THEN p_delta ELSE 0 END)
+    ON CONFLICT (revision_id, shard) DO UPDATE SET
+        draft_count = p.draft_count + EXCLUDED.draft_count,
+        published_count = p.published_count + EXCLUDED.published_count,
+        queued_count = p.queued_count + EXCLUDED.queued_count,
+        in_progress_count = p.in_progress_count + EXCLUDED.in_progress_count,
+        succeeded_count = p.succeeded_count + EXCLUDED.succeeded_count,
+        failed_count = p.failed_count + EXCLUDED.failed_count,
+        blocked_count = p.blocked_count + EXCLUDED.blocked_count,
+        cancelled_count = p.cancelled_count + EXCLUDED.cancelled_count,
+        updated_at = now();
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION plan_items_track_progress()
+RETURNS trigger AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM plan_revision_progress_add(NEW.revision_id, NEW.status, 1);
+    ELSIF TG_OP = 'UPDATE' THEN
+        IF NEW.status IS DISTINCT FROM OLD.status THEN
+            PERFORM plan_revision_progress_add(OLD.revision_id, OLD.status, -1);
+            PERFORM plan_revision_progress_add(NEW.revision_id, NEW.status, 1);
+        END IF;
+    ELSE
+        PERFORM plan_revision_progress_add(OLD.revision_id, OLD.status, -1);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+INSERT INTO plan_revision_progress (
+    revision_id, shard,
+    draft_count, published_count, queued_count, in_progress_count,
+    succeeded_count, failed_count, blocked_count, cancelled_count)
+SELECT revision_id, 0,
+    COUNT(*) FILTER (WHERE status = 'DRAFT'),
+    COUNT(*) FILTER (WHERE status = 'PUBLISHED'),
+    COUNT(*) FILTER (WHERE status = 'QUEUED'),
+    COUNT(*) FILTER (WHERE status = 'IN_PROGRESS'),
+    COUNT(*) FILTER (WHERE status = 'SUCCEEDED'),
+    COUNT(*) FILTER (WHERE status = 'FAILED'),
+    COUNT(*) FILTER (WHERE status = 'BLOCKED'),
+    COUNT(*) FILTER (WHERE status = 'CANCELLED')
+FROM plan_items
+GROUP BY revision_id;
+
+CREATE TRIGGER trg_plan_items_track_progress
+    AFTER INSERT OR UPDATE OF status OR DELETE ON plan_items
+    FOR EACH ROW EXECUTE FUNCTION plan_items_track_progress();
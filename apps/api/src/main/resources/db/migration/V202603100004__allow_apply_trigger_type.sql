@@ -0,0 +1,5 @@
+-- Revision apply enqueues write actions with trigger_type = 'APPLY'; the original
+-- check constraint predates that trigger type and rejected the bulk insert.
+ALTER TABLE write_actions DROP CONSTRAINT chk_write_action_trigger_type;
+ALTER TABLE write_actions ADD CONSTRAINT chk_write_action_trigger_type
+    CHECK (trigger_type IN ('SCHEDULED','MANUAL','FORCE_RUN','RETRY','APPLY'));
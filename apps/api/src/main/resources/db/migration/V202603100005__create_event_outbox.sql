@@ -0,0 +1,30 @@
+CREATE TABLE event_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    event_id UUID NOT NULL,
+    event_type VARCHAR(255) NOT NULL,
+    payload_type VARCHAR(500) NOT NULL,
+    payload JSONB NOT NULL,
+    listener_id VARCHAR(255) NOT NULL,
+    ordering_key UUID NOT NULL,
+    aggregate_id UUID,
+    aggregate_version INT NOT NULL DEFAULT 0,
+    tenant_id UUID,
+    correlation_id UUID,
+    payload_schema_version VARCHAR(20),
+    occurred_at TIMESTAMPTZ NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    lease_expires_at TIMESTAMPTZ,
+    last_error TEXT,
+    dispatched_at TIMESTAMPTZ,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    CONSTRAINT chk_event_outbox_status CHECK (status IN ('PENDING','IN_FLIGHT','DISPATCHED','DEAD'))
+);
+
+CREATE INDEX idx_event_outbox_due ON event_outbox(id, next_attempt_at)
+    WHERE status = 'PENDING';
+CREATE INDEX idx_event_outbox_ordering ON event_outbox(listener_id, ordering_key, id)
+    WHERE status IN ('PENDING','IN_FLIGHT');
+CREATE INDEX idx_event_outbox_lease ON event_outbox(lease_expires_at)
+    WHERE status = 'IN_FLIGHT';
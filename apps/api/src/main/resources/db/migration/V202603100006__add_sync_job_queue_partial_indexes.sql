@@ -0,0 +1,10 @@
+-- Queue indexes cover only live rows, so claim and lease recovery stay cheap as
+-- SUCCEEDED/FAILED history grows. A job is due from next_attempt_after, or from
+-- creation on its first attempt; the claim orders and filters on that expression.
+CREATE INDEX idx_job_pending_due ON sync_jobs ((COALESCE(next_attempt_after, created_at)))
+    WHERE status = 'PENDING';
+CREATE INDEX idx_job_running_lease ON sync_jobs (lease_expires_at)
+    WHERE status = 'RUNNING';
+
+DROP INDEX idx_job_next_attempt;
+DROP INDEX idx_job_lease;
@@ -0,0 +1,14 @@
+-- Worker that last claimed the action; written by the claim statement only, for diagnosing
+-- stuck leases across replicas.
+ALTER TABLE write_actions ADD COLUMN leased_by VARCHAR(100);
+
+-- The claim walks tenants with PENDING work and takes a bounded, due-ordered slice of each;
+-- lease recovery scans RUNNING rows by expiry. Both indexes cover only live rows.
+CREATE INDEX idx_write_actions_pending_tenant_due
+    ON write_actions (tenant_id, (COALESCE(next_attempt_after, created_at)))
+    WHERE status = 'PENDING';
+CREATE INDEX idx_write_actions_running_lease ON write_actions (lease_expires_at)
+    WHERE status = 'RUNNING';
+
+DROP INDEX idx_write_actions_next_attempt;
+DROP INDEX idx_write_actions_lease;
@@ -0,0 +1,8 @@
+-- Fair claiming takes a bounded, due-ordered slice of each waiting tenant's PENDING jobs.
+CREATE INDEX idx_job_pending_tenant_due
+    ON sync_jobs (tenant_id, (COALESCE(next_attempt_after, created_at)))
+    WHERE status = 'PENDING';
+
+-- Per-customer concurrency is counted over RUNNING jobs only.
+CREATE INDEX idx_job_running_account ON sync_jobs (account_id)
+    WHERE status = 'RUNNING';
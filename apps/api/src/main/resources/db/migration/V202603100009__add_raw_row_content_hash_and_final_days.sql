@@ -0,0 +1,14 @@
+-- Fingerprint of a row's metric columns. Ingestion only rewrites rows whose hash changed;
+-- existing rows start NULL and are rewritten once on their next fetch.
+ALTER TABLE raw_campaign_rows ADD COLUMN content_hash BIGINT;
+
+-- Report days that were fetched after their metrics had settled (older than the conversion
+-- lag). The daily sync leaves them out of its window.
+CREATE TABLE raw_report_final_days (
+    integration_id UUID NOT NULL,
+    account_id VARCHAR(20) NOT NULL,
+    report_type VARCHAR(50) NOT NULL,
+    report_date DATE NOT NULL,
+    finalized_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (integration_id, account_id, report_type, report_date)
+);
@@ -0,0 +1,62 @@
+-- Range-partition raw_campaign_rows by calendar month of report_date, so window scans and
+-- upserts only touch the months they cover and expired months are dropped by detaching a
+-- partition rather than by DELETE. Unique constraints on a partitioned table must include
+-- the partition key, so the primary key becomes (id, report_date); the natural key already
+-- has it. Partitions are named raw_campaign_rows_yYYYYmMM; RawRowPartitionMaintainer keeps
+-- them ahead of today.
+CREATE TABLE raw_campaign_rows_partitioned (
+    id UUID NOT NULL,
+    snapshot_id UUID NOT NULL,
+    integration_id UUID NOT NULL,
+    account_id VARCHAR(20) NOT NULL,
+    campaign_id VARCHAR(30) NOT NULL,
+    campaign_name VARCHAR(255),
+    report_date DATE NOT NULL,
+    clicks BIGINT NOT NULL DEFAULT 0,
+    impressions BIGINT NOT NULL DEFAULT 0,
+    cost_micros BIGINT NOT NULL DEFAULT 0,
+    conversions NUMERIC(12,2) NOT NULL DEFAULT 0,
+    ingested_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    content_hash BIGINT
+) PARTITION BY RANGE (report_date);
+
+-- One partition per month from the oldest stored row through three months ahead
+DO $$
+DECLARE
+    m DATE;
+    last_month DATE;
+BEGIN
+    SELECT date_trunc('month', COALESCE(MIN(report_date), now()))::date,
+           GREATEST(date_trunc('month', MAX(report_date)),
+                    date_trunc('month', now()) + interval '3 months')::date
+    INTO m, last_month
+    FROM raw_campaign_rows;
+
+    WHILE m <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE %I PARTITION OF raw_campaign_rows_partitioned FOR VALUES FROM (%L) TO (%L)',
+            'raw_campaign_rows_' || to_char(m, '"y"YYYY"m"MM'), m, (m + interval '1 month')::date);
+        m := (m + interval '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO raw_campaign_rows_partitioned
+    (id, snapshot_id, integration_id, account_id, campaign_id, campaign_name, report_date,
+     clicks, impressions, cost_micros, conversions, ingested_at, content_hash)
+SELECT id, snapshot_id, integration_id, account_id, campaign_id, campaign_name, report_date,
+       clicks, impressions, cost_micros, conversions, ingested_at, content_hash
+FROM raw_campaign_rows;
+
+DROP TABLE raw_campaign_rows;
+ALTER TABLE raw_campaign_rows_partitioned RENAME TO raw_campaign_rows;
+
+ALTER TABLE raw_campaign_rows
+    ADD CONSTRAINT raw_campaign_rows_pkey PRIMARY KEY (id, report_date);
+ALTER TABLE raw_campaign_rows
+    ADD CONSTRAINT uq_campaign_row_natural_key UNIQUE (integration_id, account_id, campaign_id, report_date);
+ALTER TABLE raw_campaign_rows
+    ADD CONSTRAINT raw_campaign_rows_snapshot_id_fkey FOREIGN KEY (snapshot_id)
+        REFERENCES raw_snapshots(id) ON DELETE CASCADE DEFERRABLE INITIALLY DEFERRED;
+
+CREATE INDEX idx_campaign_row_snapshot ON raw_campaign_rows(snapshot_id);
+CREATE INDEX idx_campaign_row_account_date ON raw_campaign_rows(account_id, report_date);
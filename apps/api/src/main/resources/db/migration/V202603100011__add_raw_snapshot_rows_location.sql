@@ -0,0 +1,10 @@
+-- Where a snapshot's rows live: NULL while they are in raw_campaign_rows, otherwise the
+-- archive file they were compacted into.
+ALTER TABLE raw_snapshots ADD COLUMN rows_location VARCHAR(1024);
+ALTER TABLE raw_snapshots ADD COLUMN archived_at TIMESTAMPTZ;
+
+-- Retention scans: hot snapshots by age, and the newest snapshot per (integration, account,
+-- report type, window)
+CREATE INDEX idx_snapshot_hot_date_to ON raw_snapshots(date_to) WHERE rows_location IS NULL;
+CREATE INDEX idx_snapshot_natural_key
+    ON raw_snapshots(integration_id, account_id, report_type, date_from, date_to, created_at);
@@ -0,0 +1,11 @@
+-- Hits admitted by the in-memory rate limiter, shared between replicas when
+-- rate-limit.sync-enabled is set. Rows older than the longest window are deleted on sync.
+CREATE TABLE rate_limit_hits (
+    id BIGSERIAL PRIMARY KEY,
+    scope VARCHAR(50) NOT NULL,
+    tenant_id UUID NOT NULL,
+    hit_at TIMESTAMPTZ NOT NULL,
+    replica_id UUID NOT NULL
+);
+
+CREATE INDEX idx_rate_limit_hits_hit_at ON rate_limit_hits(hit_at);
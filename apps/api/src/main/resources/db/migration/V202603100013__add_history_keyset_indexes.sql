@@ -0,0 +1,16 @@
+-- Job and action history pages are read newest first by (created_at, id) within one
+-- integration or revision, with an optional status filter. Unfiltered pages walk the first
+-- index of each pair from the cursor. Filtered pages walk the second, which has status in
+-- its key, so they read only matching rows instead of discarding the others. The
+-- single-column indexes these replace are prefixes of the new ones.
+CREATE INDEX idx_job_integration_created
+    ON sync_jobs (integration_id, created_at DESC, id DESC);
+CREATE INDEX idx_job_integration_status_created
+    ON sync_jobs (integration_id, status, created_at DESC, id DESC);
+CREATE INDEX idx_write_actions_revision_created
+    ON write_actions (revision_id, created_at DESC, id DESC);
+CREATE INDEX idx_write_actions_revision_status_created
+    ON write_actions (revision_id, status, created_at DESC, id DESC);
+
+DROP INDEX idx_job_integration_id;
+DROP INDEX idx_write_actions_revision_id;
@@ -0,0 +1,7 @@
+-- The tenant queue view counts a tenant's PENDING and RUNNING actions, as a range scan of
+-- (tenant_id, status) instead of the global queue. next_attempt_after rides along for the
+-- due/scheduled split. The (tenant_id, status) index it replaces is a prefix of this one.
+CREATE INDEX idx_write_actions_tenant_status_next_attempt
+    ON write_actions (tenant_id, status, next_attempt_after);
+
+DROP INDEX idx_write_actions_tenant_status;
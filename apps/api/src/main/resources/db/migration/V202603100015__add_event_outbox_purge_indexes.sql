@@ -0,0 +1,6 @@
+-- The relay's purge deletes finished rows by age; partial indexes keep the lookup off the
+-- live queue. DEAD rows have no dispatched_at, so they are aged by created_at.
+CREATE INDEX idx_event_outbox_dispatched ON event_outbox(dispatched_at)
+    WHERE status = 'DISPATCHED';
+CREATE INDEX idx_event_outbox_dead ON event_outbox(created_at)
+    WHERE status = 'DEAD';
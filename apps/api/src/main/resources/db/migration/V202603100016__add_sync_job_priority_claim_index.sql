@@ -0,0 +1,15 @@
+-- The claim takes each tenant's due jobs by trigger priority and then due time. Indexing the
+-- same CASE expression lets the per-tenant lateral read rows in order and stop at its limit,
+-- instead of sorting every due job of the tenant. The CASE must stay identical to
+-- SyncJobClaimRepositoryImpl.PRIORITY_SQL. idx_job_pending_tenant_due stays: it serves the
+-- loose scan over waiting tenants and their oldest due job.
+CREATE INDEX idx_job_pending_tenant_priority_due
+    ON sync_jobs (tenant_id,
+                  (CASE trigger_type
+                       WHEN 'FORCE_RUN' THEN 0
+                       WHEN 'MANUAL' THEN 1
+                       WHEN 'DAILY' THEN 2
+                       ELSE 3
+                   END),
+                  (COALESCE(next_attempt_after, created_at)))
+    WHERE status = 'PENDING';
@@ -0,0 +1,5 @@
+-- The daily scheduler looks up each binding's latest DAILY window to tell whether today's
+-- sync was already enqueued, which must survive restarts.
+CREATE INDEX idx_job_daily_integration_date_to
+    ON sync_jobs (integration_id, date_to)
+    WHERE trigger_type = 'DAILY';
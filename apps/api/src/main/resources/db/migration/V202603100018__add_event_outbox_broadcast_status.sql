@@ -0,0 +1,8 @@
+-- Broadcast rows are read by every replica's relay instead of being claimed by one, so they
+-- carry their own status and are looked up by age within the broadcast window.
+ALTER TABLE event_outbox DROP CONSTRAINT chk_event_outbox_status;
+ALTER TABLE event_outbox ADD CONSTRAINT chk_event_outbox_status
+    CHECK (status IN ('PENDING','IN_FLIGHT','DISPATCHED','DEAD','BROADCAST'));
+
+CREATE INDEX idx_event_outbox_broadcast ON event_outbox(occurred_at)
+    WHERE status = 'BROADCAST';
@@ -0,0 +1,9 @@
+-- Each hit records when its own window ends, so replicas read and purge hits by expiry
+-- instead of by the longest window they happen to have seen locally. Both policies in use
+-- have a one-hour window, which is what existing rows are given.
+ALTER TABLE rate_limit_hits ADD COLUMN expires_at TIMESTAMPTZ;
+UPDATE rate_limit_hits SET expires_at = hit_at + INTERVAL '1 hour';
+ALTER TABLE rate_limit_hits ALTER COLUMN expires_at SET NOT NULL;
+
+DROP INDEX idx_rate_limit_hits_hit_at;
+CREATE INDEX idx_rate_limit_hits_expires_at ON rate_limit_hits(expires_at);
@@ -0,0 +1,197 @@
+package com.derbysoft.click.bootstrap.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.derbysoft.click.app.ApiApplication;
+import com.derbysoft.click.modules.campaignexecution.application.handlers.CampaignPlanService;
+import com.derbysoft.click.modules.campaignexecution.application.handlers.CampaignPlanService.PlanItemDraft;
+import com.derbysoft.click.modules.campaignexecution.application.handlers.PlanApplyService;
+import com.derbysoft.click.modules.campaignexecution.application.handlers.WriteActionRunner;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.ApplyOrder;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.WriteActionType;
+import com.derbysoft.click.modules.ingestion.application.handlers.IngestionJobService;
+import com.derbysoft.click.modules.ingestion.application.handlers.JobRunner;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * End-to-end load driver. Boots the full application under the {@code loadtest} profile, so
+ * every Google Ads port is served by the in-process fakes, against a real PostgreSQL with
+ * {@code pg_stat_statements}. Seeds N tenants with one connection and binding each, then
+ * fires the daily ingestion wave and one revision apply per tenant and prints throughput,
+ * p50/p99 latency and the number of SQL statements each phase issued.
+ *
+ * <p>Excluded from the default test task; run with {@code ./gradlew :apps:api:loadTest}.
+ * Size and fault injection are read from the environment, e.g.
+ * {@code LOADTEST_TENANTS=200 LOADTEST_UNAVAILABLE_RATE=0.05 ./gradlew :apps:api:loadTest}.
+ */
+@Tag("loadtest")
+@Testcontainers
+@ActiveProfiles("loadtest")
+@SpringBootTest(classes = ApiApplication.class, properties = {
+    "jwt.secret=loadtest-secret",
+    "loadtest.google-ads.latency-ms=${LOADTEST_LATENCY_MS:50}",
+    "loadtest.google-ads.latency-jitter-ms=${LOADTEST_LATENCY_JITTER_MS:50}",
+    "loadtest.google-ads.resource-exhausted-rate=${LOADTEST_RESOURCE_EXHAUSTED_RATE:0}",
+    "loadtest.google-ads.unavailable-rate=${LOADTEST_UNAVAILABLE_RATE:0}",
+    "loadtest.google-ads.auth-error-rate=${LOADTEST_AUTH_ERROR_RATE:0}",
+    "loadtest.google-ads.operation-error-rate=${LOADTEST_OPERATION_ERROR_RATE:0}",
+    "loadtest.google-ads.campaigns-per-account=${LOADTEST_CAMPAIGNS_PER_ACCOUNT:50}",
+})
+class LoadTestDriverTest {
+
+    private static final int TENANTS = Integer.parseInt(System.getenv().getOrDefault("LOADTEST_TENANTS", "50"));
+    private static final int AD_GROUPS_PER_REVISION =
+        Integer.parseInt(System.getenv().getOrDefault("LOADTEST_AD_GROUPS", "10"));
+    private static final int KEYWORDS_PER_AD_GROUP =
+        Integer.parseInt(System.getenv().getOrDefault("LOADTEST_KEYWORDS", "10"));
+    private static final Duration PHASE_TIMEOUT = Duration.ofMinutes(10);
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+        .withCommand("postgres", "-c", "shared_preload_libraries=pg_stat_statements");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired IngestionJobService ingestionJobService;
+    @Autowired JobRunner jobRunner;
+    @Autowired CampaignPlanService campaignPlanService;
+    @Autowired PlanApplyService planApplyService;
+    @Autowired WriteActionRunner writeActionRunner;
+
+    private record Tenant(UUID tenantId, UUID connectionId, UUID revisionId) {}
+
+    @Test
+    void dailyWaveAndRevisionApply() throws InterruptedException {
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_stat_statements");
+        List<Tenant> tenants = seedTenants();
+
+        // Phase 1: daily ingestion wave
+        resetStatementStats();
+        long waveStart = System.nanoTime();
+        tenants.forEach(t -> ingestionJobService.enqueueDailySync(t.connectionId(), t.tenantId()));
+        awaitZero("SELECT COUNT(*) FROM sync_jobs WHERE status IN ('PENDING','RUNNING') /* loadtest */",
+            jobRunner::runPendingJobs);
+        report("daily wave", "sync_jobs", waveStart);
+
+        // Phase 2: one revision apply per tenant
+        resetStatementStats();
+        long applyStart = System.nanoTime();
+        tenants.forEach(t -> planApplyService.applyRevision(t.revisionId(), t.tenantId(), "loadtest", null));
+        awaitZero("SELECT COUNT(*) FROM plan_revisions WHERE status = 'APPLYING' /* loadtest */",
+            writeActionRunner::runPendingActions);
+        report("revision apply", "write_actions", applyStart);
+
+        Long unfinished = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM sync_jobs WHERE status IN ('PENDING','RUNNING') /* loadtest */", Long.class);
+        assertThat(unfinished).isZero();
+    }
+
+    private List<Tenant> seedTenants() {
+        List<Tenant> tenants = new ArrayList<>(TENANTS);
+        for (int i = 0; i < TENANTS; i++) {
+            UUID tenantId = UUID.randomUUID();
+            UUID connectionId = UUID.randomUUID();
+            jdbcTemplate.update("""
+                INSERT INTO google_connections (id, tenant_id, manager_id, status, credential_path)
+                VALUES (?, ?, ?, 'ACTIVE', 'loadtest')
+                """, connectionId, tenantId, String.format("%010d", 1_000_000_000L + i));
+            jdbcTemplate.update("""
+                INSERT INTO account_bindings (id, connection_id, tenant_id, customer_id, status, binding_type)
+                VALUES (?, ?, ?, ?, 'ACTIVE', 'OWNED')
+                """, UUID.randomUUID(), connectionId, tenantId, String.format("%010d", 2_000_000_000L + i));
+
+            UUID planId = campaignPlanService.createPlan(tenantId, "Load test " + i, null, "loadtest").getId();
+            UUID revisionId = campaignPlanService.saveDraftRevision(planId, tenantId, drafts(), "loadtest").getId();
+            campaignPlanService.publishRevision(revisionId, tenantId, "loadtest");
+            tenants.add(new Tenant(tenantId, connectionId, revisionId));
+        }
+        return tenants;
+    }
+
+    /** One campaign, its ad groups, and keywords under each ad group, linked by parent index. */
+    private static List<PlanItemDraft> drafts() {
+        List<PlanItemDraft> drafts = new ArrayList<>();
+        drafts.add(new PlanItemDraft(WriteActionType.CREATE_CAMPAIGN, "CAMPAIGN", null,
+            "{\"name\":\"Load test\",\"budgetAmountMicros\":10000000,\"status\":\"PAUSED\"}",
+            ApplyOrder.CAMPAIGN, null));
+        for (int g = 0; g < AD_GROUPS_PER_REVISION; g++) {
+            int adGroupIndex = drafts.size();
+            drafts.add(new PlanItemDraft(WriteActionType.CREATE_AD_GROUP, "AD_GROUP", null,
+                "{\"name\":\"Ad group " + g + "\",\"status\":\"PAUSED\",\"cpcBidMicros\":1000000}",
+                ApplyOrder.AD_GROUP, 0));
+            for (int k = 0; k < KEYWORDS_PER_AD_GROUP; k++) {
+                drafts.add(new PlanItemDraft(WriteActionType.CREATE_KEYWORD, "KEYWORD", null,
+                    "{\"text\":\"keyword " + g + "-" + k + "\",\"matchType\":\"PHRASE\",\"cpcBidMicros\":1000000,\"status\":\"ENABLED\"}",
+                    ApplyOrder.KEYWORD, adGroupIndex));
+            }
+        }
+        return drafts;
+    }
+
+    private void awaitZero(String countSql, Runnable tick) throws InterruptedException {
+        long deadline = System.nanoTime() + PHASE_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            tick.run();
+            Long remaining = jdbcTemplate.queryForObject(countSql, Long.class);
+            if (remaining == null || remaining == 0) {
+                return;
+            }
+            Thread.sleep(200);
+        }
+        throw new AssertionError("Phase did not finish within " + PHASE_TIMEOUT + ": " + countSql);
+    }
+
+    private void resetStatementStats() {
+        jdbcTemplate.execute("SELECT pg_stat_statements_reset() /* loadtest */");
+    }
+
+    private void report(String phase, String table, long startNanos) {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        List<Double> latenciesMs = jdbcTemplate.queryForList(
+            "SELECT EXTRACT(EPOCH FROM (updated_at - created_at)) * 1000 FROM " + table
+                + " WHERE status = 'SUCCEEDED' ORDER BY 1 /* loadtest */", Double.class);
+        List<Map<String, Object>> byStatus = jdbcTemplate.queryForList(
+            "SELECT status, COUNT(*) AS n FROM " + table + " GROUP BY status ORDER BY status /* loadtest */");
+        Long statements = jdbcTemplate.queryForObject("""
+            SELECT COALESCE(SUM(calls), 0) FROM pg_stat_statements
+             WHERE query NOT LIKE '%loadtest%' AND query NOT LIKE '%pg_stat_statements%'
+            """, Long.class);
+
+        System.out.printf("%n== %s (%d tenants) ==%n", phase, TENANTS);
+        System.out.printf("  wall time        %.1f s%n", seconds);
+        System.out.printf("  throughput       %.1f %s/s%n", latenciesMs.size() / seconds, table);
+        System.out.printf("  latency p50/p99  %.0f / %.0f ms%n", percentile(latenciesMs, 50), percentile(latenciesMs, 99));
+        System.out.printf("  statements       %d (%.1f per succeeded row)%n",
+            statements, latenciesMs.isEmpty() ? 0.0 : statements / (double) latenciesMs.size());
+        byStatus.forEach(row -> System.out.printf("  %-16s %s%n", row.get("status"), row.get("n")));
+    }
+
+    private static double percentile(List<Double> sorted, int p) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+}
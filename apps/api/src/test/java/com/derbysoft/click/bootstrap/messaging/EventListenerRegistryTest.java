@@ -0,0 +1,75 @@
+package com.derbysoft.click.bootstrap.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.derbysoft.click.sharedkernel.api.EventEnvelope;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.support.GenericApplicationContext;
+
+class EventListenerRegistryTest {
+
+    record SampleEvent(String name) {}
+
+    static class PlainListener {
+        @EventListener
+        public void onSample(EventEnvelope<SampleEvent> envelope) {}
+    }
+
+    static class BroadcastListener {
+        @Broadcast
+        @EventListener
+        public void onSample(EventEnvelope<SampleEvent> envelope) {}
+    }
+
+    static class ConditionalListener {
+        @EventListener(condition = "#envelope.tenantId != null")
+        public void onSample(EventEnvelope<SampleEvent> envelope) {}
+    }
+
+    @Test
+    void shouldIndexEnvelopeListenersByPayloadType() {
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            context.registerBean(PlainListener.class);
+            context.refresh();
+            EventListenerRegistry registry = new EventListenerRegistry(context);
+
+            registry.afterSingletonsInstantiated();
+
+            assertThat(registry.listenersFor(SampleEvent.class))
+                .extracting(EventListenerRegistry.Listener::id)
+                .containsExactly("PlainListener#onSample");
+        }
+    }
+
+    @Test
+    void shouldFlagBroadcastListeners() {
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            context.registerBean(PlainListener.class);
+            context.registerBean(BroadcastListener.class);
+            context.refresh();
+            EventListenerRegistry registry = new EventListenerRegistry(context);
+
+            registry.afterSingletonsInstantiated();
+
+            assertThat(registry.find("PlainListener#onSample")).get()
+                .extracting(EventListenerRegistry.Listener::broadcast).isEqualTo(false);
+            assertThat(registry.find("BroadcastListener#onSample")).get()
+                .extracting(EventListenerRegistry.Listener::broadcast).isEqualTo(true);
+        }
+    }
+
+    @Test
+    void shouldRejectListenersWithACondition() {
+        try (GenericApplicationContext context = new GenericApplicationContext()) {
+            context.registerBean(ConditionalListener.class);
+            context.refresh();
+            EventListenerRegistry registry = new EventListenerRegistry(context);
+
+            assertThatThrownBy(registry::afterSingletonsInstantiated)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ConditionalListener#onSample");
+        }
+    }
+}
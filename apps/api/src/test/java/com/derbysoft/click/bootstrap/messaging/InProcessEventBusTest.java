@@ -0,0 +1,88 @@
+package com.derbysoft.click.bootstrap.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.derbysoft.click.sharedkernel.api.EventEnvelope;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class InProcessEventBusTest {
+
+    @Mock ApplicationEventPublisher publisher;
+    @Mock EventListenerRegistry listenerRegistry;
+    @Mock EventOutboxStore outboxStore;
+    @Mock OutboxRelay relay;
+    @Captor ArgumentCaptor<List<EventOutboxStore.NewRecord>> records;
+
+    private final EventBusConfig config = new EventBusConfig();
+    private InProcessEventBus bus;
+
+    record SampleEvent(UUID id, String name) {}
+
+    static class SampleListener {
+        void onSample(EventEnvelope<SampleEvent> envelope) {}
+    }
+
+    @BeforeEach
+    void setUp() {
+        bus = new InProcessEventBus(publisher, config, listenerRegistry, outboxStore, relay,
+            JsonMapper.builder().build());
+    }
+
+    @Test
+    void shouldDeliverSynchronouslyByDefault() {
+        EventEnvelope<SampleEvent> event = EventEnvelope.of("SampleEvent", new SampleEvent(UUID.randomUUID(), "a"));
+
+        bus.publish(event);
+
+        verify(publisher).publishEvent(event);
+        verifyNoInteractions(outboxStore, relay);
+    }
+
+    @Test
+    void shouldWriteOneOutboxRowPerListenerInOutboxMode() throws Exception {
+        config.setMode(EventBusConfig.Mode.OUTBOX);
+        var method = SampleListener.class.getDeclaredMethod("onSample", EventEnvelope.class);
+        when(listenerRegistry.listenersFor(SampleEvent.class)).thenReturn(List.of(
+            new EventListenerRegistry.Listener("A#onSample", new SampleListener(), method, SampleEvent.class, false),
+            new EventListenerRegistry.Listener("B#onSample", new SampleListener(), method, SampleEvent.class, true)));
+        EventEnvelope<SampleEvent> event = EventEnvelope.of("SampleEvent", new SampleEvent(UUID.randomUUID(), "a"));
+
+        bus.publish(event);
+
+        verify(outboxStore).append(records.capture());
+        assertThat(records.getValue())
+            .extracting(EventOutboxStore.NewRecord::listenerId)
+            .containsExactly("A#onSample", "B#onSample");
+        assertThat(records.getValue())
+            .extracting(EventOutboxStore.NewRecord::broadcast)
+            .containsExactly(false, true);
+        assertThat(records.getValue().getFirst().payload()).contains("\"name\":\"a\"");
+        verify(relay).wakeUp();
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    void shouldSkipOutboxWhenNoListenerIsInterested() {
+        config.setMode(EventBusConfig.Mode.OUTBOX);
+        when(listenerRegistry.listenersFor(any())).thenReturn(List.of());
+
+        bus.publish(EventEnvelope.of("SampleEvent", new SampleEvent(UUID.randomUUID(), "a")));
+
+        verifyNoInteractions(outboxStore, relay, publisher);
+    }
+}
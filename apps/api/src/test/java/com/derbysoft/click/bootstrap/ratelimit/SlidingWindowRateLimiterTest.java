@@ -0,0 +1,184 @@
+package com.derbysoft.click.bootstrap.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.derbysoft.click.bootstrap.ratelimit.SlidingWindowRateLimiter.Decision;
+import com.derbysoft.click.bootstrap.ratelimit.SlidingWindowRateLimiter.Hit;
+import com.derbysoft.click.bootstrap.ratelimit.SlidingWindowRateLimiter.Policy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class SlidingWindowRateLimiterTest {
+
+    private static final Policy POLICY = new Policy("manual", 3, Duration.ofHours(1));
+    private static final Instant T0 = Instant.parse("2026-03-10T09:00:00Z");
+    private static final UUID TENANT_A = UUID.randomUUID();
+    private static final UUID TENANT_B = UUID.randomUUID();
+
+    private final RateLimitConfig config = new RateLimitConfig();
+    private Instant now = T0;
+    private SlidingWindowRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new SlidingWindowRateLimiter(config, () -> now);
+    }
+
+    private void hitAt(Duration offset) {
+        now = T0.plus(offset);
+        assertThat(limiter.tryAcquire(POLICY, TENANT_A).allowed()).isTrue();
+    }
+
+    private static Hit hit(UUID tenantId, Instant at) {
+        return new Hit(POLICY.scope(), tenantId, at, at.plus(POLICY.window()));
+    }
+
+    @Test
+    void shouldRetryAfterTheOldestHitLeavesTheWindow() {
+        hitAt(Duration.ZERO);
+        hitAt(Duration.ofMinutes(10));
+        hitAt(Duration.ofMinutes(20));
+
+        now = T0.plus(Duration.ofMinutes(30));
+        Decision decision = limiter.tryAcquire(POLICY, TENANT_A);
+
+        assertThat(decision.allowed()).isFalse();
+        assertThat(decision.retryAfter()).isEqualTo(Duration.ofMinutes(30));
+    }
+
+    @Test
+    void shouldAdmitAgainOnceTheWindowSlides() {
+        hitAt(Duration.ZERO);
+        hitAt(Duration.ofMinutes(10));
+        hitAt(Duration.ofMinutes(20));
+
+        now = T0.plus(Duration.ofMinutes(60)).plusMillis(1);
+
+        assertThat(limiter.tryAcquire(POLICY, TENANT_A).allowed()).isTrue();
+        assertThat(limiter.tryAcquire(POLICY, TENANT_A).allowed()).isFalse();
+    }
+
+    @Test
+    void shouldNotCountDenialsAgainstTheTenant() {
+        hitAt(Duration.ZERO);
+        hitAt(Duration.ZERO);
+        hitAt(Duration.ZERO);
+        now = T0.plus(Duration.ofMinutes(59));
+        limiter.tryAcquire(POLICY, TENANT_A);
+        limiter.tryAcquire(POLICY, TENANT_A);
+
+        now = T0.plus(Duration.ofMinutes(61));
+
+        assertThat(limiter.tryAcquire(POLICY, TENANT_A).allowed()).isTrue();
+    }
+
+    @Test
+    void shouldRoundRetryAfterUpToWholeSeconds() {
+        hitAt(Duration.ZERO);
+        hitAt(Duration.ZERO);
+        hitAt(Duration.ZERO);
+
+        now = T0.plus(Duration.ofMinutes(59)).plusMillis(400);
+
+        assertThat(limiter.tryAcquire(POLICY, TENANT_A).retryAfter()).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    @Test
+    void shouldKeepTenantsAndScopesApart() {
+        hitAt(Duration.ZERO);
+        hitAt(Duration.ZERO);
+        hitAt(Duration.ZERO);
+
+        assertThat(limiter.tryAcquire(POLICY, TENANT_A).allowed()).isFalse();
+        assertThat(limiter.tryAcquire(POLICY, TENANT_B).allowed()).isTrue();
+        assertThat(limiter.tryAcquire(new Policy("other", 3, Duration.ofHours(1)), TENANT_A).allowed()).isTrue();
+    }
+
+    @Test
+    void shouldCountHitsTakenOnOtherReplicas() {
+        config.setSyncEnabled(true);
+        hitAt(Duration.ofMinutes(30));
+        limiter.replaceRemote(List.of(
+            hit(TENANT_A, T0),
+            hit(TENANT_A, T0.plus(Duration.ofMinutes(5)))));
+
+        now = T0.plus(Duration.ofMinutes(40));
+        Decision decision = limiter.tryAcquire(POLICY, TENANT_A);
+
+        assertThat(decision.allowed()).isFalse();
+        assertThat(decision.retryAfter()).isEqualTo(Duration.ofMinutes(20));
+        assertThat(limiter.drainUnsynced())
+            .containsExactly(hit(TENANT_A, T0.plus(Duration.ofMinutes(30))));
+    }
+
+    @Test
+    void shouldNotQueueHitsForSyncWhenSyncIsDisabled() {
+        hitAt(Duration.ZERO);
+
+        assertThat(limiter.drainUnsynced()).isEmpty();
+    }
+
+    @Test
+    void shouldAdmitAgainAfterAHitIsReleased() {
+        config.setSyncEnabled(true);
+        hitAt(Duration.ZERO);
+        hitAt(Duration.ofMinutes(10));
+        now = T0.plus(Duration.ofMinutes(20));
+        Decision third = limiter.tryAcquire(POLICY, TENANT_A);
+
+        limiter.release(POLICY, TENANT_A, third.acquiredAt());
+
+        assertThat(limiter.drainUnsynced()).containsExactly(
+            hit(TENANT_A, T0), hit(TENANT_A, T0.plus(Duration.ofMinutes(10))));
+        assertThat(limiter.tryAcquire(POLICY, TENANT_A).allowed()).isTrue();
+        assertThat(limiter.tryAcquire(POLICY, TENANT_A).allowed()).isFalse();
+    }
+
+    @Test
+    void shouldReleaseTheHitWhenTheTransactionRollsBack() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            hitAt(Duration.ZERO);
+            hitAt(Duration.ZERO);
+            assertThat(limiter.tryAcquireForTransaction(POLICY, TENANT_A).allowed()).isTrue();
+
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(limiter.tryAcquire(POLICY, TENANT_A).allowed()).isTrue();
+    }
+
+    @Test
+    void shouldKeepRemoteHitsOfTenantsStillReportedAcrossAReplace() {
+        limiter.replaceRemote(List.of(
+            hit(TENANT_A, T0), hit(TENANT_B, T0)));
+        limiter.replaceRemote(List.of(
+            hit(TENANT_A, T0), hit(TENANT_A, T0),
+            hit(TENANT_A, T0)));
+
+        now = T0.plus(Duration.ofMinutes(1));
+
+        assertThat(limiter.tryAcquire(POLICY, TENANT_A).allowed()).isFalse();
+        assertThat(limiter.tryAcquire(POLICY, TENANT_B).allowed()).isTrue();
+    }
+
+    @Test
+    void shouldKeepRemoteHitsOfScopesNotUsedLocallyUntilTheirWindowEnds() {
+        Policy daily = new Policy("daily", 1, Duration.ofDays(1));
+        limiter.replaceRemote(List.of(new Hit("daily", TENANT_A, T0, T0.plus(Duration.ofDays(1)))));
+
+        now = T0.plus(Duration.ofHours(2));
+        limiter.evictExpired();
+
+        assertThat(limiter.tryAcquire(daily, TENANT_A).allowed()).isFalse();
+    }
+}
@@ -3,6 +3,9 @@ package com.derbysoft.click.modules.campaignexecution.application;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -28,6 +31,8 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -40,6 +45,7 @@ class PlanApplyServiceTest {
     @Mock GoogleAdsQueryPort googleAdsQueryPort;
     @Mock ManualExecutionRateLimitService rateLimitService;
     @Mock InProcessEventBus eventBus;
+    @Captor ArgumentCaptor<List<WriteAction>> actions;
 
     private PlanApplyService service;
 
@@ -80,13 +86,17 @@ class PlanApplyServiceTest {
             new AccountBindingInfo(UUID.randomUUID(), TENANT_ID, "123456789", "ACTIVE", "CUSTOMER")));
         when(planItemRepository.findByRevisionId(REVISION_ID)).thenReturn(List.of(item));
         when(revisionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
-        when(planItemRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
-        when(writeActionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(planItemRepository.enqueuePublished(eq(REVISION_ID), any())).thenReturn(1);
 
         PlanRevision result = service.applyRevision(REVISION_ID, TENANT_ID, "user-1", "apply");
 
         assertThat(result.getStatus()).isEqualTo(PlanRevisionStatus.APPLYING);
-        verify(writeActionRepository).save(any(WriteAction.class));
+        verify(writeActionRepository).insertAll(actions.capture());
+        assertThat(actions.getValue()).singleElement()
+            .satisfies(a -> assertThat(a.getItemId()).isEqualTo(item.getId()));
+        verify(planItemRepository, never()).save(any());
+        verify(writeActionRepository, never()).save(any());
+        verify(eventBus, times(2)).publish(any());
     }
 
     @Test
@@ -99,6 +109,7 @@ class PlanApplyServiceTest {
         assertThatThrownBy(() -> service.applyRevision(REVISION_ID, TENANT_ID, "user-1", null))
             .isInstanceOf(DomainError.Conflict.class)
             .hasMessageContaining("PUBLISHED");
+        verify(rateLimitService, never()).checkOrThrow(any());
     }
 
     @Test
@@ -111,5 +122,6 @@ class PlanApplyServiceTest {
         assertThatThrownBy(() -> service.applyRevision(REVISION_ID, TENANT_ID, "user-1", null))
             .isInstanceOf(DomainError.Conflict.class)
             .hasMessageContaining("already being applied");
+        verify(rateLimitService, never()).checkOrThrow(any());
     }
 }
@@ -0,0 +1,116 @@
+package com.derbysoft.click.modules.campaignexecution.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.derbysoft.click.bootstrap.messaging.InProcessEventBus;
+import com.derbysoft.click.modules.campaignexecution.application.handlers.RevisionApplyScheduler;
+import com.derbysoft.click.modules.campaignexecution.domain.PlanItemRepository;
+import com.derbysoft.click.modules.campaignexecution.domain.WriteActionRepository;
+import com.derbysoft.click.modules.campaignexecution.domain.aggregates.WriteAction;
+import com.derbysoft.click.modules.campaignexecution.domain.entities.PlanItem;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.ApplyOrder;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.FailureClass;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.PlanItemStatus;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.TriggerType;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.WriteActionStatus;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.WriteActionType;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RevisionApplySchedulerTest {
+
+    @Mock WriteActionRepository writeActionRepository;
+    @Mock PlanItemRepository planItemRepository;
+    @Mock InProcessEventBus eventBus;
+
+    private RevisionApplyScheduler scheduler;
+
+    private static final UUID REVISION_ID = UUID.randomUUID();
+    private static final UUID TENANT_ID = UUID.randomUUID();
+    private static final Instant NOW = Instant.parse("2026-03-06T09:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new RevisionApplyScheduler(writeActionRepository, planItemRepository, eventBus);
+    }
+
+    private PlanItem queuedItem(WriteActionType type, ApplyOrder order, UUID parentItemId) {
+        PlanItem item = PlanItem.create(UUID.randomUUID(), REVISION_ID, TENANT_ID,
+            type, order.name(), null, "{}", order, parentItemId, NOW);
+        item.publish();
+        item.enqueue(NOW);
+        item.clearEvents();
+        return item;
+    }
+
+    private WriteAction actionFor(PlanItem item) {
+        return WriteAction.create(UUID.randomUUID(), REVISION_ID, item.getId(), TENANT_ID,
+            item.getActionType(), 0, "123456789", TriggerType.APPLY, "user", "apply", NOW);
+    }
+
+    @Test
+    void shouldCopyParentResourceIdOntoClaimedChild() {
+        PlanItem campaign = queuedItem(WriteActionType.CREATE_CAMPAIGN, ApplyOrder.CAMPAIGN, null);
+        campaign.startExecution(NOW);
+        campaign.markSucceeded("customers/123456789/campaigns/42", NOW);
+        PlanItem adGroup = queuedItem(WriteActionType.CREATE_AD_GROUP, ApplyOrder.AD_GROUP, campaign.getId());
+        WriteAction adGroupAction = actionFor(adGroup);
+        when(planItemRepository.findAllById(List.of(adGroup.getId()))).thenReturn(List.of(adGroup));
+        when(planItemRepository.findAllById(List.of(campaign.getId()))).thenReturn(List.of(campaign));
+
+        scheduler.adoptParents(List.of(adGroupAction), NOW);
+
+        assertThat(adGroup.getResourceId()).isEqualTo("customers/123456789/campaigns/42");
+        verify(planItemRepository).save(adGroup);
+    }
+
+    @Test
+    void shouldLeaveRootItemsUntouched() {
+        PlanItem campaign = queuedItem(WriteActionType.CREATE_CAMPAIGN, ApplyOrder.CAMPAIGN, null);
+        WriteAction campaignAction = actionFor(campaign);
+        when(planItemRepository.findAllById(List.of(campaign.getId()))).thenReturn(List.of(campaign));
+
+        scheduler.adoptParents(List.of(campaignAction), NOW);
+
+        verify(planItemRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldBlockWholeSubtreeWhenParentFails() {
+        PlanItem campaign = queuedItem(WriteActionType.CREATE_CAMPAIGN, ApplyOrder.CAMPAIGN, null);
+        campaign.startExecution(NOW);
+        campaign.markFailed(FailureClass.PERMANENT, "invalid budget", NOW);
+        PlanItem adGroup = queuedItem(WriteActionType.CREATE_AD_GROUP, ApplyOrder.AD_GROUP, campaign.getId());
+        PlanItem keyword = queuedItem(WriteActionType.CREATE_KEYWORD, ApplyOrder.KEYWORD, adGroup.getId());
+        WriteAction adGroupAction = actionFor(adGroup);
+        WriteAction keywordAction = actionFor(keyword);
+        // The keyword only becomes an orphan once the first pass has blocked its ad group
+        when(writeActionRepository.findPendingWithDeadParent(50))
+            .thenReturn(List.of(adGroupAction))
+            .thenReturn(List.of(keywordAction))
+            .thenReturn(List.of());
+        when(planItemRepository.findAllById(List.of(adGroup.getId()))).thenReturn(List.of(adGroup));
+        when(planItemRepository.findAllById(List.of(campaign.getId()))).thenReturn(List.of(campaign));
+        when(planItemRepository.findAllById(List.of(keyword.getId()))).thenReturn(List.of(keyword));
+
+        Set<UUID> touched = scheduler.blockOrphans(50, NOW);
+
+        assertThat(touched).containsExactly(REVISION_ID);
+        assertThat(adGroup.getStatus()).isEqualTo(PlanItemStatus.BLOCKED);
+        assertThat(keyword.getStatus()).isEqualTo(PlanItemStatus.BLOCKED);
+        assertThat(adGroupAction.getStatus()).isEqualTo(WriteActionStatus.CANCELLED);
+        assertThat(keywordAction.getStatus()).isEqualTo(WriteActionStatus.CANCELLED);
+    }
+}
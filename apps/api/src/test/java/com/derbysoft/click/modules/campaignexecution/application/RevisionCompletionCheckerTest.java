@@ -0,0 +1,109 @@
+package com.derbysoft.click.modules.campaignexecution.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.derbysoft.click.bootstrap.messaging.InProcessEventBus;
+import com.derbysoft.click.modules.campaignexecution.application.handlers.RevisionCompletionChecker;
+import com.derbysoft.click.modules.campaignexecution.domain.PlanItemRepository;
+import com.derbysoft.click.modules.campaignexecution.domain.PlanRevisionRepository;
+import com.derbysoft.click.modules.campaignexecution.domain.aggregates.PlanRevision;
+import com.derbysoft.click.modules.campaignexecution.domain.events.ExecutionSummaryUpdated;
+import com.derbysoft.click.modules.campaignexecution.domain.events.PlanRevisionApplyCompleted;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.PlanRevisionStatus;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.RevisionProgress;
+import com.derbysoft.click.sharedkernel.api.EventEnvelope;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RevisionCompletionCheckerTest {
+
+    @Mock PlanRevisionRepository revisionRepository;
+    @Mock PlanItemRepository planItemRepository;
+    @Mock InProcessEventBus eventBus;
+
+    private RevisionCompletionChecker checker;
+
+    private static final UUID REVISION_ID = UUID.randomUUID();
+    private static final UUID TENANT_ID = UUID.randomUUID();
+    private static final Instant NOW = Instant.parse("2026-03-06T09:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        checker = new RevisionCompletionChecker(revisionRepository, planItemRepository, eventBus);
+    }
+
+    private PlanRevision applyingRevision() {
+        PlanRevision revision = PlanRevision.create(REVISION_ID, UUID.randomUUID(), TENANT_ID, 1, NOW);
+        revision.publish("user", NOW);
+        revision.startApply(NOW);
+        revision.clearEvents();
+        return revision;
+    }
+
+    @Test
+    void shouldEmitLiveProgressWhileItemsAreOutstanding() {
+        PlanRevision revision = applyingRevision();
+        when(planItemRepository.findProgress(REVISION_ID))
+            .thenReturn(new RevisionProgress(0, 0, 3, 2, 4, 1, 0, 0));
+        when(revisionRepository.findById(REVISION_ID)).thenReturn(Optional.of(revision));
+
+        checker.checkRevisionCompletion(REVISION_ID);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<EventEnvelope<ExecutionSummaryUpdated>> captor = ArgumentCaptor.forClass(EventEnvelope.class);
+        verify(eventBus).publish(captor.capture());
+        ExecutionSummaryUpdated summary = captor.getValue().payload();
+        assertThat(summary.queued()).isEqualTo(3);
+        assertThat(summary.inProgress()).isEqualTo(2);
+        assertThat(summary.succeeded()).isEqualTo(4);
+        assertThat(revision.getStatus()).isEqualTo(PlanRevisionStatus.APPLYING);
+        verify(planItemRepository, never()).findByRevisionId(any());
+    }
+
+    @Test
+    void shouldCompleteRevisionWhenEveryItemIsTerminal() {
+        PlanRevision revision = applyingRevision();
+        when(planItemRepository.findProgress(REVISION_ID))
+            .thenReturn(new RevisionProgress(0, 0, 0, 0, 8, 1, 1, 0));
+        when(revisionRepository.findById(REVISION_ID)).thenReturn(Optional.of(revision));
+        when(revisionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        checker.checkRevisionCompletion(REVISION_ID);
+
+        assertThat(revision.getStatus()).isEqualTo(PlanRevisionStatus.APPLIED);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<EventEnvelope<Object>> captor = ArgumentCaptor.forClass(EventEnvelope.class);
+        verify(eventBus, times(2)).publish(captor.capture());
+        assertThat(captor.getAllValues().get(0).payload()).isInstanceOf(PlanRevisionApplyCompleted.class);
+        ExecutionSummaryUpdated summary = (ExecutionSummaryUpdated) captor.getAllValues().get(1).payload();
+        assertThat(summary.succeeded()).isEqualTo(8);
+        assertThat(summary.failed()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldIgnoreRevisionThatIsNoLongerApplying() {
+        PlanRevision revision = applyingRevision();
+        revision.completeApply(1, 0, NOW);
+        when(planItemRepository.findProgress(REVISION_ID))
+            .thenReturn(new RevisionProgress(0, 0, 0, 0, 1, 0, 0, 0));
+        when(revisionRepository.findById(REVISION_ID)).thenReturn(Optional.of(revision));
+
+        checker.checkRevisionCompletion(REVISION_ID);
+
+        verify(revisionRepository, never()).save(any());
+        verify(eventBus, never()).publish(any());
+    }
+}
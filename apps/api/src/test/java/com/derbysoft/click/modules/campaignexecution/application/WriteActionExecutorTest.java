@@ -2,14 +2,19 @@ package com.derbysoft.click.modules.campaignexecution.application;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.derbysoft.click.bootstrap.messaging.InProcessEventBus;
 import com.derbysoft.click.modules.campaignexecution.application.handlers.ExecutionIncidentLifecycleService;
+import com.derbysoft.click.modules.campaignexecution.application.handlers.ExecutionMetrics;
 import com.derbysoft.click.modules.campaignexecution.application.handlers.RetryPolicyEngine;
-import com.derbysoft.click.modules.campaignexecution.application.handlers.RevisionCompletionChecker;
 import com.derbysoft.click.modules.campaignexecution.application.handlers.WriteActionExecutor;
 import com.derbysoft.click.modules.campaignexecution.application.ports.GoogleAdsMutationPort;
 import com.derbysoft.click.modules.tenantgovernance.api.ports.TenantGovernancePort;
@@ -17,23 +22,29 @@ import com.derbysoft.click.modules.campaignexecution.domain.PlanItemRepository;
 import com.derbysoft.click.modules.campaignexecution.domain.WriteActionRepository;
 import com.derbysoft.click.modules.campaignexecution.domain.aggregates.WriteAction;
 import com.derbysoft.click.modules.campaignexecution.domain.entities.PlanItem;
+import com.derbysoft.click.modules.campaignexecution.domain.events.AccessFailureObserved;
 import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.ApplyOrder;
 import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.FailureClass;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.PlanItemStatus;
 import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.TriggerType;
 import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.WriteActionStatus;
 import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.WriteActionType;
 import com.derbysoft.click.modules.campaignexecution.infrastructure.googleads.MutationAuthException;
 import com.derbysoft.click.modules.googleadsmanagement.api.contracts.GoogleAdsConnectionInfo;
 import com.derbysoft.click.modules.googleadsmanagement.api.ports.GoogleAdsQueryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
 @ExtendWith(MockitoExtension.class)
 class WriteActionExecutorTest {
@@ -46,9 +57,9 @@ class WriteActionExecutorTest {
     @Mock InProcessEventBus eventBus;
     @Mock RetryPolicyEngine retryPolicyEngine;
     @Mock ExecutionIncidentLifecycleService incidentLifecycleService;
-    @Mock RevisionCompletionChecker revisionCompletionChecker;
 
     private WriteActionExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
 
     private static final UUID ACTION_ID = UUID.randomUUID();
     private static final UUID ITEM_ID = UUID.randomUUID();
@@ -58,15 +69,20 @@ class WriteActionExecutorTest {
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
         executor = new WriteActionExecutor(writeActionRepository, planItemRepository,
             mutationPort, googleAdsQueryPort, governancePort, eventBus, retryPolicyEngine,
-            incidentLifecycleService, revisionCompletionChecker);
+            incidentLifecycleService,
+            new ExecutionMetrics(meterRegistry, writeActionRepository),
+            TransactionOperations.withoutTransaction());
     }
 
-    private WriteAction pendingAction() {
-        return WriteAction.create(ACTION_ID, REVISION_ID, ITEM_ID, TENANT_ID,
+    private WriteAction claimedAction() {
+        WriteAction action = WriteAction.create(ACTION_ID, REVISION_ID, ITEM_ID, TENANT_ID,
             WriteActionType.CREATE_CAMPAIGN, 0, "123456789",
             TriggerType.SCHEDULED, "scheduler", "apply", NOW);
+        action.acquireLease(NOW);
+        return action;
     }
 
     private PlanItem publishedItem() {
@@ -84,7 +100,7 @@ class WriteActionExecutorTest {
 
     @Test
     void shouldExecuteSuccessfullyAndMarkItemSucceeded() {
-        WriteAction action = pendingAction();
+        WriteAction action = claimedAction();
         PlanItem item = publishedItem();
 
         when(writeActionRepository.findById(ACTION_ID)).thenReturn(Optional.of(action));
@@ -93,19 +109,19 @@ class WriteActionExecutorTest {
         when(planItemRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
         when(googleAdsQueryPort.findConnectionByTenantId(TENANT_ID))
             .thenReturn(Optional.of(connectionInfo()));
-        when(mutationPort.createCampaign(any(), any(), any()))
-            .thenReturn(new GoogleAdsMutationPort.MutationResult(true, "campaigns/123", null, null));
+        when(mutationPort.createCampaigns(any(), any(), anyList()))
+            .thenReturn(List.of(new GoogleAdsMutationPort.MutationResult(true, "campaigns/123", null, null)));
 
-        executor.execute(ACTION_ID);
+        Set<UUID> touched = executor.executeBatch(List.of(ACTION_ID));
 
         assertThat(action.getStatus()).isEqualTo(WriteActionStatus.SUCCEEDED);
         verify(incidentLifecycleService).onSuccess(eq(REVISION_ID), eq(ITEM_ID), eq(TENANT_ID));
-        verify(revisionCompletionChecker).checkRevisionCompletion(REVISION_ID);
+        assertThat(touched).containsExactly(REVISION_ID);
     }
 
     @Test
     void shouldMarkFailedOnTransientErrorAndRequeue() {
-        WriteAction action = pendingAction();
+        WriteAction action = claimedAction();
         PlanItem item = publishedItem();
 
         when(writeActionRepository.findById(ACTION_ID)).thenReturn(Optional.of(action));
@@ -114,20 +130,26 @@ class WriteActionExecutorTest {
         when(planItemRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
         when(googleAdsQueryPort.findConnectionByTenantId(TENANT_ID))
             .thenReturn(Optional.of(connectionInfo()));
-        when(mutationPort.createCampaign(any(), any(), any()))
+        when(mutationPort.createCampaigns(any(), any(), anyList()))
             .thenThrow(new RuntimeException("network timeout"));
         when(retryPolicyEngine.classify(any())).thenReturn(FailureClass.TRANSIENT);
         when(retryPolicyEngine.computeDelay(any())).thenReturn(Duration.ofSeconds(60));
 
-        executor.execute(ACTION_ID);
+        Set<UUID> touched = executor.executeBatch(List.of(ACTION_ID));
 
         assertThat(action.getFailureClass()).isEqualTo(FailureClass.TRANSIENT);
+        assertThat(action.getStatus()).isEqualTo(WriteActionStatus.PENDING);
+        assertThat(touched).isEmpty();
         verify(incidentLifecycleService).onFailure(eq(REVISION_ID), eq(ITEM_ID), eq(TENANT_ID), eq(FailureClass.TRANSIENT));
+        assertThat(meterRegistry.counter("execution.actions.retries", "failure_class", "TRANSIENT").count())
+            .isEqualTo(1.0);
+        assertThat(meterRegistry.find("execution.mutate")
+            .tags("action_type", "CREATE_CAMPAIGN", "outcome", "error").timer().count()).isEqualTo(1);
     }
 
     @Test
     void shouldBlockItemOnPermanentError() {
-        WriteAction action = pendingAction();
+        WriteAction action = claimedAction();
         PlanItem item = publishedItem();
 
         when(writeActionRepository.findById(ACTION_ID)).thenReturn(Optional.of(action));
@@ -136,12 +158,163 @@ class WriteActionExecutorTest {
         when(planItemRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
         when(googleAdsQueryPort.findConnectionByTenantId(TENANT_ID))
             .thenReturn(Optional.of(connectionInfo()));
-        when(mutationPort.createCampaign(any(), any(), any()))
+        when(mutationPort.createCampaigns(any(), any(), anyList()))
             .thenThrow(new MutationAuthException("auth revoked", null));
 
-        executor.execute(ACTION_ID);
+        Set<UUID> touched = executor.executeBatch(List.of(ACTION_ID));
 
         verify(incidentLifecycleService).onFailure(eq(REVISION_ID), eq(ITEM_ID), eq(TENANT_ID), eq(FailureClass.PERMANENT));
-        verify(revisionCompletionChecker).checkRevisionCompletion(REVISION_ID);
+        assertThat(item.getStatus()).isEqualTo(PlanItemStatus.BLOCKED);
+        assertThat(touched).containsExactly(REVISION_ID);
+    }
+
+    @Test
+    void shouldRenewLeaseForTheBatchBeforeSending() {
+        WriteAction action = claimedAction();
+
+        when(writeActionRepository.findById(ACTION_ID)).thenReturn(Optional.of(action));
+        when(planItemRepository.findById(ITEM_ID)).thenReturn(Optional.of(publishedItem()));
+        when(writeActionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(planItemRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(googleAdsQueryPort.findConnectionByTenantId(TENANT_ID))
+            .thenReturn(Optional.of(connectionInfo()));
+        when(mutationPort.createCampaigns(any(), any(), anyList())).thenAnswer(inv -> {
+            assertThat(action.getLeaseExpiresAt()).isAfter(NOW.plus(WriteAction.LEASE_DURATION));
+            return List.of(new GoogleAdsMutationPort.MutationResult(true, "campaigns/123", null, null));
+        });
+
+        executor.executeBatch(List.of(ACTION_ID));
+
+        verify(mutationPort).createCampaigns(any(), any(), anyList());
+    }
+
+    @Test
+    void shouldFailActionsLeftWithoutAResult() {
+        UUID answeredActionId = UUID.randomUUID();
+        UUID answeredItemId = UUID.randomUUID();
+        UUID droppedActionId = UUID.randomUUID();
+        UUID droppedItemId = UUID.randomUUID();
+        WriteAction answeredAction = claimedKeywordAction(answeredActionId, answeredItemId);
+        WriteAction droppedAction = claimedKeywordAction(droppedActionId, droppedItemId);
+        PlanItem droppedItem = keywordItem(droppedItemId);
+
+        when(writeActionRepository.findById(answeredActionId)).thenReturn(Optional.of(answeredAction));
+        when(writeActionRepository.findById(droppedActionId)).thenReturn(Optional.of(droppedAction));
+        when(planItemRepository.findById(answeredItemId)).thenReturn(Optional.of(keywordItem(answeredItemId)));
+        when(planItemRepository.findById(droppedItemId)).thenReturn(Optional.of(droppedItem));
+        when(writeActionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(planItemRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(googleAdsQueryPort.findConnectionByTenantId(TENANT_ID))
+            .thenReturn(Optional.of(connectionInfo()));
+        when(mutationPort.createKeywords(any(), any(), anyList())).thenReturn(List.of(
+            new GoogleAdsMutationPort.MutationResult(true, "adGroupCriteria/1~10", null, null)));
+
+        Set<UUID> touched = executor.executeBatch(List.of(answeredActionId, droppedActionId));
+
+        assertThat(answeredAction.getStatus()).isEqualTo(WriteActionStatus.SUCCEEDED);
+        assertThat(droppedAction.getStatus()).isEqualTo(WriteActionStatus.FAILED);
+        assertThat(droppedAction.getFailureReason()).contains("No result returned");
+        assertThat(droppedItem.getStatus()).isEqualTo(PlanItemStatus.BLOCKED);
+        assertThat(touched).containsExactly(REVISION_ID);
+    }
+
+    @Test
+    void shouldSendBatchInOneRequestAndIsolatePerOperationFailures() {
+        UUID okActionId = UUID.randomUUID();
+        UUID okItemId = UUID.randomUUID();
+        UUID badActionId = UUID.randomUUID();
+        UUID badItemId = UUID.randomUUID();
+        WriteAction okAction = claimedKeywordAction(okActionId, okItemId);
+        WriteAction badAction = claimedKeywordAction(badActionId, badItemId);
+        PlanItem okItem = keywordItem(okItemId);
+        PlanItem badItem = keywordItem(badItemId);
+
+        when(writeActionRepository.findById(okActionId)).thenReturn(Optional.of(okAction));
+        when(writeActionRepository.findById(badActionId)).thenReturn(Optional.of(badAction));
+        when(planItemRepository.findById(okItemId)).thenReturn(Optional.of(okItem));
+        when(planItemRepository.findById(badItemId)).thenReturn(Optional.of(badItem));
+        when(writeActionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(planItemRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(googleAdsQueryPort.findConnectionByTenantId(TENANT_ID))
+            .thenReturn(Optional.of(connectionInfo()));
+        when(mutationPort.createKeywords(any(), any(), anyList())).thenReturn(List.of(
+            new GoogleAdsMutationPort.MutationResult(true, "adGroupCriteria/1~10", null, null),
+            new GoogleAdsMutationPort.MutationResult(false, null, "PERMANENT", "invalid keyword text")));
+
+        Set<UUID> touched = executor.executeBatch(List.of(okActionId, badActionId));
+
+        verify(mutationPort, times(1)).createKeywords(eq("123456789"), eq("123-000-0001"), anyList());
+        assertThat(okAction.getStatus()).isEqualTo(WriteActionStatus.SUCCEEDED);
+        assertThat(okItem.getResourceId()).isEqualTo("adGroupCriteria/1~10");
+        assertThat(badAction.getStatus()).isEqualTo(WriteActionStatus.FAILED);
+        assertThat(badItem.getStatus()).isEqualTo(PlanItemStatus.BLOCKED);
+        verify(incidentLifecycleService).onSuccess(REVISION_ID, okItemId, TENANT_ID);
+        verify(incidentLifecycleService).onFailure(REVISION_ID, badItemId, TENANT_ID, FailureClass.PERMANENT);
+        assertThat(touched).containsExactly(REVISION_ID);
+    }
+
+    @Test
+    void shouldHandClaimBackWhenGovernanceBlocksBatch() {
+        UUID actionId = UUID.randomUUID();
+        WriteAction action = claimedKeywordAction(actionId, UUID.randomUUID());
+        when(writeActionRepository.findById(actionId)).thenReturn(Optional.of(action));
+        doThrow(new IllegalStateException("tenant suspended"))
+            .when(governancePort).assertCanExecuteCampaigns(TENANT_ID);
+
+        Set<UUID> touched = executor.executeBatch(List.of(actionId));
+
+        assertThat(touched).isEmpty();
+        assertThat(action.getStatus()).isEqualTo(WriteActionStatus.PENDING);
+        assertThat(action.getNextAttemptAfter()).isAfter(NOW);
+        assertThat(action.getAttempts()).isZero();
+        verifyNoInteractions(retryPolicyEngine);
+        verify(writeActionRepository).save(action);
+        verifyNoInteractions(mutationPort);
+    }
+
+    @Test
+    void shouldPublishOneAccessFailurePerBatch() {
+        UUID firstActionId = UUID.randomUUID();
+        UUID firstItemId = UUID.randomUUID();
+        UUID secondActionId = UUID.randomUUID();
+        UUID secondItemId = UUID.randomUUID();
+        WriteAction firstAction = claimedKeywordAction(firstActionId, firstItemId);
+        WriteAction secondAction = claimedKeywordAction(secondActionId, secondItemId);
+
+        when(writeActionRepository.findById(firstActionId)).thenReturn(Optional.of(firstAction));
+        when(writeActionRepository.findById(secondActionId)).thenReturn(Optional.of(secondAction));
+        when(planItemRepository.findById(firstItemId)).thenReturn(Optional.of(keywordItem(firstItemId)));
+        when(planItemRepository.findById(secondItemId)).thenReturn(Optional.of(keywordItem(secondItemId)));
+        when(writeActionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(planItemRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(googleAdsQueryPort.findConnectionByTenantId(TENANT_ID))
+            .thenReturn(Optional.of(connectionInfo()));
+        when(mutationPort.createKeywords(any(), any(), anyList()))
+            .thenThrow(new MutationAuthException("auth revoked", null));
+
+        Set<UUID> touched = executor.executeBatch(List.of(firstActionId, secondActionId));
+
+        assertThat(firstAction.getStatus()).isEqualTo(WriteActionStatus.FAILED);
+        assertThat(secondAction.getStatus()).isEqualTo(WriteActionStatus.FAILED);
+        assertThat(touched).containsExactly(REVISION_ID);
+        verify(eventBus, times(1)).publish(argThat(envelope ->
+            envelope.payload() instanceof AccessFailureObserved));
+    }
+
+    private WriteAction claimedKeywordAction(UUID actionId, UUID itemId) {
+        WriteAction action = WriteAction.create(actionId, REVISION_ID, itemId, TENANT_ID,
+            WriteActionType.CREATE_KEYWORD, 0, "123456789",
+            TriggerType.SCHEDULED, "scheduler", "apply", NOW);
+        action.acquireLease(NOW);
+        return action;
+    }
+
+    private PlanItem keywordItem(UUID itemId) {
+        PlanItem item = PlanItem.create(itemId, REVISION_ID, TENANT_ID,
+            WriteActionType.CREATE_KEYWORD, "KEYWORD", "adGroups/1",
+            "{\"text\":\"hotel\"}", ApplyOrder.KEYWORD, NOW);
+        item.publish();
+        item.enqueue(NOW);
+        return item;
     }
 }
@@ -0,0 +1,57 @@
+package com.derbysoft.click.modules.campaignexecution.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.derbysoft.click.modules.campaignexecution.domain.entities.PlanItem;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.ApplyDependencyGraph;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.ApplyOrder;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.WriteActionType;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class ApplyDependencyGraphTest {
+
+    private static final UUID REVISION_ID = UUID.randomUUID();
+    private static final UUID TENANT_ID = UUID.randomUUID();
+    private static final Instant NOW = Instant.parse("2026-03-06T09:00:00Z");
+
+    private PlanItem item(WriteActionType type, ApplyOrder order, String resourceId, UUID parentItemId) {
+        return PlanItem.create(UUID.randomUUID(), REVISION_ID, TENANT_ID,
+            type, order.name(), resourceId, "{}", order, parentItemId, NOW);
+    }
+
+    @Test
+    void shouldLinkChildToExplicitParentItem() {
+        PlanItem campaign = item(WriteActionType.CREATE_CAMPAIGN, ApplyOrder.CAMPAIGN, null, null);
+        PlanItem adGroup = item(WriteActionType.CREATE_AD_GROUP, ApplyOrder.AD_GROUP, null, campaign.getId());
+
+        ApplyDependencyGraph graph = ApplyDependencyGraph.of(List.of(campaign, adGroup));
+
+        assertThat(graph.parentOf(adGroup.getId())).contains(campaign);
+        assertThat(graph.parentOf(campaign.getId())).isEmpty();
+    }
+
+    @Test
+    void shouldLinkCreateToUpdateOfTheResourceItPointsAt() {
+        PlanItem campaign = item(WriteActionType.UPDATE_CAMPAIGN, ApplyOrder.CAMPAIGN, "customers/1/campaigns/7", null);
+        PlanItem adGroup = item(WriteActionType.CREATE_AD_GROUP, ApplyOrder.AD_GROUP, "customers/1/campaigns/7", null);
+        PlanItem unrelated = item(WriteActionType.CREATE_AD_GROUP, ApplyOrder.AD_GROUP, "customers/1/campaigns/8", null);
+
+        ApplyDependencyGraph graph = ApplyDependencyGraph.of(List.of(campaign, adGroup, unrelated));
+
+        assertThat(graph.parentOf(adGroup.getId())).contains(campaign);
+        assertThat(graph.parentOf(unrelated.getId())).isEmpty();
+    }
+
+    @Test
+    void shouldNotLinkUpdatesByResourceId() {
+        PlanItem campaign = item(WriteActionType.UPDATE_CAMPAIGN, ApplyOrder.CAMPAIGN, "customers/1/campaigns/7", null);
+        PlanItem adGroup = item(WriteActionType.UPDATE_AD_GROUP, ApplyOrder.AD_GROUP, "customers/1/adGroups/3", null);
+
+        ApplyDependencyGraph graph = ApplyDependencyGraph.of(List.of(campaign, adGroup));
+
+        assertThat(graph.parentOf(adGroup.getId())).isEmpty();
+    }
+}
@@ -55,6 +55,19 @@ class WriteActionTest {
         assertThat(action.getLeaseExpiresAt()).isEqualTo(NOW.plusSeconds(600));
     }
 
+    @Test
+    void shouldReturnAttemptWhenClaimIsDeferred() {
+        WriteAction action = newAction();
+        action.acquireLease(NOW);
+
+        action.deferClaim(NOW.plusSeconds(300), NOW);
+
+        assertThat(action.getStatus()).isEqualTo(WriteActionStatus.PENDING);
+        assertThat(action.getAttempts()).isZero();
+        assertThat(action.getNextAttemptAfter()).isEqualTo(NOW.plusSeconds(300));
+        assertThat(action.getLeaseExpiresAt()).isNull();
+    }
+
     @Test
     void shouldMarkSucceededAndClearLease() {
         WriteAction action = newAction();
@@ -8,29 +8,48 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.derbysoft.click.modules.campaignexecution.application.ports.GoogleAdsMutationPort.CampaignSpec;
+import com.derbysoft.click.modules.campaignexecution.application.ports.GoogleAdsMutationPort.KeywordSpec;
 import com.derbysoft.click.modules.campaignexecution.application.ports.GoogleAdsMutationPort.MutationResult;
 import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.FailureClass;
+import com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads.GoogleAdsClientRegistry;
 import com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads.GoogleAdsConfig;
+import com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads.GoogleAdsQuotaConfig;
+import com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads.GoogleAdsQuotaGuard;
 import com.google.ads.googleads.lib.GoogleAdsClient;
+import com.google.ads.googleads.v23.errors.ErrorCode;
+import com.google.ads.googleads.v23.errors.ErrorLocation;
+import com.google.ads.googleads.v23.errors.GoogleAdsError;
+import com.google.ads.googleads.v23.errors.GoogleAdsFailure;
+import com.google.ads.googleads.v23.errors.QuotaErrorEnum;
+import com.google.ads.googleads.v23.services.AdGroupCriterionServiceClient;
 import com.google.ads.googleads.v23.services.CampaignBudgetServiceClient;
 import com.google.ads.googleads.v23.services.CampaignServiceClient;
 import com.google.ads.googleads.v23.services.GoogleAdsVersion;
+import com.google.ads.googleads.v23.services.MutateAdGroupCriteriaRequest;
+import com.google.ads.googleads.v23.services.MutateAdGroupCriteriaResponse;
+import com.google.ads.googleads.v23.services.MutateAdGroupCriterionResult;
 import com.google.ads.googleads.v23.services.MutateCampaignBudgetResult;
 import com.google.ads.googleads.v23.services.MutateCampaignBudgetsResponse;
 import com.google.ads.googleads.v23.services.MutateCampaignResult;
 import com.google.ads.googleads.v23.services.MutateCampaignsResponse;
+import com.google.api.gax.core.BackgroundResource;
+import com.google.protobuf.Any;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 @ExtendWith(MockitoExtension.class)
 class GoogleAdsMutationClientTest {
 
-    @Mock private GoogleAdsConfig config;
+    @Mock private GoogleAdsClientRegistry clientRegistry;
     @Mock private GoogleAdsClient googleAdsClient;
 
     private GoogleAdsMutationClient client;
@@ -52,10 +71,13 @@ class GoogleAdsMutationClientTest {
 
     @BeforeEach
     void setUp() {
-        client = new GoogleAdsMutationClient(config) {
+        GoogleAdsQuotaGuard quotaGuard = new GoogleAdsQuotaGuard(
+            new GoogleAdsConfig(), new GoogleAdsQuotaConfig(), new SimpleMeterRegistry());
+        client = new GoogleAdsMutationClient(clientRegistry, quotaGuard) {
             @Override
-            protected GoogleAdsClient buildClient(String managerId) {
-                return googleAdsClient;
+            protected <T extends BackgroundResource> T service(String managerId, Class<T> type,
+                                                               Function<GoogleAdsVersion, T> factory) {
+                return factory.apply(googleAdsClient.getLatestVersion());
             }
         };
     }
@@ -143,4 +165,53 @@ class GoogleAdsMutationClientTest {
             .satisfies(e -> assertThat(((MutationApiException) e).getFailureClass())
                 .isEqualTo(FailureClass.PERMANENT));
     }
+
+    @Test
+    void shouldMapPartialFailuresBackToEachKeyword() {
+        GoogleAdsVersion latestVersion = mock(GoogleAdsVersion.class);
+        AdGroupCriterionServiceClient criterionServiceClient = mock(AdGroupCriterionServiceClient.class);
+        String keywordPayload = """
+            {"text": "hotel", "matchType": "EXACT", "cpcBidMicros": 1000000, "status": "ENABLED"}
+            """;
+
+        GoogleAdsFailure failure = GoogleAdsFailure.newBuilder()
+            .addErrors(GoogleAdsError.newBuilder()
+                .setErrorCode(ErrorCode.newBuilder()
+                    .setQuotaError(QuotaErrorEnum.QuotaError.RESOURCE_EXHAUSTED))
+                .setMessage("too many requests")
+                .setLocation(ErrorLocation.newBuilder()
+                    .addFieldPathElements(ErrorLocation.FieldPathElement.newBuilder()
+                        .setFieldName("operations").setIndex(1))))
+            .build();
+        ArgumentCaptor<MutateAdGroupCriteriaRequest> request =
+            ArgumentCaptor.forClass(MutateAdGroupCriteriaRequest.class);
+
+        when(googleAdsClient.getLatestVersion()).thenReturn(latestVersion);
+        when(latestVersion.createAdGroupCriterionServiceClient()).thenReturn(criterionServiceClient);
+        when(criterionServiceClient.mutateAdGroupCriteria(request.capture()))
+            .thenReturn(MutateAdGroupCriteriaResponse.newBuilder()
+                .addResults(MutateAdGroupCriterionResult.newBuilder()
+                    .setResourceName("customers/1234567890/adGroupCriteria/1~10"))
+                .addResults(MutateAdGroupCriterionResult.getDefaultInstance())
+                .setPartialFailureError(com.google.rpc.Status.newBuilder()
+                    .setCode(3)
+                    .addDetails(Any.pack(failure)))
+                .build());
+
+        List<MutationResult> results = client.createKeywords(CUSTOMER_ID, MANAGER_ID, List.of(
+            new KeywordSpec(null, "customers/1234567890/adGroups/1", keywordPayload),
+            new KeywordSpec(null, "customers/1234567890/adGroups/1", "not json"),
+            new KeywordSpec(null, "customers/1234567890/adGroups/1", keywordPayload)));
+
+        assertThat(request.getValue().getPartialFailure()).isTrue();
+        assertThat(request.getValue().getOperationsCount()).isEqualTo(2);
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).success()).isTrue();
+        assertThat(results.get(0).resourceId()).isEqualTo("customers/1234567890/adGroupCriteria/1~10");
+        assertThat(results.get(1).success()).isFalse();
+        assertThat(results.get(1).failureClass()).isEqualTo(FailureClass.PERMANENT.name());
+        assertThat(results.get(2).success()).isFalse();
+        assertThat(results.get(2).failureClass()).isEqualTo(FailureClass.TRANSIENT.name());
+        assertThat(results.get(2).failureReason()).contains("too many requests");
+    }
 }
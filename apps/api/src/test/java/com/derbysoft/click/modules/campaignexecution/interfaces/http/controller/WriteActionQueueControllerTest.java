@@ -0,0 +1,89 @@
+package com.derbysoft.click.modules.campaignexecution.interfaces.http.controller;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.derbysoft.click.modules.campaignexecution.api.contracts.WriteActionInfo;
+import com.derbysoft.click.modules.campaignexecution.api.contracts.WriteActionQueueSummary;
+import com.derbysoft.click.modules.campaignexecution.api.ports.CampaignManagementQueryPort;
+import com.derbysoft.click.modules.identityaccess.infrastructure.security.JwtService;
+import com.derbysoft.click.sharedkernel.api.CursorPage;
+import com.derbysoft.click.sharedkernel.api.KeysetCursor;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(WriteActionQueueController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class WriteActionQueueControllerTest {
+
+    @Autowired private MockMvc mockMvc;
+
+    @MockitoBean private CampaignManagementQueryPort queryPort;
+    @MockitoBean private JwtService jwtService;
+
+    private static final UUID TENANT_ID = UUID.randomUUID();
+    private static final UUID ACTION_ID = UUID.randomUUID();
+    private static final Instant NOW = Instant.parse("2026-03-10T09:00:00Z");
+
+    private WriteActionInfo pendingAction() {
+        return new WriteActionInfo(ACTION_ID, UUID.randomUUID(), UUID.randomUUID(),
+            "CREATE_CAMPAIGN", "key-1", "PENDING", 1, "APPLY", "TRANSIENT", "timeout",
+            NOW.plusSeconds(60), NOW, NOW);
+    }
+
+    @Test
+    void shouldReturnCountsAndNextActionsForTenant() throws Exception {
+        String nextCursor = new KeysetCursor(NOW.plusSeconds(60), ACTION_ID).encode();
+        when(queryPort.summarizeQueue(eq(TENANT_ID), isNull(), eq(50)))
+            .thenReturn(new WriteActionQueueSummary(Map.of("PENDING", 4L, "RUNNING", 1L), 3,
+                new CursorPage<>(List.of(pendingAction()), nextCursor)));
+
+        mockMvc.perform(get("/api/v1/execution/queue")
+                .param("tenantId", TENANT_ID.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.countsByStatus.PENDING").value(4))
+            .andExpect(jsonPath("$.data.countsByStatus.RUNNING").value(1))
+            .andExpect(jsonPath("$.data.due").value(3))
+            .andExpect(jsonPath("$.data.next[0].id").value(ACTION_ID.toString()))
+            .andExpect(jsonPath("$.data.next[0].nextAttemptAfter").exists())
+            .andExpect(jsonPath("$.data.nextCursor").value(nextCursor));
+    }
+
+    @Test
+    void shouldDecodeCursorAndClampLimit() throws Exception {
+        KeysetCursor cursor = new KeysetCursor(NOW, ACTION_ID);
+        when(queryPort.summarizeQueue(TENANT_ID, cursor, 200))
+            .thenReturn(new WriteActionQueueSummary(Map.of("PENDING", 0L, "RUNNING", 0L), 0,
+                new CursorPage<>(List.of(), null)));
+
+        mockMvc.perform(get("/api/v1/execution/queue")
+                .param("tenantId", TENANT_ID.toString())
+                .param("cursor", cursor.encode())
+                .param("limit", "1000"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.next").isEmpty());
+
+        verify(queryPort).summarizeQueue(TENANT_ID, cursor, 200);
+    }
+
+    @Test
+    void shouldReturn400ForMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/execution/queue")
+                .param("tenantId", TENANT_ID.toString())
+                .param("cursor", "not-a-cursor"))
+            .andExpect(status().isBadRequest());
+    }
+}
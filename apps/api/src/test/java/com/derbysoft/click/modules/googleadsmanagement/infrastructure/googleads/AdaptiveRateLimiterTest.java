@@ -0,0 +1,62 @@
+package com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private AdaptiveRateLimiter limiter;
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveRateLimiter(2, 0.5, 4, 1, 0.5, SECOND, clock::get);
+    }
+
+    @Test
+    void shouldMakeCallerWaitOnceBurstIsSpent() {
+        assertThat(limiter.reserve(SECOND)).isZero();
+        assertThat(limiter.reserve(SECOND)).isZero();
+
+        assertThat(limiter.reserve(SECOND)).isEqualTo(SECOND / 2);
+    }
+
+    @Test
+    void shouldRefuseWithoutTakingPermitWhenWaitExceedsMax() {
+        limiter.reserve(SECOND);
+        limiter.reserve(SECOND);
+
+        assertThat(limiter.reserve(SECOND / 4)).isEqualTo(-1);
+        assertThat(limiter.reserve(SECOND)).isEqualTo(SECOND / 2);
+    }
+
+    @Test
+    void shouldDecreaseOncePerCooldownAndNotBelowMinimum() {
+        limiter.onThrottled();
+        limiter.onThrottled();
+        assertThat(limiter.rate()).isEqualTo(1.0);
+
+        clock.addAndGet(SECOND);
+        limiter.onThrottled();
+        clock.addAndGet(SECOND);
+        limiter.onThrottled();
+        assertThat(limiter.rate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void shouldIncreaseAdditivelyUpToMaximum() {
+        limiter.onSuccess();
+        assertThat(limiter.rate()).isEqualTo(2.5);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.onSuccess();
+        }
+        assertThat(limiter.rate()).isEqualTo(4.0);
+    }
+}
@@ -0,0 +1,106 @@
+package com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.derbysoft.click.modules.googleadsmanagement.domain.GoogleConnectionRepository;
+import com.derbysoft.click.modules.googleadsmanagement.domain.aggregates.GoogleConnection;
+import com.derbysoft.click.modules.googleadsmanagement.domain.events.ConnectionCredentialRotated;
+import com.derbysoft.click.sharedkernel.api.EventEnvelope;
+import com.google.ads.googleads.v23.services.CustomerServiceClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class GoogleAdsClientRegistryTest {
+
+    @Mock private GoogleAdsConfig config;
+    @Mock private GoogleConnectionRepository connectionRepository;
+
+    @TempDir Path tempDir;
+
+    private GoogleAdsClientRegistry registry;
+    private String credentialPath;
+
+    private static final String MANAGER_ID = "123-000-0001";
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // authorized_user credentials parse offline; no token exchange happens until an RPC is made
+        Path creds = tempDir.resolve("creds.json");
+        Files.writeString(creds, """
+            {"type": "authorized_user", "client_id": "id", "client_secret": "secret",
+             "refresh_token": "refresh"}
+            """);
+        credentialPath = creds.toString();
+        when(config.getDeveloperToken()).thenReturn("dev-token");
+        registry = new GoogleAdsClientRegistry(config, connectionRepository);
+    }
+
+    @Test
+    void shouldReuseClientAndServiceClientAcrossCalls() throws Exception {
+        AtomicInteger created = new AtomicInteger();
+        CustomerServiceClient serviceClient = mock(CustomerServiceClient.class);
+
+        var first = registry.service(MANAGER_ID, credentialPath, CustomerServiceClient.class,
+            v -> { created.incrementAndGet(); return serviceClient; });
+        var second = registry.service("1230000001", credentialPath, CustomerServiceClient.class,
+            v -> { created.incrementAndGet(); return serviceClient; });
+
+        assertThat(first).isSameAs(second);
+        assertThat(created).hasValue(1);
+        assertThat(registry.client(MANAGER_ID, credentialPath))
+            .isSameAs(registry.client(MANAGER_ID, credentialPath));
+    }
+
+    @Test
+    void shouldRebuildClientsWhenCredentialIsRotatedAndCloseTheOldOnesOnceIdle() throws Exception {
+        UUID connectionId = UUID.randomUUID();
+        GoogleConnection connection = GoogleConnection.create(
+            connectionId, UUID.randomUUID(), MANAGER_ID, credentialPath, Instant.now());
+        when(connectionRepository.findById(connectionId)).thenReturn(Optional.of(connection));
+        CustomerServiceClient original = mock(CustomerServiceClient.class);
+        CustomerServiceClient rebuilt = mock(CustomerServiceClient.class);
+
+        registry.service(MANAGER_ID, credentialPath, CustomerServiceClient.class, v -> original);
+        registry.onCredentialRotated(EventEnvelope.of("ConnectionCredentialRotated",
+            new ConnectionCredentialRotated(connectionId, Instant.now())));
+        var afterRotation = registry.service(MANAGER_ID, credentialPath,
+            CustomerServiceClient.class, v -> rebuilt);
+
+        assertThat(afterRotation).isSameAs(rebuilt);
+        // Another thread may still be calling the old client
+        registry.closeRetired(Instant.now());
+        verify(original, never()).close();
+
+        registry.closeRetired(Instant.now().plus(GoogleAdsClientRegistry.CLOSE_GRACE).plusSeconds(1));
+        verify(original).close();
+        verify(rebuilt, never()).close();
+    }
+
+    @Test
+    void shouldInvalidateEveryManagerSharingTheRotatedCredentials() throws Exception {
+        CustomerServiceClient otherManagers = mock(CustomerServiceClient.class);
+        CustomerServiceClient rebuilt = mock(CustomerServiceClient.class);
+
+        registry.service("123-000-0002", credentialPath, CustomerServiceClient.class, v -> otherManagers);
+        registry.invalidate(MANAGER_ID, credentialPath);
+        var afterRotation = registry.service("123-000-0002", credentialPath,
+            CustomerServiceClient.class, v -> rebuilt);
+
+        assertThat(afterRotation).isSameAs(rebuilt);
+    }
+}
@@ -0,0 +1,117 @@
+package com.derbysoft.click.modules.googleadsmanagement.infrastructure.googleads;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GoogleAdsQuotaGuardTest {
+
+    private GoogleAdsQuotaGuard guard;
+    private GoogleAdsQuotaConfig config;
+    private SimpleMeterRegistry registry;
+
+    private static final String CUSTOMER_ID = "123-456-7890";
+
+    @BeforeEach
+    void setUp() {
+        GoogleAdsConfig adsConfig = new GoogleAdsConfig();
+        adsConfig.setDeveloperToken("dev-token");
+        config = new GoogleAdsQuotaConfig();
+        config.setDeveloperTokenQps(1000);
+        config.setCustomerQps(1000);
+        config.setBreakerFailureThreshold(2);
+        registry = new SimpleMeterRegistry();
+        guard = new GoogleAdsQuotaGuard(adsConfig, config, registry);
+    }
+
+    @Test
+    void shouldHalveTokenAndCustomerRatesWhenQuotaIsExhausted() {
+        assertThatThrownBy(() -> guard.call(CUSTOMER_ID, () -> {
+            throw new StatusRuntimeException(Status.RESOURCE_EXHAUSTED);
+        })).isInstanceOf(StatusRuntimeException.class);
+
+        assertThat(guard.developerTokenRate()).isEqualTo(500.0);
+        assertThat(guard.customerRate(CUSTOMER_ID)).isEqualTo(500.0);
+        assertThat(registry.counter("googleads.quota.throttled").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldRejectWithoutCallingGoogleOnceCircuitOpens() {
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> guard.call(CUSTOMER_ID, () -> {
+                calls.incrementAndGet();
+                throw new StatusRuntimeException(Status.RESOURCE_EXHAUSTED);
+            })).isInstanceOf(StatusRuntimeException.class);
+        }
+
+        assertThatThrownBy(() -> guard.call(CUSTOMER_ID, calls::incrementAndGet))
+            .isInstanceOf(GoogleAdsQuotaExceededException.class)
+            .satisfies(e -> assertThat(((GoogleAdsQuotaExceededException) e).getRetryAfter()).isPositive());
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void shouldNotSlowDownOnErrorsUnrelatedToQuota() throws Exception {
+        assertThatThrownBy(() -> guard.call(CUSTOMER_ID, () -> {
+            throw new StatusRuntimeException(Status.UNAVAILABLE);
+        })).isInstanceOf(StatusRuntimeException.class);
+
+        assertThat(guard.call(CUSTOMER_ID, () -> "ok")).isEqualTo("ok");
+        assertThat(guard.developerTokenRate()).isEqualTo(1000.0);
+        assertThat(guard.customerRate(CUSTOMER_ID)).isEqualTo(1000.0);
+    }
+
+    @Test
+    void shouldCloseHalfOpenCircuitWhenProbeFailsWithIOException() throws Exception {
+        config.setBreakerOpenMs(0);
+        openCircuit();
+
+        assertThatThrownBy(() -> guard.call(CUSTOMER_ID, () -> {
+            throw new IOException("connection reset");
+        })).isInstanceOf(IOException.class);
+
+        assertThat(guard.call(CUSTOMER_ID, () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void shouldReleaseHalfOpenProbeWhenCallThrowsAnError() throws Exception {
+        config.setBreakerOpenMs(0);
+        openCircuit();
+
+        assertThatThrownBy(() -> guard.call(CUSTOMER_ID, () -> {
+            throw new AssertionError("boom");
+        })).isInstanceOf(AssertionError.class);
+
+        assertThat(guard.call(CUSTOMER_ID, () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void shouldEvictIdleCustomersButKeepOnesWithBreakerState() throws Exception {
+        config.setIdleEvictionMs(0);
+        guard.call("111-111-1111", () -> "ok");
+        assertThatThrownBy(() -> guard.call(CUSTOMER_ID, () -> {
+            throw new StatusRuntimeException(Status.RESOURCE_EXHAUSTED);
+        })).isInstanceOf(StatusRuntimeException.class);
+
+        guard.evictIdleCustomers();
+
+        assertThat(guard.customerScopes()).isEqualTo(1);
+        assertThat(guard.customerRate(CUSTOMER_ID)).isEqualTo(500.0);
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> guard.call(CUSTOMER_ID, () -> {
+                throw new StatusRuntimeException(Status.RESOURCE_EXHAUSTED);
+            })).isInstanceOf(StatusRuntimeException.class);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.derbysoft.click.modules.ingestion.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.derbysoft.click.modules.ingestion.application.handlers.CampaignRowChecksum;
+import com.derbysoft.click.modules.ingestion.application.ports.GoogleAdsReportingPort.CampaignRow;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CampaignRowChecksumTest {
+
+    private static final CampaignRow A =
+        new CampaignRow("111", "Campaign A", 100L, 5000L, 500000L, 2.5, LocalDate.of(2026, 3, 1));
+    private static final CampaignRow B =
+        new CampaignRow("111", "Campaign A", 90L, 4000L, 450000L, 1.0, LocalDate.of(2026, 3, 2));
+    private static final CampaignRow C =
+        new CampaignRow("222", "Campaign B", 10L, 300L, 20000L, 0.0, LocalDate.of(2026, 3, 1));
+
+    private static String checksum(List<List<CampaignRow>> pages) {
+        CampaignRowChecksum checksum = new CampaignRowChecksum();
+        pages.forEach(checksum::update);
+        return checksum.hex();
+    }
+
+    @Test
+    void shouldNotDependOnRowOrPageOrder() {
+        assertThat(checksum(List.of(List.of(A, B), List.of(C))))
+            .isEqualTo(checksum(List.of(List.of(C, B), List.of(A))))
+            .isEqualTo(checksum(List.of(List.of(B), List.of(), List.of(A, C))))
+            .hasSize(32);
+    }
+
+    @Test
+    void shouldChangeWhenAMetricChanges() {
+        CampaignRow changed = new CampaignRow("111", "Campaign A", 101L, 5000L, 500000L, 2.5,
+            LocalDate.of(2026, 3, 1));
+
+        assertThat(checksum(List.of(List.of(changed, B, C))))
+            .isNotEqualTo(checksum(List.of(List.of(A, B, C))));
+    }
+
+    @Test
+    void shouldNotLetRepeatedRowsCancelOut() {
+        assertThat(checksum(List.of(List.of(A, A, C))))
+            .isNotEqualTo(checksum(List.of(List.of(C))));
+    }
+
+    @Test
+    void shouldTellRowsWithSwappedKeysApart() {
+        CampaignRow aOnOtherDay = new CampaignRow("111", "Campaign A", 100L, 5000L, 500000L, 2.5,
+            LocalDate.of(2026, 3, 2));
+        CampaignRow bOnOtherDay = new CampaignRow("111", "Campaign A", 90L, 4000L, 450000L, 1.0,
+            LocalDate.of(2026, 3, 1));
+
+        assertThat(checksum(List.of(List.of(aOnOtherDay, bOnOtherDay))))
+            .isNotEqualTo(checksum(List.of(List.of(A, B))));
+    }
+}
@@ -0,0 +1,110 @@
+package com.derbysoft.click.modules.ingestion.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.derbysoft.click.modules.googleadsmanagement.api.contracts.AccountScheduleInfo;
+import com.derbysoft.click.modules.googleadsmanagement.api.ports.GoogleAdsQueryPort;
+import com.derbysoft.click.modules.ingestion.application.handlers.DailyIngestionScheduler;
+import com.derbysoft.click.modules.ingestion.application.handlers.IngestionJobService;
+import com.derbysoft.click.modules.ingestion.application.handlers.IngestionJobService.DailySyncTarget;
+import com.derbysoft.click.modules.ingestion.application.handlers.IngestionSyncConfig;
+import com.derbysoft.click.modules.ingestion.domain.SyncJobRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DailyIngestionSchedulerTest {
+
+    @Mock IngestionJobService ingestionJobService;
+    @Mock GoogleAdsQueryPort googleAdsQueryPort;
+    @Mock SyncJobRepository syncJobRepository;
+
+    private IngestionSyncConfig config;
+    private DailyIngestionScheduler scheduler;
+
+    private static final UUID TENANT_A = UUID.randomUUID();
+    private static final UUID TENANT_B = UUID.randomUUID();
+    private static final AccountScheduleInfo TOKYO =
+        new AccountScheduleInfo(UUID.randomUUID(), TENANT_A, "111-111-1111", "Asia/Tokyo");
+    private static final AccountScheduleInfo NEW_YORK =
+        new AccountScheduleInfo(UUID.randomUUID(), TENANT_B, "222-222-2222", "America/New_York");
+    private static final AccountScheduleInfo UNKNOWN_ZONE =
+        new AccountScheduleInfo(UUID.randomUUID(), TENANT_B, "333-333-3333", null);
+
+    @BeforeEach
+    void setUp() {
+        config = new IngestionSyncConfig();
+        config.setDailyJitterMinutes(1); // no jitter, so due times are exactly 02:00 local
+        scheduler = new DailyIngestionScheduler(ingestionJobService, googleAdsQueryPort, config,
+            syncJobRepository);
+        when(googleAdsQueryPort.listActiveAccountSchedules()).thenReturn(List.of(TOKYO, NEW_YORK, UNKNOWN_ZONE));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldEnqueueOnlyAccountsDueAndNotYetEnqueued() {
+        // 02:00 in Tokyo (UTC+9) on 2026-03-06; New York and UTC already have their 2026-03-05 sync
+        when(syncJobRepository.findLatestDailyWindowEnds(anyCollection(), eq(LocalDate.of(2026, 3, 4))))
+            .thenReturn(Map.of(
+                TOKYO.bindingId(), LocalDate.of(2026, 3, 4),
+                NEW_YORK.bindingId(), LocalDate.of(2026, 3, 4),
+                UNKNOWN_ZONE.bindingId(), LocalDate.of(2026, 3, 4)));
+
+        scheduler.enqueueDue(Instant.parse("2026-03-05T17:00:00Z"));
+
+        ArgumentCaptor<List<DailySyncTarget>> targets = ArgumentCaptor.forClass(List.class);
+        verify(ingestionJobService).enqueueDailySync(eq(TENANT_A), targets.capture());
+        verify(ingestionJobService, never()).enqueueDailySync(eq(TENANT_B), anyList());
+        assertThat(targets.getValue()).containsExactly(
+            new DailySyncTarget(TOKYO.bindingId(), "111-111-1111", LocalDate.of(2026, 3, 6)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCatchUpAccountsThatFellDueWhileNothingRan() {
+        // First tick after a restart at 07:00 UTC: every account's 2026-03-06 sync is overdue
+        scheduler.enqueueDue(Instant.parse("2026-03-06T07:00:00Z"));
+
+        ArgumentCaptor<List<DailySyncTarget>> targets = ArgumentCaptor.forClass(List.class);
+        verify(ingestionJobService).enqueueDailySync(eq(TENANT_B), targets.capture());
+        verify(ingestionJobService).enqueueDailySync(TENANT_A,
+            List.of(new DailySyncTarget(TOKYO.bindingId(), "111-111-1111", LocalDate.of(2026, 3, 6))));
+        assertThat(targets.getValue()).containsExactlyInAnyOrder(
+            new DailySyncTarget(NEW_YORK.bindingId(), "222-222-2222", LocalDate.of(2026, 3, 6)),
+            new DailySyncTarget(UNKNOWN_ZONE.bindingId(), "333-333-3333", LocalDate.of(2026, 3, 6)));
+    }
+
+    @Test
+    void shouldSpreadAccountsAcrossTheJitterWindow() {
+        config.setDailyJitterMinutes(120);
+        when(syncJobRepository.findLatestDailyWindowEnds(anyCollection(), any())).thenReturn(Map.of(
+            TOKYO.bindingId(), LocalDate.of(2026, 3, 5),
+            NEW_YORK.bindingId(), LocalDate.of(2026, 3, 4),
+            UNKNOWN_ZONE.bindingId(), LocalDate.of(2026, 3, 4)));
+
+        // Before 02:00 UTC the UTC account is not yet due, whatever the jitter
+        scheduler.enqueueDue(Instant.parse("2026-03-06T01:59:00Z"));
+        verify(ingestionJobService, never()).enqueueDailySync(any(UUID.class), anyList());
+
+        // Once the whole jitter window has passed it is
+        scheduler.enqueueDue(Instant.parse("2026-03-06T04:00:00Z"));
+        verify(ingestionJobService).enqueueDailySync(TENANT_B,
+            List.of(new DailySyncTarget(UNKNOWN_ZONE.bindingId(), "333-333-3333", LocalDate.of(2026, 3, 6))));
+    }
+}
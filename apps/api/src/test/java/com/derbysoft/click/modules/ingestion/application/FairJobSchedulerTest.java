@@ -0,0 +1,86 @@
+package com.derbysoft.click.modules.ingestion.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.derbysoft.click.modules.ingestion.application.handlers.FairJobScheduler;
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.ClaimCandidate;
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.TriggerType;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FairJobSchedulerTest {
+
+    private FairJobScheduler scheduler;
+
+    private static final Instant NOW = Instant.parse("2026-03-05T02:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new FairJobScheduler();
+    }
+
+    @Test
+    void shouldNotLetBackfillStormStarveAnotherTenant() {
+        UUID stormTenant = UUID.randomUUID();
+        UUID smallTenant = UUID.randomUUID();
+        List<ClaimCandidate> candidates = new ArrayList<>();
+        IntStream.range(0, 50).forEach(i -> candidates.add(
+            candidate(stormTenant, "storm-" + i, TriggerType.BACKFILL, NOW.minusSeconds(3600 - i))));
+        ClaimCandidate daily = candidate(smallTenant, "small", TriggerType.DAILY, NOW);
+        candidates.add(daily);
+
+        List<UUID> selected = scheduler.select(candidates, Map.of(), 2, 2);
+
+        assertThat(selected).hasSize(2).contains(daily.jobId());
+    }
+
+    @Test
+    void shouldCapConcurrentJobsPerCustomer() {
+        UUID tenant = UUID.randomUUID();
+        List<ClaimCandidate> candidates = List.of(
+            candidate(tenant, "123", TriggerType.DAILY, NOW.minusSeconds(30)),
+            candidate(tenant, "123", TriggerType.DAILY, NOW.minusSeconds(20)),
+            candidate(tenant, "123", TriggerType.DAILY, NOW.minusSeconds(10)));
+
+        List<UUID> selected = scheduler.select(candidates, Map.of("123", 1L), 2, 5);
+
+        assertThat(selected).containsExactly(candidates.get(0).jobId());
+    }
+
+    @Test
+    void shouldRunHigherPriorityTriggersFirstWithinTenant() {
+        UUID tenant = UUID.randomUUID();
+        ClaimCandidate backfill = candidate(tenant, "123", TriggerType.BACKFILL, NOW.minusSeconds(600));
+        ClaimCandidate manual = candidate(tenant, "456", TriggerType.MANUAL, NOW);
+
+        List<UUID> selected = scheduler.select(List.of(backfill, manual), Map.of(), 2, 1);
+
+        assertThat(selected).containsExactly(manual.jobId());
+    }
+
+    @Test
+    void shouldRotateTenantsAcrossClaims() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        ClaimCandidate firstJob = candidate(first, "123", TriggerType.BACKFILL, NOW.minusSeconds(60));
+        ClaimCandidate secondJob = candidate(second, "456", TriggerType.BACKFILL, NOW);
+        List<ClaimCandidate> candidates = List.of(firstJob, secondJob);
+
+        List<UUID> firstClaim = scheduler.select(candidates, Map.of(), 2, 1);
+        List<UUID> secondClaim = scheduler.select(candidates, Map.of(), 2, 1);
+
+        assertThat(firstClaim).containsExactly(firstJob.jobId());
+        assertThat(secondClaim).containsExactly(secondJob.jobId());
+    }
+
+    private static ClaimCandidate candidate(UUID tenantId, String accountId,
+                                            TriggerType triggerType, Instant dueAt) {
+        return new ClaimCandidate(UUID.randomUUID(), tenantId, accountId, triggerType, dueAt);
+    }
+}
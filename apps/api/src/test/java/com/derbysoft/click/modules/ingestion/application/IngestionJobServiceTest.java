@@ -3,7 +3,10 @@ package com.derbysoft.click.modules.ingestion.application;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -12,24 +15,36 @@ import static org.mockito.Mockito.when;
 import com.derbysoft.click.bootstrap.messaging.InProcessEventBus;
 import com.derbysoft.click.modules.googleadsmanagement.api.contracts.AccountBindingInfo;
 import com.derbysoft.click.modules.googleadsmanagement.api.ports.GoogleAdsQueryPort;
+import com.derbysoft.click.modules.ingestion.application.handlers.AccountClock;
 import com.derbysoft.click.modules.ingestion.application.handlers.IngestionJobService;
+import com.derbysoft.click.modules.ingestion.application.handlers.IngestionSyncConfig;
 import com.derbysoft.click.modules.ingestion.application.handlers.RateLimitService;
+import com.derbysoft.click.modules.ingestion.application.handlers.RawRowPartitionMaintainer;
 import com.derbysoft.click.modules.ingestion.application.handlers.RateLimitService.RateLimitResult;
+import com.derbysoft.click.modules.ingestion.domain.RawSnapshotRepository;
 import com.derbysoft.click.modules.ingestion.domain.SyncIncidentRepository;
 import com.derbysoft.click.modules.ingestion.domain.SyncJobRepository;
 import com.derbysoft.click.modules.ingestion.domain.aggregates.SyncJob;
+import com.derbysoft.click.modules.ingestion.domain.events.SyncStarted;
 import com.derbysoft.click.modules.ingestion.domain.valueobjects.DateWindow;
 import com.derbysoft.click.modules.ingestion.domain.valueobjects.SyncJobStatus;
 import com.derbysoft.click.modules.ingestion.domain.valueobjects.TriggerType;
+import com.derbysoft.click.sharedkernel.api.EventEnvelope;
 import com.derbysoft.click.sharedkernel.domain.errors.DomainError;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -38,10 +53,14 @@ class IngestionJobServiceTest {
 
     @Mock SyncJobRepository syncJobRepository;
     @Mock SyncIncidentRepository incidentRepository;
+    @Mock RawSnapshotRepository rawSnapshotRepository;
     @Mock RateLimitService rateLimitService;
     @Mock GoogleAdsQueryPort googleAdsQueryPort;
     @Mock InProcessEventBus eventBus;
+    @Mock RawRowPartitionMaintainer partitionMaintainer;
+    @Captor ArgumentCaptor<EventEnvelope<SyncStarted>> syncStarted;
 
+    private final IngestionSyncConfig syncConfig = new IngestionSyncConfig();
     private IngestionJobService service;
 
     private static final UUID TENANT_ID = UUID.randomUUID();
@@ -51,7 +70,8 @@ class IngestionJobServiceTest {
     @BeforeEach
     void setUp() {
         service = new IngestionJobService(syncJobRepository, incidentRepository,
-            rateLimitService, googleAdsQueryPort, eventBus);
+            rawSnapshotRepository, rateLimitService, googleAdsQueryPort, eventBus, syncConfig,
+            partitionMaintainer, new AccountClock(googleAdsQueryPort));
     }
 
     private AccountBindingInfo activeBinding() {
@@ -70,16 +90,32 @@ class IngestionJobServiceTest {
         return job; // pass-through mock
     }
 
+    @SuppressWarnings("unchecked")
+    private List<SyncJob> insertedJobs() {
+        ArgumentCaptor<List<SyncJob>> jobs = ArgumentCaptor.forClass(List.class);
+        verify(syncJobRepository).insertAllIfAbsent(jobs.capture());
+        return jobs.getValue();
+    }
+
+    private void insertAll() {
+        when(syncJobRepository.insertAllIfAbsent(anyList())).thenAnswer(inv -> {
+            List<SyncJob> jobs = inv.getArgument(0);
+            return jobs.stream().map(SyncJob::getId).collect(Collectors.toSet());
+        });
+    }
+
     @Test
     void shouldEnqueueDailySyncForEachActiveBinding() {
         when(googleAdsQueryPort.listActiveBindings(TENANT_ID))
             .thenReturn(List.of(activeBinding(), staleBinding()));
-        when(syncJobRepository.findByIdempotencyKey(anyString())).thenReturn(Optional.empty());
-        when(syncJobRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        insertAll();
 
-        service.enqueueDailySync(INTEGRATION_ID, TENANT_ID);
+        Set<UUID> created = service.enqueueDailySync(INTEGRATION_ID, TENANT_ID);
 
-        verify(syncJobRepository, times(2)).save(any(SyncJob.class));
+        assertThat(insertedJobs()).hasSize(2);
+        assertThat(created).hasSize(2);
+        verify(syncJobRepository, never()).save(any());
+        verify(eventBus, times(2)).publish(any());
     }
 
     @Test
@@ -90,19 +126,136 @@ class IngestionJobServiceTest {
 
         service.enqueueDailySync(INTEGRATION_ID, TENANT_ID);
 
-        verify(syncJobRepository, never()).save(any());
+        verify(syncJobRepository, never()).insertAllIfAbsent(anyList());
+        verify(rawSnapshotRepository, never()).findFinalDays(anyCollection(), anyString(), any());
     }
 
     @Test
     void shouldIncludeStaleBindings() {
         when(googleAdsQueryPort.listActiveBindings(TENANT_ID))
             .thenReturn(List.of(staleBinding()));
-        when(syncJobRepository.findByIdempotencyKey(anyString())).thenReturn(Optional.empty());
-        when(syncJobRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        insertAll();
 
         service.enqueueDailySync(INTEGRATION_ID, TENANT_ID);
 
-        verify(syncJobRepository, times(1)).save(any(SyncJob.class));
+        assertThat(insertedJobs()).hasSize(1);
+    }
+
+    @Test
+    void shouldOnlyPublishSyncStartedForJobsActuallyCreated() {
+        when(googleAdsQueryPort.listActiveBindings(TENANT_ID))
+            .thenReturn(List.of(activeBinding(), staleBinding()));
+        // The active binding's window is already pending, so the insert skips it
+        when(syncJobRepository.insertAllIfAbsent(anyList())).thenAnswer(inv -> {
+            List<SyncJob> jobs = inv.getArgument(0);
+            return jobs.stream()
+                .filter(job -> !job.getIntegrationId().equals(BINDING_ID))
+                .map(SyncJob::getId)
+                .collect(Collectors.toSet());
+        });
+
+        Set<UUID> created = service.enqueueDailySync(INTEGRATION_ID, TENANT_ID);
+
+        assertThat(created).hasSize(1);
+        verify(eventBus).publish(syncStarted.capture());
+        assertThat(syncStarted.getValue().payload().jobId()).isIn(created);
+    }
+
+    @Test
+    void shouldLookBackOneDayMoreThanConversionLag() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        DateWindow window = new DateWindow(today.minusDays(3), today.minusDays(1));
+        when(googleAdsQueryPort.listActiveBindings(TENANT_ID)).thenReturn(List.of(activeBinding()));
+        insertAll();
+
+        service.enqueueDailySync(INTEGRATION_ID, TENANT_ID);
+
+        verify(rawSnapshotRepository).findFinalDays(List.of(BINDING_ID), "CAMPAIGN_PERFORMANCE", window);
+        assertThat(insertedJobs()).singleElement()
+            .extracting(SyncJob::getDateWindow)
+            .isEqualTo(window);
+    }
+
+    @Test
+    void shouldShrinkDailyWindowWithShorterConversionLag() {
+        syncConfig.setConversionLagDays(0);
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        when(googleAdsQueryPort.listActiveBindings(TENANT_ID)).thenReturn(List.of(activeBinding()));
+        insertAll();
+
+        service.enqueueDailySync(INTEGRATION_ID, TENANT_ID);
+
+        assertThat(insertedJobs()).singleElement()
+            .extracting(SyncJob::getDateWindow)
+            .isEqualTo(new DateWindow(today.minusDays(1), today.minusDays(1)));
+    }
+
+    @Test
+    void shouldStartDailyWindowAfterFinalDays() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        when(googleAdsQueryPort.listActiveBindings(TENANT_ID)).thenReturn(List.of(activeBinding()));
+        when(rawSnapshotRepository.findFinalDays(eq(List.of(BINDING_ID)), anyString(), any()))
+            .thenReturn(Map.of(BINDING_ID, Set.of(today.minusDays(3))));
+        insertAll();
+
+        service.enqueueDailySync(INTEGRATION_ID, TENANT_ID);
+
+        assertThat(insertedJobs()).singleElement()
+            .extracting(SyncJob::getDateWindow)
+            .isEqualTo(new DateWindow(today.minusDays(2), today.minusDays(1)));
+    }
+
+    @Test
+    void shouldNotEnqueueDailySyncWhenEveryDayIsFinal() {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        when(googleAdsQueryPort.listActiveBindings(TENANT_ID)).thenReturn(List.of(activeBinding()));
+        when(rawSnapshotRepository.findFinalDays(eq(List.of(BINDING_ID)), anyString(), any()))
+            .thenReturn(Map.of(BINDING_ID, Set.of(today.minusDays(3), today.minusDays(2), today.minusDays(1))));
+
+        service.enqueueDailySync(INTEGRATION_ID, TENANT_ID);
+
+        verify(syncJobRepository, never()).insertAllIfAbsent(anyList());
+        verify(eventBus, never()).publish(any());
+    }
+
+    @Test
+    void shouldTakeDailyWindowFromAccountLocalToday() {
+        LocalDate today = LocalDate.now(ZoneId.of("Pacific/Kiritimati"));
+        when(googleAdsQueryPort.listActiveBindings(TENANT_ID)).thenReturn(List.of(activeBinding()));
+        when(googleAdsQueryPort.findAccountTimeZone(TENANT_ID, "123-456-7890"))
+            .thenReturn(Optional.of("Pacific/Kiritimati"));
+        insertAll();
+
+        service.enqueueDailySync(INTEGRATION_ID, TENANT_ID);
+
+        assertThat(insertedJobs()).singleElement()
+            .extracting(SyncJob::getDateWindow)
+            .isEqualTo(new DateWindow(today.minusDays(3), today.minusDays(1)));
+    }
+
+    @Test
+    void shouldSizeManualSyncWindowFromConversionLag() {
+        syncConfig.setConversionLagDays(5);
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        when(rateLimitService.checkAndRecord(TENANT_ID)).thenReturn(RateLimitResult.ok());
+        when(syncJobRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        SyncJob job = service.enqueueManualSync(TENANT_ID, INTEGRATION_ID, "123-456-7890", "test", "user");
+
+        assertThat(job.getDateWindow()).isEqualTo(new DateWindow(today.minusDays(6), today.minusDays(1)));
+    }
+
+    @Test
+    void shouldTakeForceRunWindowFromAccountLocalToday() {
+        LocalDate today = LocalDate.now(ZoneId.of("Pacific/Kiritimati"));
+        when(rateLimitService.checkAndRecord(TENANT_ID)).thenReturn(RateLimitResult.ok());
+        when(googleAdsQueryPort.findAccountTimeZone(TENANT_ID, "123-456-7890"))
+            .thenReturn(Optional.of("Pacific/Kiritimati"));
+        when(syncJobRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        SyncJob job = service.forceRun(TENANT_ID, INTEGRATION_ID, "123-456-7890", "force", "user");
+
+        assertThat(job.getDateWindow()).isEqualTo(new DateWindow(today.minusDays(3), today.minusDays(1)));
     }
 
     @Test
@@ -128,6 +281,19 @@ class IngestionJobServiceTest {
             .hasMessageContaining("14 days");
     }
 
+    @Test
+    void shouldRejectBackfillPastPartitionRetention() {
+        DateWindow expired = new DateWindow(LocalDate.of(2020, 1, 1), LocalDate.of(2020, 1, 7));
+        when(partitionMaintainer.isRetained(expired)).thenReturn(false);
+
+        assertThatThrownBy(() ->
+            service.enqueueBackfill(TENANT_ID, INTEGRATION_ID, "123-456-7890",
+                expired, "old backfill", "user"))
+            .isInstanceOf(DomainError.ValidationError.class)
+            .hasMessageContaining("retention");
+        verify(rateLimitService, never()).checkAndRecord(any());
+    }
+
     @Test
     void shouldThrowWhenForceRunRateLimited() {
         when(rateLimitService.checkAndRecord(TENANT_ID))
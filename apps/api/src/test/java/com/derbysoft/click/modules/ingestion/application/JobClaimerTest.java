@@ -0,0 +1,92 @@
+package com.derbysoft.click.modules.ingestion.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.derbysoft.click.modules.ingestion.application.handlers.FairJobScheduler;
+import com.derbysoft.click.modules.ingestion.application.handlers.IngestionWorkerConfig;
+import com.derbysoft.click.modules.ingestion.application.handlers.JobClaimer;
+import com.derbysoft.click.modules.ingestion.domain.SyncJobRepository;
+import com.derbysoft.click.modules.ingestion.domain.aggregates.SyncJob;
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.ClaimCandidate;
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.TriggerType;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class JobClaimerTest {
+
+    @Mock SyncJobRepository syncJobRepository;
+
+    private JobClaimer claimer;
+
+    private static final Instant NOW = Instant.parse("2026-03-05T02:00:00Z");
+    private static final UUID TENANT_ID = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        claimer = new JobClaimer(syncJobRepository, new FairJobScheduler(), new IngestionWorkerConfig());
+    }
+
+    @Test
+    void shouldLeaseScheduledCandidatesWithLeaseFromNow() {
+        ClaimCandidate first = candidate("123", TriggerType.DAILY);
+        ClaimCandidate second = candidate("456", TriggerType.DAILY);
+        when(syncJobRepository.findClaimCandidates(NOW, 8, 2)).thenReturn(List.of(first, second));
+        when(syncJobRepository.countRunningByAccount(List.of("123", "456"))).thenReturn(Map.of());
+        when(syncJobRepository.leaseAll(List.of(first.jobId(), second.jobId()), NOW, NOW.plus(SyncJob.LEASE_DURATION), 2))
+            .thenReturn(List.of(first.jobId(), second.jobId()));
+
+        List<UUID> claimed = claimer.claim(NOW, 2);
+
+        assertThat(claimed).containsExactly(first.jobId(), second.jobId());
+    }
+
+    @Test
+    void shouldSkipCustomersAlreadyAtTheirConcurrencyCap() {
+        ClaimCandidate busy = candidate("123", TriggerType.DAILY);
+        ClaimCandidate idle = candidate("456", TriggerType.DAILY);
+        when(syncJobRepository.findClaimCandidates(NOW, 8, 2)).thenReturn(List.of(busy, idle));
+        when(syncJobRepository.countRunningByAccount(List.of("123", "456"))).thenReturn(Map.of("123", 2L));
+        when(syncJobRepository.leaseAll(List.of(idle.jobId()), NOW, NOW.plus(SyncJob.LEASE_DURATION), 2))
+            .thenReturn(List.of(idle.jobId()));
+
+        List<UUID> claimed = claimer.claim(NOW, 2);
+
+        assertThat(claimed).containsExactly(idle.jobId());
+    }
+
+    @Test
+    void shouldNotLeaseWhenNothingIsDue() {
+        when(syncJobRepository.findClaimCandidates(NOW, 8, 2)).thenReturn(List.of());
+
+        List<UUID> claimed = claimer.claim(NOW, 2);
+
+        assertThat(claimed).isEmpty();
+        verify(syncJobRepository, never()).leaseAll(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void shouldNotQueryWhenNoSlotsAreFree() {
+        List<UUID> claimed = claimer.claim(NOW, 0);
+
+        assertThat(claimed).isEmpty();
+        verifyNoInteractions(syncJobRepository);
+    }
+
+    private static ClaimCandidate candidate(String accountId, TriggerType triggerType) {
+        return new ClaimCandidate(UUID.randomUUID(), TENANT_ID, accountId, triggerType, NOW);
+    }
+}
@@ -12,8 +12,14 @@ import static org.mockito.Mockito.when;
 import com.derbysoft.click.bootstrap.messaging.InProcessEventBus;
 import com.derbysoft.click.modules.googleadsmanagement.api.contracts.GoogleAdsConnectionInfo;
 import com.derbysoft.click.modules.googleadsmanagement.api.ports.GoogleAdsQueryPort;
+import com.derbysoft.click.modules.ingestion.application.handlers.AccountClock;
+import com.derbysoft.click.modules.ingestion.application.handlers.CampaignRowChecksum;
 import com.derbysoft.click.modules.ingestion.application.handlers.IncidentLifecycleService;
+import com.derbysoft.click.modules.ingestion.application.handlers.IngestionMetrics;
+import com.derbysoft.click.modules.ingestion.application.handlers.IngestionSyncConfig;
 import com.derbysoft.click.modules.ingestion.application.handlers.JobExecutor;
+import com.derbysoft.click.modules.ingestion.application.handlers.RawRowPartitionMaintainer;
+import com.derbysoft.click.modules.ingestion.application.handlers.RawSnapshotWriter;
 import com.derbysoft.click.modules.ingestion.application.handlers.RetryPolicyEngine;
 import com.derbysoft.click.modules.ingestion.application.ports.GoogleAdsReportingPort;
 import com.derbysoft.click.modules.ingestion.application.ports.GoogleAdsReportingPort.CampaignRow;
@@ -27,18 +33,25 @@ import com.derbysoft.click.modules.ingestion.domain.valueobjects.SyncJobStatus;
 import com.derbysoft.click.modules.ingestion.domain.valueobjects.TriggerType;
 import com.derbysoft.click.modules.ingestion.infrastructure.googleads.IngestionAuthException;
 import com.derbysoft.click.modules.ingestion.infrastructure.googleads.IngestionFetchException;
+import com.derbysoft.click.modules.ingestion.infrastructure.persistence.entity.RawCampaignRowEntity;
+import com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository.RawCampaignRowBatchRepository.RowKey;
 import com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository.RawCampaignRowJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 
 @ExtendWith(MockitoExtension.class)
 class JobExecutorTest {
@@ -51,8 +64,10 @@ class JobExecutorTest {
     @Mock InProcessEventBus eventBus;
     @Mock RetryPolicyEngine retryPolicyEngine;
     @Mock IncidentLifecycleService incidentLifecycleService;
+    @Mock RawRowPartitionMaintainer partitionMaintainer;
 
     private JobExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
 
     private static final UUID JOB_ID = UUID.randomUUID();
     private static final UUID TENANT_ID = UUID.randomUUID();
@@ -76,11 +91,28 @@ class JobExecutorTest {
         );
     }
 
+    @SafeVarargs
+    private static Answer<Long> streamPages(List<CampaignRow>... pages) {
+        return inv -> {
+            Consumer<List<CampaignRow>> consumer = inv.getArgument(4);
+            long count = 0;
+            for (List<CampaignRow> page : pages) {
+                consumer.accept(page);
+                count += page.size();
+            }
+            return count;
+        };
+    }
+
     @BeforeEach
     void setUp() {
-        executor = new JobExecutor(syncJobRepository, rawSnapshotRepository,
-            rawCampaignRowJpaRepository, googleAdsReportingPort, googleAdsQueryPort,
-            eventBus, retryPolicyEngine, incidentLifecycleService);
+        meterRegistry = new SimpleMeterRegistry();
+        IngestionMetrics metrics = new IngestionMetrics(meterRegistry, syncJobRepository);
+        RawSnapshotWriter rawSnapshotWriter = new RawSnapshotWriter(
+            rawSnapshotRepository, rawCampaignRowJpaRepository, googleAdsReportingPort, metrics,
+            new IngestionSyncConfig(), new AccountClock(googleAdsQueryPort));
+        executor = new JobExecutor(syncJobRepository, rawSnapshotWriter, partitionMaintainer,
+            googleAdsQueryPort, eventBus, retryPolicyEngine, incidentLifecycleService, metrics);
     }
 
     @Test
@@ -90,14 +122,112 @@ class JobExecutorTest {
         when(syncJobRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
         when(googleAdsQueryPort.findConnectionByTenantId(TENANT_ID))
             .thenReturn(Optional.of(connectionInfo()));
-        when(googleAdsReportingPort.fetchCampaignMetrics(any(), any(), any(), any()))
-            .thenReturn(sampleRows());
+        when(googleAdsReportingPort.streamCampaignMetrics(any(), any(), any(), any(), any()))
+            .thenAnswer(streamPages(sampleRows()));
         when(rawSnapshotRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
         executor.execute(JOB_ID);
 
         verify(rawSnapshotRepository).save(any(RawSnapshot.class));
         verify(incidentLifecycleService).onSuccess(anyString(), eq(TENANT_ID));
+        assertThat(meterRegistry.counter("ingestion.rows.ingested").count())
+            .isEqualTo(sampleRows().size());
+        assertThat(meterRegistry.find("ingestion.fetch").tag("outcome", "succeeded").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldWriteRowsWithFinalSnapshotIdInOnePass() {
+        SyncJob job = pendingJob();
+        when(syncJobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+        when(syncJobRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(googleAdsQueryPort.findConnectionByTenantId(TENANT_ID))
+            .thenReturn(Optional.of(connectionInfo()));
+        when(googleAdsReportingPort.streamCampaignMetrics(any(), any(), any(), any(), any()))
+            .thenAnswer(streamPages(sampleRows()));
+        when(rawSnapshotRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        executor.execute(JOB_ID);
+
+        ArgumentCaptor<RawSnapshot> snapshot = ArgumentCaptor.forClass(RawSnapshot.class);
+        ArgumentCaptor<List<RawCampaignRowEntity>> rows = ArgumentCaptor.forClass(List.class);
+        verify(rawSnapshotRepository).save(snapshot.capture());
+        verify(rawCampaignRowJpaRepository).batchUpsert(rows.capture());
+        assertThat(rows.getValue()).hasSize(1)
+            .allSatisfy(row -> assertThat(row.getSnapshotId()).isEqualTo(snapshot.getValue().getId()));
+    }
+
+    @Test
+    void shouldWriteEachStreamedPageAsItArrives() {
+        SyncJob job = pendingJob();
+        when(syncJobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+        when(syncJobRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(googleAdsQueryPort.findConnectionByTenantId(TENANT_ID))
+            .thenReturn(Optional.of(connectionInfo()));
+        List<CampaignRow> secondPage = List.of(
+            new CampaignRow("222", "Campaign B", 10L, 800L, 90000L, 0.0, LocalDate.of(2026, 3, 1)),
+            new CampaignRow("222", "Campaign B", 12L, 900L, 95000L, 1.0, LocalDate.of(2026, 3, 2))
+        );
+        when(googleAdsReportingPort.streamCampaignMetrics(any(), any(), any(), any(), any()))
+            .thenAnswer(streamPages(sampleRows(), secondPage));
+        when(rawSnapshotRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        executor.execute(JOB_ID);
+
+        ArgumentCaptor<RawSnapshot> snapshot = ArgumentCaptor.forClass(RawSnapshot.class);
+        verify(rawCampaignRowJpaRepository, times(2)).batchUpsert(any());
+        verify(rawSnapshotRepository).save(snapshot.capture());
+        assertThat(snapshot.getValue().getRowCount()).isEqualTo(3);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldOnlyWriteRowsWhoseContentChanged() {
+        SyncJob job = pendingJob();
+        when(syncJobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+        when(syncJobRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(googleAdsQueryPort.findConnectionByTenantId(TENANT_ID))
+            .thenReturn(Optional.of(connectionInfo()));
+        CampaignRow unchanged = sampleRows().getFirst();
+        CampaignRow changed = new CampaignRow("111", "Campaign A", 120L, 5200L, 510000L, 3.0,
+            LocalDate.of(2026, 3, 2));
+        when(googleAdsReportingPort.streamCampaignMetrics(any(), any(), any(), any(), any()))
+            .thenAnswer(streamPages(List.of(unchanged, changed)));
+        when(rawCampaignRowJpaRepository.findContentHashes(any(), any(), any(), any(), any()))
+            .thenReturn(Map.of(
+                new RowKey("111", unchanged.reportDate()), CampaignRowChecksum.contentHash(unchanged),
+                new RowKey("111", changed.reportDate()), 42L));
+        when(rawSnapshotRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        executor.execute(JOB_ID);
+
+        ArgumentCaptor<List<RawCampaignRowEntity>> rows = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<RawSnapshot> snapshot = ArgumentCaptor.forClass(RawSnapshot.class);
+        verify(rawCampaignRowJpaRepository).batchUpsert(rows.capture());
+        verify(rawSnapshotRepository).save(snapshot.capture());
+        assertThat(rows.getValue()).singleElement()
+            .satisfies(row -> assertThat(row.getReportDate()).isEqualTo(changed.reportDate()));
+        assertThat(snapshot.getValue().getRowCount()).isEqualTo(2);
+        assertThat(meterRegistry.counter("ingestion.rows.unchanged").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldMarkDaysOlderThanConversionLagFinal() {
+        SyncJob job = pendingJob();
+        when(syncJobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+        when(syncJobRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(googleAdsQueryPort.findConnectionByTenantId(TENANT_ID))
+            .thenReturn(Optional.of(connectionInfo()));
+        when(googleAdsReportingPort.streamCampaignMetrics(any(), any(), any(), any(), any()))
+            .thenAnswer(streamPages(sampleRows()));
+        when(rawSnapshotRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        executor.execute(JOB_ID);
+
+        // The job's window lies well in the past, so every day of it has settled
+        verify(rawSnapshotRepository).markFinal(eq(INTEGRATION_ID), eq("123-456-7890"),
+            eq("CAMPAIGN_PERFORMANCE"), eq(job.getDateWindow()), any());
     }
 
     @Test
@@ -107,7 +237,7 @@ class JobExecutorTest {
         when(syncJobRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
         when(googleAdsQueryPort.findConnectionByTenantId(TENANT_ID))
             .thenReturn(Optional.of(connectionInfo()));
-        when(googleAdsReportingPort.fetchCampaignMetrics(any(), any(), any(), any()))
+        when(googleAdsReportingPort.streamCampaignMetrics(any(), any(), any(), any(), any()))
             .thenThrow(new IngestionFetchException(FailureClass.TRANSIENT, "timeout", null));
         when(retryPolicyEngine.classify(any())).thenReturn(FailureClass.TRANSIENT);
         when(retryPolicyEngine.computeDelay(any())).thenReturn(Duration.ofSeconds(120));
@@ -117,6 +247,8 @@ class JobExecutorTest {
         // Transient with canRetry=true → requeued back to PENDING; failure class is recorded
         assertThat(job.getFailureClass()).isEqualTo(FailureClass.TRANSIENT);
         verify(incidentLifecycleService).onFailure(anyString(), eq(TENANT_ID), eq(FailureClass.TRANSIENT));
+        assertThat(meterRegistry.counter("ingestion.jobs.retries", "failure_class", "TRANSIENT").count())
+            .isEqualTo(1.0);
     }
 
     @Test
@@ -126,7 +258,7 @@ class JobExecutorTest {
         when(syncJobRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
         when(googleAdsQueryPort.findConnectionByTenantId(TENANT_ID))
             .thenReturn(Optional.of(connectionInfo()));
-        when(googleAdsReportingPort.fetchCampaignMetrics(any(), any(), any(), any()))
+        when(googleAdsReportingPort.streamCampaignMetrics(any(), any(), any(), any(), any()))
             .thenThrow(new IngestionFetchException(FailureClass.PERMANENT, "bad request", null));
         when(retryPolicyEngine.classify(any())).thenReturn(FailureClass.PERMANENT);
 
@@ -144,7 +276,7 @@ class JobExecutorTest {
         when(syncJobRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
         when(googleAdsQueryPort.findConnectionByTenantId(TENANT_ID))
             .thenReturn(Optional.of(connectionInfo()));
-        when(googleAdsReportingPort.fetchCampaignMetrics(any(), any(), any(), any()))
+        when(googleAdsReportingPort.streamCampaignMetrics(any(), any(), any(), any(), any()))
             .thenThrow(new IngestionAuthException("oauth revoked", null));
         when(retryPolicyEngine.classify(any())).thenReturn(FailureClass.PERMANENT);
 
@@ -161,8 +293,8 @@ class JobExecutorTest {
         when(syncJobRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
         when(googleAdsQueryPort.findConnectionByTenantId(TENANT_ID))
             .thenReturn(Optional.of(connectionInfo()));
-        when(googleAdsReportingPort.fetchCampaignMetrics(any(), any(), any(), any()))
-            .thenReturn(sampleRows());
+        when(googleAdsReportingPort.streamCampaignMetrics(any(), any(), any(), any(), any()))
+            .thenAnswer(streamPages(sampleRows()));
         when(rawSnapshotRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
 
         executor.execute(JOB_ID);
@@ -177,7 +309,7 @@ class JobExecutorTest {
         when(syncJobRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
         when(googleAdsQueryPort.findConnectionByTenantId(TENANT_ID))
             .thenReturn(Optional.of(connectionInfo()));
-        when(googleAdsReportingPort.fetchCampaignMetrics(any(), any(), any(), any()))
+        when(googleAdsReportingPort.streamCampaignMetrics(any(), any(), any(), any(), any()))
             .thenThrow(new IngestionFetchException(FailureClass.TRANSIENT, "timeout", null));
         when(retryPolicyEngine.classify(any())).thenReturn(FailureClass.TRANSIENT);
         when(retryPolicyEngine.computeDelay(any())).thenReturn(Duration.ofSeconds(120));
@@ -194,7 +326,7 @@ class JobExecutorTest {
         when(syncJobRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
         when(googleAdsQueryPort.findConnectionByTenantId(TENANT_ID))
             .thenReturn(Optional.of(connectionInfo()));
-        when(googleAdsReportingPort.fetchCampaignMetrics(any(), any(), any(), any()))
+        when(googleAdsReportingPort.streamCampaignMetrics(any(), any(), any(), any(), any()))
             .thenThrow(new IngestionFetchException(FailureClass.TRANSIENT, "timeout", null));
         when(retryPolicyEngine.classify(any())).thenReturn(FailureClass.TRANSIENT);
         when(retryPolicyEngine.computeDelay(any())).thenReturn(Duration.ofSeconds(120));
@@ -215,7 +347,7 @@ class JobExecutorTest {
         when(syncJobRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
         when(googleAdsQueryPort.findConnectionByTenantId(TENANT_ID))
             .thenReturn(Optional.of(connectionInfo()));
-        when(googleAdsReportingPort.fetchCampaignMetrics(any(), any(), any(), any()))
+        when(googleAdsReportingPort.streamCampaignMetrics(any(), any(), any(), any(), any()))
             .thenThrow(new IngestionFetchException(FailureClass.TRANSIENT, "timeout", null));
         when(retryPolicyEngine.classify(any())).thenReturn(FailureClass.TRANSIENT);
         when(retryPolicyEngine.computeDelay(any())).thenReturn(Duration.ofSeconds(120));
@@ -225,4 +357,33 @@ class JobExecutorTest {
         verify(incidentLifecycleService, times(1)).onFailure(
             anyString(), eq(TENANT_ID), eq(FailureClass.TRANSIENT));
     }
+
+    @Test
+    void shouldExecuteClaimedJobWithoutReacquiringLease() {
+        SyncJob job = pendingJob();
+        job.acquireLease(NOW);
+        when(syncJobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+        when(syncJobRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(googleAdsQueryPort.findConnectionByTenantId(TENANT_ID))
+            .thenReturn(Optional.of(connectionInfo()));
+        when(googleAdsReportingPort.streamCampaignMetrics(any(), any(), any(), any(), any()))
+            .thenAnswer(streamPages(sampleRows()));
+        when(rawSnapshotRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+        executor.executeClaimed(JOB_ID);
+
+        assertThat(job.getStatus()).isEqualTo(SyncJobStatus.SUCCEEDED);
+        assertThat(job.getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSkipClaimedJobThatIsNoLongerRunning() {
+        SyncJob job = pendingJob();
+        when(syncJobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+
+        executor.executeClaimed(JOB_ID);
+
+        verify(googleAdsReportingPort, never()).streamCampaignMetrics(any(), any(), any(), any(), any());
+        verify(syncJobRepository, never()).save(any());
+    }
 }
@@ -0,0 +1,142 @@
+package com.derbysoft.click.modules.ingestion.application;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.derbysoft.click.modules.ingestion.application.handlers.RawRowPartitionConfig;
+import com.derbysoft.click.modules.ingestion.application.handlers.RawRowPartitionMaintainer;
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.DateWindow;
+import com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository.RawCampaignRowJpaRepository;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RawRowPartitionMaintainerTest {
+
+    @Mock RawCampaignRowJpaRepository rawCampaignRowJpaRepository;
+
+    private RawRowPartitionConfig config;
+    private RawRowPartitionMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        config = new RawRowPartitionConfig();
+        config.setMonthsAhead(2);
+        config.setRetentionMonths(12);
+        maintainer = new RawRowPartitionMaintainer(rawCampaignRowJpaRepository, config);
+    }
+
+    @Test
+    void shouldCreateMissingFuturePartitions() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        when(rawCampaignRowJpaRepository.findPartitionMonths()).thenReturn(Set.of(current));
+
+        maintainer.maintain();
+
+        verify(rawCampaignRowJpaRepository).createPartition(current.plusMonths(1));
+        verify(rawCampaignRowJpaRepository).createPartition(current.plusMonths(2));
+        verify(rawCampaignRowJpaRepository, never()).createPartition(current);
+        verify(rawCampaignRowJpaRepository, never()).detachPartition(any());
+    }
+
+    @Test
+    void shouldDropPartitionsPastRetentionOnlyOnceArchivingHasEmptiedThem() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        YearMonth oldestKept = current.minusMonths(11);
+        YearMonth archived = oldestKept.minusMonths(2);
+        YearMonth unarchived = oldestKept.minusMonths(1);
+        when(rawCampaignRowJpaRepository.findPartitionMonths()).thenReturn(Set.of(
+            archived, unarchived, oldestKept,
+            current, current.plusMonths(1), current.plusMonths(2)));
+        when(rawCampaignRowJpaRepository.isPartitionEmpty(archived)).thenReturn(true);
+        when(rawCampaignRowJpaRepository.isPartitionEmpty(unarchived)).thenReturn(false);
+
+        maintainer.maintain();
+
+        verify(rawCampaignRowJpaRepository).detachPartition(archived);
+        verify(rawCampaignRowJpaRepository).dropDetachedPartition(archived);
+        verify(rawCampaignRowJpaRepository, never()).detachPartition(unarchived);
+        verify(rawCampaignRowJpaRepository, never()).detachPartition(oldestKept);
+        verify(rawCampaignRowJpaRepository, never()).createPartition(any());
+    }
+
+    @Test
+    void shouldDropEmptyDetachedTablesAndReattachTheRest() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        YearMonth empty = current.minusYears(3);
+        YearMonth holdingRows = current.minusYears(2);
+        when(rawCampaignRowJpaRepository.findPartitionMonths()).thenReturn(Set.of(
+            current, current.plusMonths(1), current.plusMonths(2)));
+        when(rawCampaignRowJpaRepository.findDetachedMonths()).thenReturn(Set.of(empty, holdingRows));
+        when(rawCampaignRowJpaRepository.isPartitionEmpty(empty)).thenReturn(true);
+        when(rawCampaignRowJpaRepository.isPartitionEmpty(holdingRows)).thenReturn(false);
+
+        maintainer.maintain();
+
+        verify(rawCampaignRowJpaRepository).dropDetachedPartition(empty);
+        verify(rawCampaignRowJpaRepository).attachPartition(holdingRows);
+        verify(rawCampaignRowJpaRepository, never()).dropDetachedPartition(holdingRows);
+    }
+
+    @Test
+    void shouldKeepEveryPartitionByDefault() {
+        config = new RawRowPartitionConfig();
+        maintainer = new RawRowPartitionMaintainer(rawCampaignRowJpaRepository, config);
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        when(rawCampaignRowJpaRepository.findPartitionMonths()).thenReturn(Set.of(
+            current.minusYears(10), current, current.plusMonths(1), current.plusMonths(2),
+            current.plusMonths(3)));
+
+        maintainer.maintain();
+
+        verify(rawCampaignRowJpaRepository, never()).detachPartition(any());
+        verify(rawCampaignRowJpaRepository, never()).dropDetachedPartition(any());
+    }
+
+    @Test
+    void shouldKeepEveryPartitionWhenRetentionIsDisabled() {
+        config.setRetentionMonths(0);
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        when(rawCampaignRowJpaRepository.findPartitionMonths()).thenReturn(Set.of(
+            current.minusYears(10), current, current.plusMonths(1), current.plusMonths(2)));
+
+        maintainer.maintain();
+
+        verify(rawCampaignRowJpaRepository, never()).detachPartition(any());
+    }
+
+    @Test
+    void shouldCreatePartitionsForBackfillWindowOnce() {
+        when(rawCampaignRowJpaRepository.findPartitionMonths())
+            .thenReturn(Set.of(YearMonth.of(2024, 2)));
+        DateWindow window = new DateWindow(LocalDate.of(2024, 1, 20), LocalDate.of(2024, 2, 10));
+
+        maintainer.ensureCovered(window);
+        maintainer.ensureCovered(window);
+
+        verify(rawCampaignRowJpaRepository, times(1)).createPartition(YearMonth.of(2024, 1));
+        verify(rawCampaignRowJpaRepository, never()).createPartition(YearMonth.of(2024, 2));
+        verify(rawCampaignRowJpaRepository, times(1)).findPartitionMonths();
+    }
+
+    @Test
+    void shouldRefuseToCoverMonthsPastRetention() {
+        YearMonth expired = YearMonth.now(ZoneOffset.UTC).minusMonths(12);
+        DateWindow window = new DateWindow(expired.atDay(1), expired.atDay(7));
+
+        assertThatThrownBy(() -> maintainer.ensureCovered(window))
+            .isInstanceOf(IllegalStateException.class);
+        verify(rawCampaignRowJpaRepository, never()).createPartition(any());
+    }
+}
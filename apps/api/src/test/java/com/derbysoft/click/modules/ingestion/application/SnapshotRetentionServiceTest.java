@@ -0,0 +1,158 @@
+package com.derbysoft.click.modules.ingestion.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.derbysoft.click.modules.ingestion.application.handlers.IngestionMetrics;
+import com.derbysoft.click.modules.ingestion.application.handlers.IngestionRetentionConfig;
+import com.derbysoft.click.modules.ingestion.application.handlers.RawRowPartitionConfig;
+import com.derbysoft.click.modules.ingestion.application.handlers.SnapshotRetentionService;
+import com.derbysoft.click.modules.ingestion.domain.RawSnapshotRepository;
+import com.derbysoft.click.modules.ingestion.domain.SyncJobRepository;
+import com.derbysoft.click.modules.ingestion.domain.aggregates.RawSnapshot;
+import com.derbysoft.click.modules.ingestion.domain.valueobjects.DateWindow;
+import com.derbysoft.click.modules.ingestion.infrastructure.archive.RawRowArchive;
+import com.derbysoft.click.modules.ingestion.infrastructure.persistence.entity.RawCampaignRowEntity;
+import com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository.RawCampaignRowJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SnapshotRetentionServiceTest {
+
+    @Mock RawSnapshotRepository rawSnapshotRepository;
+    @Mock RawCampaignRowJpaRepository rawCampaignRowJpaRepository;
+    @Mock SyncJobRepository syncJobRepository;
+
+    @TempDir Path archiveDir;
+
+    private final RawRowArchive rawRowArchive = new RawRowArchive();
+    private SimpleMeterRegistry meterRegistry;
+    private SnapshotRetentionService service;
+
+    private static final UUID SNAPSHOT_ID = UUID.randomUUID();
+    private static final UUID INTEGRATION_ID = UUID.randomUUID();
+    private static final DateWindow WINDOW = new DateWindow(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 3));
+
+    @BeforeEach
+    void setUp() {
+        IngestionRetentionConfig config = new IngestionRetentionConfig();
+        config.setArchiveDir(archiveDir.toString());
+        meterRegistry = new SimpleMeterRegistry();
+        service = new SnapshotRetentionService(rawSnapshotRepository, rawCampaignRowJpaRepository,
+            rawRowArchive, config, new IngestionMetrics(meterRegistry, syncJobRepository),
+            new RawRowPartitionConfig());
+    }
+
+    private RawSnapshot coldSnapshot() {
+        return RawSnapshot.reconstitute(SNAPSHOT_ID, UUID.randomUUID(), INTEGRATION_ID, UUID.randomUUID(),
+            "123-456-7890", "CAMPAIGN_PERFORMANCE", WINDOW, 2, "abc",
+            Instant.parse("2024-01-04T02:00:00Z"), null, null);
+    }
+
+    private List<RawCampaignRowEntity> ownedRows() {
+        Instant ingestedAt = Instant.parse("2024-01-04T02:00:00Z");
+        return List.of(
+            new RawCampaignRowEntity(UUID.randomUUID(), SNAPSHOT_ID, INTEGRATION_ID, "123-456-7890",
+                "111", "Campaign A", LocalDate.of(2024, 1, 1), 100L, 5000L, 500000L, 2.5, 7L, ingestedAt),
+            new RawCampaignRowEntity(UUID.randomUUID(), SNAPSHOT_ID, INTEGRATION_ID, "123-456-7890",
+                "222", null, LocalDate.of(2024, 1, 2), 0L, 12L, 0L, 0.0, -9L, ingestedAt));
+    }
+
+    @Test
+    void shouldArchiveColdSnapshotRowsAndRecordWhereTheyLive() throws Exception {
+        List<RawCampaignRowEntity> rows = ownedRows();
+        when(rawSnapshotRepository.findHotEndingBefore(any(), anyInt())).thenReturn(List.of(coldSnapshot()));
+        when(rawCampaignRowJpaRepository.findPartitionMonths()).thenReturn(Set.of(YearMonth.of(2024, 1)));
+        when(rawCampaignRowJpaRepository.findBySnapshotIdAndReportDateBetween(SNAPSHOT_ID, WINDOW.from(), WINDOW.to()))
+            .thenReturn(rows);
+
+        service.runRetention();
+
+        ArgumentCaptor<RawSnapshot> archived = ArgumentCaptor.forClass(RawSnapshot.class);
+        verify(rawSnapshotRepository).saveArchived(archived.capture(), eq(2));
+        assertThat(archived.getValue().isArchived()).isTrue();
+
+        List<RawCampaignRowEntity> restored = rawRowArchive.read(Path.of(URI.create(
+            archived.getValue().getRowsLocation())));
+        assertThat(restored).usingRecursiveFieldByFieldElementComparator().isEqualTo(rows);
+        assertThat(meterRegistry.counter("ingestion.snapshots.retention", "action", "archived").count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldLeaveSnapshotHotWhenRowsChangeWhileArchiving() {
+        when(rawSnapshotRepository.findHotEndingBefore(any(), anyInt())).thenReturn(List.of(coldSnapshot()));
+        when(rawCampaignRowJpaRepository.findPartitionMonths()).thenReturn(Set.of(YearMonth.of(2024, 1)));
+        when(rawCampaignRowJpaRepository.findBySnapshotIdAndReportDateBetween(any(), any(), any()))
+            .thenReturn(ownedRows());
+        doThrow(new IllegalStateException("owns 1 rows but 2 were archived"))
+            .when(rawSnapshotRepository).saveArchived(any(), anyInt());
+
+        service.runRetention();
+
+        assertThat(meterRegistry.counter("ingestion.snapshots.retention", "action", "archived").count())
+            .isZero();
+        // The failed snapshot does not stop the superseded pass
+        verify(rawSnapshotRepository).deleteSuperseded(any(), anyInt());
+    }
+
+    @Test
+    void shouldNotArchiveSnapshotWhoseMonthHasNoAttachedPartition() {
+        when(rawSnapshotRepository.findHotEndingBefore(any(), anyInt())).thenReturn(List.of(coldSnapshot()));
+        when(rawCampaignRowJpaRepository.findPartitionMonths()).thenReturn(Set.of(YearMonth.of(2024, 2)));
+
+        service.runRetention();
+
+        verify(rawCampaignRowJpaRepository, never()).findBySnapshotIdAndReportDateBetween(any(), any(), any());
+        verify(rawSnapshotRepository, never()).saveArchived(any(), anyInt());
+    }
+
+    @Test
+    void shouldRejectHotDaysThatOutliveThePartitionRetention() {
+        IngestionRetentionConfig config = new IngestionRetentionConfig();
+        RawRowPartitionConfig partitionConfig = new RawRowPartitionConfig();
+        partitionConfig.setRetentionMonths(12);
+
+        assertThatThrownBy(() -> new SnapshotRetentionService(rawSnapshotRepository,
+            rawCampaignRowJpaRepository, rawRowArchive, config,
+            new IngestionMetrics(meterRegistry, syncJobRepository), partitionConfig))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("hot-days");
+    }
+
+    @Test
+    void shouldPruneSupersededSnapshotsPastTheGracePeriod() {
+        when(rawSnapshotRepository.deleteSuperseded(any(), anyInt())).thenReturn(3);
+        Instant before = Instant.now();
+
+        service.runRetention();
+
+        ArgumentCaptor<Instant> createdBefore = ArgumentCaptor.forClass(Instant.class);
+        verify(rawSnapshotRepository).deleteSuperseded(createdBefore.capture(), eq(200));
+        assertThat(createdBefore.getValue()).isBefore(before.minusSeconds(6 * 86_400));
+        assertThat(meterRegistry.counter("ingestion.snapshots.retention", "action", "pruned").count())
+            .isEqualTo(3.0);
+    }
+}
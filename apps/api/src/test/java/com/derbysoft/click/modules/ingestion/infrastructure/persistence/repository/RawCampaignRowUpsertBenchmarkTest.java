@@ -0,0 +1,166 @@
+package com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.derbysoft.click.modules.ingestion.infrastructure.persistence.entity.RawCampaignRowEntity;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Compares the previous per-row native upsert (plus the follow-up snapshot UPDATE) with the
+ * batched JDBC path. Runs against a real PostgreSQL via Testcontainers; excluded from the
+ * default test task, run with {@code ./gradlew :apps:api:benchmarkTest}.
+ */
+@Tag("benchmark")
+@Testcontainers
+class RawCampaignRowUpsertBenchmarkTest {
+
+    private static final int CAMPAIGNS = 200;
+    private static final int DAYS = 100;
+
+    // The native query the per-row path ran before batching, with its SpEL parameters made
+    // positional. It predates content hashes, so it neither writes nor compares them.
+    private static final String PER_ROW_UPSERT_SQL = """
+        INSERT INTO raw_campaign_rows
+            (id, snapshot_id, integration_id, account_id, campaign_id, campaign_name,
+             report_date, clicks, impressions, cost_micros, conversions, ingested_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT (integration_id, account_id, campaign_id, report_date)
+        DO UPDATE SET
+            snapshot_id = EXCLUDED.snapshot_id,
+            campaign_name = EXCLUDED.campaign_name,
+            clicks = EXCLUDED.clicks,
+            impressions = EXCLUDED.impressions,
+            cost_micros = EXCLUDED.cost_micros,
+            conversions = EXCLUDED.conversions,
+            ingested_at = EXCLUDED.ingested_at
+        """;
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionTemplate tx;
+
+    private final UUID integrationId = UUID.randomUUID();
+    private UUID snapshotId;
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+            .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+
+        String url = postgres.getJdbcUrl();
+        url += (url.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true";
+        var dataSource = new DriverManagerDataSource(
+            url, postgres.getUsername(), postgres.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        // The benchmark's report dates lie outside the partitions the migration creates
+        var partitions = new RawCampaignRowPartitionRepositoryImpl(jdbcTemplate);
+        for (int month = 1; month <= 4; month++) {
+            partitions.createPartition(YearMonth.of(2026, month));
+        }
+    }
+
+    @BeforeEach
+    void seedSnapshot() {
+        jdbcTemplate.update("TRUNCATE raw_campaign_rows");
+        UUID jobId = UUID.randomUUID();
+        snapshotId = UUID.randomUUID();
+        jdbcTemplate.update("""
+            INSERT INTO sync_jobs (id, integration_id, tenant_id, account_id, report_type,
+                                   date_from, date_to, trigger_type, idempotency_key, status)
+            VALUES (?, ?, ?, '123-456-7890', 'CAMPAIGN_PERFORMANCE', ?, ?, 'DAILY', ?, 'SUCCEEDED')
+            """, jobId, integrationId, UUID.randomUUID(),
+            LocalDate.of(2026, 1, 1), LocalDate.of(2026, 4, 10), jobId.toString());
+        jdbcTemplate.update("""
+            INSERT INTO raw_snapshots (id, sync_job_id, integration_id, tenant_id, account_id,
+                                       report_type, date_from, date_to, row_count, checksum)
+            VALUES (?, ?, ?, ?, '123-456-7890', 'CAMPAIGN_PERFORMANCE', ?, ?, 0, 'bench')
+            """, snapshotId, jobId, integrationId, UUID.randomUUID(),
+            LocalDate.of(2026, 1, 1), LocalDate.of(2026, 4, 10));
+    }
+
+    @Test
+    void batchedUpsertShouldOutperformPerRowUpsert() {
+        List<RawCampaignRowEntity> rows = rows();
+
+        long perRowNanos = time(() -> {
+            // The old path inserted a NULL snapshot id, which snapshot_id NOT NULL now rejects,
+            // so the snapshot is bound up front; the follow-up UPDATE still runs as before
+            for (RawCampaignRowEntity row : rows) {
+                jdbcTemplate.update(PER_ROW_UPSERT_SQL,
+                    row.getId(), snapshotId, row.getIntegrationId(), row.getAccountId(),
+                    row.getCampaignId(), row.getCampaignName(), row.getReportDate(),
+                    row.getClicks(), row.getImpressions(), row.getCostMicros(),
+                    row.getConversions(), Timestamp.from(row.getIngestedAt()));
+            }
+            jdbcTemplate.update("""
+                UPDATE raw_campaign_rows SET snapshot_id = ?
+                WHERE integration_id = ? AND account_id = ? AND report_date BETWEEN ? AND ?
+                """, snapshotId, integrationId, "123-456-7890",
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 4, 10));
+        });
+
+        jdbcTemplate.update("TRUNCATE raw_campaign_rows");
+        var batchRepository = new RawCampaignRowBatchRepositoryImpl(jdbcTemplate);
+        long batchedNanos = time(() -> batchRepository.batchUpsert(rows));
+
+        System.out.printf("raw_campaign_rows upsert of %d rows: per-row %.0f rows/s, "
+                + "batched %.0f rows/s%n",
+            rows.size(), rowsPerSecond(rows.size(), perRowNanos),
+            rowsPerSecond(rows.size(), batchedNanos));
+
+        Integer written = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM raw_campaign_rows WHERE snapshot_id = ?", Integer.class, snapshotId);
+        assertThat(written).isEqualTo(rows.size());
+        assertThat(batchedNanos).isLessThan(perRowNanos);
+    }
+
+    private List<RawCampaignRowEntity> rows() {
+        Instant ingestedAt = Instant.now();
+        List<RawCampaignRowEntity> rows = new ArrayList<>(CAMPAIGNS * DAYS);
+        for (int c = 0; c < CAMPAIGNS; c++) {
+            for (int d = 0; d < DAYS; d++) {
+                rows.add(new RawCampaignRowEntity(
+                    UUID.randomUUID(), snapshotId, integrationId, "123-456-7890",
+                    String.valueOf(1_000_000 + c), "Campaign " + c,
+                    LocalDate.of(2026, 1, 1).plusDays(d),
+                    c + d, 10L * (c + d), 1_000L * (c + d), 0.5, c * 1_000L + d, ingestedAt));
+            }
+        }
+        return rows;
+    }
+
+    private long time(Runnable work) {
+        long start = System.nanoTime();
+        tx.executeWithoutResult(status -> work.run());
+        return System.nanoTime() - start;
+    }
+
+    private static double rowsPerSecond(int rows, long nanos) {
+        return rows / (nanos / 1_000_000_000.0);
+    }
+}
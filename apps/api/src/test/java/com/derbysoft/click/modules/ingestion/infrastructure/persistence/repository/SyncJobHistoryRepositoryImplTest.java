@@ -0,0 +1,148 @@
+package com.derbysoft.click.modules.ingestion.infrastructure.persistence.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.derbysoft.click.modules.ingestion.api.contracts.SyncJobInfo;
+import com.derbysoft.click.sharedkernel.api.HistoryQuery;
+import com.derbysoft.click.sharedkernel.api.KeysetCursor;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Runs the keyset history SQL against a real PostgreSQL via Testcontainers, since the cursor
+ * predicate and the optional filters are only assembled at query time. Skipped where Docker
+ * is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SyncJobHistoryRepositoryImplTest {
+
+    private static final Instant T0 = Instant.parse("2026-03-10T09:00:00Z");
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static SyncJobHistoryRepositoryImpl repository;
+
+    private final UUID integrationId = UUID.randomUUID();
+    // Ids sharing these high bits sort by their low bits, and differ from other tests' ids
+    private final long idPrefix = UUID.randomUUID().getMostSignificantBits();
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+            .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+        repository = new SyncJobHistoryRepositoryImpl(jdbcTemplate);
+    }
+
+    @BeforeEach
+    void otherIntegrationNoise() {
+        // Newer than everything below, so a missing integration predicate shows up first
+        insertJob(UUID.randomUUID(), UUID.randomUUID(), "SUCCEEDED", T0.plusSeconds(3600));
+    }
+
+    private UUID insertJob(String status, Instant createdAt) {
+        return insertJob(integrationId, UUID.randomUUID(), status, createdAt);
+    }
+
+    private UUID insertJob(UUID integration, UUID id, String status, Instant createdAt) {
+        jdbcTemplate.update("""
+            INSERT INTO sync_jobs
+                (id, integration_id, tenant_id, account_id, report_type, date_from, date_to,
+                 trigger_type, idempotency_key, status, created_at)
+            VALUES (?, ?, ?, '123-456-7890', 'CAMPAIGN_PERFORMANCE', ?, ?, 'DAILY', ?, ?, ?)
+            """,
+            id, integration, UUID.randomUUID(), LocalDate.of(2026, 3, 9), LocalDate.of(2026, 3, 9),
+            id.toString(), status, Timestamp.from(createdAt));
+        return id;
+    }
+
+    private UUID orderedId(long n) {
+        return new UUID(idPrefix, n);
+    }
+
+    private static List<UUID> ids(List<SyncJobInfo> jobs) {
+        return jobs.stream().map(SyncJobInfo::id).toList();
+    }
+
+    @Test
+    void shouldReturnOneRowMoreThanTheLimitNewestFirst() {
+        UUID oldest = insertJob("SUCCEEDED", T0);
+        UUID middle = insertJob("FAILED", T0.plusSeconds(60));
+        UUID newest = insertJob("SUCCEEDED", T0.plusSeconds(120));
+        insertJob("SUCCEEDED", T0.minusSeconds(60));
+
+        List<SyncJobInfo> page = repository.findHistory(integrationId,
+            new HistoryQuery(null, null, null, null, 2));
+
+        assertThat(ids(page)).containsExactly(newest, middle, oldest);
+    }
+
+    @Test
+    void shouldBreakCreatedAtTiesById() {
+        UUID low = insertJob(integrationId, orderedId(1), "SUCCEEDED", T0);
+        UUID high = insertJob(integrationId, orderedId(2), "SUCCEEDED", T0);
+
+        List<SyncJobInfo> page = repository.findHistory(integrationId,
+            new HistoryQuery(null, null, null, null, 10));
+
+        assertThat(ids(page)).containsExactly(high, low);
+    }
+
+    @Test
+    void shouldStartStrictlyAfterTheCursor() {
+        UUID older = insertJob("SUCCEEDED", T0.minusSeconds(60));
+        UUID tiedLow = insertJob(integrationId, orderedId(1), "SUCCEEDED", T0);
+        UUID cursorRow = insertJob(integrationId, orderedId(2), "SUCCEEDED", T0);
+        insertJob(integrationId, orderedId(3), "SUCCEEDED", T0);
+        insertJob("SUCCEEDED", T0.plusSeconds(60));
+
+        List<SyncJobInfo> page = repository.findHistory(integrationId,
+            new HistoryQuery(null, null, null, new KeysetCursor(T0, cursorRow), 10));
+
+        assertThat(ids(page)).containsExactly(tiedLow, older);
+    }
+
+    @Test
+    void shouldApplyStatusAndCreatedRangeFilters() {
+        insertJob("FAILED", T0.minusSeconds(1));
+        UUID inRange = insertJob("FAILED", T0);
+        insertJob("SUCCEEDED", T0.plusSeconds(30));
+        UUID lastInRange = insertJob("FAILED", T0.plusSeconds(59));
+        insertJob("FAILED", T0.plusSeconds(60));
+
+        List<SyncJobInfo> page = repository.findHistory(integrationId,
+            new HistoryQuery("FAILED", T0, T0.plusSeconds(60), null, 10));
+
+        assertThat(ids(page)).containsExactly(lastInRange, inRange);
+    }
+
+    @Test
+    void shouldCombineTheCursorWithAStatusFilter() {
+        UUID older = insertJob("FAILED", T0);
+        insertJob("SUCCEEDED", T0.plusSeconds(30));
+        UUID cursorRow = insertJob("FAILED", T0.plusSeconds(60));
+
+        List<SyncJobInfo> page = repository.findHistory(integrationId,
+            new HistoryQuery("FAILED", null, null, new KeysetCursor(T0.plusSeconds(60), cursorRow), 1));
+
+        assertThat(ids(page)).containsExactly(older);
+    }
+}
@@ -1,8 +1,10 @@
 package com.derbysoft.click.modules.ingestion.interfaces.http.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -16,11 +18,15 @@ import com.derbysoft.click.modules.ingestion.application.handlers.IngestionJobSe
 import com.derbysoft.click.modules.ingestion.domain.aggregates.SyncJob;
 import com.derbysoft.click.modules.ingestion.domain.valueobjects.DateWindow;
 import com.derbysoft.click.modules.ingestion.domain.valueobjects.TriggerType;
+import com.derbysoft.click.sharedkernel.api.CursorPage;
+import com.derbysoft.click.sharedkernel.api.HistoryQuery;
+import com.derbysoft.click.sharedkernel.api.KeysetCursor;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
@@ -121,13 +127,47 @@ class SyncJobControllerTest {
             LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 4),
             "SUCCEEDED", 1, "DAILY", null, Instant.now()
         );
-        when(ingestionQueryPort.listJobHistory(INTEGRATION_ID)).thenReturn(List.of(info));
+        when(ingestionQueryPort.listJobHistory(eq(INTEGRATION_ID), any()))
+            .thenReturn(new CursorPage<>(List.of(info), null));
 
         mockMvc.perform(get("/api/v1/ingestion/jobs")
                 .param("integrationId", INTEGRATION_ID.toString()))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.success").value(true))
-            .andExpect(jsonPath("$.data[0].status").value("SUCCEEDED"))
-            .andExpect(jsonPath("$.data[0].reportType").value("CAMPAIGN_PERFORMANCE"));
+            .andExpect(jsonPath("$.data.items[0].status").value("SUCCEEDED"))
+            .andExpect(jsonPath("$.data.items[0].reportType").value("CAMPAIGN_PERFORMANCE"))
+            .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void shouldPassFiltersAndCursorToJobHistory() throws Exception {
+        KeysetCursor after = new KeysetCursor(Instant.parse("2026-03-05T10:00:00Z"), UUID.randomUUID());
+        when(ingestionQueryPort.listJobHistory(eq(INTEGRATION_ID), any()))
+            .thenReturn(new CursorPage<>(List.of(), "next"));
+
+        mockMvc.perform(get("/api/v1/ingestion/jobs")
+                .param("integrationId", INTEGRATION_ID.toString())
+                .param("status", "failed")
+                .param("createdFrom", "2026-03-01")
+                .param("createdTo", "2026-03-04")
+                .param("cursor", after.encode())
+                .param("limit", "1000"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.nextCursor").value("next"));
+
+        ArgumentCaptor<HistoryQuery> query = ArgumentCaptor.forClass(HistoryQuery.class);
+        verify(ingestionQueryPort).listJobHistory(eq(INTEGRATION_ID), query.capture());
+        assertThat(query.getValue()).isEqualTo(new HistoryQuery("FAILED",
+            Instant.parse("2026-03-01T00:00:00Z"), Instant.parse("2026-03-05T00:00:00Z"),
+            after, HistoryQuery.MAX_LIMIT));
+    }
+
+    @Test
+    void shouldReturn400ForUnknownJobStatus() throws Exception {
+        mockMvc.perform(get("/api/v1/ingestion/jobs")
+                .param("integrationId", INTEGRATION_ID.toString())
+                .param("status", "DONE"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.success").value(false));
     }
 }
@@ -0,0 +1,38 @@
+plugins {
+  java
+  alias(libs.plugins.spring.dependency.management)
+  alias(libs.plugins.jmh)
+}
+
+java {
+  toolchain { languageVersion = JavaLanguageVersion.of(25) }
+}
+
+dependencyManagement {
+  imports { mavenBom("org.springframework.boot:spring-boot-dependencies:${libs.versions.spring.boot.get()}") }
+}
+
+dependencies {
+  jmh(project(":apps:api"))
+  jmh("org.springframework:spring-context")
+  jmh(libs.java.jwt)
+  jmh(libs.google.ads)
+  jmh(libs.jmh.core)
+  jmhAnnotationProcessor(libs.jmh.annprocess)
+}
+
+// One JSON file per commit, so two runs can be diffed with tools/scripts/compare-benchmarks.py
+val commit = providers.exec {
+  commandLine("git", "rev-parse", "--short", "HEAD")
+  isIgnoreExitValue = true
+}.standardOutput.asText.map { it.trim().ifEmpty { "local" } }
+
+jmh {
+  jmhVersion.set(libs.versions.jmh.asProvider())
+  resultFormat.set("JSON")
+  resultsFile.set(layout.buildDirectory.file(commit.map { "results/jmh/$it.json" }))
+  fork.set(1)
+  warmupIterations.set(3)
+  iterations.set(5)
+  providers.gradleProperty("jmhIncludes").orNull?.let { includes.add(it) }
+}
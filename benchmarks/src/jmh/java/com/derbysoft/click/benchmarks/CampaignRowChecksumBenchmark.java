@@ -0,0 +1,71 @@
+package com.derbysoft.click.benchmarks;
+
+import com.derbysoft.click.modules.ingestion.application.handlers.CampaignRowChecksum;
+import com.derbysoft.click.modules.ingestion.application.ports.GoogleAdsReportingPort.CampaignRow;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Snapshot checksum over one report: the order-independent {@link CampaignRowChecksum}
+ * against the sort-then-SHA-256 it replaced from {@code JobExecutor.computeChecksum}. Rows
+ * are shuffled, as a report the sorted digest cannot rely on would arrive.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CampaignRowChecksumBenchmark {
+
+    @Param({"100", "10000"})
+    public int rows;
+
+    private List<CampaignRow> page;
+
+    @Setup
+    public void setUp() {
+        LocalDate day = LocalDate.of(2026, 3, 1);
+        page = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            page.add(new CampaignRow(String.valueOf(1_000_000 + i), "Campaign " + i,
+                i * 3L, i * 100L, i * 250_000L, i * 0.1, day.plusDays(i % 30)));
+        }
+        Collections.shuffle(page, new Random(42));
+    }
+
+    @Benchmark
+    public String orderIndependent() {
+        CampaignRowChecksum checksum = new CampaignRowChecksum();
+        checksum.update(page);
+        return checksum.hex();
+    }
+
+    @Benchmark
+    public String sortedSha256() throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        page.stream()
+            .sorted(Comparator.comparing(CampaignRow::campaignId)
+                .thenComparing(r -> r.reportDate().toString()))
+            .forEach(r -> {
+                String entry = r.campaignId() + r.reportDate() + r.clicks()
+                    + r.impressions() + r.costMicros();
+                digest.update(entry.getBytes(StandardCharsets.UTF_8));
+            });
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,38 @@
+package com.derbysoft.click.benchmarks;
+
+import com.derbysoft.click.modules.channelintegration.domain.events.SyncRequested;
+import com.derbysoft.click.modules.channelintegration.domain.valueobjects.Channel;
+import com.derbysoft.click.modules.channelintegration.domain.valueobjects.CredentialRef;
+import com.derbysoft.click.sharedkernel.api.EventEnvelope;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.ResolvableType;
+
+/** Spring resolves the envelope's generic type once per published event to route listeners. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventEnvelopeBenchmark {
+
+    private EventEnvelope<SyncRequested> envelope;
+
+    @Setup
+    public void setUp() {
+        envelope = EventEnvelope.of("SyncRequested", new SyncRequested(UUID.randomUUID(),
+            UUID.randomUUID(), Channel.GOOGLE_ADS, new CredentialRef(UUID.randomUUID()),
+            UUID.randomUUID(), Instant.now()));
+    }
+
+    @Benchmark
+    public ResolvableType getResolvableType() {
+        return envelope.getResolvableType();
+    }
+}
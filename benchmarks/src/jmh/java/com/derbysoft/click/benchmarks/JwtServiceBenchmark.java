@@ -0,0 +1,37 @@
+package com.derbysoft.click.benchmarks;
+
+import com.derbysoft.click.modules.identityaccess.domain.valueobjects.ActorContext;
+import com.derbysoft.click.modules.identityaccess.domain.valueobjects.Role;
+import com.derbysoft.click.modules.identityaccess.infrastructure.security.JwtService;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Token verification runs on every authenticated request. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService("benchmark-secret-benchmark-secret-benchmark");
+        token = jwtService.createAccessToken(
+            new ActorContext(UUID.randomUUID(), UUID.randomUUID(), "bench@example.com", Role.ADMIN),
+            3600);
+    }
+
+    @Benchmark
+    public ActorContext verifyAndExtract() {
+        return jwtService.verifyAndExtract(token);
+    }
+}
@@ -0,0 +1,71 @@
+package com.derbysoft.click.benchmarks;
+
+import com.derbysoft.click.modules.campaignexecution.domain.aggregates.WriteAction;
+import com.derbysoft.click.modules.campaignexecution.domain.entities.PlanItem;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.ApplyOrder;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.TriggerType;
+import com.derbysoft.click.modules.campaignexecution.domain.valueobjects.WriteActionType;
+import com.derbysoft.click.modules.campaignexecution.infrastructure.persistence.entity.PlanItemEntity;
+import com.derbysoft.click.modules.campaignexecution.infrastructure.persistence.entity.WriteActionEntity;
+import com.derbysoft.click.modules.campaignexecution.infrastructure.persistence.mapper.PlanItemMapper;
+import com.derbysoft.click.modules.campaignexecution.infrastructure.persistence.mapper.WriteActionMapper;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Entity/domain conversions done for every row the apply path loads or saves. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MapperBenchmark {
+
+    private final WriteActionMapper writeActionMapper = new WriteActionMapper();
+    private final PlanItemMapper planItemMapper = new PlanItemMapper();
+
+    private WriteAction writeAction;
+    private WriteActionEntity writeActionEntity;
+    private PlanItem planItem;
+    private PlanItemEntity planItemEntity;
+
+    @Setup
+    public void setUp() {
+        Instant now = Instant.parse("2026-03-01T00:00:00Z");
+        UUID revisionId = UUID.randomUUID();
+        UUID tenantId = UUID.randomUUID();
+        planItem = PlanItem.create(UUID.randomUUID(), revisionId, tenantId,
+            WriteActionType.CREATE_KEYWORD, "KEYWORD", null,
+            "{\"text\":\"hotel london\",\"matchType\":\"PHRASE\",\"cpcBidMicros\":1500000,\"status\":\"ENABLED\"}",
+            ApplyOrder.KEYWORD, now);
+        planItemEntity = planItemMapper.toEntity(planItem);
+        writeAction = WriteAction.create(UUID.randomUUID(), revisionId, planItem.getId(), tenantId,
+            WriteActionType.CREATE_KEYWORD, 0, "1234567890", TriggerType.APPLY, "bench", null, now);
+        writeActionEntity = writeActionMapper.toEntity(writeAction);
+    }
+
+    @Benchmark
+    public WriteAction writeActionToDomain() {
+        return writeActionMapper.toDomain(writeActionEntity);
+    }
+
+    @Benchmark
+    public WriteActionEntity writeActionToEntity() {
+        return writeActionMapper.toEntity(writeAction);
+    }
+
+    @Benchmark
+    public PlanItem planItemToDomain() {
+        return planItemMapper.toDomain(planItemEntity);
+    }
+
+    @Benchmark
+    public PlanItemEntity planItemToEntity() {
+        return planItemMapper.toEntity(planItem);
+    }
+}
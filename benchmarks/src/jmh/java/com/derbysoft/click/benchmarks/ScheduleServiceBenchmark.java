@@ -0,0 +1,94 @@
+package com.derbysoft.click.benchmarks;
+
+import com.derbysoft.click.modules.channelintegration.application.handlers.ScheduleService;
+import com.derbysoft.click.modules.channelintegration.domain.IntegrationInstanceRepository;
+import com.derbysoft.click.modules.channelintegration.domain.aggregates.IntegrationInstance;
+import com.derbysoft.click.modules.channelintegration.domain.valueobjects.Channel;
+import com.derbysoft.click.modules.channelintegration.domain.valueobjects.CredentialRef;
+import com.derbysoft.click.modules.channelintegration.domain.valueobjects.IntegrationHealth;
+import com.derbysoft.click.modules.channelintegration.domain.valueobjects.IntegrationStatus;
+import com.derbysoft.click.modules.channelintegration.domain.valueobjects.SyncSchedule;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * One scheduler tick over CRON integrations that are not yet due, so the time is spent
+ * evaluating the cron expressions rather than triggering syncs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScheduleServiceBenchmark {
+
+    @Param({"100"})
+    int integrations;
+
+    private ScheduleService scheduleService;
+
+    @Setup
+    public void setUp() {
+        Instant lastSync = Instant.now();
+        List<IntegrationInstance> schedulable = new ArrayList<>(integrations);
+        for (int i = 0; i < integrations; i++) {
+            schedulable.add(IntegrationInstance.reconstitute(UUID.randomUUID(), UUID.randomUUID(),
+                Channel.GOOGLE_ADS, "bench-" + i, IntegrationStatus.ACTIVE,
+                new CredentialRef(UUID.randomUUID()),
+                // Yearly, so no instance falls due while the benchmark runs
+                SyncSchedule.cron("0 0 0 1 1 *", "Europe/London"),
+                IntegrationHealth.empty().withSuccess(lastSync),
+                lastSync, null, lastSync, lastSync));
+        }
+        scheduleService = new ScheduleService(new FixedRepository(schedulable), null);
+    }
+
+    @Benchmark
+    public void triggerScheduledSyncs() {
+        scheduleService.triggerScheduledSyncs();
+    }
+
+    private record FixedRepository(List<IntegrationInstance> schedulable) implements IntegrationInstanceRepository {
+
+        @Override
+        public List<IntegrationInstance> findAllSchedulable() {
+            return schedulable;
+        }
+
+        @Override
+        public Optional<IntegrationInstance> findById(UUID id) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<IntegrationInstance> findByTenantIdAndChannelAndConnectionKey(
+            UUID tenantId, Channel channel, String connectionKey) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<IntegrationInstance> findAllByTenantId(UUID tenantId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public IntegrationInstance save(IntegrationInstance instance) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void deleteById(UUID id) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 plugins {
   alias(libs.plugins.spring.boot) apply false
   alias(libs.plugins.spring.dependency.management) apply false
+  alias(libs.plugins.jmh) apply false
 }
 
 allprojects {
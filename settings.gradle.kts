@@ -18,5 +18,6 @@ dependencyResolutionManagement {
 }
 
 include(
-  ":apps:api"
+  ":apps:api",
+  ":benchmarks"
 )
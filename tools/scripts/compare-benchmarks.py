@@ -0,0 +1,50 @@
+#!/usr/bin/env python3
+"""Compare two JMH JSON result files (benchmarks/build/results/jmh/<commit>.json).
+
+Usage: tools/scripts/compare-benchmarks.py BASE.json HEAD.json [--threshold 10]
+
+Prints the score change per benchmark and exits non-zero when any benchmark got
+slower than the threshold (percent, default 10).
+"""
+import argparse
+import json
+import sys
+
+
+def load(path):
+    with open(path) as f:
+        results = json.load(f)
+    scores = {}
+    for r in results:
+        params = ",".join(f"{k}={v}" for k, v in sorted((r.get("params") or {}).items()))
+        key = r["benchmark"] + (f"[{params}]" if params else "")
+        metric = r["primaryMetric"]
+        scores[key] = (metric["score"], metric["scoreUnit"], r["mode"])
+    return scores
+
+
+def main():
+    parser = argparse.ArgumentParser()
+    parser.add_argument("base")
+    parser.add_argument("head")
+    parser.add_argument("--threshold", type=float, default=10.0)
+    args = parser.parse_args()
+
+    base, head = load(args.base), load(args.head)
+    regressions = 0
+    for key in sorted(base.keys() & head.keys()):
+        before, unit, mode = base[key]
+        after = head[key][0]
+        change = (after - before) / before * 100 if before else 0.0
+        # Throughput modes are "higher is better"; time modes are "lower is better"
+        slower = -change if mode == "thrpt" else change
+        flag = "REGRESSION" if slower > args.threshold else ""
+        regressions += bool(flag)
+        print(f"{key:90} {before:12.3f} -> {after:12.3f} {unit:10} {change:+7.1f}% {flag}")
+    for key in sorted(head.keys() - base.keys()):
+        print(f"{key:90} (new)")
+    return 1 if regressions else 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())